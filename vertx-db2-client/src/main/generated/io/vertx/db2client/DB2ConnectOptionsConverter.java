@@ -2,6 +2,8 @@ package io.vertx.db2client;
 
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
 
 /**
  * Converter and mapper for {@link io.vertx.db2client.DB2ConnectOptions}.
@@ -24,6 +24,7 @@ import io.vertx.core.tracing.TracingPolicy;
 import io.vertx.db2client.impl.DB2ConnectionUriParser;
 import io.vertx.db2client.impl.drda.SQLState;
 import io.vertx.db2client.impl.drda.SqlCode;
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
 import io.vertx.sqlclient.SqlConnectOptions;
 
 import java.util.Collections;
@@ -165,6 +166,11 @@ public class DB2ConnectOptions extends SqlConnectOptions {
     return (DB2ConnectOptions) super.setPreparedStatementCacheSqlLimit(preparedStatementCacheSqlLimit);
   }
 
+  @Override
+  public DB2ConnectOptions setPreparedStatementCachePolicy(PreparedStatementCachePolicy preparedStatementCachePolicy) {
+    return (DB2ConnectOptions) super.setPreparedStatementCachePolicy(preparedStatementCachePolicy);
+  }
+
   /**
    *
    * @return is SSL/TLS enabled?
@@ -20,6 +20,7 @@ import io.vertx.db2client.DB2ConnectOptions;
 import io.vertx.db2client.DB2Exception;
 import io.vertx.db2client.impl.codec.*;
 import io.vertx.db2client.impl.command.InitialHandshakeCommand;
+import io.vertx.db2client.impl.command.PingCommand;
 import io.vertx.db2client.impl.drda.ConnectionMetaData;
 import io.vertx.db2client.impl.drda.SQLState;
 import io.vertx.db2client.impl.drda.SqlCode;
@@ -53,7 +54,7 @@ public class DB2SocketConnection extends SocketConnectionBase {
       Predicate<String> preparedStatementCacheSqlFilter,
       int pipeliningLimit,
                              ContextInternal context) {
-    super(socket, clientMetrics, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, pipeliningLimit, context);
+    super(socket, clientMetrics, cachePreparedStatements, preparedStatementCacheSize, connectOptions.getPreparedStatementCachePolicy(), preparedStatementCacheSqlFilter, pipeliningLimit, context);
     this.connectOptions = connectOptions;
   }
 
@@ -107,6 +108,11 @@ public class DB2SocketConnection extends SocketConnectionBase {
     return DB2CommandMessage.wrap(command);
   }
 
+  @Override
+  public void ping(Completable<Void> handler) {
+    schedule(new PingCommand(), handler);
+  }
+
   @Override
   protected <R> void doSchedule(CommandBase<R> cmd, Completable<R> handler) {
     if (cmd instanceof TxCommand) {
@@ -73,11 +73,13 @@ abstract class ExtendedQueryDB2CommandBaseMessage<R, C extends ExtendedQueryComm
       resp.setOutputColumnMetaData(columnDefinitions);
       resp.readBeginOpenQuery();
       decoder = new RowResultDecoder<>(cmd.collector(), DB2RowDescriptor.create(columnDefinitions), resp.getCursor(), resp);
+      decoder.profile(cmd.profile());
       queryInstance.cursor = resp.getCursor();
       queryInstance.queryInstanceId = resp.getQueryInstanceId();
     } else {
       resp.readFetch(queryInstance.cursor);
       decoder = new RowResultDecoder<>(cmd.collector(), statement.rowDesc, queryInstance.cursor, resp);
+      decoder.profile(cmd.profile());
     }
     while (decoder.next()) {
       decoder.handleRow(columnDefinitions.columns_, payload);
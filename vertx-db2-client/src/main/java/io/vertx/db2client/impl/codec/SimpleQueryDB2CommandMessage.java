@@ -75,6 +75,7 @@ class SimpleQueryDB2CommandMessage<T> extends QueryDB2CommandBaseMessage<T, Simp
     resp.readBeginOpenQuery();
     columnDefinitions = resp.getOutputColumnMetaData();
     RowResultDecoder<?, T> decoder = new RowResultDecoder<>(cmd.collector(), DB2RowDescriptor.create(columnDefinitions), resp.getCursor(), resp);
+    decoder.profile(cmd.profile());
 
     while (decoder.next()) {
       decoder.handleRow(columnDefinitions.columns_, payload);
@@ -16,6 +16,7 @@ import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.ClientSSLOptions;
 import io.vertx.core.net.PemTrustOptions;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.docgen.Source;
 import io.vertx.mssqlclient.EncryptionMode;
 import io.vertx.mssqlclient.MSSQLBuilder;
@@ -24,6 +25,7 @@ import io.vertx.mssqlclient.MSSQLConnection;
 import io.vertx.sqlclient.*;
 import io.vertx.sqlclient.data.NullValue;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -356,6 +358,14 @@ public class MSSQLClientExamples {
     });
   }
 
+  public void bulkInsert(MSSQLConnection connection, ReadStream<Tuple> rows) {
+    connection
+      .bulkInsert("telemetry", Arrays.asList("device_id", "recorded_at", "reading"), rows)
+      .onSuccess(count -> {
+        System.out.println("Inserted " + count + " rows");
+      });
+  }
+
   public void jsonExample(SqlClient client) {
     JsonObject json = new JsonObject()
       .put("name", "Alice")
@@ -17,6 +17,7 @@ import io.vertx.codegen.json.annotations.JsonGen;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.ClientSSLOptions;
 import io.vertx.mssqlclient.impl.MSSQLConnectionUriParser;
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
 import io.vertx.sqlclient.SqlConnectOptions;
 
 import java.util.HashMap;
@@ -237,6 +238,11 @@ public class MSSQLConnectOptions extends SqlConnectOptions {
     return (MSSQLConnectOptions) super.setCachePreparedStatements(cachePreparedStatements);
   }
 
+  @Override
+  public MSSQLConnectOptions setZeroCopyBuffers(boolean zeroCopyBuffers) {
+    return (MSSQLConnectOptions) super.setZeroCopyBuffers(zeroCopyBuffers);
+  }
+
   @Override
   public MSSQLConnectOptions setPreparedStatementCacheMaxSize(int preparedStatementCacheMaxSize) {
     return (MSSQLConnectOptions) super.setPreparedStatementCacheMaxSize(preparedStatementCacheMaxSize);
@@ -253,6 +259,11 @@ public class MSSQLConnectOptions extends SqlConnectOptions {
     return (MSSQLConnectOptions) super.setPreparedStatementCacheSqlLimit(preparedStatementCacheSqlLimit);
   }
 
+  @Override
+  public MSSQLConnectOptions setPreparedStatementCachePolicy(PreparedStatementCachePolicy preparedStatementCachePolicy) {
+    return (MSSQLConnectOptions) super.setPreparedStatementCachePolicy(preparedStatementCachePolicy);
+  }
+
   @Override
   public MSSQLConnectOptions setSslOptions(ClientSSLOptions sslOptions) {
     return (MSSQLConnectOptions) super.setSslOptions(sslOptions);
@@ -16,8 +16,12 @@ import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.mssqlclient.impl.MSSQLConnectionImpl;
 import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Tuple;
+
+import java.util.List;
 
 import static io.vertx.mssqlclient.MSSQLConnectOptions.fromUri;
 
@@ -68,6 +72,24 @@ public interface MSSQLConnection extends SqlConnection {
   @Fluent
   MSSQLConnection infoHandler(Handler<MSSQLInfo> handler);
 
+  /**
+   * Bulk insert the {@code rows} in the {@code columns} of the {@code table}.
+   * <p/>
+   * The rows are streamed to the server with the bulk load protocol, each tuple provides the values of the
+   * {@code columns} in order. The stream is piped to the connection, it is paused when the connection cannot accept
+   * more data. When the stream fails or a value cannot be converted to the type of its column, the bulk load is
+   * aborted and the returned future is failed.
+   * <p/>
+   * The table and column names are quoted by the client and must not be quoted by the caller, the parts of a
+   * {@code schema.table} name are separated by a dot and quoted separately.
+   *
+   * @param table the destination table
+   * @param columns the destination columns
+   * @param rows the stream of rows to insert
+   * @return a future notified with the number of rows inserted
+   */
+  Future<Long> bulkInsert(String table, List<String> columns, ReadStream<Tuple> rows);
+
   /**
    * Cast a {@link SqlConnection} to {@link MSSQLConnection}.
    *
@@ -16,15 +16,20 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.mssqlclient.MSSQLConnectOptions;
 import io.vertx.mssqlclient.MSSQLConnection;
 import io.vertx.mssqlclient.MSSQLInfo;
+import io.vertx.mssqlclient.impl.command.BulkInsertCommand;
 import io.vertx.mssqlclient.spi.MSSQLDriver;
+import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.spi.connection.Connection;
 import io.vertx.sqlclient.codec.SocketConnectionBase;
 import io.vertx.sqlclient.internal.SqlConnectionBase;
 import io.vertx.sqlclient.spi.connection.ConnectionFactory;
 
+import java.util.List;
+
 public class MSSQLConnectionImpl extends SqlConnectionBase<MSSQLConnectionImpl> implements MSSQLConnection {
 
   private volatile Handler<MSSQLInfo> infoHandler;
@@ -60,4 +65,9 @@ public class MSSQLConnectionImpl extends SqlConnectionBase<MSSQLConnectionImpl>
     infoHandler = handler;
     return this;
   }
+
+  @Override
+  public Future<Long> bulkInsert(String table, List<String> columns, ReadStream<Tuple> rows) {
+    return schedule(context, new BulkInsertCommand(table, columns, rows.pipe()));
+  }
 }
@@ -11,11 +11,13 @@
 
 package io.vertx.mssqlclient.impl;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.ChannelPromise;
 import io.netty.handler.ssl.SslHandler;
 import io.vertx.core.Completable;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.PromiseInternal;
 import io.vertx.core.internal.net.NetSocketInternal;
@@ -26,11 +28,14 @@ import io.vertx.core.net.ClientSSLOptions;
 import io.vertx.core.net.HostAndPort;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.core.spi.metrics.ClientMetrics;
+import io.vertx.core.streams.WriteStream;
 import io.vertx.mssqlclient.MSSQLConnectOptions;
 import io.vertx.mssqlclient.MSSQLInfo;
 import io.vertx.mssqlclient.impl.codec.*;
+import io.vertx.mssqlclient.impl.command.BulkInsertCommand;
 import io.vertx.mssqlclient.impl.command.PreLoginCommand;
 import io.vertx.sqlclient.SqlConnectOptions;
+import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.codec.CommandMessage;
 import io.vertx.sqlclient.codec.SocketConnectionBase;
 import io.vertx.sqlclient.internal.PreparedStatement;
@@ -143,7 +148,7 @@ public class MSSQLSocketConnection extends SocketConnectionBase {
   @Override
   public void init() {
     ChannelPipeline pipeline = socket.channelHandlerContext().pipeline();
-    pipeline.addBefore("handler", "messageCodec", new TdsMessageCodec(connectOptions.getPacketSize()));
+    pipeline.addBefore("handler", "messageCodec", new TdsMessageCodec(connectOptions.getPacketSize(), connectOptions.getZeroCopyBuffers()));
     pipeline.addBefore("messageCodec", "packetDecoder", new TdsPacketDecoder());
     super.init();
   }
@@ -158,6 +163,18 @@ public class MSSQLSocketConnection extends SocketConnectionBase {
     return MSSQLCommandMessage.wrap(command);
   }
 
+  @Override
+  public void ping(Completable<Void> handler) {
+    // TDS has no ping request, a trivial batch is the cheapest round trip
+    SimpleQueryCommand<Void> cmd = new SimpleQueryCommand<>(
+      "SELECT 1",
+      false,
+      false,
+      SocketConnectionBase.NULL_COLLECTOR,
+      QueryResultHandler.NOOP_HANDLER);
+    schedule(cmd, (res, err) -> handler.complete(null, err));
+  }
+
   @Override
   protected <R> void doSchedule(CommandBase<R> cmd, Completable<R> handler) {
     if (cmd instanceof TxCommand) {
@@ -170,6 +187,14 @@ public class MSSQLSocketConnection extends SocketConnectionBase {
         SocketConnectionBase.NULL_COLLECTOR,
         QueryResultHandler.NOOP_HANDLER);
       super.doSchedule(cmd2, (res, err) -> handler.complete(tx.result(), err));
+    } else if (cmd instanceof BulkInsertCommand) {
+      BulkInsertCommand bulkInsert = (BulkInsertCommand) cmd;
+      super.doSchedule(cmd, (res, err) -> {
+        // Stop sending rows when the server fails the bulk insert
+        bulkInsert.source().close();
+        socket.drainHandler(null);
+        handler.complete(res, err);
+      });
     } else {
       super.doSchedule(cmd, handler);
     }
@@ -179,11 +204,77 @@ public class MSSQLSocketConnection extends SocketConnectionBase {
   protected void handleMessage(Object msg) {
     if (msg instanceof MSSQLInfo) {
       handleEvent(msg);
+    } else if (msg instanceof BulkLoadReady) {
+      handleBulkLoadReady(((BulkLoadReady) msg).message);
     } else {
       super.handleMessage(msg);
     }
   }
 
+  private void handleBulkLoadReady(BulkInsertMSSQLCommandMessage message) {
+    BulkInsertCommand cmd = message.cmd;
+    cmd.source()
+      .endOnFailure(false)
+      .to(new BulkLoadStream(message))
+      .onFailure(err -> {
+        ByteBuf packets = message.abort(err);
+        if (packets != null) {
+          socket.writeMessage(packets);
+        }
+      });
+  }
+
+  /**
+   * Encodes the rows of a bulk insert, flow control is the one of the socket.
+   */
+  private class BulkLoadStream implements WriteStream<Tuple> {
+
+    private final BulkInsertMSSQLCommandMessage message;
+
+    BulkLoadStream(BulkInsertMSSQLCommandMessage message) {
+      this.message = message;
+    }
+
+    @Override
+    public WriteStream<Tuple> exceptionHandler(Handler<Throwable> handler) {
+      return this;
+    }
+
+    @Override
+    public Future<Void> write(Tuple row) {
+      ByteBuf packets;
+      try {
+        packets = message.writeRow(row);
+      } catch (Exception e) {
+        return context.failedFuture(e);
+      }
+      return packets != null ? socket.writeMessage(packets) : context.succeededFuture();
+    }
+
+    @Override
+    public Future<Void> end() {
+      ByteBuf packets = message.end();
+      return packets != null ? socket.writeMessage(packets) : context.succeededFuture();
+    }
+
+    @Override
+    public WriteStream<Tuple> setWriteQueueMaxSize(int maxSize) {
+      socket.setWriteQueueMaxSize(maxSize);
+      return this;
+    }
+
+    @Override
+    public boolean writeQueueFull() {
+      return socket.writeQueueFull();
+    }
+
+    @Override
+    public WriteStream<Tuple> drainHandler(Handler<Void> handler) {
+      socket.drainHandler(handler);
+      return this;
+    }
+  }
+
   @Override
   public String system() {
     return "mssql";
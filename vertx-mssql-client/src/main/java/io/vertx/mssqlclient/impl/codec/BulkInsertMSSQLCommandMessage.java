@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.vertx.mssqlclient.impl.command.BulkInsertCommand;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.codec.CommandResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static io.vertx.mssqlclient.impl.codec.MessageStatus.*;
+import static io.vertx.mssqlclient.impl.codec.MessageType.*;
+import static io.vertx.mssqlclient.impl.codec.TdsPacket.PACKET_HEADER_SIZE;
+
+/**
+ * Bulk insert rows with the {@code INSERT BULK} statement.
+ * <p>
+ * The command executes in three steps:
+ * <ol>
+ *   <li>a {@code SELECT TOP 0} query retrieves the types of the destination columns</li>
+ *   <li>an {@code INSERT BULK} statement declares the columns of the bulk load</li>
+ *   <li>the rows are streamed in a {@code BULK_LOAD_DATA} message, the {@link BulkLoadReady} event lets the
+ *   connection pipe the rows with {@link #writeRow(Tuple)} and {@link #end()}</li>
+ * </ol>
+ * When the stream of rows fails, the message is terminated with the ignore status and an attention signal,
+ * the command completes when the server acknowledges the attention.
+ */
+public class BulkInsertMSSQLCommandMessage extends MSSQLCommandMessage<Long, BulkInsertCommand> {
+
+  private enum State {
+    METADATA, INSERT_BULK, LOAD, ABORTED
+  }
+
+  private State state;
+  private BulkLoadColumn[] columns;
+  private ByteBuf data;
+  private Throwable error;
+  private boolean attentionAcknowledged;
+
+  BulkInsertMSSQLCommandMessage(BulkInsertCommand cmd) {
+    super(cmd);
+  }
+
+  @Override
+  void encode() {
+    state = State.METADATA;
+    List<String> names = cmd.columns();
+    String select = names.stream().map(BulkInsertMSSQLCommandMessage::quote).collect(Collectors.joining(", "));
+    sendSqlBatch("SELECT TOP 0 " + select + " FROM " + quoteTable(cmd.table()));
+  }
+
+  /**
+   * Quote a table name, each part of a {@code schema.table} name is quoted separately.
+   */
+  private static String quoteTable(String table) {
+    return Arrays.stream(table.split("\\.", -1)).map(BulkInsertMSSQLCommandMessage::quote).collect(Collectors.joining("."));
+  }
+
+  private static String quote(String identifier) {
+    return "[" + identifier.replace("]", "]]") + "]";
+  }
+
+  private void sendSqlBatch(String sql) {
+    ByteBuf content = tdsMessageCodec.alloc().ioBuffer();
+    tdsMessageCodec.encoder().encodeHeaders(content);
+    content.writeCharSequence(sql, StandardCharsets.UTF_16LE);
+    tdsMessageCodec.encoder().writeTdsMessage(SQL_BATCH, content);
+  }
+
+  @Override
+  protected void handleRowDesc(MSSQLRowDescriptor mssqlRowDesc) {
+    if (state != State.METADATA) {
+      return;
+    }
+    BulkLoadColumn[] columns = new BulkLoadColumn[mssqlRowDesc.size()];
+    try {
+      for (int i = 0; i < columns.length; i++) {
+        columns[i] = BulkLoadColumn.create(mssqlRowDesc.get(i));
+      }
+    } catch (IllegalArgumentException e) {
+      error = e;
+      return;
+    }
+    this.columns = columns;
+  }
+
+  @Override
+  protected void handleAffectedRows(long count) {
+    if (state == State.LOAD) {
+      result = count;
+    }
+  }
+
+  @Override
+  protected void handleAttentionAck() {
+    attentionAcknowledged = true;
+  }
+
+  @Override
+  protected void handleDecodingComplete() {
+    switch (state) {
+      case METADATA:
+        if (failure == null && error == null && columns == null) {
+          error = new IllegalStateException("No column metadata for " + cmd.table());
+        }
+        if (failure != null || error != null) {
+          complete();
+        } else {
+          state = State.INSERT_BULK;
+          StringBuilder sql = new StringBuilder("INSERT BULK ").append(quoteTable(cmd.table())).append(" (");
+          for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+              sql.append(", ");
+            }
+            sql.append(columns[i].definition());
+          }
+          sendSqlBatch(sql.append(')').toString());
+        }
+        break;
+      case INSERT_BULK:
+        if (failure != null) {
+          complete();
+        } else {
+          state = State.LOAD;
+          result = 0L;
+          data = tdsMessageCodec.alloc().ioBuffer();
+          data.writeByte(TokenType.COLMETADATA);
+          data.writeShortLE(columns.length);
+          for (BulkLoadColumn column : columns) {
+            column.encodeMetadata(data);
+          }
+          tdsMessageCodec.chctx().fireChannelRead(new BulkLoadReady(this));
+        }
+        break;
+      case LOAD:
+        complete();
+        break;
+      case ABORTED:
+        // Ignore any response until the attention is acknowledged
+        if (attentionAcknowledged) {
+          complete();
+        }
+        break;
+    }
+  }
+
+  @Override
+  void complete() {
+    if (error != null) {
+      tdsMessageCodec.decoder().fireCommandResponse(CommandResponse.failure(error));
+    } else {
+      super.complete();
+    }
+  }
+
+  /**
+   * Encode a row of the bulk load.
+   *
+   * @return the packets ready to be sent or {@code null}
+   * @throws IllegalArgumentException when the row does not match the columns
+   */
+  public ByteBuf writeRow(Tuple row) {
+    if (state != State.LOAD) {
+      throw new IllegalStateException();
+    }
+    if (row.size() != columns.length) {
+      throw new IllegalArgumentException("The row has " + row.size() + " values instead of " + columns.length);
+    }
+    int idx = data.writerIndex();
+    try {
+      data.writeByte(TokenType.ROW);
+      for (int i = 0; i < columns.length; i++) {
+        columns[i].encodeValue(data, row.getValue(i));
+      }
+    } catch (RuntimeException e) {
+      data.writerIndex(idx);
+      throw e;
+    }
+    return packets(false);
+  }
+
+  /**
+   * Terminate the bulk load.
+   *
+   * @return the last packets of the message
+   */
+  public ByteBuf end() {
+    if (state != State.LOAD) {
+      return null;
+    }
+    data.writeByte(TokenType.DONE);
+    data.writeShortLE(Done.STATUS_DONE_FINAL);
+    data.writeShortLE(0); // CurCmd
+    data.writeLongLE(0); // DoneRowCount
+    return packets(true);
+  }
+
+  /**
+   * Abort the bulk load, the message is terminated with the ignore status and an attention signal is sent
+   * so the server discards the rows.
+   *
+   * @return the packets to send or {@code null} when the load is not in progress
+   */
+  public ByteBuf abort(Throwable cause) {
+    if (state != State.LOAD || data == null) {
+      return null;
+    }
+    state = State.ABORTED;
+    error = cause;
+    data.clear();
+    CompositeByteBuf packets = tdsMessageCodec.alloc().compositeBuffer();
+    appendPacket(packets, BULK_LOAD_DATA, (short) (END_OF_MESSAGE | IGNORE_THIS_EVENT), data);
+    appendPacket(packets, ATTENTION_SIGNAL, END_OF_MESSAGE, null);
+    data = null;
+    return packets;
+  }
+
+  private ByteBuf packets(boolean last) {
+    if (data == null) {
+      return null;
+    }
+    int payloadMaxLength = tdsMessageCodec.encoder().packetSize() - PACKET_HEADER_SIZE;
+    CompositeByteBuf packets = null;
+    while (data.readableBytes() > payloadMaxLength) {
+      if (packets == null) {
+        packets = tdsMessageCodec.alloc().compositeBuffer();
+      }
+      appendPacket(packets, BULK_LOAD_DATA, NORMAL, data.readRetainedSlice(payloadMaxLength));
+    }
+    if (last) {
+      if (packets == null) {
+        packets = tdsMessageCodec.alloc().compositeBuffer();
+      }
+      appendPacket(packets, BULK_LOAD_DATA, END_OF_MESSAGE, data);
+      data = null;
+    } else if (packets != null) {
+      // Sent packets still use the buffer, keep the remaining bytes in a new one
+      ByteBuf remaining = tdsMessageCodec.alloc().ioBuffer(data.readableBytes());
+      remaining.writeBytes(data);
+      data.release();
+      data = remaining;
+    }
+    return packets;
+  }
+
+  private void appendPacket(CompositeByteBuf packets, short messageType, short status, ByteBuf payload) {
+    int length = payload != null ? payload.readableBytes() : 0;
+    ByteBuf header = tdsMessageCodec.alloc().ioBuffer(PACKET_HEADER_SIZE);
+    header.writeByte(messageType);
+    header.writeByte(status);
+    header.writeShort(PACKET_HEADER_SIZE + length);
+    header.writeZero(4);
+    packets.addComponent(true, header);
+    if (payload != null) {
+      packets.addComponent(true, payload);
+    }
+  }
+}
@@ -0,0 +1,418 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.sqlclient.data.Numeric;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static io.vertx.mssqlclient.impl.utils.ByteBufUtils.writeByteLengthString;
+
+/**
+ * A column of a bulk load, values are sent with the nullable variant of the destination column type and the server
+ * converts them when the declared type differs from the column type (e.g. {@code varchar} values sent as
+ * {@code nvarchar}).
+ */
+final class BulkLoadColumn {
+
+  private static final int MAX_NVARCHAR_LENGTH = 4000;
+  private static final int MAX_VARBINARY_LENGTH = 8000;
+  private static final long PLP_NULL = 0xFFFFFFFFFFFFFFFFL;
+
+  private enum Kind {
+    INT, BIT, FLOAT, DECIMAL, STRING, BINARY, DATE, TIME, DATETIME2, DATETIMEOFFSET, GUID
+  }
+
+  private final String name;
+  private final Kind kind;
+  private final DataType wireType;
+  private final int length;
+  private final byte precision;
+  private final byte scale;
+  private final boolean plp;
+
+  private BulkLoadColumn(String name, Kind kind, DataType wireType, int length, int precision, int scale, boolean plp) {
+    this.name = name;
+    this.kind = kind;
+    this.wireType = wireType;
+    this.length = length;
+    this.precision = (byte) precision;
+    this.scale = (byte) scale;
+    this.plp = plp;
+  }
+
+  /**
+   * Create the bulk load column for a column of the destination table.
+   *
+   * @throws IllegalArgumentException when the column type cannot be bulk loaded
+   */
+  static BulkLoadColumn create(ColumnData column) {
+    String name = column.name();
+    TypeInfo typeInfo = column.typeInfo();
+    switch (column.dataType()) {
+      case INT1:
+        return new BulkLoadColumn(name, Kind.INT, DataType.INTN, 1, 0, 0, false);
+      case INT2:
+        return new BulkLoadColumn(name, Kind.INT, DataType.INTN, 2, 0, 0, false);
+      case INT4:
+        return new BulkLoadColumn(name, Kind.INT, DataType.INTN, 4, 0, 0, false);
+      case INT8:
+        return new BulkLoadColumn(name, Kind.INT, DataType.INTN, 8, 0, 0, false);
+      case INTN:
+        return new BulkLoadColumn(name, Kind.INT, DataType.INTN, typeInfo.maxLength(), 0, 0, false);
+      case BIT:
+      case BITN:
+        return new BulkLoadColumn(name, Kind.BIT, DataType.BITN, 1, 0, 0, false);
+      case FLT4:
+        return new BulkLoadColumn(name, Kind.FLOAT, DataType.FLTN, 4, 0, 0, false);
+      case FLT8:
+        return new BulkLoadColumn(name, Kind.FLOAT, DataType.FLTN, 8, 0, 0, false);
+      case FLTN:
+        return new BulkLoadColumn(name, Kind.FLOAT, DataType.FLTN, typeInfo.maxLength(), 0, 0, false);
+      case DECIMALN:
+      case NUMERICN:
+        return new BulkLoadColumn(name, Kind.DECIMAL, DataType.DECIMALN, decimalLength(typeInfo.precision()), typeInfo.precision(), typeInfo.scale(), false);
+      case MONEY:
+      case MONEY4:
+      case MONEYN:
+        return new BulkLoadColumn(name, Kind.DECIMAL, DataType.DECIMALN, decimalLength(19), 19, 4, false);
+      case BIGVARCHAR:
+      case BIGCHAR:
+      case NVARCHAR:
+      case NCHAR: {
+        // Characters are always sent as UTF-16
+        int maxLength = typeInfo.maxLength();
+        int chars = column.dataType() == DataType.NVARCHAR || column.dataType() == DataType.NCHAR ? maxLength / 2 : maxLength;
+        boolean plp = maxLength == 0xFFFF || chars > MAX_NVARCHAR_LENGTH;
+        return new BulkLoadColumn(name, Kind.STRING, DataType.NVARCHAR, plp ? 0xFFFF : chars * 2, 0, 0, plp);
+      }
+      case BINARY:
+      case VARBINARY:
+      case BIGBINARY:
+      case BIGVARBINARY: {
+        int maxLength = typeInfo.maxLength();
+        boolean plp = maxLength == 0xFFFF || maxLength > MAX_VARBINARY_LENGTH;
+        return new BulkLoadColumn(name, Kind.BINARY, DataType.BIGVARBINARY, plp ? 0xFFFF : maxLength, 0, 0, plp);
+      }
+      case DATEN:
+        return new BulkLoadColumn(name, Kind.DATE, DataType.DATEN, 3, 0, 0, false);
+      case TIMEN:
+        return new BulkLoadColumn(name, Kind.TIME, DataType.TIMEN, timeLength(typeInfo.scale()), 0, typeInfo.scale(), false);
+      case DATETIME2N:
+        return new BulkLoadColumn(name, Kind.DATETIME2, DataType.DATETIME2N, timeLength(typeInfo.scale()) + 3, 0, typeInfo.scale(), false);
+      case DATETIM4:
+      case DATETIME:
+      case DATETIMN:
+        return new BulkLoadColumn(name, Kind.DATETIME2, DataType.DATETIME2N, timeLength(7) + 3, 0, 7, false);
+      case DATETIMEOFFSETN:
+        return new BulkLoadColumn(name, Kind.DATETIMEOFFSET, DataType.DATETIMEOFFSETN, timeLength(typeInfo.scale()) + 5, 0, typeInfo.scale(), false);
+      case GUID:
+        return new BulkLoadColumn(name, Kind.GUID, DataType.GUID, 16, 0, 0, false);
+      default:
+        throw new IllegalArgumentException("Unsupported bulk insert type " + column.dataType() + " for column " + name);
+    }
+  }
+
+  private static int decimalLength(int precision) {
+    return precision <= 9 ? 5 : precision <= 19 ? 9 : precision <= 28 ? 13 : 17;
+  }
+
+  private static int timeLength(int scale) {
+    return scale <= 2 ? 3 : scale <= 4 ? 4 : 5;
+  }
+
+  /**
+   * @return the column definition of the {@code INSERT BULK} statement
+   */
+  String definition() {
+    StringBuilder sb = new StringBuilder();
+    sb.append('[').append(name.replace("]", "]]")).append("] ");
+    switch (kind) {
+      case INT:
+        sb.append(length == 1 ? "tinyint" : length == 2 ? "smallint" : length == 4 ? "int" : "bigint");
+        break;
+      case BIT:
+        sb.append("bit");
+        break;
+      case FLOAT:
+        sb.append(length == 4 ? "real" : "float");
+        break;
+      case DECIMAL:
+        sb.append("decimal(").append(precision).append(',').append(scale).append(')');
+        break;
+      case STRING:
+        sb.append("nvarchar(").append(plp ? "max" : String.valueOf(length / 2)).append(')');
+        break;
+      case BINARY:
+        sb.append("varbinary(").append(plp ? "max" : String.valueOf(length)).append(')');
+        break;
+      case DATE:
+        sb.append("date");
+        break;
+      case TIME:
+        sb.append("time(").append(scale).append(')');
+        break;
+      case DATETIME2:
+        sb.append("datetime2(").append(scale).append(')');
+        break;
+      case DATETIMEOFFSET:
+        sb.append("datetimeoffset(").append(scale).append(')');
+        break;
+      case GUID:
+        sb.append("uniqueidentifier");
+        break;
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Encode the {@code COLMETADATA} entry of this column.
+   */
+  void encodeMetadata(ByteBuf byteBuf) {
+    byteBuf.writeIntLE(0); // UserType
+    byteBuf.writeShortLE(0x0009); // Flags: nullable, updatable
+    byteBuf.writeByte(wireType.id);
+    switch (kind) {
+      case INT:
+      case BIT:
+      case FLOAT:
+      case GUID:
+        byteBuf.writeByte(length);
+        break;
+      case DECIMAL:
+        byteBuf.writeByte(length);
+        byteBuf.writeByte(precision);
+        byteBuf.writeByte(scale);
+        break;
+      case STRING:
+        byteBuf.writeShortLE(length);
+        DataType.writeCollation(byteBuf);
+        break;
+      case BINARY:
+        byteBuf.writeShortLE(length);
+        break;
+      case TIME:
+      case DATETIME2:
+      case DATETIMEOFFSET:
+        byteBuf.writeByte(scale);
+        break;
+      case DATE:
+        break;
+    }
+    writeByteLengthString(byteBuf, name);
+  }
+
+  /**
+   * Encode a value of this column in a {@code ROW} token.
+   *
+   * @throws IllegalArgumentException when the value cannot be converted to the column type
+   */
+  void encodeValue(ByteBuf byteBuf, Object value) {
+    if (value == null) {
+      encodeNull(byteBuf);
+      return;
+    }
+    try {
+      switch (kind) {
+        case INT:
+          encodeInt(byteBuf, ((Number) value).longValue());
+          break;
+        case BIT:
+          byteBuf.writeByte(1);
+          byteBuf.writeBoolean((Boolean) value);
+          break;
+        case FLOAT:
+          byteBuf.writeByte(length);
+          if (length == 4) {
+            byteBuf.writeFloatLE(((Number) value).floatValue());
+          } else {
+            byteBuf.writeDoubleLE(((Number) value).doubleValue());
+          }
+          break;
+        case DECIMAL:
+          encodeDecimal(byteBuf, toBigDecimal(value));
+          break;
+        case STRING:
+          encodeString(byteBuf, value.getClass().isEnum() ? ((Enum<?>) value).name() : value.toString());
+          break;
+        case BINARY:
+          encodeBinary(byteBuf, value instanceof byte[] ? Buffer.buffer((byte[]) value) : (Buffer) value);
+          break;
+        case DATE:
+          byteBuf.writeByte(3);
+          byteBuf.writeMediumLE(DataType.daysFromStartDate((LocalDate) value));
+          break;
+        case TIME:
+          byteBuf.writeByte(length);
+          encodeTime(byteBuf, (LocalTime) value);
+          break;
+        case DATETIME2: {
+          LocalDateTime localDateTime = (LocalDateTime) value;
+          byteBuf.writeByte(length);
+          encodeTime(byteBuf, localDateTime.toLocalTime());
+          byteBuf.writeMediumLE(DataType.daysFromStartDate(localDateTime.toLocalDate()));
+          break;
+        }
+        case DATETIMEOFFSET: {
+          OffsetDateTime offsetDateTime = (OffsetDateTime) value;
+          int offsetMinutes = offsetDateTime.getOffset().getTotalSeconds() / 60;
+          LocalDateTime localDateTime = offsetDateTime.toLocalDateTime().minusMinutes(offsetMinutes);
+          byteBuf.writeByte(length);
+          encodeTime(byteBuf, localDateTime.toLocalTime());
+          byteBuf.writeMediumLE(DataType.daysFromStartDate(localDateTime.toLocalDate()));
+          byteBuf.writeShortLE(offsetMinutes);
+          break;
+        }
+        case GUID: {
+          UUID uuid = (UUID) value;
+          long msb = uuid.getMostSignificantBits();
+          byteBuf.writeByte(16);
+          byteBuf.writeIntLE((int) (msb >> 32));
+          byteBuf.writeShortLE((short) (msb >> 16));
+          byteBuf.writeShortLE((short) msb);
+          byteBuf.writeLong(uuid.getLeastSignificantBits());
+          break;
+        }
+      }
+    } catch (ClassCastException | ArithmeticException e) {
+      throw new IllegalArgumentException("Invalid value " + value + " for column " + name, e);
+    }
+  }
+
+  private void encodeNull(ByteBuf byteBuf) {
+    switch (kind) {
+      case STRING:
+      case BINARY:
+        if (plp) {
+          byteBuf.writeLongLE(PLP_NULL);
+        } else {
+          byteBuf.writeShortLE(0xFFFF);
+        }
+        break;
+      default:
+        byteBuf.writeByte(0);
+        break;
+    }
+  }
+
+  private void encodeInt(ByteBuf byteBuf, long value) {
+    byteBuf.writeByte(length);
+    switch (length) {
+      case 1:
+        if (value < 0 || value > 0xFF) {
+          throw new ArithmeticException();
+        }
+        byteBuf.writeByte((int) value);
+        break;
+      case 2:
+        if (value != (short) value) {
+          throw new ArithmeticException();
+        }
+        byteBuf.writeShortLE((int) value);
+        break;
+      case 4:
+        if (value != (int) value) {
+          throw new ArithmeticException();
+        }
+        byteBuf.writeIntLE((int) value);
+        break;
+      default:
+        byteBuf.writeLongLE(value);
+        break;
+    }
+  }
+
+  private static BigDecimal toBigDecimal(Object value) {
+    if (value instanceof BigDecimal) {
+      return (BigDecimal) value;
+    } else if (value instanceof Numeric) {
+      return ((Numeric) value).bigDecimalValue();
+    } else {
+      return new BigDecimal(value.toString());
+    }
+  }
+
+  private void encodeDecimal(ByteBuf byteBuf, BigDecimal value) {
+    BigInteger unscaled = value.setScale(scale, RoundingMode.HALF_UP).unscaledValue();
+    if (unscaled.abs().toString().length() > precision) {
+      throw new ArithmeticException();
+    }
+    byte[] bytes = unscaled.abs().toByteArray();
+    byteBuf.writeByte(length);
+    byteBuf.writeByte(unscaled.signum() < 0 ? 0 : 1);
+    // Magnitude in little endian order, padded to the declared length
+    for (int i = bytes.length - 1; i >= 0; i--) {
+      byteBuf.writeByte(bytes[i]);
+    }
+    byteBuf.writeZero(length - 1 - bytes.length);
+  }
+
+  private void encodeString(ByteBuf byteBuf, String value) {
+    int byteLength = value.length() * 2;
+    if (plp) {
+      encodePLP(byteBuf, byteLength);
+      byteBuf.writeCharSequence(value, StandardCharsets.UTF_16LE);
+      byteBuf.writeIntLE(0);
+    } else {
+      if (byteLength > length) {
+        throw new ArithmeticException();
+      }
+      byteBuf.writeShortLE(byteLength);
+      byteBuf.writeCharSequence(value, StandardCharsets.UTF_16LE);
+    }
+  }
+
+  private void encodeBinary(ByteBuf byteBuf, Buffer value) {
+    int byteLength = value.length();
+    if (plp) {
+      encodePLP(byteBuf, byteLength);
+      byteBuf.writeBytes(((BufferInternal) value).getByteBuf());
+      byteBuf.writeIntLE(0);
+    } else {
+      if (byteLength > length) {
+        throw new ArithmeticException();
+      }
+      byteBuf.writeShortLE(byteLength);
+      byteBuf.writeBytes(((BufferInternal) value).getByteBuf());
+    }
+  }
+
+  private static void encodePLP(ByteBuf byteBuf, int byteLength) {
+    byteBuf.writeLongLE(byteLength);
+    if (byteLength > 0) {
+      // A single chunk
+      byteBuf.writeIntLE(byteLength);
+    }
+  }
+
+  private void encodeTime(ByteBuf byteBuf, LocalTime value) {
+    long time = value.toNanoOfDay();
+    for (int i = scale; i < 9; i++) {
+      time /= 10;
+    }
+    int timeLength = timeLength(scale);
+    for (int i = 0; i < timeLength; i++) {
+      byteBuf.writeByte((int) (time >> (8 * i)));
+    }
+  }
+}
@@ -13,6 +13,7 @@ package io.vertx.mssqlclient.impl.codec;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.util.collection.IntObjectHashMap;
 import io.netty.util.collection.IntObjectMap;
@@ -1063,6 +1064,29 @@ public enum DataType {
     return payloadLength == 0xFFFFFFFFFFFFFFFFL;
   }
 
+  /**
+   * Read a binary value without copying it.
+   *
+   * @return a retained slice of {@code byteBuf} or a composite of retained slices for a PLP value,
+   *         {@code null} for a {@code NULL} value
+   */
+  static ByteBuf readRetainedBinaryValue(ByteBuf byteBuf, TypeInfo typeInfo) {
+    if (isPLP(typeInfo)) {
+      long payloadLength = byteBuf.readLongLE();
+      if (isPLPNull(payloadLength)) {
+        return null;
+      }
+      CompositeByteBuf composite = ALLOCATOR.compositeBuffer(Integer.MAX_VALUE);
+      for (int chunkSize = (int) byteBuf.readUnsignedIntLE(); chunkSize > 0; chunkSize = (int) byteBuf.readUnsignedIntLE()) {
+        composite.addComponent(true, byteBuf.readRetainedSlice(chunkSize));
+      }
+      return composite;
+    } else {
+      int length = byteBuf.readUnsignedShortLE();
+      return length == 0xFFFF ? null : byteBuf.readRetainedSlice(length);
+    }
+  }
+
   private static ByteBuf readPLP(ByteBuf byteBuf) {
     final int startIndex = byteBuf.readerIndex();
     int nextIndex = startIndex;
@@ -1205,7 +1229,7 @@ public enum DataType {
     return LocalTime.ofNanoOfDay(100 * hundredNanos);
   }
 
-  private static int daysFromStartDate(LocalDate localDate) {
+  static int daysFromStartDate(LocalDate localDate) {
     return (int) ChronoUnit.DAYS.between(START_DATE, localDate);
   }
 
@@ -1213,7 +1237,7 @@ public enum DataType {
     return localTime.toNanoOfDay() / 100;
   }
 
-  private static void writeCollation(ByteBuf byteBuf) {
+  static void writeCollation(ByteBuf byteBuf) {
     byteBuf.writeInt(0x0904d000);
     byteBuf.writeByte(0x34);
   }
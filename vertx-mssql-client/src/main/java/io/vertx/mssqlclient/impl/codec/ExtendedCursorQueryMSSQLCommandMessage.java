@@ -33,7 +33,8 @@ class ExtendedCursorQueryMSSQLCommandMessage<T> extends ExtendedQueryMSSQLComman
     if (cursorData.preparedHandle == 0) {
       sendCursorPrepExec();
     } else {
-      rowResultDecoder = new RowResultDecoder<>(cmd.collector(), cursorData.mssqlRowDesc);
+      rowResultDecoder = new RowResultDecoder<>(cmd.collector(), cursorData.mssqlRowDesc, tdsMessageCodec.zeroCopyBuffers());
+      rowResultDecoder.profile(cmd.profile());
       sendCursorFetch();
     }
   }
@@ -16,6 +16,7 @@ import io.netty.channel.ChannelHandler;
 import io.netty.handler.ssl.SslHandler;
 import io.vertx.mssqlclient.MSSQLException;
 import io.vertx.mssqlclient.MSSQLInfo;
+import io.vertx.mssqlclient.impl.command.BulkInsertCommand;
 import io.vertx.mssqlclient.impl.command.PreLoginCommand;
 import io.vertx.sqlclient.codec.CommandMessage;
 import io.vertx.sqlclient.spi.protocol.CloseConnectionCommand;
@@ -58,6 +59,8 @@ public abstract class MSSQLCommandMessage<R, C extends CommandBase<R>> extends C
       return new CloseConnectionMSSQLCommandMessage((CloseConnectionCommand) cmd);
     } else if (cmd instanceof CloseCursorCommand) {
       return new CloseCursorMSSQLCommandMessage((CloseCursorCommand) cmd);
+    } else if (cmd instanceof BulkInsertCommand) {
+      return new BulkInsertMSSQLCommandMessage((BulkInsertCommand) cmd);
     } else {
       throw new UnsupportedOperationException();
     }
@@ -186,12 +189,18 @@ public abstract class MSSQLCommandMessage<R, C extends CommandBase<R>> extends C
     } else {
       content.skipBytes(10);
     }
+    if ((status & Done.STATUS_DONE_ATTN) != 0) {
+      handleAttentionAck();
+    }
     handleDone(tokenType);
   }
 
   protected void handleAffectedRows(long count) {
   }
 
+  protected void handleAttentionAck() {
+  }
+
   protected void handleDone(short tokenType) {
   }
 
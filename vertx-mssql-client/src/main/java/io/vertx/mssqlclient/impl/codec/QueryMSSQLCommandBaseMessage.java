@@ -33,7 +33,8 @@ abstract class QueryMSSQLCommandBaseMessage<T, C extends QueryCommandBase<T>> ex
 
   @Override
   protected void handleRowDesc(MSSQLRowDescriptor mssqlRowDesc) {
-    rowResultDecoder = new RowResultDecoder<>(cmd.collector(), mssqlRowDesc);
+    rowResultDecoder = new RowResultDecoder<>(cmd.collector(), mssqlRowDesc, tdsMessageCodec.zeroCopyBuffers());
+    rowResultDecoder.profile(cmd.profile());
   }
 
   @Override
@@ -58,19 +59,22 @@ abstract class QueryMSSQLCommandBaseMessage<T, C extends QueryCommandBase<T>> ex
     T result;
     Throwable failure;
     int size;
+    long bytes;
     RowDescriptorBase rowDescriptor;
     if (rowResultDecoder != null) {
       failure = rowResultDecoder.complete();
       result = rowResultDecoder.result();
       rowDescriptor = rowResultDecoder.desc();
       size = rowResultDecoder.size();
+      bytes = rowResultDecoder.bytes();
       rowResultDecoder.reset();
     } else {
       result = emptyResult(cmd.collector());
       failure = null;
       size = 0;
+      bytes = 0L;
       rowDescriptor = null;
     }
-    cmd.resultHandler().handleResult(rowCount, size, rowDescriptor, result, failure);
+    cmd.resultHandler().handleResult(rowCount, size, bytes, rowDescriptor, result, failure);
   }
 }
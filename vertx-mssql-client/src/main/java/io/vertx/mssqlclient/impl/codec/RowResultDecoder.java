@@ -14,6 +14,7 @@ package io.vertx.mssqlclient.impl.codec;
 import io.netty.buffer.ByteBuf;
 import io.vertx.mssqlclient.impl.MSSQLRow;
 import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.impl.RowBase;
 import io.vertx.sqlclient.impl.RowDecoder;
 import io.vertx.sqlclient.internal.RowInternal;
 
@@ -24,11 +25,14 @@ public class RowResultDecoder<C, R> extends RowDecoder<C, R> {
   private static final int FETCH_MISSING = 0x0002;
 
   private final MSSQLRowDescriptor desc;
+  private final boolean zeroCopyBuffers;
   public boolean nbc;
 
-  public RowResultDecoder(Collector<Row, C, R> collector, MSSQLRowDescriptor desc) {
+  public RowResultDecoder(Collector<Row, C, R> collector, MSSQLRowDescriptor desc, boolean zeroCopyBuffers) {
     super(collector);
     this.desc = desc;
+    // Only the rows of a stream are released by the application
+    this.zeroCopyBuffers = zeroCopyBuffers && streamed();
   }
 
   public MSSQLRowDescriptor desc() {
@@ -53,11 +57,32 @@ public class RowResultDecoder<C, R> extends RowDecoder<C, R> {
     int len = desc.size();
     for (int c = 0; c < len; c++) {
       ColumnData columnData = desc.get(c);
-      row.addValue(columnData.dataType().decodeValue(in, columnData.typeInfo()));
+      row.addValue(decodeValue(in, columnData, row));
     }
     return ifNotMissing(in, row);
   }
 
+  private Object decodeValue(ByteBuf in, ColumnData columnData, Row row) {
+    DataType dataType = columnData.dataType();
+    if (zeroCopyBuffers && isBinary(dataType)) {
+      ByteBuf value = DataType.readRetainedBinaryValue(in, columnData.typeInfo());
+      return value != null ? ((RowBase) row).retainedBuffer(value) : null;
+    }
+    return dataType.decodeValue(in, columnData.typeInfo());
+  }
+
+  private static boolean isBinary(DataType dataType) {
+    switch (dataType) {
+      case BINARY:
+      case VARBINARY:
+      case BIGBINARY:
+      case BIGVARBINARY:
+        return true;
+      default:
+        return false;
+    }
+  }
+
   private boolean ifNotMissing(ByteBuf in, Row row) {
     if (desc.hasRowStat() && in.readIntLE() == FETCH_MISSING) {
       return false;
@@ -81,7 +106,7 @@ public class RowResultDecoder<C, R> extends RowDecoder<C, R> {
       if ((nullByte & mask) == 0) {
         // not null
         ColumnData columnData = desc.get(c);
-        decoded = columnData.dataType().decodeValue(in, columnData.typeInfo());
+        decoded = decodeValue(in, columnData, row);
       }
       row.addValue(decoded);
     }
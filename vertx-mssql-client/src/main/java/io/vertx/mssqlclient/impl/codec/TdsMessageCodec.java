@@ -24,15 +24,17 @@ public class TdsMessageCodec extends CombinedChannelDuplexHandler<TdsMessageDeco
   private final ArrayDeque<MSSQLCommandMessage<?, ?>> inflight = new ArrayDeque<>();
   private final TdsMessageEncoder encoder;
   private final TdsMessageDecoder decoder;
+  private final boolean zeroCopyBuffers;
 
   private ChannelHandlerContext chctx;
   private ByteBufAllocator alloc;
   private long transactionDescriptor;
   private Map<String, CursorData> cursorDataMap;
 
-  public TdsMessageCodec(int desiredPacketSize) {
+  public TdsMessageCodec(int desiredPacketSize, boolean zeroCopyBuffers) {
     decoder = new TdsMessageDecoder(this);
     encoder = new TdsMessageEncoder(this, desiredPacketSize);
+    this.zeroCopyBuffers = zeroCopyBuffers;
     init(decoder, encoder);
   }
 
@@ -43,6 +45,10 @@ public class TdsMessageCodec extends CombinedChannelDuplexHandler<TdsMessageDeco
     alloc = chctx.alloc();
   }
 
+  boolean zeroCopyBuffers() {
+    return zeroCopyBuffers;
+  }
+
   TdsMessageEncoder encoder() {
     return encoder;
   }
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.command;
+
+import io.vertx.core.streams.Pipe;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.spi.protocol.CommandBase;
+
+import java.util.List;
+
+/**
+ * Bulk load the rows provided by the {@code source} pipe in the {@code columns} of the {@code table}.
+ * <p>
+ * The command result is the number of rows inserted.
+ */
+public class BulkInsertCommand extends CommandBase<Long> {
+
+  private final String table;
+  private final List<String> columns;
+  private final Pipe<Tuple> source;
+
+  public BulkInsertCommand(String table, List<String> columns, Pipe<Tuple> source) {
+    this.table = table;
+    this.columns = columns;
+    this.source = source;
+  }
+
+  public String table() {
+    return table;
+  }
+
+  public List<String> columns() {
+    return columns;
+  }
+
+  public Pipe<Tuple> source() {
+    return source;
+  }
+}
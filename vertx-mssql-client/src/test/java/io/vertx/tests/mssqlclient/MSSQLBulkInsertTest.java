@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.tests.mssqlclient;
+
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.mssqlclient.MSSQLConnectOptions;
+import io.vertx.mssqlclient.MSSQLConnection;
+import io.vertx.mssqlclient.MSSQLException;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+
+@RunWith(VertxUnitRunner.class)
+public class MSSQLBulkInsertTest extends MSSQLTestBase {
+
+  private static final List<String> COLUMNS = Arrays.asList("id", "name", "amount", "created", "payload", "flag");
+  private static final LocalDateTime CREATED = LocalDateTime.of(2024, 5, 17, 10, 30, 15, 123_456_700);
+
+  Vertx vertx;
+  MSSQLConnection connection;
+
+  @Before
+  public void setup(TestContext ctx) {
+    vertx = Vertx.vertx();
+    options = new MSSQLConnectOptions(MSSQLTestBase.options);
+    MSSQLConnection.connect(vertx, options)
+      .compose(conn -> {
+        this.connection = conn;
+        return conn
+          .query("CREATE TABLE #bulk_test (id INT NOT NULL, name VARCHAR(50), amount DECIMAL(10, 2), created DATETIME2, payload VARBINARY(MAX), flag BIT)")
+          .execute();
+      })
+      .onComplete(ctx.asyncAssertSuccess());
+  }
+
+  @After
+  public void tearDown(TestContext ctx) {
+    if (connection != null) {
+      connection.close().onComplete(ctx.asyncAssertSuccess());
+    }
+    vertx.close().onComplete(ctx.asyncAssertSuccess());
+  }
+
+  private static Tuple row(int i) {
+    return Tuple.of(
+      i,
+      i % 10 == 0 ? null : "name-" + i,
+      new BigDecimal(i).movePointLeft(2),
+      CREATED.plusDays(i % 100),
+      i % 2 == 0 ? Buffer.buffer("payload-" + i) : null,
+      i % 3 == 0);
+  }
+
+  @Test
+  public void testBulkInsert(TestContext ctx) {
+    int count = 10_000;
+    List<Tuple> rows = IntStream.range(0, count).mapToObj(MSSQLBulkInsertTest::row).collect(toList());
+    connection
+      .bulkInsert("#bulk_test", COLUMNS, new TupleStream(vertx.getOrCreateContext(), rows, null))
+      .compose(inserted -> {
+        ctx.assertEquals((long) count, inserted);
+        return connection.query("SELECT id, name, amount, created, payload, flag FROM #bulk_test ORDER BY id").execute();
+      })
+      .onComplete(ctx.asyncAssertSuccess(result -> {
+        ctx.assertEquals(count, result.size());
+        int i = 0;
+        for (Row row : result) {
+          Tuple expected = row(i++);
+          ctx.assertEquals(expected.getInteger(0), row.getInteger("id"));
+          ctx.assertEquals(expected.getString(1), row.getString("name"));
+          ctx.assertEquals(expected.getValue(2), row.getBigDecimal("amount"));
+          ctx.assertEquals(expected.getLocalDateTime(3), row.getLocalDateTime("created"));
+          ctx.assertEquals(expected.getBuffer(4), row.getBuffer("payload"));
+          ctx.assertEquals(expected.getBoolean(5), row.getBoolean("flag"));
+        }
+      }));
+  }
+
+  @Test
+  public void testBulkInsertInvalidValue(TestContext ctx) {
+    List<Tuple> rows = IntStream.range(0, 100).mapToObj(MSSQLBulkInsertTest::row).collect(toList());
+    rows.set(50, Tuple.of("not-an-int", null, null, null, null, null));
+    connection
+      .bulkInsert("#bulk_test", COLUMNS, new TupleStream(vertx.getOrCreateContext(), rows, null))
+      .onComplete(ctx.asyncAssertFailure(err -> {
+        ctx.assertEquals(IllegalArgumentException.class, err.getClass());
+        assertEmptyTable(ctx);
+      }));
+  }
+
+  @Test
+  public void testBulkInsertStreamFailure(TestContext ctx) {
+    List<Tuple> rows = IntStream.range(0, 100).mapToObj(MSSQLBulkInsertTest::row).collect(toList());
+    Exception failure = new Exception("expected");
+    connection
+      .bulkInsert("#bulk_test", COLUMNS, new TupleStream(vertx.getOrCreateContext(), rows, failure))
+      .onComplete(ctx.asyncAssertFailure(err -> {
+        ctx.assertEquals(failure, err);
+        assertEmptyTable(ctx);
+      }));
+  }
+
+  @Test
+  public void testBulkInsertUnknownTable(TestContext ctx) {
+    List<Tuple> rows = IntStream.range(0, 10).mapToObj(MSSQLBulkInsertTest::row).collect(toList());
+    connection
+      .bulkInsert("#does_not_exist", COLUMNS, new TupleStream(vertx.getOrCreateContext(), rows, null))
+      .onComplete(ctx.asyncAssertFailure(err -> {
+        ctx.assertEquals(MSSQLException.class, err.getClass());
+      }));
+  }
+
+  @Test
+  public void testBulkInsertQuotedTableName(TestContext ctx) {
+    List<Tuple> rows = IntStream.range(0, 10).mapToObj(i -> Tuple.of(i)).collect(toList());
+    connection
+      .query("CREATE TABLE [#bulk ]]select] ([order] INT NOT NULL)")
+      .execute()
+      .compose(v -> connection.bulkInsert("#bulk ]select", Arrays.asList("order"), new TupleStream(vertx.getOrCreateContext(), rows, null)))
+      .compose(inserted -> {
+        ctx.assertEquals(10L, inserted);
+        return connection.query("SELECT COUNT(*) FROM [#bulk ]]select]").execute();
+      })
+      .onComplete(ctx.asyncAssertSuccess(result -> {
+        ctx.assertEquals(10, result.iterator().next().getInteger(0));
+      }));
+  }
+
+  @Test
+  public void testBulkInsertTableNameInjection(TestContext ctx) {
+    List<Tuple> rows = IntStream.range(0, 10).mapToObj(MSSQLBulkInsertTest::row).collect(toList());
+    connection
+      .bulkInsert("#bulk_test; DROP TABLE #bulk_test", COLUMNS, new TupleStream(vertx.getOrCreateContext(), rows, null))
+      .onComplete(ctx.asyncAssertFailure(err -> {
+        ctx.assertEquals(MSSQLException.class, err.getClass());
+        assertEmptyTable(ctx);
+      }));
+  }
+
+  private void assertEmptyTable(TestContext ctx) {
+    // The connection remains usable
+    connection
+      .query("SELECT COUNT(*) FROM #bulk_test")
+      .execute()
+      .onComplete(ctx.asyncAssertSuccess((RowSet<Row> result) -> {
+        ctx.assertEquals(0, result.iterator().next().getInteger(0));
+      }));
+  }
+
+  /**
+   * Emits tuples on a context, honoring the demand, then ends or fails.
+   */
+  private static class TupleStream implements ReadStream<Tuple> {
+
+    private final Context context;
+    private final List<Tuple> tuples;
+    private final Throwable failure;
+    private Handler<Tuple> handler;
+    private Handler<Void> endHandler;
+    private Handler<Throwable> exceptionHandler;
+    private long demand = Long.MAX_VALUE;
+    private int index;
+    private boolean done;
+
+    TupleStream(Context context, List<Tuple> tuples, Throwable failure) {
+      this.context = context;
+      this.tuples = tuples;
+      this.failure = failure;
+    }
+
+    @Override
+    public ReadStream<Tuple> exceptionHandler(Handler<Throwable> handler) {
+      exceptionHandler = handler;
+      return this;
+    }
+
+    @Override
+    public ReadStream<Tuple> handler(Handler<Tuple> handler) {
+      this.handler = handler;
+      if (handler != null) {
+        context.runOnContext(v -> drain());
+      }
+      return this;
+    }
+
+    @Override
+    public ReadStream<Tuple> pause() {
+      demand = 0L;
+      return this;
+    }
+
+    @Override
+    public ReadStream<Tuple> resume() {
+      return fetch(Long.MAX_VALUE);
+    }
+
+    @Override
+    public ReadStream<Tuple> fetch(long amount) {
+      demand += amount;
+      if (demand < 0L) {
+        demand = Long.MAX_VALUE;
+      }
+      context.runOnContext(v -> drain());
+      return this;
+    }
+
+    @Override
+    public ReadStream<Tuple> endHandler(Handler<Void> handler) {
+      endHandler = handler;
+      return this;
+    }
+
+    private void drain() {
+      while (handler != null && demand > 0L && index < tuples.size()) {
+        if (demand != Long.MAX_VALUE) {
+          demand--;
+        }
+        handler.handle(tuples.get(index++));
+      }
+      if (index == tuples.size() && !done) {
+        done = true;
+        if (failure != null) {
+          if (exceptionHandler != null) {
+            exceptionHandler.handle(failure);
+          }
+        } else if (endHandler != null) {
+          endHandler.handle(null);
+        }
+      }
+    }
+  }
+}
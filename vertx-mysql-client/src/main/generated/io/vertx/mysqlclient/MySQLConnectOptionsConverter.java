@@ -2,6 +2,8 @@ package io.vertx.mysqlclient;
 
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
 
 /**
  * Converter and mapper for {@link io.vertx.mysqlclient.MySQLConnectOptions}.
@@ -57,6 +59,11 @@ public class MySQLConnectOptionsConverter {
             obj.setPipeliningLimit(((Number)member.getValue()).intValue());
           }
           break;
+        case "pipelinedBatch":
+          if (member.getValue() instanceof Boolean) {
+            obj.setPipelinedBatch((Boolean)member.getValue());
+          }
+          break;
       }
     }
   }
@@ -89,5 +96,6 @@ public class MySQLConnectOptionsConverter {
       json.put("serverRsaPublicKeyValue", obj.getServerRsaPublicKeyValue().toJson());
     }
     json.put("pipeliningLimit", obj.getPipeliningLimit());
+    json.put("pipelinedBatch", obj.getPipelinedBatch());
   }
 }
@@ -249,6 +249,14 @@ public class MySQLClientExamples {
       .build();
   }
 
+  public void batchPipelining(Vertx vertx, MySQLConnectOptions connectOptions, PoolOptions poolOptions) {
+    Pool pool = MySQLBuilder.pool()
+      .with(poolOptions)
+      .connectingTo(connectOptions.setPipelinedBatch(true))
+      .using(vertx)
+      .build();
+  }
+
   public void poolVersusPooledClient(Vertx vertx, String sql, MySQLConnectOptions connectOptions, PoolOptions poolOptions) {
 
     // Pooled client
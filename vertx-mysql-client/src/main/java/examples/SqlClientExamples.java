@@ -17,15 +17,22 @@
 package examples;
 
 import io.vertx.core.*;
+import io.vertx.core.metrics.MetricsOptions;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.metrics.ClientMetrics;
+import io.vertx.core.spi.metrics.VertxMetrics;
 import io.vertx.core.tracing.TracingPolicy;
 import io.vertx.docgen.Source;
 import io.vertx.mysqlclient.MySQLBuilder;
 import io.vertx.mysqlclient.MySQLConnectOptions;
 import io.vertx.sqlclient.*;
+import io.vertx.sqlclient.spi.metrics.SqlClientStatistics;
+import io.vertx.sqlclient.spi.metrics.StatementStatistics;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Source
 @SuppressWarnings("unused")
@@ -147,6 +154,39 @@ public class SqlClientExamples {
       });
   }
 
+  public void queries11(SqlConnectOptions connectOptions, SqlConnection connection) {
+
+    // Keep the frequently used statements in the cache
+    connectOptions
+      .setCachePreparedStatements(true)
+      .setPreparedStatementCachePolicy(PreparedStatementCachePolicy.TINY_LFU);
+
+    // Later
+    PreparedStatementCacheStats stats = connection.preparedStatementCacheStats();
+    System.out.println("Hits " + stats.getHits() + ", misses " + stats.getMisses() + ", evictions " + stats.getEvictions());
+  }
+
+  public void queries12(Pool pool) {
+    QueryResultCache cache = QueryResultCache.create(new QueryResultCacheOptions()
+      .setMaxSize(10_000)
+      .setTtl(30)
+      .setTtlUnit(TimeUnit.SECONDS));
+
+    // Results are tagged with the table they read
+    PreparedQuery<RowSet<Row>> query = pool
+      .preparedQuery("SELECT enabled FROM features WHERE name = ?")
+      .cached(cache, List.of("features"));
+
+    query
+      .execute(Tuple.of("dark-mode"))
+      .onSuccess(rows -> {
+        System.out.println("Enabled " + rows.iterator().next().getBoolean("enabled"));
+      });
+
+    // Later, once the features table is updated
+    cache.invalidate("features");
+  }
+
   public void queries10(SqlConnection sqlConnection) {
     sqlConnection
       .prepare("SELECT * FROM users WHERE id = ?")
@@ -333,10 +373,68 @@ public class SqlClientExamples {
     });
   }
 
+  public void usingCursors04(PreparedStatement ps) {
+    // Fetch 50 rows at a time and keep up to 2 batches read ahead
+    RowStream<Row> stream = ps.createStream(50, 2, Tuple.tuple());
+
+    stream.handler(row -> {
+      System.out.println("User: " + row.getString("last_name"));
+    });
+  }
+
+  public void usingCursors05(PreparedStatement ps) {
+    // Read about 1MB per fetch, whatever the size of the rows
+    RowStreamOptions options = new RowStreamOptions()
+      .setFetch(50)
+      .setReadAhead(1)
+      .setFetchBytes(1024 * 1024);
+    RowStream<Row> stream = ps.createStream(options, Tuple.tuple());
+
+    stream.handler(row -> {
+      System.out.println("User: " + row.getString("last_name"));
+    });
+  }
+
   public void tracing01(MySQLConnectOptions options) {
     options.setTracingPolicy(TracingPolicy.ALWAYS);
   }
 
+  public void metrics01(SqlClientStatistics statistics) {
+    Vertx vertx = Vertx.builder()
+      .with(new VertxOptions().setMetricsOptions(new MetricsOptions().setEnabled(true)))
+      .withMetrics(options -> new VertxMetrics() {
+        @Override
+        public ClientMetrics<?, ?, ?> createClientMetrics(SocketAddress remoteAddress, String type, String namespace) {
+          return "sql".equals(type) ? statistics : null;
+        }
+      })
+      .build();
+  }
+
+  public void metrics02(SqlClientStatistics statistics) {
+    StatementStatistics stats = statistics.statement("SELECT * FROM users WHERE id=?");
+    if (stats != null) {
+      long p99 = stats.executionTime().valueAtPercentile(99);
+      System.out.println("Executed " + stats.executions() + " times, p99 " + p99 / 1000 + " us");
+    }
+    System.out.println("Pool wait p99 " + statistics.poolWaitTime().valueAtPercentile(99) / 1000 + " us");
+    System.out.println("Prepared statement cache hit ratio " + statistics.preparedStatementCacheHitRatio());
+  }
+
+  public void metrics03(SqlClientStatistics statistics) {
+    // Profile 1% of the statement executions
+    statistics.setProfileSampleRate(0.01);
+  }
+
+  public void metrics04(SqlClientStatistics statistics) {
+    for (StatementStatistics stats : statistics.slowest(10)) {
+      System.out.println(stats.sql() + ": server " + stats.meanServerTime() / 1000 + " us, decode " +
+        stats.meanDecodeTime() / 1000 + " us, collector " + stats.meanCollectorTime() / 1000 + " us");
+    }
+    // Dump the 10 slowest statements as JSON
+    System.out.println(statistics.toJson(10).encodePrettily());
+  }
+
   public void poolConfig01(Vertx vertx, MySQLConnectOptions server1, MySQLConnectOptions server2, MySQLConnectOptions server3, PoolOptions options) {
     Pool pool = MySQLBuilder.pool()
       .with(options)
@@ -354,6 +452,38 @@ public class SqlClientExamples {
     });
   }
 
+  public void poolMinSize(Vertx vertx, SqlConnectOptions database) {
+    Pool pool = Pool.pool(vertx, database, new PoolOptions()
+      .setMaxSize(10)
+      .setMinSize(4));
+
+    // Open the minimum number of connections before serving traffic
+    pool.warmup().onSuccess(v -> {
+      System.out.println("Pool ready");
+    });
+  }
+
+  public void poolLifetimeRotation(Vertx vertx, SqlConnectOptions database) {
+    Pool pool = Pool.pool(vertx, database, new PoolOptions()
+      .setMaxSize(32)
+      .setMaxLifetime(30)
+      .setMaxLifetimeUnit(TimeUnit.MINUTES)
+      // Spread the expiration of the connections over 5 minutes
+      .setMaxLifetimeJitter(5)
+      // Rotate at most 2 connections per pool cleaner period
+      .setLifetimeRotationLimit(2));
+  }
+
+  public void poolValidation(Vertx vertx, SqlConnectOptions database) {
+    Pool pool = Pool.pool(vertx, database, new PoolOptions()
+      .setMaxSize(32)
+      // Ping the connections unused for more than 30 seconds before lending them
+      .setValidationInterval(30)
+      .setValidationIntervalUnit(TimeUnit.SECONDS)
+      // Also ping them in the background with the pool cleaner
+      .setIdleValidation(true));
+  }
+
   public void poolSharing1(Vertx vertx, MySQLConnectOptions database, int maxSize) {
     Pool pool = MySQLBuilder.pool()
       .with(new PoolOptions().setMaxSize(maxSize))
@@ -399,6 +529,17 @@ public class SqlClientExamples {
       .using(vertx)
       .build();
   }
+  public static void poolSharing4(Vertx vertx, MySQLConnectOptions database, int maxSize) {
+    Pool pool = MySQLBuilder.pool()
+      .with(new PoolOptions()
+        .setMaxSize(maxSize)
+        .setShared(true)
+        .setName("my-pool")
+        .setEventLoopSize(4)
+        .setConnectionSelectionStrategy(ConnectionSelectionStrategy.EVENT_LOOP_AFFINE))
+      .using(vertx)
+      .build();
+  }
 
   public void dynamicPoolConfig(Vertx vertx, PoolOptions poolOptions) {
     Pool pool = MySQLBuilder.pool()
@@ -21,6 +21,7 @@ import io.vertx.core.net.SocketAddress;
 import io.vertx.core.tracing.TracingPolicy;
 import io.vertx.mysqlclient.impl.MySQLCollation;
 import io.vertx.mysqlclient.impl.MySQLConnectionUriParser;
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
 import io.vertx.sqlclient.SqlConnectOptions;
 
 import java.nio.charset.Charset;
@@ -71,6 +72,7 @@ public class MySQLConnectOptions extends SqlConnectOptions {
   public static final SslMode DEFAULT_SSL_MODE = SslMode.PREFERRED;
   public static final String DEFAULT_CHARACTER_ENCODING = "UTF-8";
   public static final int DEFAULT_PIPELINING_LIMIT = 1;
+  public static final boolean DEFAULT_PIPELINED_BATCH = false;
 
   static {
     Map<String, String> defaultAttributes = new HashMap<>();
@@ -86,6 +88,7 @@ public class MySQLConnectOptions extends SqlConnectOptions {
   private Buffer serverRsaPublicKeyValue;
   private String characterEncoding = DEFAULT_CHARACTER_ENCODING;
   private int pipeliningLimit = DEFAULT_PIPELINING_LIMIT;
+  private boolean pipelinedBatch = DEFAULT_PIPELINED_BATCH;
   private MySQLAuthenticationPlugin authenticationPlugin = MySQLAuthenticationPlugin.DEFAULT;
 
   public MySQLConnectOptions() {
@@ -109,6 +112,7 @@ public class MySQLConnectOptions extends SqlConnectOptions {
       this.serverRsaPublicKeyValue = opts.serverRsaPublicKeyValue != null ? opts.serverRsaPublicKeyValue.copy() : null;
       this.characterEncoding = opts.characterEncoding;
       this.pipeliningLimit = opts.pipeliningLimit;
+      this.pipelinedBatch = opts.pipelinedBatch;
       this.authenticationPlugin = opts.authenticationPlugin;
     }
   }
@@ -123,6 +127,7 @@ public class MySQLConnectOptions extends SqlConnectOptions {
     this.serverRsaPublicKeyValue = other.serverRsaPublicKeyValue != null ? other.serverRsaPublicKeyValue.copy() : null;
     this.characterEncoding = other.characterEncoding;
     this.pipeliningLimit = other.pipeliningLimit;
+    this.pipelinedBatch = other.pipelinedBatch;
     this.authenticationPlugin = other.authenticationPlugin;
   }
 
@@ -323,6 +328,30 @@ public class MySQLConnectOptions extends SqlConnectOptions {
     return this;
   }
 
+  /**
+   * Get whether the executions of a batch are pipelined.
+   *
+   * @return whether batches are pipelined
+   */
+  public boolean getPipelinedBatch() {
+    return pipelinedBatch;
+  }
+
+  /**
+   * Set whether the executions of a batch are pipelined.
+   *
+   * <p>When enabled, the {@code COM_STMT_EXECUTE} packets of a batch are written in a single flush instead of waiting
+   * for the response of each execution, regardless of the {@link #setPipeliningLimit(int) pipelining limit}. Failures
+   * are still reported per execution by a {@link MySQLBatchException}.
+   *
+   * @param pipelinedBatch whether batches are pipelined
+   * @return a reference to this, so the API can be used fluently
+   */
+  public MySQLConnectOptions setPipelinedBatch(boolean pipelinedBatch) {
+    this.pipelinedBatch = pipelinedBatch;
+    return this;
+  }
+
   @Override
   public MySQLConnectOptions setHost(String host) {
     return (MySQLConnectOptions) super.setHost(host);
@@ -353,6 +382,11 @@ public class MySQLConnectOptions extends SqlConnectOptions {
     return (MySQLConnectOptions) super.setCachePreparedStatements(cachePreparedStatements);
   }
 
+  @Override
+  public MySQLConnectOptions setZeroCopyBuffers(boolean zeroCopyBuffers) {
+    return (MySQLConnectOptions) super.setZeroCopyBuffers(zeroCopyBuffers);
+  }
+
   @Override
   public MySQLConnectOptions setPreparedStatementCacheMaxSize(int preparedStatementCacheMaxSize) {
     return (MySQLConnectOptions) super.setPreparedStatementCacheMaxSize(preparedStatementCacheMaxSize);
@@ -369,6 +403,11 @@ public class MySQLConnectOptions extends SqlConnectOptions {
     return (MySQLConnectOptions) super.setPreparedStatementCacheSqlLimit(preparedStatementCacheSqlLimit);
   }
 
+  @Override
+  public MySQLConnectOptions setPreparedStatementCachePolicy(PreparedStatementCachePolicy preparedStatementCachePolicy) {
+    return (MySQLConnectOptions) super.setPreparedStatementCachePolicy(preparedStatementCachePolicy);
+  }
+
   @Override
   public MySQLConnectOptions setProperties(Map<String, String> properties) {
     return (MySQLConnectOptions) super.setProperties(properties);
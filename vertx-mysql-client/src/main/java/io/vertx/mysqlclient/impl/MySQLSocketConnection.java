@@ -35,6 +35,7 @@ import io.vertx.mysqlclient.impl.codec.MySQLCodec;
 import io.vertx.mysqlclient.impl.codec.MySQLPacketDecoder;
 import io.vertx.mysqlclient.impl.codec.MySQLPreparedStatement;
 import io.vertx.mysqlclient.impl.command.InitialHandshakeCommand;
+import io.vertx.mysqlclient.impl.command.PingCommand;
 import io.vertx.sqlclient.SqlConnectOptions;
 import io.vertx.sqlclient.codec.CommandMessage;
 import io.vertx.sqlclient.spi.connection.Connection;
@@ -68,7 +69,7 @@ public class MySQLSocketConnection extends SocketConnectionBase {
                                Predicate<String> preparedStatementCacheSqlFilter,
                                int pipeliningLimit,
                                ContextInternal context) {
-    super(socket, clientMetrics, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, pipeliningLimit, context);
+    super(socket, clientMetrics, cachePreparedStatements, preparedStatementCacheSize, connectOptions.getPreparedStatementCachePolicy(), preparedStatementCacheSqlFilter, pipeliningLimit, context);
     this.connectOptions = connectOptions;
   }
 
@@ -93,9 +94,13 @@ public class MySQLSocketConnection extends SocketConnectionBase {
     return connectOptions;
   }
 
+  public boolean pipelinedBatch() {
+    return pipeliningEnabled() || connectOptions.getPipelinedBatch();
+  }
+
   @Override
   public void init() {
-    codec = new MySQLCodec(this);
+    codec = new MySQLCodec(this, connectOptions.getZeroCopyBuffers());
     ChannelPipeline pipeline = socket.channelHandlerContext().pipeline();
     pipeline.addBefore("handler", "codec", codec);
     pipeline.addBefore("codec", "packetDecoder", new MySQLPacketDecoder());
@@ -116,6 +121,11 @@ public class MySQLSocketConnection extends SocketConnectionBase {
     return MySQLCommand.wrap(command);
   }
 
+  @Override
+  public void ping(Completable<Void> handler) {
+    schedule(new PingCommand(), handler);
+  }
+
   @Override
   protected <R> void doSchedule(CommandBase<R> cmd, Completable<R> handler) {
     if (cmd instanceof TxCommand) {
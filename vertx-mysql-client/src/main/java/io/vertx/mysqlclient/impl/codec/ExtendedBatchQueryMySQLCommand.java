@@ -46,7 +46,7 @@ public class ExtendedBatchQueryMySQLCommand<R> extends ExtendedQueryMySQLCommand
       encoder.fireCommandResponse(CommandResponse.failure("Statement parameter is not set because of the empty batch param list"));
       return;
     }
-    pipeliningEnabled = encoder.socketConnection.pipeliningEnabled();
+    pipeliningEnabled = encoder.socketConnection.pipelinedBatch();
     encoder.socketConnection.suspendPipeline();
     doExecuteBatch();
   }
@@ -97,6 +97,23 @@ public class ExtendedBatchQueryMySQLCommand<R> extends ExtendedQueryMySQLCommand
   }
 
   private void doExecuteBatch() {
+    if (pipeliningEnabled) {
+      if (sent < params.size()) {
+        // Write all the executions and flush them at once
+        deferFlush = true;
+        try {
+          executeBatch();
+        } finally {
+          deferFlush = false;
+        }
+        encoder.chctx.flush();
+      }
+    } else {
+      executeBatch();
+    }
+  }
+
+  private void executeBatch() {
     while (sent < params.size()) {
       Tuple param = params.get(sent);
       sequenceId = 0;
@@ -50,7 +50,8 @@ public class ExtendedQueryMySQLCommand<R> extends ExtendedQueryMySQLCommandBase<
     if (statement.isCursorOpen) {
       if (decoder == null) {
         // restore the state we need for decoding if column definitions are not included in the fetch response
-        decoder = new RowResultDecoder<>(cmd.collector(), statement.cursorRowDescriptor);
+        decoder = new RowResultDecoder<>(cmd.collector(), statement.cursorRowDescriptor, encoder.zeroCopyBuffers);
+        decoder.profile(cmd.profile());
       }
       sendStatementFetchCommand(statement.statementId, cmd.fetch());
     } else {
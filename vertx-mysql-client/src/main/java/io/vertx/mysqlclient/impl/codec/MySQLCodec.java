@@ -25,9 +25,9 @@ public class MySQLCodec extends CombinedChannelDuplexHandler<MySQLDecoder, MySQL
 
   private final ArrayDeque<MySQLCommand<?, ?>> inflight;
 
-  public MySQLCodec(MySQLSocketConnection mySQLSocketConnection) {
+  public MySQLCodec(MySQLSocketConnection mySQLSocketConnection, boolean zeroCopyBuffers) {
     inflight = new ArrayDeque<>();
-    MySQLEncoder encoder = new MySQLEncoder(this, mySQLSocketConnection);
+    MySQLEncoder encoder = new MySQLEncoder(this, mySQLSocketConnection, zeroCopyBuffers);
     MySQLDecoder decoder = new MySQLDecoder(this);
     init(decoder, encoder);
   }
@@ -50,6 +50,8 @@ public abstract class MySQLCommand<R, C extends CommandBase<R>> extends CommandM
   public R result;
   MySQLEncoder encoder;
   int sequenceId;
+  // when set, packets are written without flushing, the command flushes them at once
+  boolean deferFlush;
 
   MySQLCommand(C cmd) {
     super(cmd);
@@ -131,12 +133,20 @@ public abstract class MySQLCommand<R, C extends CommandBase<R>> extends CommandM
     packetHeader.writeMediumLE(payload.readableBytes());
     packetHeader.writeByte(sequenceId++);
     encoder.chctx.write(packetHeader, encoder.chctx.voidPromise());
-    encoder.chctx.writeAndFlush(payload, encoder.chctx.voidPromise());
+    writePacket(payload);
   }
 
   void sendNonSplitPacket(ByteBuf packet) {
     sequenceId++;
-    encoder.chctx.writeAndFlush(packet, encoder.chctx.voidPromise());
+    writePacket(packet);
+  }
+
+  private void writePacket(ByteBuf packet) {
+    if (deferFlush) {
+      encoder.chctx.write(packet, encoder.chctx.voidPromise());
+    } else {
+      encoder.chctx.writeAndFlush(packet, encoder.chctx.voidPromise());
+    }
   }
 
   final void sendBytesAsPacket(byte[] payload) {
@@ -27,10 +27,12 @@ class MySQLEncoder extends ChannelOutboundHandlerAdapter {
   int clientCapabilitiesFlag;
   Charset encodingCharset;
   MySQLSocketConnection socketConnection;
+  final boolean zeroCopyBuffers;
 
-  MySQLEncoder(MySQLCodec codec, MySQLSocketConnection mySQLSocketConnection) {
+  MySQLEncoder(MySQLCodec codec, MySQLSocketConnection mySQLSocketConnection, boolean zeroCopyBuffers) {
     this.codec = codec;
     this.socketConnection = mySQLSocketConnection;
+    this.zeroCopyBuffers = zeroCopyBuffers;
   }
 
   @Override
@@ -95,7 +95,8 @@ abstract class QueryMySQLCommandBase<T, C extends QueryCommandBase<T>> extends M
     commandHandlerState = CommandHandlerState.HANDLING_ROW_DATA_OR_END_PACKET;
     MySQLRowDescriptor mySQLRowDesc = MySQLRowDescriptor.create(columnDefinitions, format); // use the column definitions if provided by execute or fetch response instead of prepare response
     handleRowDescriptorCreated(mySQLRowDesc);
-    decoder = new RowResultDecoder<>(cmd.collector(), mySQLRowDesc);
+    decoder = new RowResultDecoder<>(cmd.collector(), mySQLRowDesc, encoder.zeroCopyBuffers);
+    decoder.profile(cmd.profile());
   }
 
   protected void handleRowDescriptorCreated(MySQLRowDescriptor mySQLRowDesc) {
@@ -150,20 +151,23 @@ abstract class QueryMySQLCommandBase<T, C extends QueryCommandBase<T>> extends M
     T result;
     Throwable failure;
     int size;
+    long bytes;
     RowDescriptorBase rowDescriptor;
     if (decoder != null) {
       failure = decoder.complete();
       result = decoder.result();
       rowDescriptor = decoder.rowDesc;
       size = decoder.size();
+      bytes = decoder.bytes();
       decoder.reset();
     } else {
       result = emptyResult(cmd.collector());
       failure = null;
       size = 0;
+      bytes = 0L;
       rowDescriptor = null;
     }
-    cmd.resultHandler().handleResult(affectedRows, size, rowDescriptor, result, failure);
+    cmd.resultHandler().handleResult(affectedRows, size, bytes, rowDescriptor, result, failure);
     if (lastInsertId > 0) {
       cmd.resultHandler().addProperty(MySQLClient.LAST_INSERTED_ID, lastInsertId);
     }
@@ -12,13 +12,16 @@
 package io.vertx.mysqlclient.impl.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.mysqlclient.impl.MySQLRowDescriptor;
 import io.vertx.mysqlclient.impl.MySQLRow;
 import io.vertx.mysqlclient.impl.datatype.DataFormat;
 import io.vertx.mysqlclient.impl.datatype.DataType;
 import io.vertx.mysqlclient.impl.datatype.DataTypeCodec;
 import io.vertx.mysqlclient.impl.protocol.ColumnDefinition;
+import io.vertx.mysqlclient.impl.util.BufferUtils;
 import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.impl.RowBase;
 import io.vertx.sqlclient.impl.RowDecoder;
 import io.vertx.sqlclient.internal.RowInternal;
 
@@ -28,10 +31,13 @@ class RowResultDecoder<C, R> extends RowDecoder<C, R> {
   private static final int NULL = 0xFB;
 
   MySQLRowDescriptor rowDesc;
+  final boolean zeroCopyBuffers;
 
-  RowResultDecoder(Collector<Row, C, R> collector, MySQLRowDescriptor rowDesc) {
+  RowResultDecoder(Collector<Row, C, R> collector, MySQLRowDescriptor rowDesc, boolean zeroCopyBuffers) {
     super(collector);
     this.rowDesc = rowDesc;
+    // Only the rows of a stream are released by the application
+    this.zeroCopyBuffers = zeroCopyBuffers && streamed();
   }
 
   @Override
@@ -62,7 +68,11 @@ class RowResultDecoder<C, R> extends RowDecoder<C, R> {
           ColumnDefinition columnDef = rowDesc.get(c);
           DataType dataType = columnDef.type();
           int collationId = columnDef.characterSet();
-          decoded = DataTypeCodec.decodeBinary(dataType, collationId, in);
+          if (zeroCopyBuffers && isBinary(dataType)) {
+            decoded = retainedBuffer(in, row);
+          } else {
+            decoded = DataTypeCodec.decodeBinary(dataType, collationId, in);
+          }
         }
         row.addValue(decoded);
       }
@@ -76,11 +86,36 @@ class RowResultDecoder<C, R> extends RowDecoder<C, R> {
           ColumnDefinition columnDef = rowDesc.get(c);
           DataType dataType = columnDef.type();
           int collationId = columnDef.characterSet();
-          decoded = DataTypeCodec.decodeText(dataType, collationId, in);
+          if (zeroCopyBuffers && isBinary(dataType)) {
+            decoded = retainedBuffer(in, row);
+          } else {
+            decoded = DataTypeCodec.decodeText(dataType, collationId, in);
+          }
         }
         row.addValue(decoded);
       }
     }
     return true;
   }
+
+  private static Buffer retainedBuffer(ByteBuf in, Row row) {
+    int length = (int) BufferUtils.readLengthEncodedInteger(in);
+    Buffer buffer = ((RowBase) row).retainedBuffer(in.retainedSlice(in.readerIndex(), length));
+    in.skipBytes(length);
+    return buffer;
+  }
+
+  private static boolean isBinary(DataType dataType) {
+    switch (dataType) {
+      case BINARY:
+      case VARBINARY:
+      case TINY_BLOB:
+      case BLOB:
+      case MEDIUM_BLOB:
+      case LONG_BLOB:
+        return true;
+      default:
+        return false;
+    }
+  }
 }
@@ -168,6 +168,20 @@ public class MySQLConnectOptionsProviderTest {
     actualConfiguration = MySQLConnectOptions.fromUri(connectionUri);
   }
 
+  @Test
+  public void testJsonRoundTrip() {
+    MySQLConnectOptions options = new MySQLConnectOptions()
+      .setHost("myhost")
+      .setPipeliningLimit(16)
+      .setPipelinedBatch(true);
+
+    MySQLConnectOptions copy = new MySQLConnectOptions(options.toJson());
+
+    Assert.assertTrue(copy.getPipelinedBatch());
+    Assert.assertEquals(16, copy.getPipeliningLimit());
+    assertEquals(options, copy);
+  }
+
   private static void assertEquals(MySQLConnectOptions expectedConfiguration, MySQLConnectOptions actualConfiguration) {
     Assert.assertEquals(expectedConfiguration.toJson(), actualConfiguration.toJson());
   }
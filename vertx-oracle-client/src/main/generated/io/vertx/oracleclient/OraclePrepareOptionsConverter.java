@@ -0,0 +1,41 @@
+package io.vertx.oracleclient;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.oracleclient.OraclePrepareOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.oracleclient.OraclePrepareOptions} original class using Vert.x codegen.
+ */
+public class OraclePrepareOptionsConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, OraclePrepareOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "autoGeneratedKeys":
+          if (member.getValue() instanceof Boolean) {
+            obj.setAutoGeneratedKeys((Boolean)member.getValue());
+          }
+          break;
+        case "autoGeneratedKeysIndexes":
+          if (member.getValue() instanceof JsonArray) {
+            obj.setAutoGeneratedKeysIndexes(((JsonArray)member.getValue()).copy());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(OraclePrepareOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(OraclePrepareOptions obj, java.util.Map<String, Object> json) {
+    json.put("autoGeneratedKeys", obj.isAutoGeneratedKeys());
+    if (obj.getAutoGeneratedKeysIndexes() != null) {
+      json.put("autoGeneratedKeysIndexes", obj.getAutoGeneratedKeysIndexes());
+    }
+  }
+}
@@ -240,6 +240,11 @@ public class OracleClientExamples {
       .setReconnectInterval(1000);
   }
 
+  public void virtualThreads(OracleConnectOptions options) {
+    // Run the blocking JDBC calls on virtual threads
+    options.setVirtualThreads(true);
+  }
+
   public void implicitTypeConversionExample(SqlClient client) {
     client
       .preparedQuery("SELECT * FROM students WHERE updated_time = ?")
@@ -18,15 +18,23 @@ package examples;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.metrics.MetricsOptions;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.metrics.ClientMetrics;
+import io.vertx.core.spi.metrics.VertxMetrics;
 import io.vertx.core.tracing.TracingPolicy;
 import io.vertx.docgen.Source;
 import io.vertx.oracleclient.OracleBuilder;
 import io.vertx.oracleclient.OracleConnectOptions;
 import io.vertx.sqlclient.*;
+import io.vertx.sqlclient.spi.metrics.SqlClientStatistics;
+import io.vertx.sqlclient.spi.metrics.StatementStatistics;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Source
 @SuppressWarnings("unused")
@@ -148,6 +156,30 @@ public class SqlClientExamples {
       });
   }
 
+  public void queries11(SqlConnectOptions connectOptions, SqlConnection connection) {
+  }
+
+  public void queries12(Pool pool) {
+    QueryResultCache cache = QueryResultCache.create(new QueryResultCacheOptions()
+      .setMaxSize(10_000)
+      .setTtl(30)
+      .setTtlUnit(TimeUnit.SECONDS));
+
+    // Results are tagged with the table they read
+    PreparedQuery<RowSet<Row>> query = pool
+      .preparedQuery("SELECT enabled FROM features WHERE name = ?")
+      .cached(cache, List.of("features"));
+
+    query
+      .execute(Tuple.of("dark-mode"))
+      .onSuccess(rows -> {
+        System.out.println("Enabled " + rows.iterator().next().getBoolean("enabled"));
+      });
+
+    // Later, once the features table is updated
+    cache.invalidate("features");
+  }
+
   public void queries10(SqlConnection sqlConnection) {
     sqlConnection
       .prepare("SELECT * FROM users WHERE id = ?")
@@ -334,10 +366,68 @@ public class SqlClientExamples {
     });
   }
 
+  public void usingCursors04(PreparedStatement ps) {
+    // Fetch 50 rows at a time and keep up to 2 batches read ahead
+    RowStream<Row> stream = ps.createStream(50, 2, Tuple.tuple());
+
+    stream.handler(row -> {
+      System.out.println("User: " + row.getString("last_name"));
+    });
+  }
+
+  public void usingCursors05(PreparedStatement ps) {
+    // Read about 1MB per fetch, whatever the size of the rows
+    RowStreamOptions options = new RowStreamOptions()
+      .setFetch(50)
+      .setReadAhead(1)
+      .setFetchBytes(1024 * 1024);
+    RowStream<Row> stream = ps.createStream(options, Tuple.tuple());
+
+    stream.handler(row -> {
+      System.out.println("User: " + row.getString("last_name"));
+    });
+  }
+
   public void tracing01(OracleConnectOptions options) {
     options.setTracingPolicy(TracingPolicy.ALWAYS);
   }
 
+  public void metrics01(SqlClientStatistics statistics) {
+    Vertx vertx = Vertx.builder()
+      .with(new VertxOptions().setMetricsOptions(new MetricsOptions().setEnabled(true)))
+      .withMetrics(options -> new VertxMetrics() {
+        @Override
+        public ClientMetrics<?, ?, ?> createClientMetrics(SocketAddress remoteAddress, String type, String namespace) {
+          return "sql".equals(type) ? statistics : null;
+        }
+      })
+      .build();
+  }
+
+  public void metrics02(SqlClientStatistics statistics) {
+    StatementStatistics stats = statistics.statement("SELECT * FROM users WHERE id=?");
+    if (stats != null) {
+      long p99 = stats.executionTime().valueAtPercentile(99);
+      System.out.println("Executed " + stats.executions() + " times, p99 " + p99 / 1000 + " us");
+    }
+    System.out.println("Pool wait p99 " + statistics.poolWaitTime().valueAtPercentile(99) / 1000 + " us");
+    System.out.println("Prepared statement cache hit ratio " + statistics.preparedStatementCacheHitRatio());
+  }
+
+  public void metrics03(SqlClientStatistics statistics) {
+    // Profile 1% of the statement executions
+    statistics.setProfileSampleRate(0.01);
+  }
+
+  public void metrics04(SqlClientStatistics statistics) {
+    for (StatementStatistics stats : statistics.slowest(10)) {
+      System.out.println(stats.sql() + ": server " + stats.meanServerTime() / 1000 + " us, decode " +
+        stats.meanDecodeTime() / 1000 + " us, collector " + stats.meanCollectorTime() / 1000 + " us");
+    }
+    // Dump the 10 slowest statements as JSON
+    System.out.println(statistics.toJson(10).encodePrettily());
+  }
+
   public void dynamicPoolConfig(Vertx vertx, PoolOptions poolOptions) {
     Pool pool = OracleBuilder.pool()
       .with(poolOptions)
@@ -362,9 +452,21 @@ public class SqlClientExamples {
   public void poolSharing3() {
   }
 
+  public void poolSharing4() {
+  }
+
   public void poolConfig01() {
   }
 
   public void poolConfig02() {
   }
+
+  public void poolMinSize() {
+  }
+
+  public void poolLifetimeRotation() {
+  }
+
+  public void poolValidation() {
+  }
 }
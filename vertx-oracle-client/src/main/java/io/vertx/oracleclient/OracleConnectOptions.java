@@ -17,6 +17,7 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.core.tracing.TracingPolicy;
 import io.vertx.oracleclient.impl.OracleConnectionUriParser;
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
 import io.vertx.sqlclient.SqlConnectOptions;
 
 import java.util.Map;
@@ -43,6 +44,7 @@ public class OracleConnectOptions extends SqlConnectOptions {
   public static final String DEFAULT_PASSWORD = "";
   public static final String DEFAULT_DATABASE = "";
   public static final boolean DEFAULT_SSL = false;
+  public static final boolean DEFAULT_VIRTUAL_THREADS = false;
 
   private String serviceId;
   private String serviceName;
@@ -56,6 +58,7 @@ public class OracleConnectOptions extends SqlConnectOptions {
   private int maxRows;
   private FetchDirection fetchDirection;
   private int fetchSize;
+  private boolean virtualThreads = DEFAULT_VIRTUAL_THREADS;
 
 
   public OracleConnectOptions() {
@@ -79,6 +82,7 @@ public class OracleConnectOptions extends SqlConnectOptions {
     this.maxRows = other.maxRows;
     this.fetchDirection = other.fetchDirection;
     this.fetchSize = other.fetchSize;
+    this.virtualThreads = other.virtualThreads;
   }
 
   public OracleConnectOptions(SqlConnectOptions options) {
@@ -266,6 +270,27 @@ public class OracleConnectOptions extends SqlConnectOptions {
     return this;
   }
 
+  /**
+   * @return whether the blocking JDBC calls run on virtual threads
+   */
+  public boolean isVirtualThreads() {
+    return virtualThreads;
+  }
+
+  /**
+   * Set whether the blocking JDBC calls of a connection run on virtual threads instead of the Vert.x worker pool, so
+   * the number of concurrent calls is not limited by the worker pool size.
+   *
+   * <p>Virtual threads require Java 21, the calls run on the worker pool otherwise.
+   *
+   * @param virtualThreads true to use virtual threads
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OracleConnectOptions setVirtualThreads(boolean virtualThreads) {
+    this.virtualThreads = virtualThreads;
+    return this;
+  }
+
   // Non-specific options
 
   @Override
@@ -361,6 +386,11 @@ public class OracleConnectOptions extends SqlConnectOptions {
     return (OracleConnectOptions) super.setPreparedStatementCacheSqlLimit(preparedStatementCacheSqlLimit);
   }
 
+  @Override
+  public OracleConnectOptions setPreparedStatementCachePolicy(PreparedStatementCachePolicy preparedStatementCachePolicy) {
+    return (OracleConnectOptions) super.setPreparedStatementCachePolicy(preparedStatementCachePolicy);
+  }
+
   @Override
   public Map<String, String> getProperties() {
     return super.getProperties();
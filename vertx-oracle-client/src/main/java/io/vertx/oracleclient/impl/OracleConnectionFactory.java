@@ -13,27 +13,35 @@ package io.vertx.oracleclient.impl;
 import io.vertx.core.Completable;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
+import io.vertx.core.ThreadingModel;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.internal.WorkerPool;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.spi.metrics.ClientMetrics;
+import io.vertx.core.spi.metrics.PoolMetrics;
 import io.vertx.core.spi.metrics.VertxMetrics;
 import io.vertx.oracleclient.OracleConnectOptions;
 import io.vertx.sqlclient.SqlConnectOptions;
 import io.vertx.sqlclient.spi.connection.Connection;
 import io.vertx.sqlclient.spi.connection.ConnectionFactory;
+import io.vertx.sqlclient.spi.metrics.SqlClientMetrics;
 import oracle.jdbc.OracleConnection;
 import oracle.jdbc.datasource.OracleDataSource;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import static io.vertx.oracleclient.impl.Helper.executeBlocking;
 import static io.vertx.oracleclient.impl.OracleDatabaseHelper.createDataSource;
 
 public class OracleConnectionFactory implements ConnectionFactory<OracleConnectOptions> {
 
+  private static final String VIRTUAL_THREAD_POOL_NAME = "vert.x-oracle-client-virtual-thread";
+
   private final Map<JsonObject, OracleDataSource> datasources;
+  private WorkerPool virtualThreadPool;
 
   public OracleConnectionFactory() {
     this.datasources = new HashMap<>();
@@ -41,9 +49,47 @@ public class OracleConnectionFactory implements ConnectionFactory<OracleConnectO
 
   @Override
   public void close(Completable<Void> promise) {
+    PoolMetrics metrics;
+    synchronized (this) {
+      metrics = virtualThreadPool != null ? virtualThreadPool.metrics() : null;
+      virtualThreadPool = null;
+    }
+    if (metrics != null) {
+      // The executor is owned by Vert.x
+      metrics.close();
+    }
     promise.succeed();
   }
 
+  /**
+   * @return the Vert.x virtual thread executor reporting to the metrics of a dedicated pool
+   */
+  private synchronized WorkerPool virtualThreadPool(VertxInternal vertx) {
+    if (virtualThreadPool == null) {
+      ExecutorService executor = vertx.createVirtualThreadContext().workerPool().executor();
+      VertxMetrics metrics = vertx.metrics();
+      virtualThreadPool = new WorkerPool(executor, metrics != null ? metrics.createPoolMetrics("worker", VIRTUAL_THREAD_POOL_NAME, -1) : null);
+    }
+    return virtualThreadPool;
+  }
+
+  /**
+   * @return a context on the same event-loop running its blocking tasks on virtual threads
+   */
+  private ContextInternal virtualThreadContext(ContextInternal context) {
+    VertxInternal vertx = context.owner();
+    if (context.threadingModel() == ThreadingModel.VIRTUAL_THREAD || !vertx.isVirtualThreadAvailable()) {
+      return context;
+    }
+    return vertx.contextBuilder()
+      .withThreadingModel(context.threadingModel())
+      .withEventLoop(context.nettyEventLoop())
+      .withClassLoader(context.classLoader())
+      .withCloseFuture(context.closeFuture())
+      .withWorkerPool(virtualThreadPool(vertx))
+      .build();
+  }
+
   private OracleDataSource getDatasource(SqlConnectOptions options) {
     JsonObject key = options.toJson();
     OracleDataSource datasource;
@@ -62,11 +108,15 @@ public class OracleConnectionFactory implements ConnectionFactory<OracleConnectO
     OracleDataSource datasource = getDatasource(options);
     VertxMetrics vertxMetrics = ((VertxInternal)context.owner()).metrics();
     ClientMetrics metrics = vertxMetrics != null ? vertxMetrics.createClientMetrics(options.getSocketAddress(), "sql", options.getMetricsName()) : null;
-    ContextInternal ctx = (ContextInternal) context;
-    return executeBlocking(context, () -> {
+    ContextInternal ctx = options.isVirtualThreads() ? virtualThreadContext((ContextInternal) context) : (ContextInternal) context;
+    long startTime = System.nanoTime();
+    return executeBlocking(ctx, () -> {
       OracleConnection orac = datasource.createConnectionBuilder().build();
       OracleMetadata metadata = new OracleMetadata(orac.getMetaData());
       OracleJdbcConnection conn = new OracleJdbcConnection(ctx, metrics, options, orac, metadata);
+      if (metrics instanceof SqlClientMetrics) {
+        ((SqlClientMetrics) metrics).connected(System.nanoTime() - startTime);
+      }
       return conn;
     });
   }
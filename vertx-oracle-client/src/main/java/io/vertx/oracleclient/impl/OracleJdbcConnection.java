@@ -114,6 +114,20 @@ public class OracleJdbcConnection implements Connection {
     }
   }
 
+  @Override
+  public void ping(Completable<Void> handler) {
+    context.<Boolean>executeBlocking(() -> connection.isValid(OracleConnection.ConnectionValidation.SOCKET, 0), false)
+      .onComplete((valid, err) -> {
+        if (err != null) {
+          handler.fail(err);
+        } else if (valid) {
+          handler.succeed();
+        } else {
+          handler.fail(VertxException.noStackTrace("Connection is no longer valid"));
+        }
+      });
+  }
+
   @Override
   public DatabaseMetadata databaseMetadata() {
     return metadata;
@@ -57,6 +57,10 @@ public class RowReader<C, R> implements Flow.Subscriber<Row>, Function<oracle.jd
   private int fetchSize;
   private Promise<Void> closePromise;
 
+  // Rows delivered by the publisher and not yet handed off to the RowReader context, guarded by this
+  private List<Row> pending;
+  private boolean drainScheduled;
+
   public RowReader(ContextInternal context, Collector<Row, C, R> collector, OracleResultSet ors) throws SQLException {
     this.context = context;
     this.collector = collector;
@@ -117,22 +121,45 @@ public class RowReader<C, R> implements Flow.Subscriber<Row>, Function<oracle.jd
 
   @Override
   public void onNext(Row item) {
-    context.runOnContext(v -> {
-      if (closePromise != null) {
-        return;
+    boolean schedule;
+    synchronized (this) {
+      if (pending == null) {
+        pending = new ArrayList<>();
       }
-      queue.add(item);
-      if (queue.size() > fetchSize) {
+      pending.add(item);
+      schedule = !drainScheduled;
+      drainScheduled = true;
+    }
+    if (schedule) {
+      // The rows delivered until the task runs are handed off at once, the demand bounds them to the fetch size
+      context.runOnContext(v -> drain());
+    }
+  }
+
+  private void drain() {
+    List<Row> rows;
+    synchronized (this) {
+      rows = pending;
+      pending = null;
+      drainScheduled = false;
+    }
+    if (rows == null || closePromise != null) {
+      return;
+    }
+    for (Row row : rows) {
+      queue.add(row);
+      if (queue.size() > fetchSize && readPromise != null) {
         OracleResponse<R> response = createResponse();
         readPromise.complete(response);
         readPromise = null;
       }
-    });
+    }
   }
 
   @Override
   public void onError(Throwable throwable) {
     context.runOnContext(v -> {
+      drain();
       if (closePromise != null) {
         LOG.trace("Dropping subscription failure", throwable);
         return;
@@ -146,6 +173,7 @@ public class RowReader<C, R> implements Flow.Subscriber<Row>, Function<oracle.jd
   @Override
   public void onComplete() {
     context.runOnContext(v -> {
+      drain();
       if (closePromise != null) {
         return;
       }
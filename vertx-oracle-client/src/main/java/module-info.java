@@ -18,6 +18,7 @@ module io.vertx.sql.client.oracle {
   exports io.vertx.oracleclient.spi;
 
   exports io.vertx.oracleclient.impl to io.vertx.tests.sql.client.oracle;
+  exports io.vertx.oracleclient.impl.commands to io.vertx.tests.sql.client.oracle;
 
   requires static io.vertx.docgen;
   requires static io.vertx.codegen.api;
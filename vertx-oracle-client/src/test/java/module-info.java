@@ -4,6 +4,7 @@ open module io.vertx.tests.sql.client.oracle {
   requires io.vertx.sql.client;
   requires io.vertx.sql.client.oracle;
   requires io.vertx.tests.sql.client;
+  requires com.oracle.database.jdbc;
   requires java.sql;
   requires io.vertx.testing.unit;
   requires junit;
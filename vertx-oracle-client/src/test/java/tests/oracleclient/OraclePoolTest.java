@@ -13,7 +13,12 @@ package tests.oracleclient;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
 import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.metrics.MetricsOptions;
+import io.vertx.core.spi.metrics.PoolMetrics;
+import io.vertx.core.spi.metrics.VertxMetrics;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
@@ -22,13 +27,17 @@ import io.vertx.oracleclient.OracleConnectOptions;
 import tests.oracleclient.junit.OracleRule;
 import io.vertx.sqlclient.*;
 import org.junit.After;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.ClassRule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
@@ -120,6 +129,56 @@ public class OraclePoolTest extends OracleTestBase {
     }
   }
 
+  @Test
+  public void testQueryOnVirtualThreads(TestContext ctx) throws Exception {
+    List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+    Vertx metricsVertx = Vertx.builder()
+      .with(new VertxOptions().setMetricsOptions(new MetricsOptions().setEnabled(true)))
+      .withMetrics(metricsOptions -> new VertxMetrics() {
+        @Override
+        public PoolMetrics<?, ?> createPoolMetrics(String type, String name, int maxSize) {
+          if (!"vert.x-oracle-client-virtual-thread".equals(name)) {
+            return null;
+          }
+          return new PoolMetrics<Object, Object>() {
+            @Override
+            public Object begin() {
+              // Called by the thread running the blocking task
+              threads.add(Thread.currentThread());
+              return null;
+            }
+          };
+        }
+      })
+      .build();
+    try {
+      Assume.assumeTrue(((VertxInternal) metricsVertx).isVirtualThreadAvailable());
+      int num = 100;
+      Async async = ctx.async(num);
+      Pool pool = OracleBuilder.pool(builder -> builder
+        .with(new PoolOptions().setMaxSize(10))
+        .connectingTo(new OracleConnectOptions(options).setVirtualThreads(true))
+        .using(metricsVertx));
+      for (int i = 0; i < num; i++) {
+        pool
+          .query("SELECT id, randomnumber FROM WORLD")
+          .execute()
+          .onComplete(ctx.asyncAssertSuccess(rows -> {
+            ctx.assertEquals(100, rows.size());
+            async.countDown();
+          }));
+      }
+      async.awaitSuccess(20_000);
+      ctx.assertFalse(threads.isEmpty());
+      Method isVirtual = Thread.class.getMethod("isVirtual");
+      for (Thread thread : threads) {
+        ctx.assertTrue((Boolean) isVirtual.invoke(thread));
+      }
+    } finally {
+      metricsVertx.close().await();
+    }
+  }
+
   @Test
   public void testQueryWithParams(TestContext ctx) {
     int num = 2;
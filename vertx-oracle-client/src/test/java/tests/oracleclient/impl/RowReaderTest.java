@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package tests.oracleclient.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.oracleclient.impl.OracleRow;
+import io.vertx.oracleclient.impl.RowReader;
+import io.vertx.oracleclient.impl.commands.OracleResponse;
+import io.vertx.sqlclient.PropertyKind;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.desc.ColumnDescriptor;
+import io.vertx.sqlclient.internal.QueryResultHandler;
+import io.vertx.sqlclient.internal.RowDescriptorBase;
+import oracle.jdbc.OracleResultSet;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class RowReaderTest {
+
+  private Vertx vertx;
+  private ContextInternal context;
+  private Flow.Subscriber<? super Row> subscriber;
+  private final AtomicLong demand = new AtomicLong();
+  private RowReader<?, List<Row>> reader;
+
+  @Before
+  public void setUp() throws Exception {
+    vertx = Vertx.vertx();
+    context = (ContextInternal) vertx.getOrCreateContext();
+    reader = reader(context, Collectors.toList(), resultSet());
+    // Let the subscription reach the reader context
+    await(Future.future(p -> context.runOnContext(v -> p.complete())));
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    await(vertx.close());
+  }
+
+  @Test
+  public void testBatchBoundary() throws Exception {
+    Future<OracleResponse<List<Row>>> read = reader.read(2);
+    waitForDemand(3);
+    // The rows delivered while the context is busy are handed off in a single batch
+    runBlocked(() -> {
+      for (int i = 0;i < 3;i++) {
+        subscriber.onNext(row(i));
+      }
+    });
+    assertEquals(List.of(0, 1), ids(await(read)));
+    assertTrue(await(reader.hasMore()));
+    read = reader.read(2);
+    waitForDemand(5);
+    runBlocked(() -> {
+      subscriber.onNext(row(3));
+      subscriber.onNext(row(4));
+    });
+    assertEquals(List.of(2, 3), ids(await(read)));
+    read = reader.read(2);
+    runBlocked(() -> subscriber.onComplete());
+    assertEquals(List.of(4), ids(await(read)));
+  }
+
+  @Test
+  public void testRowsKeptBetweenReads() throws Exception {
+    Future<OracleResponse<List<Row>>> read = reader.read(2);
+    waitForDemand(3);
+    subscriber.onNext(row(0));
+    subscriber.onNext(row(1));
+    // The read completes once the row following the batch is delivered
+    await(Future.future(p -> context.runOnContext(v -> p.complete())));
+    assertFalse(read.isComplete());
+    subscriber.onNext(row(2));
+    assertEquals(List.of(0, 1), ids(await(read)));
+    // No read in progress, the last row is kept until the next read
+    assertTrue(await(reader.hasMore()));
+    read = reader.read(2);
+    waitForDemand(5);
+    subscriber.onNext(row(3));
+    subscriber.onNext(row(4));
+    assertEquals(List.of(2, 3), ids(await(read)));
+  }
+
+  @Test
+  public void testErrorInBatch() throws Exception {
+    Future<OracleResponse<List<Row>>> read = reader.read(5);
+    waitForDemand(6);
+    Exception failure = new Exception("expected");
+    runBlocked(() -> {
+      subscriber.onNext(row(0));
+      subscriber.onNext(row(1));
+      subscriber.onError(failure);
+    });
+    try {
+      await(read);
+      fail();
+    } catch (ExecutionException e) {
+      assertSame(failure, e.getCause());
+    }
+    await(reader.close());
+  }
+
+  /**
+   * Run {@code action} while the reader context is busy.
+   */
+  private void runBlocked(Runnable action) throws Exception {
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    context.runOnContext(v -> {
+      blocked.countDown();
+      try {
+        release.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    assertTrue(blocked.await(10, TimeUnit.SECONDS));
+    try {
+      action.run();
+    } finally {
+      release.countDown();
+    }
+  }
+
+  private void waitForDemand(long expected) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (demand.get() < expected) {
+      assertTrue(System.currentTimeMillis() < deadline);
+      Thread.sleep(1);
+    }
+  }
+
+  private static Row row(int id) {
+    ColumnDescriptor column = proxy(ColumnDescriptor.class, (proxy, method, args) -> method.getName().equals("name") ? "ID" : null);
+    Row row = new OracleRow(new RowDescriptorBase(new ColumnDescriptor[]{ column }));
+    row.addValue(id);
+    return row;
+  }
+
+  private static List<Integer> ids(OracleResponse<List<Row>> response) {
+    List<Integer> ids = new ArrayList<>();
+    response.handle(new QueryResultHandler<>() {
+      @Override
+      public <V> void addProperty(PropertyKind<V> property, V value) {
+      }
+      @Override
+      public void handleResult(int updatedCount, int size, RowDescriptorBase desc, List<Row> result, Throwable failure) {
+        for (Row row : result) {
+          ids.add(row.getInteger(0));
+        }
+      }
+    });
+    return ids;
+  }
+
+  private static <C> RowReader<C, List<Row>> reader(ContextInternal context, Collector<Row, C, List<Row>> collector, OracleResultSet rs) throws SQLException {
+    return new RowReader<>(context, collector, rs);
+  }
+
+  private static <T> T await(Future<T> future) throws Exception {
+    return future.toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+  }
+
+  private OracleResultSet resultSet() {
+    ResultSetMetaData metaData = proxy(ResultSetMetaData.class, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "getColumnCount":
+          return 1;
+        case "getColumnLabel":
+          return "ID";
+        case "getColumnTypeName":
+          return "NUMBER";
+        case "getColumnClassName":
+          return Integer.class.getName();
+        case "getColumnType":
+          return Types.INTEGER;
+        default:
+          return null;
+      }
+    });
+    Statement statement = proxy(Statement.class, (proxy, method, args) -> null);
+    Flow.Publisher<Row> publisher = sub -> {
+      subscriber = sub;
+      sub.onSubscribe(new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+          demand.addAndGet(n);
+        }
+        @Override
+        public void cancel() {
+        }
+      });
+    };
+    return proxy(OracleResultSet.class, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "getStatement":
+          return statement;
+        case "getMetaData":
+          return metaData;
+        case "publisherOracle":
+          return publisher;
+        default:
+          return null;
+      }
+    });
+  }
+
+  private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+    return type.cast(Proxy.newProxyInstance(RowReaderTest.class.getClassLoader(), new Class[]{ type }, handler));
+  }
+}
@@ -0,0 +1,163 @@
+package io.vertx.pgclient;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.pgclient.PgNotice}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.pgclient.PgNotice} original class using Vert.x codegen.
+ */
+public class PgNoticeConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, PgNotice obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "severity":
+          if (member.getValue() instanceof String) {
+            obj.setSeverity((String)member.getValue());
+          }
+          break;
+        case "code":
+          if (member.getValue() instanceof String) {
+            obj.setCode((String)member.getValue());
+          }
+          break;
+        case "message":
+          if (member.getValue() instanceof String) {
+            obj.setMessage((String)member.getValue());
+          }
+          break;
+        case "detail":
+          if (member.getValue() instanceof String) {
+            obj.setDetail((String)member.getValue());
+          }
+          break;
+        case "hint":
+          if (member.getValue() instanceof String) {
+            obj.setHint((String)member.getValue());
+          }
+          break;
+        case "position":
+          if (member.getValue() instanceof String) {
+            obj.setPosition((String)member.getValue());
+          }
+          break;
+        case "internalPosition":
+          if (member.getValue() instanceof String) {
+            obj.setInternalPosition((String)member.getValue());
+          }
+          break;
+        case "internalQuery":
+          if (member.getValue() instanceof String) {
+            obj.setInternalQuery((String)member.getValue());
+          }
+          break;
+        case "where":
+          if (member.getValue() instanceof String) {
+            obj.setWhere((String)member.getValue());
+          }
+          break;
+        case "file":
+          if (member.getValue() instanceof String) {
+            obj.setFile((String)member.getValue());
+          }
+          break;
+        case "line":
+          if (member.getValue() instanceof String) {
+            obj.setLine((String)member.getValue());
+          }
+          break;
+        case "routine":
+          if (member.getValue() instanceof String) {
+            obj.setRoutine((String)member.getValue());
+          }
+          break;
+        case "schema":
+          if (member.getValue() instanceof String) {
+            obj.setSchema((String)member.getValue());
+          }
+          break;
+        case "table":
+          if (member.getValue() instanceof String) {
+            obj.setTable((String)member.getValue());
+          }
+          break;
+        case "column":
+          if (member.getValue() instanceof String) {
+            obj.setColumn((String)member.getValue());
+          }
+          break;
+        case "dataType":
+          if (member.getValue() instanceof String) {
+            obj.setDataType((String)member.getValue());
+          }
+          break;
+        case "constraint":
+          if (member.getValue() instanceof String) {
+            obj.setConstraint((String)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(PgNotice obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(PgNotice obj, java.util.Map<String, Object> json) {
+    if (obj.getSeverity() != null) {
+      json.put("severity", obj.getSeverity());
+    }
+    if (obj.getCode() != null) {
+      json.put("code", obj.getCode());
+    }
+    if (obj.getMessage() != null) {
+      json.put("message", obj.getMessage());
+    }
+    if (obj.getDetail() != null) {
+      json.put("detail", obj.getDetail());
+    }
+    if (obj.getHint() != null) {
+      json.put("hint", obj.getHint());
+    }
+    if (obj.getPosition() != null) {
+      json.put("position", obj.getPosition());
+    }
+    if (obj.getInternalPosition() != null) {
+      json.put("internalPosition", obj.getInternalPosition());
+    }
+    if (obj.getInternalQuery() != null) {
+      json.put("internalQuery", obj.getInternalQuery());
+    }
+    if (obj.getWhere() != null) {
+      json.put("where", obj.getWhere());
+    }
+    if (obj.getFile() != null) {
+      json.put("file", obj.getFile());
+    }
+    if (obj.getLine() != null) {
+      json.put("line", obj.getLine());
+    }
+    if (obj.getRoutine() != null) {
+      json.put("routine", obj.getRoutine());
+    }
+    if (obj.getSchema() != null) {
+      json.put("schema", obj.getSchema());
+    }
+    if (obj.getTable() != null) {
+      json.put("table", obj.getTable());
+    }
+    if (obj.getColumn() != null) {
+      json.put("column", obj.getColumn());
+    }
+    if (obj.getDataType() != null) {
+      json.put("dataType", obj.getDataType());
+    }
+    if (obj.getConstraint() != null) {
+      json.put("constraint", obj.getConstraint());
+    }
+  }
+}
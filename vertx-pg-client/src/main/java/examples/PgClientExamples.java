@@ -13,6 +13,9 @@ package examples;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.ClientSSLOptions;
 import io.vertx.core.net.PemTrustOptions;
@@ -26,6 +29,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -285,6 +289,17 @@ public class PgClientExamples {
       .build();
   }
 
+  public void leastLoadedPooledClient(Vertx vertx, PgConnectOptions connectOptions) {
+    SqlClient client = PgBuilder
+      .client()
+      .with(new PoolOptions()
+        .setMaxSize(4)
+        .setConnectionSelectionStrategy(ConnectionSelectionStrategy.LEAST_LOADED))
+      .connectingTo(connectOptions)
+      .using(vertx)
+      .build();
+  }
+
   public void poolVersusPooledClient(Vertx vertx, String sql, PgConnectOptions connectOptions, PoolOptions poolOptions) {
 
     // Pooled client
@@ -484,6 +499,33 @@ public class PgClientExamples {
     });
   }
 
+  public void pubsub05(Vertx vertx, QueryResultCache cache) {
+
+    // CREATE FUNCTION notify_table_change() RETURNS trigger AS $$
+    // BEGIN
+    //   PERFORM pg_notify('table_changes', TG_TABLE_NAME);
+    //   RETURN NULL;
+    // END;
+    // $$ LANGUAGE plpgsql;
+    //
+    // CREATE TRIGGER features_changes AFTER INSERT OR UPDATE OR DELETE ON features
+    //   FOR EACH STATEMENT EXECUTE FUNCTION notify_table_change();
+
+    PgSubscriber subscriber = PgSubscriber.subscriber(vertx, new PgConnectOptions()
+      .setPort(5432)
+      .setHost("the-host")
+      .setDatabase("the-db")
+      .setUser("user")
+      .setPassword("secret")
+    ).reconnectPolicy(retries -> 1000L);
+
+    subscriber.channel("table_changes")
+      .subscribeHandler(v -> cache.invalidate())
+      .handler(table -> cache.invalidate(table));
+
+    subscriber.connect();
+  }
+
   public void noticeHandler(PgConnection connection) {
     connection.noticeHandler(notice -> {
       System.out.println("Received notice " + notice.getSeverity() + "" + notice.getMessage());
@@ -763,6 +805,89 @@ public class PgClientExamples {
       });
   }
 
+  public void columnarExample(SqlClient client) {
+    client
+      .query("SELECT id, amount FROM orders")
+      .collecting(ColumnarRowSet.collector())
+      .execute()
+      .onComplete(ar -> {
+        if (ar.succeeded()) {
+          ColumnarRowSet columns = ar.result().value();
+
+          // Read the amount column without boxing
+          double total = 0;
+          for (int row = 0; row < columns.size(); row++) {
+            total += columns.getDouble(row, 1);
+          }
+          System.out.println("Total " + total);
+        } else {
+          System.out.println("Failure: " + ar.cause().getMessage());
+        }
+      });
+  }
+
+  public void lazyRowDecoding(Vertx vertx) {
+    PgConnectOptions options = new PgConnectOptions()
+      .setPort(5432)
+      .setHost("the-host")
+      .setDatabase("the-db")
+      .setUser("user")
+      .setPassword("secret")
+      .setLazyRowDecoding(true);
+
+    Pool pool = PgBuilder.pool()
+      .connectingTo(options)
+      .using(vertx)
+      .build();
+  }
+
+  public void zeroCopyBuffers(Vertx vertx, HttpServerResponse response) {
+    PgConnectOptions options = new PgConnectOptions()
+      .setPort(5432)
+      .setHost("the-host")
+      .setDatabase("the-db")
+      .setUser("user")
+      .setPassword("secret")
+      .setZeroCopyBuffers(true);
+
+    PgConnection
+      .connect(vertx, options)
+      .onSuccess(conn -> conn
+        // Streams require to run within a transaction
+        .begin()
+        .compose(tx -> conn.prepare("SELECT chunk FROM document_chunks WHERE document_id=$1 ORDER BY seq"))
+        .onSuccess(ps -> {
+          RowStream<Row> stream = ps.createStream(16, Tuple.of(1));
+          stream.endHandler(v -> {
+            response.end();
+            conn.close();
+          });
+          stream.handler(row -> {
+            // Release the row once its buffer has been written
+            response
+              .write(row.getBuffer("chunk"))
+              .onComplete(ar -> row.release());
+          });
+        }));
+  }
+
+  public void sharedStatementMetadata(Vertx vertx) {
+    PgConnectOptions options = new PgConnectOptions()
+      .setPort(5432)
+      .setHost("the-host")
+      .setDatabase("the-db")
+      .setUser("user")
+      .setPassword("secret")
+      .setCachePreparedStatements(true)
+      .setSharedStatementMetadata(true);
+
+    Pool pool = PgBuilder.pool()
+      .with(new PoolOptions().setMaxSize(20))
+      .connectingTo(options)
+      .using(vertx)
+      .build();
+  }
+
   public void cancelRequest(PgConnection connection) {
     connection
       .query("SELECT pg_sleep(20)")
@@ -787,6 +912,32 @@ public class PgClientExamples {
     });
   }
 
+  public void copyFromFile(Vertx vertx, PgConnection connection) {
+    vertx.fileSystem()
+      .open("users.csv", new OpenOptions().setRead(true))
+      .compose(file -> connection.copyFrom("COPY users FROM STDIN (FORMAT csv)", file))
+      .onSuccess(count -> System.out.println("Copied " + count + " rows"));
+  }
+
+  public void copyFromBinary(Vertx vertx, PgConnection connection) {
+    List<Tuple> rows = Arrays.asList(Tuple.of(1, "Julien"), Tuple.of(2, "Emad"));
+    Buffer data = PgBinaryCopyEncoder.encode(rows);
+    vertx.fileSystem()
+      .writeFile("users.bin", data)
+      .compose(v -> vertx.fileSystem().open("users.bin", new OpenOptions().setRead(true)))
+      .compose(file -> connection.copyFrom("COPY users FROM STDIN (FORMAT binary)", file))
+      .onSuccess(count -> System.out.println("Copied " + count + " rows"));
+  }
+
+  public void copyToFile(Vertx vertx, PgConnection connection) {
+    vertx.fileSystem()
+      .open("users.csv", new OpenOptions().setWrite(true))
+      .compose(file -> connection
+        .copyTo("COPY users TO STDOUT (FORMAT csv)")
+        .pipeTo(file))
+      .onSuccess(v -> System.out.println("Export done"));
+  }
+
   public void insertReturning(SqlClient client) {
     client
       .preparedQuery("INSERT INTO color (color_name) VALUES ($1), ($2), ($3) RETURNING color_id")
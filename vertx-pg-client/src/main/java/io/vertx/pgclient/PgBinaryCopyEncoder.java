@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.pgclient;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.pgclient.impl.codec.BinaryCopyEncoder;
+import io.vertx.sqlclient.Tuple;
+
+/**
+ * Encodes rows in the PostgreSQL binary {@code COPY} format, to be used with {@link PgConnection#copyFrom}
+ * and a {@code COPY ... FROM STDIN (FORMAT binary)} statement.
+ * <p/>
+ * The data starts with a {@link #header()}, followed by the encoded rows and ends with a {@link #trailer()}.
+ * <p/>
+ * The binary encoding of a value is determined by its Java type, e.g. a {@code Long} is encoded as
+ * an {@code int8}. The server does not convert binary data, so the Java type must match the column type exactly.
+ */
+public final class PgBinaryCopyEncoder {
+
+  private PgBinaryCopyEncoder() {
+  }
+
+  /**
+   * @return the header that must be sent before any row
+   */
+  public static Buffer header() {
+    ByteBuf buf = Unpooled.buffer();
+    BinaryCopyEncoder.encodeHeader(buf);
+    return BufferInternal.buffer(buf);
+  }
+
+  /**
+   * Encode a single row, the tuple must provide a value for each column of the copy.
+   *
+   * @param row the row to encode
+   * @return the encoded row
+   * @throws IllegalArgumentException when a value cannot be encoded in binary format
+   */
+  public static Buffer encode(Tuple row) {
+    ByteBuf buf = Unpooled.buffer();
+    BinaryCopyEncoder.encodeRow(row, buf);
+    return BufferInternal.buffer(buf);
+  }
+
+  /**
+   * Encode a batch of rows with the header and the trailer.
+   *
+   * @param rows the rows to encode
+   * @return the complete copy data
+   * @throws IllegalArgumentException when a value cannot be encoded in binary format
+   */
+  public static Buffer encode(Iterable<Tuple> rows) {
+    ByteBuf buf = Unpooled.buffer();
+    BinaryCopyEncoder.encodeHeader(buf);
+    for (Tuple row : rows) {
+      BinaryCopyEncoder.encodeRow(row, buf);
+    }
+    BinaryCopyEncoder.encodeTrailer(buf);
+    return BufferInternal.buffer(buf);
+  }
+
+  /**
+   * @return the trailer that must be sent after the last row
+   */
+  public static Buffer trailer() {
+    ByteBuf buf = Unpooled.buffer();
+    BinaryCopyEncoder.encodeTrailer(buf);
+    return BufferInternal.buffer(buf);
+  }
+}
@@ -20,6 +20,7 @@ import io.vertx.core.net.ClientSSLOptions;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.core.tracing.TracingPolicy;
 import io.vertx.pgclient.impl.PgConnectionUriParser;
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
 import io.vertx.sqlclient.SqlConnectOptions;
 
 import java.util.Collections;
@@ -115,6 +116,8 @@ public class PgConnectOptions extends SqlConnectOptions {
   public static final SslNegotiation DEFAULT_SSL_NEGOTIATION = SslNegotiation.POSTGRES;
   public static final ChannelBinding DEFAULT_CHANNEL_BINDING = ChannelBinding.PREFER;
   public static final boolean DEFAULT_USE_LAYER_7_PROXY = false;
+  public static final boolean DEFAULT_LAZY_ROW_DECODING = false;
+  public static final boolean DEFAULT_SHARED_STATEMENT_METADATA = false;
   public static final Map<String, String> DEFAULT_PROPERTIES;
 
   static {
@@ -131,6 +134,8 @@ public class PgConnectOptions extends SqlConnectOptions {
   private SslNegotiation sslNegotiation = DEFAULT_SSL_NEGOTIATION;
   private ChannelBinding channelBinding = DEFAULT_CHANNEL_BINDING;
   private boolean useLayer7Proxy = DEFAULT_USE_LAYER_7_PROXY;
+  private boolean lazyRowDecoding = DEFAULT_LAZY_ROW_DECODING;
+  private boolean sharedStatementMetadata = DEFAULT_SHARED_STATEMENT_METADATA;
 
   public PgConnectOptions() {
     super();
@@ -149,6 +154,8 @@ public class PgConnectOptions extends SqlConnectOptions {
       sslMode = opts.sslMode;
       sslNegotiation = opts.sslNegotiation;
       channelBinding = opts.channelBinding;
+      lazyRowDecoding = opts.lazyRowDecoding;
+      sharedStatementMetadata = opts.sharedStatementMetadata;
     }
   }
 
@@ -158,6 +165,8 @@ public class PgConnectOptions extends SqlConnectOptions {
     sslMode = other.sslMode;
     sslNegotiation = other.sslNegotiation;
     channelBinding = other.channelBinding;
+    lazyRowDecoding = other.lazyRowDecoding;
+    sharedStatementMetadata = other.sharedStatementMetadata;
   }
 
   @Override
@@ -202,6 +211,11 @@ public class PgConnectOptions extends SqlConnectOptions {
     return (PgConnectOptions) super.setCachePreparedStatements(cachePreparedStatements);
   }
 
+  @Override
+  public PgConnectOptions setZeroCopyBuffers(boolean zeroCopyBuffers) {
+    return (PgConnectOptions) super.setZeroCopyBuffers(zeroCopyBuffers);
+  }
+
   @Override
   public PgConnectOptions setPreparedStatementCacheMaxSize(int preparedStatementCacheMaxSize) {
     return (PgConnectOptions) super.setPreparedStatementCacheMaxSize(preparedStatementCacheMaxSize);
@@ -218,6 +232,11 @@ public class PgConnectOptions extends SqlConnectOptions {
     return (PgConnectOptions) super.setPreparedStatementCacheSqlLimit(preparedStatementCacheSqlLimit);
   }
 
+  @Override
+  public PgConnectOptions setPreparedStatementCachePolicy(PreparedStatementCachePolicy preparedStatementCachePolicy) {
+    return (PgConnectOptions) super.setPreparedStatementCachePolicy(preparedStatementCachePolicy);
+  }
+
   @Override
   public PgConnectOptions setProperties(Map<String, String> properties) {
     return (PgConnectOptions) super.setProperties(properties);
@@ -304,6 +323,50 @@ public class PgConnectOptions extends SqlConnectOptions {
     return this;
   }
 
+  /**
+   * @return whether row columns are decoded on first access
+   */
+  public boolean getLazyRowDecoding() {
+    return lazyRowDecoding;
+  }
+
+  /**
+   * Set whether row columns are decoded on first access instead of when the row is received. A row then keeps a copy
+   * of its raw message and only the columns read by the application are decoded, which saves work when few columns
+   * of wide rows are read. A value that cannot be decoded fails the access to the column instead of the query.
+   *
+   * @param lazyRowDecoding whether to decode row columns on first access
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PgConnectOptions setLazyRowDecoding(boolean lazyRowDecoding) {
+    this.lazyRowDecoding = lazyRowDecoding;
+    return this;
+  }
+
+  /**
+   * @return whether prepared statement metadata is shared between connections
+   */
+  public boolean getSharedStatementMetadata() {
+    return sharedStatementMetadata;
+  }
+
+  /**
+   * Set whether the parameter and row descriptions of prepared statements are shared between the connections created
+   * by the same pool or client. A connection preparing a statement already described by another connection to the same
+   * server, database, user and startup properties only sends a {@code Parse} message and saves the {@code Describe}
+   * round trip. The shared metadata is bounded by {@link #getPreparedStatementCacheMaxSize()} and is dropped when the
+   * server reports a statement schema change.
+   *
+   * <p>Statements prepared with explicit parameter types always describe the statement.
+   *
+   * @param sharedStatementMetadata whether to share prepared statement metadata
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PgConnectOptions setSharedStatementMetadata(boolean sharedStatementMetadata) {
+    this.sharedStatementMetadata = sharedStatementMetadata;
+    return this;
+  }
+
   @Override
   public PgConnectOptions setReconnectAttempts(int attempts) {
     return (PgConnectOptions)super.setReconnectAttempts(attempts);
@@ -368,6 +431,8 @@ public class PgConnectOptions extends SqlConnectOptions {
     if (sslMode != that.sslMode) return false;
     if (sslNegotiation != that.sslNegotiation) return false;
     if (channelBinding != that.channelBinding) return false;
+    if (lazyRowDecoding != that.lazyRowDecoding) return false;
+    if (sharedStatementMetadata != that.sharedStatementMetadata) return false;
 
     return true;
   }
@@ -379,6 +444,8 @@ public class PgConnectOptions extends SqlConnectOptions {
     result = 31 * result + sslMode.hashCode();
     result = 31 * result + sslNegotiation.hashCode();
     result = 31 * result + channelBinding.hashCode();
+    result = 31 * result + (lazyRowDecoding ? 1 : 0);
+    result = 31 * result + (sharedStatementMetadata ? 1 : 0);
     return result;
   }
 
@@ -22,7 +22,9 @@ import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.pgclient.impl.PgConnectionImpl;
 import io.vertx.sqlclient.SqlConnection;
 
@@ -34,6 +36,7 @@ import io.vertx.sqlclient.SqlConnection;
  *   <ul>
  *     <li>Notification</li>
  *     <li>Request Cancellation</li>
+ *     <li>Bulk data transfer with {@code COPY}</li>
  *   </ul>
  * </P>
  *
@@ -100,6 +103,33 @@ public interface PgConnection extends SqlConnection {
    */
   Future<Void> cancelRequest();
 
+  /**
+   * Execute a {@code COPY ... FROM STDIN} statement, the content of the {@code from} stream is sent to the server
+   * as the data of the copy.
+   * <p/>
+   * The data must be in the format declared by the statement ({@code text}, {@code csv} or {@code binary}), the
+   * {@link PgBinaryCopyEncoder} can be used to produce the {@code binary} format.
+   * <p/>
+   * The stream is piped to the connection, it is paused when the connection cannot accept more data. When the stream
+   * fails, the copy is aborted and the returned future is failed.
+   *
+   * @param sql the {@code COPY ... FROM STDIN} statement
+   * @param from the stream of data to copy
+   * @return a future notified with the number of rows copied
+   */
+  Future<Long> copyFrom(String sql, ReadStream<Buffer> from);
+
+  /**
+   * Execute a {@code COPY ... TO STDOUT} statement, the data sent by the server is delivered by the returned stream.
+   * <p/>
+   * The statement is executed when a handler is set on the stream. Pausing the stream stops reading from the connection
+   * so the server stops sending data until the stream is resumed.
+   *
+   * @param sql the {@code COPY ... TO STDOUT} statement
+   * @return the stream of data
+   */
+  ReadStream<Buffer> copyTo(String sql);
+
   /**
    * @return The process ID of the target backend
    */
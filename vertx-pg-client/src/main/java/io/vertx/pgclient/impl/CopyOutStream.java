@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.pgclient.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.concurrent.InboundMessageQueue;
+import io.vertx.core.net.NetSocket;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.pgclient.impl.command.CopyOutCommand;
+import io.vertx.sqlclient.spi.protocol.CommandScheduler;
+
+/**
+ * The data of a {@code COPY ... TO STDOUT} statement, the statement is executed when a handler is set.
+ * <p>
+ * The data is buffered in an inbound queue, the connection socket is paused when the queue is full, so the server
+ * stops sending data until the stream consumes the buffered data.
+ */
+class CopyOutStream implements ReadStream<Buffer> {
+
+  private final CommandScheduler scheduler;
+  private final ContextInternal context;
+  private final ContextInternal socketContext;
+  private final NetSocket socket;
+  private final String sql;
+  private final InboundMessageQueue<Object> queue;
+
+  private Handler<Buffer> handler;
+  private Handler<Void> endHandler;
+  private Handler<Throwable> exceptionHandler;
+  private boolean started;
+
+  CopyOutStream(CommandScheduler scheduler, ContextInternal context, ContextInternal socketContext, NetSocket socket, String sql) {
+    this.scheduler = scheduler;
+    this.context = context;
+    this.socketContext = socketContext;
+    this.socket = socket;
+    this.sql = sql;
+    this.queue = new InboundMessageQueue<>(socketContext.eventLoop(), context.executor()) {
+      @Override
+      protected void handlePause() {
+        socket.pause();
+      }
+      @Override
+      protected void handleResume() {
+        socket.resume();
+      }
+      @Override
+      protected void handleMessage(Object msg) {
+        CopyOutStream.this.handleMessage(msg);
+      }
+    };
+  }
+
+  @Override
+  public synchronized ReadStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+    exceptionHandler = handler;
+    return this;
+  }
+
+  @Override
+  public ReadStream<Buffer> handler(Handler<Buffer> handler) {
+    synchronized (this) {
+      this.handler = handler;
+      if (handler == null || started) {
+        return this;
+      }
+      started = true;
+    }
+    scheduler
+      .schedule(context, new CopyOutCommand(sql, queue::write))
+      .onComplete(this::handleEnd);
+    return this;
+  }
+
+  @Override
+  public synchronized ReadStream<Buffer> endHandler(Handler<Void> handler) {
+    endHandler = handler;
+    return this;
+  }
+
+  @Override
+  public ReadStream<Buffer> pause() {
+    queue.pause();
+    return this;
+  }
+
+  @Override
+  public ReadStream<Buffer> resume() {
+    return fetch(Long.MAX_VALUE);
+  }
+
+  @Override
+  public ReadStream<Buffer> fetch(long amount) {
+    queue.fetch(amount);
+    return this;
+  }
+
+  private void handleEnd(AsyncResult<Long> ar) {
+    // The data was written to the queue by the socket event loop, the end follows the same path
+    socketContext.eventLoop().execute(() -> {
+      queue.write(ar);
+      // The server sent all the data, the connection must not remain paused after the copy
+      socket.resume();
+    });
+  }
+
+  @SuppressWarnings("unchecked")
+  private void handleMessage(Object msg) {
+    if (msg instanceof Buffer) {
+      Handler<Buffer> h;
+      synchronized (this) {
+        h = handler;
+      }
+      if (h != null) {
+        h.handle((Buffer) msg);
+      }
+    } else {
+      AsyncResult<Long> ar = (AsyncResult<Long>) msg;
+      if (ar.succeeded()) {
+        Handler<Void> h;
+        synchronized (this) {
+          h = endHandler;
+        }
+        if (h != null) {
+          h.handle(null);
+        }
+      } else {
+        Handler<Throwable> h;
+        synchronized (this) {
+          h = exceptionHandler;
+        }
+        if (h != null) {
+          h.handle(ar.cause());
+        }
+      }
+    }
+  }
+}
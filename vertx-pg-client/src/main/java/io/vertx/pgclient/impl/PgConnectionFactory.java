@@ -23,6 +23,7 @@ import io.vertx.core.spi.metrics.VertxMetrics;
 import io.vertx.pgclient.PgConnectOptions;
 import io.vertx.pgclient.SslMode;
 import io.vertx.pgclient.SslNegotiation;
+import io.vertx.pgclient.impl.codec.PgStatementMetadataCache;
 import io.vertx.sqlclient.impl.ConnectionFactoryBase;
 import io.vertx.sqlclient.spi.connection.Connection;
 
@@ -38,6 +39,8 @@ public class PgConnectionFactory extends ConnectionFactoryBase<PgConnectOptions>
 
   private static final List<String> PG_PROTOCOLS = List.of("postgresql");
 
+  private volatile PgStatementMetadataCache metadataCache;
+
   public PgConnectionFactory(VertxInternal vertx) {
     super(vertx);
   }
@@ -189,7 +192,22 @@ public class PgConnectionFactory extends ConnectionFactoryBase<PgConnectOptions>
     boolean useLayer7Proxy = options.getUseLayer7Proxy();
     VertxMetrics vertxMetrics = vertx.metrics();
     ClientMetrics metrics = vertxMetrics != null ? vertxMetrics.createClientMetrics(options.getSocketAddress(), "sql", options.getMetricsName()) : null;
-    PgSocketConnection conn = new PgSocketConnection(socket, metrics, options, cachePreparedStatements, preparedStatementCacheMaxSize, preparedStatementCacheSqlFilter, pipeliningLimit, useLayer7Proxy, context);
+    PgStatementMetadataCache metadataCache = options.getSharedStatementMetadata() ? metadataCache(preparedStatementCacheMaxSize) : null;
+    PgSocketConnection conn = new PgSocketConnection(socket, metrics, options, cachePreparedStatements, preparedStatementCacheMaxSize, preparedStatementCacheSqlFilter, pipeliningLimit, useLayer7Proxy, metadataCache, context);
     return conn;
   }
+
+  private PgStatementMetadataCache metadataCache(int capacity) {
+    PgStatementMetadataCache cache = metadataCache;
+    if (cache == null) {
+      synchronized (this) {
+        cache = metadataCache;
+        if (cache == null) {
+          cache = new PgStatementMetadataCache(Math.max(1, capacity));
+          metadataCache = cache;
+        }
+      }
+    }
+    return cache;
+  }
 }
@@ -20,13 +20,16 @@ import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.pgclient.PgConnectOptions;
 import io.vertx.pgclient.PgConnection;
 import io.vertx.pgclient.PgNotice;
 import io.vertx.pgclient.PgNotification;
 import io.vertx.pgclient.impl.codec.NoticeResponse;
 import io.vertx.pgclient.impl.codec.TxFailedEvent;
+import io.vertx.pgclient.impl.command.CopyInCommand;
 import io.vertx.pgclient.spi.PgDriver;
 import io.vertx.sqlclient.codec.SocketConnectionBase;
 import io.vertx.sqlclient.internal.SqlConnectionBase;
@@ -133,4 +136,15 @@ public class PgConnectionImpl extends SqlConnectionBase<PgConnectionImpl> implem
     });
     return promise.future();
   }
+
+  @Override
+  public Future<Long> copyFrom(String sql, ReadStream<Buffer> from) {
+    return schedule(context, new CopyInCommand(sql, from.pipe()));
+  }
+
+  @Override
+  public ReadStream<Buffer> copyTo(String sql) {
+    PgSocketConnection actual = (PgSocketConnection) conn.unwrap();
+    return new CopyOutStream(this, context, (ContextInternal) actual.context(), actual.socket(), sql);
+  }
 }
@@ -22,17 +22,26 @@ import io.netty.handler.codec.DecoderException;
 import io.vertx.core.*;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.net.ClientSSLOptions;
+import io.vertx.core.streams.WriteStream;
 import io.vertx.core.spi.metrics.ClientMetrics;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.net.NetSocketInternal;
 import io.vertx.pgclient.ChannelBinding;
 import io.vertx.pgclient.PgConnectOptions;
 import io.vertx.pgclient.PgException;
+import io.vertx.pgclient.impl.codec.CopyData;
+import io.vertx.pgclient.impl.codec.CopyDataMessage;
+import io.vertx.pgclient.impl.codec.CopyDoneMessage;
+import io.vertx.pgclient.impl.codec.CopyFailMessage;
+import io.vertx.pgclient.impl.codec.CopyInResponse;
 import io.vertx.pgclient.impl.codec.ExtendedQueryPgCommandMessage;
 import io.vertx.pgclient.impl.codec.NoticeResponse;
 import io.vertx.pgclient.impl.codec.PgCodec;
 import io.vertx.pgclient.impl.codec.PgCommandMessage;
+import io.vertx.pgclient.impl.codec.PgStatementMetadataCache;
 import io.vertx.pgclient.impl.codec.TxFailedEvent;
+import io.vertx.pgclient.impl.command.CopyInCommand;
+import io.vertx.pgclient.impl.command.PingCommand;
 import io.vertx.sqlclient.codec.CommandMessage;
 import io.vertx.sqlclient.codec.SocketConnectionBase;
 import io.vertx.sqlclient.spi.connection.Connection;
@@ -46,6 +55,7 @@ import io.vertx.sqlclient.spi.protocol.SimpleQueryCommand;
 import io.vertx.sqlclient.spi.protocol.TxCommand;
 
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.function.Predicate;
 
 /**
@@ -55,6 +65,7 @@ public class PgSocketConnection extends SocketConnectionBase {
 
   private PgCodec codec;
   private final boolean useLayer7Proxy;
+  private final PgStatementMetadataCache metadataCache;
   public int processId;
   public int secretKey;
   public PgDatabaseMetadata dbMetaData;
@@ -68,10 +79,12 @@ public class PgSocketConnection extends SocketConnectionBase {
                             Predicate<String> preparedStatementCacheSqlFilter,
                             int pipeliningLimit,
                             boolean useLayer7Proxy,
+                            PgStatementMetadataCache metadataCache,
                             ContextInternal context) {
-    super(socket, metrics, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, pipeliningLimit, context);
+    super(socket, metrics, cachePreparedStatements, preparedStatementCacheSize, connectOptions.getPreparedStatementCachePolicy(), preparedStatementCacheSqlFilter, pipeliningLimit, context);
     this.connectOptions = connectOptions;
     this.useLayer7Proxy = useLayer7Proxy;
+    this.metadataCache = metadataCache;
   }
 
   @Override
@@ -81,12 +94,22 @@ public class PgSocketConnection extends SocketConnectionBase {
 
   @Override
   public void init() {
-    codec = new PgCodec(useLayer7Proxy);
+    String metadataFingerprint = metadataCache != null ? metadataFingerprint(connectOptions) : null;
+    codec = new PgCodec(useLayer7Proxy, connectOptions.getLazyRowDecoding(), connectOptions.getZeroCopyBuffers(), metadataCache, metadataFingerprint);
     ChannelPipeline pipeline = socket.channelHandlerContext().pipeline();
     pipeline.addBefore("handler", "codec", codec);
     super.init();
   }
 
+  /**
+   * Statements resolve differently depending on the server, database, user and session settings like {@code search_path},
+   * metadata is only shared between connections with the same values.
+   */
+  private static String metadataFingerprint(PgConnectOptions options) {
+    Map<String, String> properties = options.getProperties() != null ? new TreeMap<>(options.getProperties()) : null;
+    return options.getSocketAddress() + "/" + options.getDatabase() + "/" + options.getUser() + "/" + properties;
+  }
+
   // TODO RETURN FUTURE ???
   Future<Connection> sendStartupMessage(String username, String password, String database, Map<String, String> properties) {
     InitCommand cmd = new InitCommand(this, username, password, database, properties);
@@ -117,11 +140,64 @@ public class PgSocketConnection extends SocketConnectionBase {
   @Override
   protected void handleMessage(Object msg) {
     super.handleMessage(msg);
-    if (msg instanceof Notification || msg instanceof TxFailedEvent || msg instanceof NoticeResponse) {
+    if (msg instanceof CopyData) {
+      CopyData copyData = (CopyData) msg;
+      copyData.command.dataHandler().handle(copyData.data);
+    } else if (msg instanceof CopyInResponse) {
+      handleCopyInResponse(((CopyInResponse) msg).command);
+    } else if (msg instanceof Notification || msg instanceof TxFailedEvent || msg instanceof NoticeResponse) {
       handleEvent(msg);
     }
   }
 
+  private void handleCopyInResponse(CopyInCommand cmd) {
+    cmd.source()
+      .endOnFailure(false)
+      .to(new CopyInStream())
+      .onFailure(err -> {
+        String msg = err.getMessage();
+        socket.writeMessage(new CopyFailMessage(msg != null ? msg : err.getClass().getName()));
+      });
+  }
+
+  /**
+   * Frames the data of a {@code COPY ... FROM STDIN} command, flow control is the one of the socket.
+   */
+  private class CopyInStream implements WriteStream<Buffer> {
+
+    @Override
+    public WriteStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+      return this;
+    }
+
+    @Override
+    public Future<Void> write(Buffer data) {
+      return socket.writeMessage(new CopyDataMessage(data));
+    }
+
+    @Override
+    public Future<Void> end() {
+      return socket.writeMessage(CopyDoneMessage.INSTANCE);
+    }
+
+    @Override
+    public WriteStream<Buffer> setWriteQueueMaxSize(int maxSize) {
+      socket.setWriteQueueMaxSize(maxSize);
+      return this;
+    }
+
+    @Override
+    public boolean writeQueueFull() {
+      return socket.writeQueueFull();
+    }
+
+    @Override
+    public WriteStream<Buffer> drainHandler(Handler<Void> handler) {
+      socket.drainHandler(handler);
+      return this;
+    }
+  }
+
   public int getProcessId() {
     return processId;
   }
@@ -157,6 +233,11 @@ public class PgSocketConnection extends SocketConnectionBase {
     pipeline.addBefore("handler", "initiate-ssl-handler", new InitiateSslHandler(this, sslOptions, upgradePromise));
   }
 
+  @Override
+  public void ping(Completable<Void> handler) {
+    schedule(PingCommand.INSTANCE, handler);
+  }
+
   @Override
   protected <R> void doSchedule(CommandBase<R> cmd, Completable<R> handler) {
     if (cmd instanceof TxCommand) {
@@ -168,6 +249,15 @@ public class PgSocketConnection extends SocketConnectionBase {
         SocketConnectionBase.NULL_COLLECTOR,
         QueryResultHandler.NOOP_HANDLER);
       super.doSchedule(cmd2, (res, err) -> handler.complete(tx.result(), err));
+    } else if (cmd instanceof CopyInCommand) {
+      CopyInCommand copyIn = (CopyInCommand) cmd;
+      super.doSchedule(cmd, (res, err) -> {
+        // Stop sending data when the server fails the copy
+        copyIn.source().close();
+        socket.drainHandler(null);
+        resumePipeline();
+        handler.complete(res, err);
+      });
     } else {
       super.doSchedule(cmd, handler);
     }
@@ -180,6 +270,10 @@ public class PgSocketConnection extends SocketConnectionBase {
 
   @Override
   protected CommandMessage<?, ?> toMessage(CommandBase<?> command) {
+    if (command instanceof CopyInCommand) {
+      // The server only accepts copy messages until the copy is done
+      suspendPipeline();
+    }
     return PgCommandMessage.wrap(command);
   }
 
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.sqlclient.Tuple;
+
+/**
+ * Encodes rows in the PostgreSQL <a href="https://www.postgresql.org/docs/current/sql-copy.html#id-1.9.3.55.9.4">binary COPY format</a>.
+ * <p>
+ * The encoding of each field is determined by the Java type of the value, it must match the type of the
+ * corresponding column since the server does not perform any conversion of binary data.
+ */
+public class BinaryCopyEncoder {
+
+  private static final byte[] SIGNATURE = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0 };
+
+  public static void encodeHeader(ByteBuf out) {
+    out.writeBytes(SIGNATURE);
+    // Flags field
+    out.writeInt(0);
+    // Header extension area length
+    out.writeInt(0);
+  }
+
+  public static void encodeRow(Tuple row, ByteBuf out) {
+    int size = row.size();
+    out.writeShort(size);
+    for (int i = 0;i < size;i++) {
+      Object value = row.getValue(i);
+      if (value == null) {
+        out.writeInt(-1);
+      } else {
+        DataType dataType = DataType.lookup(value.getClass());
+        if (dataType == DataType.UNKNOWN || !dataType.supportsBinary) {
+          throw new IllegalArgumentException("Value of type " + value.getClass().getName() + " at position " + i + " cannot be encoded in binary COPY format");
+        }
+        int idx = out.writerIndex();
+        out.writeInt(0);
+        DataTypeCodec.encodeBinary(dataType, value, out);
+        out.setInt(idx, out.writerIndex() - idx - 4);
+      }
+    }
+  }
+
+  public static void encodeTrailer(ByteBuf out) {
+    out.writeShort(-1);
+  }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.pgclient.impl.codec;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.pgclient.impl.command.CopyOutCommand;
+
+/**
+ * Event carrying a chunk of data sent by the server for a {@code COPY ... TO STDOUT} command.
+ */
+public class CopyData {
+
+  public final CopyOutCommand command;
+  public final Buffer data;
+
+  CopyData(CopyOutCommand command, Buffer data) {
+    this.command = command;
+    this.data = data;
+  }
+}
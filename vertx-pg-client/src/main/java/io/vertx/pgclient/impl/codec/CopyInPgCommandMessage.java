@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.pgclient.impl.codec;
+
+import io.vertx.pgclient.impl.command.CopyInCommand;
+
+class CopyInPgCommandMessage extends PgCommandMessage<Long, CopyInCommand> {
+
+  CopyInPgCommandMessage(CopyInCommand cmd) {
+    super(cmd);
+  }
+
+  @Override
+  void encode(PgEncoder encoder) {
+    encoder.writeQuery(new QueryMessage(cmd.sql()));
+  }
+
+  @Override
+  void handleCopyInResponse() {
+    decoder.fireCopyInResponse(new CopyInResponse(cmd));
+  }
+
+  @Override
+  void handleCommandComplete(int updated) {
+    result = (long) updated;
+  }
+
+  @Override
+  void handleErrorResponse(ErrorResponse errorResponse) {
+    failure = errorResponse.toException();
+  }
+}
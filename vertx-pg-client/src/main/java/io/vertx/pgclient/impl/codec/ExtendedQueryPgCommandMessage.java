@@ -33,13 +33,14 @@ public class ExtendedQueryPgCommandMessage<R, C extends ExtendedQueryCommand<R>>
 
   public ExtendedQueryPgCommandMessage(C cmd, PreparedStatement ps) {
     super(cmd);
-    this.rowDecoder = new RowResultDecoder<>(cmd.collector(), ((PgPreparedStatement)ps).rowDesc());
     this.ps = (PgPreparedStatement) ps;
   }
 
   @Override
   void encode(PgEncoder encoder) {
     this.encoder = encoder;
+    this.rowDecoder = new RowResultDecoder<>(cmd.collector(), ps.rowDesc(), decoder.lazyRowDecoding, decoder.zeroCopyBuffers);
+    this.rowDecoder.profile(cmd.profile());
     if (cmd.isSuspended()) {
       encoder.writeExecute(cmd.cursorId(), cmd.fetch());
       encoder.writeSync();
@@ -81,9 +82,10 @@ public class ExtendedQueryPgCommandMessage<R, C extends ExtendedQueryCommand<R>>
     R result = rowDecoder.result();
     RowDescriptorBase desc = rowDecoder.desc;
     int size = rowDecoder.size();
+    long bytes = rowDecoder.bytes();
     rowDecoder.reset();
     this.result = true;
-    cmd.resultHandler().handleResult(0, size, desc, result, failure);
+    cmd.resultHandler().handleResult(0, size, bytes, desc, result, failure);
   }
 
   @Override
@@ -93,8 +95,13 @@ public class ExtendedQueryPgCommandMessage<R, C extends ExtendedQueryCommand<R>>
 
   @Override
   public void handleErrorResponse(ErrorResponse errorResponse) {
-    if (ps.isCached() && isTableSchemaErrorMessage(errorResponse)) {
-      encoder.channelHandlerContext().fireChannelRead(new InvalidCachedStatementEvent(ps.sql()));
+    if (isTableSchemaErrorMessage(errorResponse)) {
+      if (encoder.metadataCache != null) {
+        encoder.metadataCache.remove(encoder.metadataFingerprint, ps.sql());
+      }
+      if (ps.isCached()) {
+        encoder.channelHandlerContext().fireChannelRead(new InvalidCachedStatementEvent(ps.sql()));
+      }
     }
     super.handleErrorResponse(errorResponse);
   }
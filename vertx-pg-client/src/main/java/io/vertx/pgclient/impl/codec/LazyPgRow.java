@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.pgclient.impl.PgRow;
+
+/**
+ * A row that keeps a heap copy of the DataRow message and decodes a column on its first access.
+ */
+class LazyPgRow extends PgRow {
+
+  private static final Object PENDING = new Object();
+
+  private final PgColumnDesc[] columns;
+  private ByteBuf data;
+  private int[] offsets;
+
+  LazyPgRow(PgRowDescriptor desc) {
+    super(desc);
+    this.columns = desc.columns;
+  }
+
+  /**
+   * Initialize the row from the {@code len} columns of a DataRow message, the message is consumed.
+   */
+  void init(int len, ByteBuf in) {
+    int start = in.readerIndex();
+    int[] offsets = this.offsets;
+    if (offsets == null || offsets.length < len) {
+      offsets = new int[len];
+      this.offsets = offsets;
+    }
+    for (int c = 0; c < len; ++c) {
+      int length = in.readInt();
+      if (length == -1) {
+        offsets[c] = -1;
+        addValue(null);
+      } else {
+        offsets[c] = in.readerIndex() - start;
+        in.skipBytes(length);
+        addValue(PENDING);
+      }
+    }
+    // A heap copy does not need to be released, the row can be discarded like an eagerly decoded row
+    int size = in.readerIndex() - start;
+    byte[] bytes = new byte[size];
+    in.getBytes(start, bytes);
+    data = Unpooled.wrappedBuffer(bytes);
+  }
+
+  @Override
+  public Object getValueInternal(int pos) {
+    Object value = super.getValueInternal(pos);
+    if (value == PENDING) {
+      value = decode(pos);
+      setValue(pos, value);
+    }
+    return value;
+  }
+
+  private Object decode(int pos) {
+    PgColumnDesc columnDesc = columns[pos];
+    int index = offsets[pos];
+    int length = data.getInt(index - 4);
+    if (columnDesc.dataFormat == DataFormat.BINARY) {
+      return DataTypeCodec.decodeBinary(columnDesc.dataType, index, length, data);
+    } else {
+      return DataTypeCodec.decodeText(columnDesc.dataType, index, length, data);
+    }
+  }
+
+  @Override
+  public void clear() {
+    super.clear();
+    data = null;
+  }
+}
@@ -26,10 +26,14 @@ public class PgCodec extends CombinedChannelDuplexHandler<PgDecoder, PgEncoder>
   private final PgDecoder decoder;
   private final PgEncoder encoder;
 
-  public PgCodec(boolean useLayer7Proxy) {
+  public PgCodec(boolean useLayer7Proxy, boolean lazyRowDecoding, boolean zeroCopyBuffers) {
+    this(useLayer7Proxy, lazyRowDecoding, zeroCopyBuffers, null, null);
+  }
+
+  public PgCodec(boolean useLayer7Proxy, boolean lazyRowDecoding, boolean zeroCopyBuffers, PgStatementMetadataCache metadataCache, String metadataFingerprint) {
     inflight =  new ArrayDeque<>();
-    decoder = new PgDecoder(this);
-    encoder = new PgEncoder(useLayer7Proxy, this);
+    decoder = new PgDecoder(this, lazyRowDecoding, zeroCopyBuffers);
+    encoder = new PgEncoder(useLayer7Proxy, metadataCache, metadataFingerprint, this);
     init(decoder, encoder);
   }
 
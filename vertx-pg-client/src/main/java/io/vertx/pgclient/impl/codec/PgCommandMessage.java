@@ -20,6 +20,9 @@ import io.netty.buffer.ByteBuf;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
 import io.vertx.pgclient.PgException;
+import io.vertx.pgclient.impl.command.CopyInCommand;
+import io.vertx.pgclient.impl.command.CopyOutCommand;
+import io.vertx.pgclient.impl.command.PingCommand;
 import io.vertx.sqlclient.codec.CommandMessage;
 import io.vertx.sqlclient.codec.CommandResponse;
 import io.vertx.sqlclient.spi.protocol.CloseConnectionCommand;
@@ -57,6 +60,12 @@ public abstract class PgCommandMessage<R, C extends CommandBase<R>> extends Comm
       return new ClosePortalPgCommandMessage((CloseCursorCommand) cmd);
     } else if (cmd instanceof CloseStatementCommand) {
       return new CloseStatementPgCommandMessage((CloseStatementCommand) cmd);
+    } else if (cmd instanceof CopyInCommand) {
+      return new CopyInPgCommandMessage((CopyInCommand) cmd);
+    } else if (cmd instanceof CopyOutCommand) {
+      return new CopyOutPgCommandMessage((CopyOutCommand) cmd);
+    } else if (cmd instanceof PingCommand) {
+      return new PingPgCommandMessage((PingCommand) cmd);
     }
     throw new AssertionError("Invalid command " + cmd);
   }
@@ -107,6 +116,22 @@ public abstract class PgCommandMessage<R, C extends CommandBase<R>> extends Comm
     logger.warn(getClass().getSimpleName() + " should handle message CommandComplete");
   }
 
+  void handleCopyInResponse() {
+    logger.warn(getClass().getSimpleName() + " should handle message CopyInResponse");
+  }
+
+  void handleCopyOutResponse() {
+    logger.warn(getClass().getSimpleName() + " should handle message CopyOutResponse");
+  }
+
+  void handleCopyData(ByteBuf in) {
+    logger.warn(getClass().getSimpleName() + " should handle message CopyData");
+  }
+
+  void handleCopyDone() {
+    logger.warn(getClass().getSimpleName() + " should handle message CopyDone");
+  }
+
   void handleAuthenticationMD5Password(byte[] salt) {
     logger.warn(getClass().getSimpleName() + " should handle message AuthenticationMD5Password");
   }
@@ -37,12 +37,16 @@ import io.vertx.sqlclient.codec.CommandResponse;
 class PgDecoder extends ChannelInboundHandlerAdapter {
 
   private final PgCodec codec;
+  final boolean lazyRowDecoding;
+  final boolean zeroCopyBuffers;
   private ChannelHandlerContext chctx;
   private ByteBufAllocator alloc;
   private ByteBuf in;
 
-  PgDecoder(PgCodec codec) {
+  PgDecoder(PgCodec codec, boolean lazyRowDecoding, boolean zeroCopyBuffers) {
     this.codec = codec;
+    this.lazyRowDecoding = lazyRowDecoding;
+    this.zeroCopyBuffers = zeroCopyBuffers;
   }
 
   void fireCommandResponse(CommandResponse<?> commandResponse) {
@@ -54,6 +58,14 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
     chctx.fireChannelRead(noticeResponse);
   }
 
+  void fireCopyInResponse(CopyInResponse copyInResponse) {
+    chctx.fireChannelRead(copyInResponse);
+  }
+
+  void fireCopyData(CopyData copyData) {
+    chctx.fireChannelRead(copyData);
+  }
+
   @Override
   public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
     chctx = ctx;
@@ -117,6 +129,10 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
             decodeBindComplete();
             break;
           }
+          case PgProtocolConstants.MESSAGE_TYPE_COPY_DATA: {
+            decodeCopyData(in);
+            break;
+          }
           default: {
             decodeMessage(ctx, id, in);
           }
@@ -185,6 +201,18 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
         decodeNotificationResponse(ctx, in);
         break;
       }
+      case PgProtocolConstants.MESSAGE_TYPE_COPY_IN_RESPONSE: {
+        decodeCopyInResponse();
+        break;
+      }
+      case PgProtocolConstants.MESSAGE_TYPE_COPY_OUT_RESPONSE: {
+        decodeCopyOutResponse();
+        break;
+      }
+      case PgProtocolConstants.MESSAGE_TYPE_COPY_DONE: {
+        decodeCopyDone();
+        break;
+      }
       default: {
         throw new UnsupportedOperationException();
       }
@@ -207,6 +235,23 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
     cmd.rowDecoder.handleRow(len, in);
   }
 
+  private void decodeCopyData(ByteBuf in) {
+    codec.peek().handleCopyData(in);
+  }
+
+  private void decodeCopyInResponse() {
+    // Overall format and per column formats are ignored, the data is opaque to the client
+    codec.peek().handleCopyInResponse();
+  }
+
+  private void decodeCopyOutResponse() {
+    codec.peek().handleCopyOutResponse();
+  }
+
+  private void decodeCopyDone() {
+    codec.peek().handleCopyDone();
+  }
+
   private void decodeRowDescription(ByteBuf in) {
     PgColumnDesc[] columns = new PgColumnDesc[in.readUnsignedShort()];
     for (int c = 0; c < columns.length; ++c) {
@@ -23,6 +23,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
 import io.netty.channel.socket.SocketChannel;
+import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.sqlclient.Tuple;
 import io.vertx.pgclient.impl.util.Util;
 import io.vertx.sqlclient.impl.HexSequence;
@@ -51,9 +52,14 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
   private static final byte EXECUTE = 'E';
   private static final byte CLOSE = 'C';
   private static final byte SYNC = 'S';
+  private static final byte COPY_DATA = 'd';
+  private static final byte COPY_DONE = 'c';
+  private static final byte COPY_FAIL = 'f';
 
   private final PgCodec codec;
   final boolean useLayer7Proxy;
+  final PgStatementMetadataCache metadataCache;
+  final String metadataFingerprint;
   private ChannelHandlerContext ctx;
   private final HexSequence psSeq = new HexSequence(); // used for generating named prepared statement name
   boolean closeSent;
@@ -61,8 +67,10 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
   private ArrayList<Object> pendingMessages = new ArrayList<>();
   private int capacityEstimate = 0;
 
-  PgEncoder(boolean useLayer7Proxy, PgCodec codec) {
+  PgEncoder(boolean useLayer7Proxy, PgStatementMetadataCache metadataCache, String metadataFingerprint, PgCodec codec) {
     this.useLayer7Proxy = useLayer7Proxy;
+    this.metadataCache = metadataCache;
+    this.metadataFingerprint = metadataFingerprint;
     this.codec = codec;
   }
 
@@ -121,11 +129,33 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
   public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
     if (msg instanceof PgCommandMessage<?, ?>) {
       write((PgCommandMessage<?, ?>) msg);
+    } else if (msg instanceof CopyDataMessage) {
+      ByteBuf data = ((BufferInternal) ((CopyDataMessage) msg).data).getByteBuf();
+      ByteBuf out = ctx.alloc().ioBuffer(estimateCopyData(data));
+      renderCopyData(data, out);
+      writeCopyMessage(out, promise);
+    } else if (msg instanceof CopyDoneMessage) {
+      ByteBuf out = ctx.alloc().ioBuffer(estimateCopyDone());
+      renderCopyDone(out);
+      writeCopyMessage(out, promise);
+    } else if (msg instanceof CopyFailMessage) {
+      String message = ((CopyFailMessage) msg).message;
+      ByteBuf out = ctx.alloc().ioBuffer(estimateCopyFail(message));
+      renderCopyFail(message, out);
+      writeCopyMessage(out, promise);
     } else {
       super.write(ctx, msg, promise);
     }
   }
 
+  private void writeCopyMessage(ByteBuf out, ChannelPromise promise) {
+    // Copy messages are written immediately, preserve ordering with messages not yet rendered
+    if (!pendingMessages.isEmpty()) {
+      ctx.write(renderPendingMessages(), ctx.voidPromise());
+    }
+    ctx.write(out, promise);
+  }
+
   @Override
   public void flush(ChannelHandlerContext ctx) {
     flush();
@@ -480,6 +510,37 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
     return length;
   }
 
+  private static void renderCopyData(ByteBuf data, ByteBuf out) {
+    out.writeByte(COPY_DATA);
+    out.writeInt(4 + data.readableBytes());
+    out.writeBytes(data, data.readerIndex(), data.readableBytes());
+  }
+
+  private static int estimateCopyData(ByteBuf data) {
+    return 1 + 4 + data.readableBytes();
+  }
+
+  private static void renderCopyDone(ByteBuf out) {
+    out.writeByte(COPY_DONE);
+    out.writeInt(4);
+  }
+
+  private static int estimateCopyDone() {
+    return 1 + 4;
+  }
+
+  private static void renderCopyFail(String message, ByteBuf out) {
+    int pos = out.writerIndex();
+    out.writeByte(COPY_FAIL);
+    out.writeInt(0);
+    Util.writeCStringUTF8(out, message);
+    out.setInt(pos + 1, out.writerIndex() - pos - 1);
+  }
+
+  private static int estimateCopyFail(String message) {
+    return 1 + 4 + DataTypeEstimator.estimateCStringUTF8(message);
+  }
+
   private static void renderClosePortal(String portal, ByteBuf out) {
       int pos = out.writerIndex();
       out.writeByte(CLOSE);
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Prepared statement metadata shared by the connections of a connection factory.
+ *
+ * <p>Entries are keyed by the SQL and a fingerprint of the connection (server, database, user and startup
+ * properties such as {@code search_path}), a connection preparing a known statement then only needs to send
+ * a {@code Parse} message, the parameter and row descriptions are reused.
+ *
+ * <p>This class is thread safe, it is accessed from the event loops of all connections.
+ */
+public class PgStatementMetadataCache {
+
+  static final class Metadata {
+
+    final PgParamDesc paramDesc;
+    final PgRowDescriptor rowDesc;
+
+    Metadata(PgParamDesc paramDesc, PgRowDescriptor rowDesc) {
+      this.paramDesc = paramDesc;
+      this.rowDesc = rowDesc;
+    }
+  }
+
+  private final Map<String, Metadata> entries;
+
+  public PgStatementMetadataCache(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be > 0");
+    }
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Metadata> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+
+  synchronized Metadata get(String fingerprint, String sql) {
+    return entries.get(key(fingerprint, sql));
+  }
+
+  synchronized void put(String fingerprint, String sql, PgParamDesc paramDesc, PgRowDescriptor rowDesc) {
+    entries.put(key(fingerprint, sql), new Metadata(paramDesc, rowDesc));
+  }
+
+  synchronized void remove(String fingerprint, String sql) {
+    entries.remove(key(fingerprint, sql));
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  private static String key(String fingerprint, String sql) {
+    return fingerprint + '\0' + sql;
+  }
+}
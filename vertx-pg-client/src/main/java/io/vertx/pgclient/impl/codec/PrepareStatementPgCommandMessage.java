@@ -29,6 +29,8 @@ class PrepareStatementPgCommandMessage extends PgCommandMessage<PreparedStatemen
   private PgRowDescriptor rowDesc;
 
   private byte[] statement;
+  private PgStatementMetadataCache metadataCache;
+  private String metadataFingerprint;
 
   PrepareStatementPgCommandMessage(PrepareStatementCommand cmd) {
     super(cmd);
@@ -46,6 +48,18 @@ class PrepareStatementPgCommandMessage extends PgCommandMessage<PreparedStatemen
     List<Class<?>> parameterTypes = cmd.parameterTypes();
     DataType[] parameterTypes2 = parameterTypes != null ? build(parameterTypes) : null;
     encoder.writeParse(cmd.sql(), statement, parameterTypes2);
+    if (parameterTypes == null && encoder.metadataCache != null) {
+      PgStatementMetadataCache.Metadata metadata = encoder.metadataCache.get(encoder.metadataFingerprint, cmd.sql());
+      if (metadata != null) {
+        // Another connection described this statement already
+        parameterDesc = metadata.paramDesc;
+        rowDesc = metadata.rowDesc;
+        encoder.writeSync();
+        return;
+      }
+      metadataCache = encoder.metadataCache;
+      metadataFingerprint = encoder.metadataFingerprint;
+    }
     encoder.writeDescribe(new DescribeMessage(statement, null));
     encoder.writeSync();
   }
@@ -92,6 +106,9 @@ class PrepareStatementPgCommandMessage extends PgCommandMessage<PreparedStatemen
 
   @Override
   public void handleReadyForQuery() {
+    if (metadataCache != null && failure == null && parameterDesc != null) {
+      metadataCache.put(metadataFingerprint, cmd.sql(), parameterDesc, rowDesc);
+    }
     result = new PgPreparedStatement(cmd.sql(), statement, this.parameterDesc, this.rowDesc, cmd.isManaged());
     super.handleReadyForQuery();
   }
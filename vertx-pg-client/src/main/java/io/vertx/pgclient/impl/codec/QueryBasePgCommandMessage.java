@@ -36,20 +36,23 @@ abstract class QueryBasePgCommandMessage<T, C extends QueryCommandBase<T>> exten
     T result;
     Throwable failure;
     int size;
+    long bytes;
     RowDescriptorBase desc;
     if (rowDecoder != null) {
       failure = rowDecoder.complete();
       result = rowDecoder.result();
       desc = rowDecoder.desc;
       size = rowDecoder.size();
+      bytes = rowDecoder.bytes();
       rowDecoder.reset();
     } else {
       failure = null;
       result = emptyResult(cmd.collector());
       size = 0;
+      bytes = 0L;
       desc = null;
     }
-    cmd.resultHandler().handleResult(updated, size, desc, result, failure);
+    cmd.resultHandler().handleResult(updated, size, bytes, desc, result, failure);
   }
 
   @Override
@@ -20,7 +20,10 @@ package io.vertx.pgclient.impl.codec;
 import io.vertx.sqlclient.Row;
 import io.vertx.pgclient.impl.PgRow;
 import io.netty.buffer.ByteBuf;
+import io.vertx.sqlclient.impl.RowBase;
 import io.vertx.sqlclient.impl.RowDecoder;
+import io.vertx.sqlclient.impl.Utils;
+import io.vertx.sqlclient.internal.ColumnarRowSetImpl;
 import io.vertx.sqlclient.internal.RowInternal;
 
 import java.util.stream.Collector;
@@ -28,26 +31,39 @@ import java.util.stream.Collector;
 public class RowResultDecoder<C, R> extends RowDecoder<C, R> {
 
   final PgRowDescriptor desc;
+  final boolean lazy;
+  final boolean zeroCopyBuffers;
 
-  public RowResultDecoder(Collector<Row, C, R> collector, PgRowDescriptor desc) {
+  public RowResultDecoder(Collector<Row, C, R> collector, PgRowDescriptor desc, boolean lazy, boolean zeroCopyBuffers) {
     super(collector);
     this.desc = desc;
+    this.lazy = lazy;
+    // Only the rows of a stream are released by the application
+    this.zeroCopyBuffers = zeroCopyBuffers && streamed();
   }
 
   @Override
   protected RowInternal row() {
-    return new PgRow(desc);
+    return lazy ? new LazyPgRow(desc) : new PgRow(desc);
   }
 
   @Override
   protected boolean decodeRow(int len, ByteBuf in, Row row) {
+    if (lazy) {
+      ((LazyPgRow) row).init(len, in);
+      return true;
+    }
     for (int c = 0; c < len; ++c) {
       int length = in.readInt();
       Object decoded = null;
       if (length != -1) {
         PgColumnDesc columnDesc = desc.columns[c];
         if (columnDesc.dataFormat == DataFormat.BINARY) {
-          decoded = DataTypeCodec.decodeBinary(columnDesc.dataType, in.readerIndex(), length, in);
+          if (zeroCopyBuffers && columnDesc.dataType == DataType.BYTEA) {
+            decoded = ((RowBase) row).retainedBuffer(in.retainedSlice(in.readerIndex(), length));
+          } else {
+            decoded = DataTypeCodec.decodeBinary(columnDesc.dataType, in.readerIndex(), length, in);
+          }
         } else {
           decoded = DataTypeCodec.decodeText(columnDesc.dataType, in.readerIndex(), length, in);
         }
@@ -57,4 +73,56 @@ public class RowResultDecoder<C, R> extends RowDecoder<C, R> {
     }
     return true;
   }
+
+  @Override
+  protected boolean decodeColumns(int len, ByteBuf in, ColumnarRowSetImpl columns) {
+    columns.beginRow(len);
+    for (int c = 0; c < len; ++c) {
+      int length = in.readInt();
+      if (length == -1) {
+        columns.setNull(c);
+        continue;
+      }
+      PgColumnDesc columnDesc = desc.columns[c];
+      int index = in.readerIndex();
+      if (columnDesc.dataFormat == DataFormat.BINARY) {
+        switch (columnDesc.dataType) {
+          case INT2:
+            columns.setInt(c, in.getShort(index));
+            break;
+          case INT4:
+            columns.setInt(c, in.getInt(index));
+            break;
+          case INT8:
+            columns.setLong(c, in.getLong(index));
+            break;
+          case FLOAT4:
+            columns.setDouble(c, in.getFloat(index));
+            break;
+          case FLOAT8:
+            columns.setDouble(c, in.getDouble(index));
+            break;
+          default:
+            columns.setValue(c, DataTypeCodec.decodeBinary(columnDesc.dataType, index, length, in));
+            break;
+        }
+      } else {
+        switch (columnDesc.dataType) {
+          case INT2:
+          case INT4:
+            columns.setInt(c, (int) Utils.decodeDecStringToLong(index, length, in));
+            break;
+          case INT8:
+            columns.setLong(c, Utils.decodeDecStringToLong(index, length, in));
+            break;
+          default:
+            columns.setValue(c, DataTypeCodec.decodeText(columnDesc.dataType, index, length, in));
+            break;
+        }
+      }
+      in.skipBytes(length);
+    }
+    columns.endRow();
+    return true;
+  }
 }
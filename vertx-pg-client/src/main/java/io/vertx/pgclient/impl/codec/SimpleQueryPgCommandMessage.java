@@ -35,6 +35,7 @@ class SimpleQueryPgCommandMessage<T> extends QueryBasePgCommandMessage<T, Simple
 
   @Override
   void handleRowDescription(PgColumnDesc[] columnDescs) {
-    rowDecoder = new RowResultDecoder<>(cmd.collector(), PgRowDescriptor.create(columnDescs));
+    rowDecoder = new RowResultDecoder<>(cmd.collector(), PgRowDescriptor.create(columnDescs), decoder.lazyRowDecoding, decoder.zeroCopyBuffers);
+    rowDecoder.profile(cmd.profile());
   }
 }
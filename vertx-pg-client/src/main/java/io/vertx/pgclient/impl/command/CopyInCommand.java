@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.command;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.Pipe;
+import io.vertx.sqlclient.spi.protocol.CommandBase;
+
+/**
+ * Execute a {@code COPY ... FROM STDIN} statement, the {@code source} pipe provides the data sent to the server.
+ * <p>
+ * The command result is the number of rows copied.
+ */
+public class CopyInCommand extends CommandBase<Long> {
+
+  private final String sql;
+  private final Pipe<Buffer> source;
+
+  public CopyInCommand(String sql, Pipe<Buffer> source) {
+    this.sql = sql;
+    this.source = source;
+  }
+
+  public String sql() {
+    return sql;
+  }
+
+  public Pipe<Buffer> source() {
+    return source;
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.command;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.sqlclient.spi.protocol.CommandBase;
+
+/**
+ * Execute a {@code COPY ... TO STDOUT} statement, the data sent by the server is delivered to the {@code dataHandler}.
+ * <p>
+ * The command result is the number of rows copied.
+ */
+public class CopyOutCommand extends CommandBase<Long> {
+
+  private final String sql;
+  private final Handler<Buffer> dataHandler;
+
+  public CopyOutCommand(String sql, Handler<Buffer> dataHandler) {
+    this.sql = sql;
+    this.dataHandler = dataHandler;
+  }
+
+  public String sql() {
+    return sql;
+  }
+
+  public Handler<Buffer> dataHandler() {
+    return dataHandler;
+  }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.pgclient;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.pgclient.PgBinaryCopyEncoder;
+import io.vertx.pgclient.PgConnection;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.Tuple;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CopyTest extends PgTestBase {
+
+  Vertx vertx;
+
+  @Before
+  public void setup() throws Exception {
+    super.setup();
+    vertx = Vertx.vertx();
+  }
+
+  @After
+  public void teardown(TestContext ctx) {
+    vertx.close().onComplete(ctx.asyncAssertSuccess());
+  }
+
+  private String createFile(Buffer content) throws Exception {
+    File file = File.createTempFile("copy", ".data");
+    file.deleteOnExit();
+    Files.write(file.toPath(), content.getBytes());
+    return file.getAbsolutePath();
+  }
+
+  private void createTable(TestContext ctx, PgConnection conn, Runnable next) {
+    conn
+      .query("CREATE TEMP TABLE copy_test (id INT8, val VARCHAR)")
+      .execute()
+      .onComplete(ctx.asyncAssertSuccess(v -> next.run()));
+  }
+
+  @Test
+  public void testCopyFromText(TestContext ctx) throws Exception {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0;i < 1000;i++) {
+      sb.append(i).append('\t').append("value-").append(i).append('\n');
+    }
+    String path = createFile(Buffer.buffer(sb.toString()));
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options).onComplete(ctx.asyncAssertSuccess(conn -> {
+      createTable(ctx, conn, () -> {
+        vertx.fileSystem().open(path, new OpenOptions().setRead(true)).onComplete(ctx.asyncAssertSuccess(file -> {
+          conn
+            .copyFrom("COPY copy_test FROM STDIN", file)
+            .compose(count -> {
+              ctx.assertEquals(1000L, count);
+              return conn.query("SELECT COUNT(*), MAX(val) FROM copy_test WHERE val LIKE 'value-%'").execute();
+            })
+            .onComplete(ctx.asyncAssertSuccess(rows -> {
+              Row row = rows.iterator().next();
+              ctx.assertEquals(1000L, row.getLong(0));
+              conn.close();
+              async.complete();
+            }));
+        }));
+      });
+    }));
+  }
+
+  @Test
+  public void testCopyFromBinary(TestContext ctx) throws Exception {
+    List<Tuple> tuples = new ArrayList<>();
+    for (long i = 0;i < 100;i++) {
+      tuples.add(Tuple.of(i, i % 10 == 0 ? null : "value-" + i));
+    }
+    String path = createFile(PgBinaryCopyEncoder.encode(tuples));
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options).onComplete(ctx.asyncAssertSuccess(conn -> {
+      createTable(ctx, conn, () -> {
+        vertx.fileSystem().open(path, new OpenOptions().setRead(true)).onComplete(ctx.asyncAssertSuccess(file -> {
+          conn
+            .copyFrom("COPY copy_test FROM STDIN (FORMAT binary)", file)
+            .compose(count -> {
+              ctx.assertEquals(100L, count);
+              return conn.query("SELECT id, val FROM copy_test ORDER BY id").execute();
+            })
+            .onComplete(ctx.asyncAssertSuccess(rows -> {
+              ctx.assertEquals(100, rows.size());
+              long expected = 0;
+              for (Row row : rows) {
+                ctx.assertEquals(expected, row.getLong(0));
+                ctx.assertEquals(expected % 10 == 0 ? null : "value-" + expected, row.getString(1));
+                expected++;
+              }
+              conn.close();
+              async.complete();
+            }));
+        }));
+      });
+    }));
+  }
+
+  @Test
+  public void testCopyFromInvalidData(TestContext ctx) throws Exception {
+    String path = createFile(Buffer.buffer("1\tfoo\nbar\tbar\n"));
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options).onComplete(ctx.asyncAssertSuccess(conn -> {
+      createTable(ctx, conn, () -> {
+        vertx.fileSystem().open(path, new OpenOptions().setRead(true)).onComplete(ctx.asyncAssertSuccess(file -> {
+          conn
+            .copyFrom("COPY copy_test FROM STDIN", file)
+            .onComplete(ctx.asyncAssertFailure(err -> {
+              ctx.assertTrue(hasSqlstateCode(err, "22P02"));
+              // The connection remains usable
+              conn
+                .query("SELECT COUNT(*) FROM copy_test")
+                .execute()
+                .onComplete(ctx.asyncAssertSuccess(rows -> {
+                  ctx.assertEquals(0L, rows.iterator().next().getLong(0));
+                  conn.close();
+                  async.complete();
+                }));
+            }));
+        }));
+      });
+    }));
+  }
+
+  @Test
+  public void testCopyTo(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options).onComplete(ctx.asyncAssertSuccess(conn -> {
+      Buffer received = Buffer.buffer();
+      conn
+        .copyTo("COPY (SELECT id, message FROM Fortune ORDER BY id) TO STDOUT")
+        .exceptionHandler(ctx::fail)
+        .endHandler(v -> {
+          String[] lines = received.toString().split("\n");
+          ctx.assertEquals(12, lines.length);
+          ctx.assertEquals("1\tfortune: No such file or directory", lines[0]);
+          conn.close();
+          async.complete();
+        })
+        .handler(received::appendBuffer);
+    }));
+  }
+
+  @Test
+  public void testCopyToBackPressure(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options).onComplete(ctx.asyncAssertSuccess(conn -> {
+      AtomicInteger count = new AtomicInteger();
+      io.vertx.core.streams.ReadStream<Buffer> stream = conn.copyTo("COPY (SELECT id FROM World) TO STDOUT");
+      stream.pause();
+      stream
+        .exceptionHandler(ctx::fail)
+        .endHandler(v -> {
+          ctx.assertEquals(10000, count.get());
+          conn
+            .query("SELECT 1")
+            .execute()
+            .onComplete(ctx.asyncAssertSuccess(rows -> {
+              conn.close();
+              async.complete();
+            }));
+        })
+        .handler(data -> {
+          count.incrementAndGet();
+          stream.pause();
+          vertx.runOnContext(v -> stream.fetch(1));
+        });
+      stream.fetch(1);
+    }));
+  }
+
+  @Test
+  public void testCopyToPause(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options).onComplete(ctx.asyncAssertSuccess(conn -> {
+      AtomicInteger count = new AtomicInteger();
+      io.vertx.core.streams.ReadStream<Buffer> stream = conn.copyTo("COPY (SELECT id FROM World) TO STDOUT");
+      stream
+        .exceptionHandler(ctx::fail)
+        .endHandler(v -> {
+          ctx.assertEquals(10000, count.get());
+          conn.close();
+          async.complete();
+        })
+        .handler(data -> {
+          if (count.incrementAndGet() == 1) {
+            // The data already read from the socket must not be delivered while paused
+            stream.pause();
+            vertx.setTimer(500, id -> {
+              ctx.assertEquals(1, count.get());
+              stream.resume();
+            });
+          }
+        });
+    }));
+  }
+
+  @Test
+  public void testCopyToInvalidStatement(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options).onComplete(ctx.asyncAssertSuccess(conn -> {
+      conn
+        .copyTo("COPY does_not_exist TO STDOUT")
+        .exceptionHandler(err -> {
+          ctx.assertTrue(hasSqlstateCode(err, "42P01"));
+          conn.close();
+          async.complete();
+        })
+        .handler(data -> ctx.fail());
+    }));
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.pgclient;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.pgclient.PgConnectOptions;
+import io.vertx.pgclient.PgConnection;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+public class LazyRowDecodingTest extends PgTestBase {
+
+  private static final String SQL = "SELECT 1 AS id, 'foo'::text AS name, NULL::int4 AS missing, '{1,2,3}'::int4[] AS numbers, '{\"k\":1}'::jsonb AS doc";
+
+  Vertx vertx;
+
+  @Before
+  public void setup() throws Exception {
+    super.setup();
+    vertx = Vertx.vertx();
+    options = new PgConnectOptions(options).setLazyRowDecoding(true);
+  }
+
+  @After
+  public void teardown(TestContext ctx) {
+    vertx.close().onComplete(ctx.asyncAssertSuccess());
+  }
+
+  @Test
+  public void testSimpleQuery(TestContext ctx) {
+    PgConnection.connect(vertx, options).onComplete(ctx.asyncAssertSuccess(conn -> {
+      conn
+        .query(SQL)
+        .execute()
+        .onComplete(ctx.asyncAssertSuccess(result -> {
+          checkRow(ctx, result);
+          conn.close();
+        }));
+    }));
+  }
+
+  @Test
+  public void testPreparedQuery(TestContext ctx) {
+    PgConnection.connect(vertx, options).onComplete(ctx.asyncAssertSuccess(conn -> {
+      conn
+        .preparedQuery(SQL + " WHERE $1 = 1")
+        .execute(Tuple.of(1))
+        .onComplete(ctx.asyncAssertSuccess(result -> {
+          checkRow(ctx, result);
+          conn.close();
+        }));
+    }));
+  }
+
+  private void checkRow(TestContext ctx, RowSet<Row> result) {
+    ctx.assertEquals(1, result.size());
+    Row row = result.iterator().next();
+    ctx.assertEquals(5, row.size());
+    // Access columns out of order, each column is decoded on its own
+    ctx.assertEquals(new JsonObject().put("k", 1), row.getJsonObject("doc"));
+    ctx.assertEquals("foo", row.getString("name"));
+    ctx.assertNull(row.getInteger("missing"));
+    ctx.assertEquals(1, row.getInteger("id"));
+    ctx.assertEquals(1, row.getInteger(0));
+    Integer[] numbers = row.getArrayOfIntegers("numbers");
+    ctx.assertEquals(3, numbers.length);
+    ctx.assertEquals(3, numbers[2]);
+  }
+
+  @Test
+  public void testRecycledRows(TestContext ctx) {
+    Collector<Row, List<String>, List<String>> collector = Collector.of(ArrayList::new, (list, row) -> {
+      list.add(row.getString(1));
+      row.release();
+    }, (l1, l2) -> null, Function.identity());
+    PgConnection.connect(vertx, options).onComplete(ctx.asyncAssertSuccess(conn -> {
+      conn
+        .query("SELECT i, 'value-' || i FROM generate_series(1, 100) AS i")
+        .collecting(collector)
+        .execute()
+        .onComplete(ctx.asyncAssertSuccess(result -> {
+          List<String> values = result.value();
+          ctx.assertEquals(100, values.size());
+          for (int i = 0;i < 100;i++) {
+            ctx.assertEquals("value-" + (i + 1), values.get(i));
+          }
+          conn.close();
+        }));
+    }));
+  }
+}
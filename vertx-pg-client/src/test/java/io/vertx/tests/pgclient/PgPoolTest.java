@@ -21,6 +21,7 @@ import io.netty.channel.EventLoop;
 import io.vertx.core.Handler;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.VertxInternal;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.Repeat;
@@ -351,6 +352,117 @@ public class PgPoolTest extends PgPoolTestBase {
     ctx.assertTrue(elapsed < 2000, "Was expecting pipelined latency " + elapsed + " < 2000");
   }
 
+  @Test
+  public void testLeastLoadedSelectionAvoidsHeadOfLineBlocking(TestContext ctx) {
+    long firstAvailable = fastQueriesLatencyBehindSlowQuery(ctx, ConnectionSelectionStrategy.FIRST_AVAILABLE);
+    long leastLoaded = fastQueriesLatencyBehindSlowQuery(ctx, ConnectionSelectionStrategy.LEAST_LOADED);
+    ctx.assertTrue(firstAvailable >= 1500, "Was expecting fast queries to wait for the slow query " + firstAvailable + " >= 1500");
+    ctx.assertTrue(leastLoaded < 1000, "Was expecting fast queries to not wait for the slow query " + leastLoaded + " < 1000");
+  }
+
+  /**
+   * Execute a slow query followed by fast queries on a pipelined pool of two connections and
+   * return the worst latency of the fast queries.
+   */
+  private long fastQueriesLatencyBehindSlowQuery(TestContext ctx, ConnectionSelectionStrategy strategy) {
+    SqlClient client = PgBuilder.client(b -> b
+      .connectingTo(options)
+      .with(new PoolOptions().setMaxSize(2).setConnectionSelectionStrategy(strategy))
+      .using(vertx));
+    try {
+      // Open the two connections of the pool
+      Async connected = ctx.async(2);
+      for (int i = 0;i < 2;i++) {
+        client
+          .query("SELECT 1")
+          .execute()
+          .onComplete(ctx.asyncAssertSuccess(v -> connected.countDown()));
+      }
+      connected.awaitSuccess(20_000);
+      int num = 10;
+      AtomicLong maxLatency = new AtomicLong();
+      Async done = ctx.async(num + 1);
+      vertx.runOnContext(v1 -> {
+        client
+          .query("SELECT pg_sleep(2)")
+          .execute()
+          .onComplete(ctx.asyncAssertSuccess(v2 -> done.countDown()));
+        long start = System.currentTimeMillis();
+        for (int i = 0;i < num;i++) {
+          client
+            .query("SELECT 1")
+            .execute()
+            .onComplete(ctx.asyncAssertSuccess(v2 -> {
+              maxLatency.accumulateAndGet(System.currentTimeMillis() - start, Math::max);
+              done.countDown();
+            }));
+        }
+      });
+      done.awaitSuccess(20_000);
+      return maxLatency.get();
+    } finally {
+      client.close();
+    }
+  }
+
+  @Test
+  public void testEventLoopAffineSelection(TestContext ctx) {
+    VertxInternal vertxInternal = (VertxInternal) vertx;
+    Pool pool = createPool(options, new PoolOptions()
+      .setMaxSize(4)
+      .setConnectionSelectionStrategy(ConnectionSelectionStrategy.EVENT_LOOP_AFFINE));
+    for (int i = 0;i < 4;i++) {
+      Async async = ctx.async();
+      ContextInternal context = vertxInternal.contextBuilder().withEventLoop(vertxInternal.nettyEventLoopGroup().next()).build();
+      context.runOnContext(v -> pool
+        .getConnection()
+        .onComplete(ctx.asyncAssertSuccess(conn -> {
+          PgSocketConnection c = (PgSocketConnection) ((SqlConnectionInternal) conn).unwrap().unwrap();
+          // The connection is bound to the event-loop of the caller
+          ctx.assertEquals(context.nettyEventLoop(), ((ContextInternal) c.context()).nettyEventLoop());
+          conn.close();
+          async.complete();
+        })));
+      async.awaitSuccess(20_000);
+    }
+  }
+
+  @Test
+  public void testIdleConnectionReusedOnEventLoop(TestContext ctx) {
+    VertxInternal vertxInternal = (VertxInternal) vertx;
+    ContextInternal context = vertxInternal.contextBuilder().withEventLoop(vertxInternal.nettyEventLoopGroup().next()).build();
+    Pool pool = createPool(options, new PoolOptions().setMaxSize(4));
+    Async async = ctx.async();
+    context.runOnContext(v -> pool
+      .query("SELECT 1")
+      .execute()
+      .compose(res -> pool.query("SELECT 1").execute())
+      .compose(res -> pool.query("SELECT 1").execute())
+      .onComplete(ctx.asyncAssertSuccess(res -> {
+        ctx.assertEquals(1, pool.size());
+        async.complete();
+      })));
+  }
+
+  @Test
+  public void testIdleConnectionReleasedToOtherEventLoop(TestContext ctx) {
+    VertxInternal vertxInternal = (VertxInternal) vertx;
+    ContextInternal context1 = vertxInternal.contextBuilder().withEventLoop(vertxInternal.nettyEventLoopGroup().next()).build();
+    ContextInternal context2 = vertxInternal.contextBuilder().withEventLoop(vertxInternal.nettyEventLoopGroup().next()).build();
+    Pool pool = createPool(options, new PoolOptions().setMaxSize(1));
+    Async async = ctx.async();
+    context1.runOnContext(v1 -> pool
+      .query("SELECT 1")
+      .execute()
+      .onComplete(ctx.asyncAssertSuccess(res1 -> {
+        // The connection is parked on the first event-loop, the waiter on the second event-loop gets it
+        context2.runOnContext(v2 -> pool
+          .query("SELECT 1")
+          .execute()
+          .onComplete(ctx.asyncAssertSuccess(res2 -> async.complete())));
+      })));
+  }
+
   @Test
   public void testCannotAcquireConnectionOnPipelinedPool(TestContext ctx) {
     Pool pool = (Pool) PgBuilder.client(b -> b.connectingTo(options).with(new PoolOptions().setMaxSize(1)));
@@ -445,6 +557,254 @@ public class PgPoolTest extends PgPoolTestBase {
       .onComplete(ctx.asyncAssertSuccess());
   }
 
+  @Test
+  public void testWarmup(TestContext ctx) {
+    ProxyServer proxy = ProxyServer.create(vertx, options.getPort(), options.getHost());
+    AtomicInteger connections = new AtomicInteger();
+    proxy.proxyHandler(conn -> {
+      connections.incrementAndGet();
+      conn.connect();
+    });
+    Async listenLatch = ctx.async();
+    proxy.listen(8080, "localhost", ctx.asyncAssertSuccess(res -> listenLatch.complete()));
+    listenLatch.awaitSuccess(20_000);
+
+    poolOptions
+      .setMaxSize(5)
+      .setMinSize(3);
+    options.setPort(8080);
+    options.setHost("localhost");
+    Pool pool = createPool(options, poolOptions);
+    ctx.assertEquals(0, pool.size());
+    pool
+      .warmup()
+      .onComplete(ctx.asyncAssertSuccess(v -> {
+        ctx.assertEquals(3, pool.size());
+        ctx.assertEquals(3, connections.get());
+        // Warming up an established pool does not open connections
+        pool
+          .warmup()
+          .onComplete(ctx.asyncAssertSuccess(v2 -> ctx.assertEquals(3, connections.get())));
+      }));
+  }
+
+  @Test
+  public void testMinSizeFilledByCleaner(TestContext ctx) {
+    Async async = ctx.async();
+    poolOptions
+      .setMaxSize(4)
+      .setMinSize(2)
+      .setPoolCleanerPeriod(50);
+    Pool pool = createPool(options, poolOptions);
+    vertx.setPeriodic(20, id -> {
+      if (pool.size() == 2) {
+        vertx.cancelTimer(id);
+        async.complete();
+      }
+    });
+  }
+
+  @Test
+  public void testMinSizeKeptOnIdleTimeout(TestContext ctx) {
+    ProxyServer proxy = ProxyServer.create(vertx, options.getPort(), options.getHost());
+    AtomicInteger closed = new AtomicInteger();
+    proxy.proxyHandler(conn -> {
+      conn.clientCloseHandler(v -> closed.incrementAndGet());
+      conn.connect();
+    });
+    Async listenLatch = ctx.async();
+    proxy.listen(8080, "localhost", ctx.asyncAssertSuccess(res -> listenLatch.complete()));
+    listenLatch.awaitSuccess(20_000);
+
+    poolOptions
+      .setMaxSize(3)
+      .setMinSize(1)
+      .setPoolCleanerPeriod(50)
+      .setIdleTimeout(200)
+      .setIdleTimeoutUnit(TimeUnit.MILLISECONDS);
+    options.setPort(8080);
+    options.setHost("localhost");
+    Pool pool = createPool(options, poolOptions);
+    Async async = ctx.async();
+    List<SqlConnection> conns = new ArrayList<>();
+    for (int i = 0;i < 3;i++) {
+      pool.getConnection().onComplete(ctx.asyncAssertSuccess(conn -> {
+        conns.add(conn);
+        if (conns.size() == 3) {
+          conns.forEach(SqlConnection::close);
+          vertx.setTimer(1000, id -> {
+            ctx.assertEquals(2, closed.get());
+            ctx.assertEquals(1, pool.size());
+            async.complete();
+          });
+        }
+      }));
+    }
+  }
+
+  @Test
+  public void testPoolLifetimeRotation(TestContext ctx) {
+    ProxyServer proxy = ProxyServer.create(vertx, options.getPort(), options.getHost());
+    AtomicInteger open = new AtomicInteger();
+    List<Long> closes = Collections.synchronizedList(new ArrayList<>());
+    int poolCleanerPeriod = 100;
+    Async async = ctx.async(3);
+    proxy.proxyHandler(conn -> {
+      open.incrementAndGet();
+      conn.clientCloseHandler(v -> {
+        int count = open.getAndDecrement();
+        if (closes.size() < 3) {
+          // Make before break: the replacement is opened before the expired connection is closed
+          ctx.assertEquals(4, count);
+          closes.add(System.currentTimeMillis());
+          async.countDown();
+        }
+      });
+      conn.connect();
+    });
+    Async listenLatch = ctx.async();
+    proxy.listen(8080, "localhost", ctx.asyncAssertSuccess(res -> listenLatch.complete()));
+    listenLatch.awaitSuccess(20_000);
+
+    poolOptions
+      .setMaxSize(6)
+      .setPoolCleanerPeriod(poolCleanerPeriod)
+      .setMaxLifetime(1000)
+      .setMaxLifetimeUnit(TimeUnit.MILLISECONDS)
+      .setLifetimeRotationLimit(1);
+    options.setPort(8080);
+    options.setHost("localhost");
+    Pool pool = createPool(options, poolOptions);
+    List<SqlConnection> conns = Collections.synchronizedList(new ArrayList<>());
+    for (int i = 0;i < 3;i++) {
+      pool.getConnection().onComplete(ctx.asyncAssertSuccess(conn -> {
+        conns.add(conn);
+        if (conns.size() == 3) {
+          conns.forEach(SqlConnection::close);
+        }
+      }));
+    }
+    async.awaitSuccess(20_000);
+    // Expired connections are rotated one per cleaner period
+    ctx.assertTrue(closes.get(2) - closes.get(0) >= poolCleanerPeriod);
+  }
+
+  @Test
+  public void testPoolLifetimeRotationSlowConnect(TestContext ctx) {
+    ProxyServer proxy = ProxyServer.create(vertx, options.getPort(), options.getHost());
+    AtomicInteger opened = new AtomicInteger();
+    List<Integer> openedAtClose = Collections.synchronizedList(new ArrayList<>());
+    int poolCleanerPeriod = 100;
+    Async async = ctx.async(3);
+    proxy.proxyHandler(conn -> {
+      int idx = opened.getAndIncrement();
+      conn.clientCloseHandler(v -> {
+        openedAtClose.add(opened.get());
+        async.countDown();
+      });
+      if (idx < 3) {
+        conn.connect();
+      } else {
+        // Replacements take several cleaner periods to connect
+        vertx.setTimer(poolCleanerPeriod * 3 + 50, id -> conn.connect());
+      }
+    });
+    Async listenLatch = ctx.async();
+    proxy.listen(8080, "localhost", ctx.asyncAssertSuccess(res -> listenLatch.complete()));
+    listenLatch.awaitSuccess(20_000);
+
+    poolOptions
+      .setMaxSize(10)
+      .setPoolCleanerPeriod(poolCleanerPeriod)
+      .setMaxLifetime(1000)
+      .setMaxLifetimeUnit(TimeUnit.MILLISECONDS)
+      .setLifetimeRotationLimit(3);
+    options.setPort(8080);
+    options.setHost("localhost");
+    Pool pool = createPool(options, poolOptions);
+    List<SqlConnection> conns = Collections.synchronizedList(new ArrayList<>());
+    for (int i = 0;i < 3;i++) {
+      pool.getConnection().onComplete(ctx.asyncAssertSuccess(conn -> {
+        conns.add(conn);
+        if (conns.size() == 3) {
+          conns.forEach(SqlConnection::close);
+        }
+      }));
+    }
+    async.awaitSuccess(20_000);
+    // The cleaner periods during the rotation neither open more replacements nor keep the expired connections
+    for (int count : openedAtClose) {
+      ctx.assertEquals(6, count);
+    }
+  }
+
+  @Test
+  public void testPoolValidationOnBorrow(TestContext ctx) {
+    ProxyServer proxy = ProxyServer.create(vertx, options.getPort(), options.getHost());
+    List<ProxyServer.Connection> connections = Collections.synchronizedList(new ArrayList<>());
+    proxy.proxyHandler(conn -> {
+      connections.add(conn);
+      conn.connect();
+    });
+    Async listenLatch = ctx.async();
+    proxy.listen(8080, "localhost", ctx.asyncAssertSuccess(res -> listenLatch.complete()));
+    listenLatch.awaitSuccess(20_000);
+
+    poolOptions
+      .setMaxSize(1)
+      .setValidationInterval(100)
+      .setValidationIntervalUnit(TimeUnit.MILLISECONDS);
+    options.setPort(8080);
+    options.setHost("localhost");
+    Pool pool = createPool(options, poolOptions);
+    Async async = ctx.async();
+    pool.query("SELECT 1").execute().onComplete(ctx.asyncAssertSuccess(res1 -> {
+      // The stale connection is reset by the next request
+      ProxyServer.Connection stale = connections.get(0);
+      stale.clientSocket().handler(buff -> stale.clientSocket().close());
+      vertx.setTimer(200, id -> {
+        pool.query("SELECT 1").execute().onComplete(ctx.asyncAssertSuccess(res2 -> {
+          ctx.assertEquals(2, connections.size());
+          async.complete();
+        }));
+      });
+    }));
+  }
+
+  @Test
+  public void testPoolIdleValidation(TestContext ctx) {
+    ProxyServer proxy = ProxyServer.create(vertx, options.getPort(), options.getHost());
+    List<ProxyServer.Connection> connections = Collections.synchronizedList(new ArrayList<>());
+    proxy.proxyHandler(conn -> {
+      connections.add(conn);
+      conn.connect();
+    });
+    Async listenLatch = ctx.async();
+    proxy.listen(8080, "localhost", ctx.asyncAssertSuccess(res -> listenLatch.complete()));
+    listenLatch.awaitSuccess(20_000);
+
+    poolOptions
+      .setPoolCleanerPeriod(50)
+      .setValidationInterval(100)
+      .setValidationIntervalUnit(TimeUnit.MILLISECONDS)
+      .setIdleValidation(true);
+    options.setPort(8080);
+    options.setHost("localhost");
+    Pool pool = createPool(options, poolOptions);
+    Async async = ctx.async();
+    pool.query("SELECT 1").execute().onComplete(ctx.asyncAssertSuccess(res -> {
+      ProxyServer.Connection stale = connections.get(0);
+      stale.clientSocket().handler(buff -> stale.clientSocket().close());
+      // The cleaner pings the idle connection and evicts it without any request
+      vertx.setPeriodic(20, id -> {
+        if (pool.size() == 0) {
+          vertx.cancelTimer(id);
+          async.complete();
+        }
+      });
+    }));
+  }
+
   @Test
   public void testPoolConnectTimeout(TestContext ctx) {
     Async async = ctx.async(2);
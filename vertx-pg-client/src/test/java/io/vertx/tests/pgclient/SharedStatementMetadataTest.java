@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.pgclient;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.pgclient.PgBuilder;
+import io.vertx.pgclient.PgConnectOptions;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.tests.sqlclient.ProxyServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class SharedStatementMetadataTest extends PgTestBase {
+
+  Vertx vertx;
+
+  @Before
+  public void setup() throws Exception {
+    super.setup();
+    vertx = Vertx.vertx();
+  }
+
+  @After
+  public void teardown(TestContext ctx) {
+    vertx.close().onComplete(ctx.asyncAssertSuccess());
+  }
+
+  private Pool createPool(boolean cachePreparedStatements) {
+    PgConnectOptions connectOptions = new PgConnectOptions(options)
+      .setCachePreparedStatements(cachePreparedStatements)
+      .setSharedStatementMetadata(true);
+    return PgBuilder.pool()
+      .with(new PoolOptions().setMaxSize(2))
+      .connectingTo(connectOptions)
+      .using(vertx)
+      .build();
+  }
+
+  @Test
+  public void testSharedWithCachedStatements(TestContext ctx) {
+    testShared(ctx, true);
+  }
+
+  @Test
+  public void testSharedWithUnnamedStatements(TestContext ctx) {
+    testShared(ctx, false);
+  }
+
+  private void testShared(TestContext ctx, boolean cachePreparedStatements) {
+    Pool pool = createPool(cachePreparedStatements);
+    String sql = "SELECT $1::int4 AS id, 'value-' || $1 AS name";
+    Future.all(pool.getConnection(), pool.getConnection()).onComplete(ctx.asyncAssertSuccess(cf -> {
+      SqlConnection conn1 = cf.resultAt(0);
+      SqlConnection conn2 = cf.resultAt(1);
+      conn1
+        .preparedQuery(sql)
+        .execute(Tuple.of(1))
+        .compose(rows1 -> {
+          checkRow(ctx, rows1, 1);
+          // Second connection reuses the description of the first connection
+          return conn2.preparedQuery(sql).execute(Tuple.of(2));
+        })
+        .compose(rows2 -> {
+          checkRow(ctx, rows2, 2);
+          return conn2.preparedQuery(sql).executeBatch(Arrays.asList(Tuple.of(3), Tuple.of(4)));
+        })
+        .onComplete(ctx.asyncAssertSuccess(rows3 -> {
+          checkRow(ctx, rows3, 3);
+          checkRow(ctx, rows3.next(), 4);
+          conn1.close();
+          conn2.close();
+        }));
+    }));
+  }
+
+  @Test
+  public void testCacheHitSkipsDescribe(TestContext ctx) {
+    List<StringBuilder> messages = new ArrayList<>();
+    startProxy(ctx, messages);
+    Pool pool = createPool(true);
+    String sql = "SELECT $1::int4 AS id, 'value-' || $1 AS name";
+    pool.getConnection().onComplete(ctx.asyncAssertSuccess(conn1 -> {
+      conn1
+        .preparedQuery(sql)
+        .execute(Tuple.of(1))
+        .compose(rows1 -> {
+          checkRow(ctx, rows1, 1);
+          ctx.assertEquals("PDS", prepareMessages(messages.get(0)));
+          return pool.getConnection();
+        })
+        .compose(conn2 -> conn2
+          .preparedQuery(sql)
+          .execute(Tuple.of(2))
+          .onComplete(ar -> conn2.close()))
+        .onComplete(ctx.asyncAssertSuccess(rows2 -> {
+          checkRow(ctx, rows2, 2);
+          // The second connection only sends Parse and Sync to prepare the statement
+          ctx.assertEquals("PS", prepareMessages(messages.get(1)));
+          conn1.close();
+        }));
+    }));
+  }
+
+  @Test
+  public void testSchemaChangeInvalidatesMetadata(TestContext ctx) {
+    List<StringBuilder> messages = new ArrayList<>();
+    startProxy(ctx, messages);
+    Pool pool = createPool(true);
+    String sql = "SELECT * FROM shared_metadata_test";
+    pool.getConnection().onComplete(ctx.asyncAssertSuccess(conn1 -> {
+      conn1
+        .query("DROP TABLE IF EXISTS shared_metadata_test")
+        .execute()
+        .compose(v -> conn1.query("CREATE TABLE shared_metadata_test (id INT4)").execute())
+        .compose(v -> conn1.preparedQuery(sql).execute())
+        .compose(v -> conn1.query("ALTER TABLE shared_metadata_test ADD COLUMN name VARCHAR").execute())
+        // The server reports the schema change to the connection holding the statement
+        .compose(v -> conn1.preparedQuery(sql).execute().transform(ar -> {
+          ctx.assertTrue(ar.failed());
+          return pool.getConnection();
+        }))
+        .compose(conn2 -> conn2
+          .preparedQuery(sql)
+          .execute()
+          .onComplete(ar -> conn2.close()))
+        .eventually(() -> conn1.query("DROP TABLE IF EXISTS shared_metadata_test").execute())
+        .onComplete(ctx.asyncAssertSuccess(rows -> {
+          ctx.assertEquals(Arrays.asList("id", "name"), rows.columnsNames());
+          // The entry was removed, the second connection describes the statement
+          ctx.assertEquals("PDS", prepareMessages(messages.get(1)));
+          conn1.close();
+        }));
+    }));
+  }
+
+  /**
+   * Proxy the connections and record the type of the messages sent by each connection.
+   */
+  private void startProxy(TestContext ctx, List<StringBuilder> messages) {
+    ProxyServer proxy = ProxyServer.create(vertx, options.getPort(), options.getHost());
+    proxy.proxyHandler(conn -> {
+      StringBuilder types = new StringBuilder();
+      messages.add(types);
+      Handler<Buffer> recorder = new MessageRecorder(types);
+      conn.clientHandler(buff -> {
+        recorder.handle(buff);
+        conn.serverSocket().write(buff);
+      });
+      conn.connect();
+    });
+    Async async = ctx.async();
+    proxy.listen(8080, "localhost", ctx.asyncAssertSuccess(v -> {
+      options.setPort(8080).setHost("localhost");
+      async.complete();
+    }));
+    async.awaitSuccess(10_000);
+  }
+
+  /**
+   * @return the messages sent to prepare the statement, i.e. from the first {@code Parse} to the next {@code Sync}
+   */
+  private static String prepareMessages(StringBuilder types) {
+    int from = types.indexOf("P");
+    return types.substring(from, types.indexOf("S", from) + 1);
+  }
+
+  /**
+   * Record the type of the frontend messages, after the startup message which has no type.
+   */
+  private static class MessageRecorder implements Handler<Buffer> {
+
+    private final StringBuilder types;
+    private Buffer pending = Buffer.buffer();
+    private boolean started;
+
+    MessageRecorder(StringBuilder types) {
+      this.types = types;
+    }
+
+    @Override
+    public void handle(Buffer buff) {
+      pending.appendBuffer(buff);
+      while (true) {
+        int header = started ? 5 : 4;
+        if (pending.length() < header) {
+          break;
+        }
+        int length = pending.getInt(header - 4);
+        int total = length + header - 4;
+        if (pending.length() < total) {
+          break;
+        }
+        if (started) {
+          types.append((char) pending.getByte(0));
+        }
+        started = true;
+        pending = pending.getBuffer(total, pending.length());
+      }
+    }
+  }
+
+  private void checkRow(TestContext ctx, RowSet<Row> rows, int expected) {
+    ctx.assertEquals(1, rows.size());
+    Row row = rows.iterator().next();
+    ctx.assertEquals(expected, row.getInteger("id"));
+    ctx.assertEquals("value-" + expected, row.getString("name"));
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.pgclient;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.pgclient.PgConnectOptions;
+import io.vertx.pgclient.PgConnection;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowStream;
+import io.vertx.sqlclient.Tuple;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ReadOnlyBufferException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ZeroCopyBufferTest extends PgTestBase {
+
+  Vertx vertx;
+
+  @Before
+  public void setup() throws Exception {
+    super.setup();
+    vertx = Vertx.vertx();
+    options = new PgConnectOptions(options).setZeroCopyBuffers(true);
+  }
+
+  @After
+  public void teardown(TestContext ctx) {
+    vertx.close().onComplete(ctx.asyncAssertSuccess());
+  }
+
+  @Test
+  public void testStream(TestContext ctx) {
+    Buffer expected = Buffer.buffer("hello world");
+    PgConnection.connect(vertx, options).onComplete(ctx.asyncAssertSuccess(conn -> {
+      conn.begin().onComplete(ctx.asyncAssertSuccess(tx -> {
+        conn.prepare("SELECT $1::bytea AS content, NULL::bytea AS missing FROM generate_series(1, 10)").onComplete(ctx.asyncAssertSuccess(ps -> {
+          RowStream<Row> stream = ps.createStream(4, Tuple.of(expected));
+          AtomicInteger count = new AtomicInteger();
+          stream.handler(row -> {
+            Buffer content = row.getBuffer("content");
+            ctx.assertEquals(expected, content);
+            ctx.assertNull(row.getBuffer("missing"));
+            try {
+              content.setByte(0, (byte) 'H');
+              ctx.fail("Expected a read-only buffer");
+            } catch (ReadOnlyBufferException ignore) {
+            }
+            row.release();
+            count.incrementAndGet();
+          });
+          stream.endHandler(v -> {
+            ctx.assertEquals(10, count.get());
+            conn.close();
+          });
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testPreparedQueryCopies(TestContext ctx) {
+    Buffer expected = Buffer.buffer("hello world");
+    PgConnection.connect(vertx, options).onComplete(ctx.asyncAssertSuccess(conn -> {
+      conn
+        .preparedQuery("SELECT $1::bytea AS content")
+        .execute(Tuple.of(expected))
+        .onComplete(ctx.asyncAssertSuccess(result -> {
+          Buffer content = result.iterator().next().getBuffer("content");
+          conn.close().onComplete(ctx.asyncAssertSuccess(v -> {
+            // The rows of a row set are not released, their values are copies
+            ctx.assertEquals(expected, content);
+            content.setByte(0, (byte) 'H');
+          }));
+        }));
+    }));
+  }
+
+  @Test
+  public void testSimpleQuery(TestContext ctx) {
+    PgConnection.connect(vertx, options).onComplete(ctx.asyncAssertSuccess(conn -> {
+      conn
+        .query("SELECT 'hello world'::bytea AS content")
+        .execute()
+        .onComplete(ctx.asyncAssertSuccess(result -> {
+          Row row = result.iterator().next();
+          ctx.assertEquals(Buffer.buffer("hello world"), row.getBuffer("content"));
+          conn.close();
+        }));
+    }));
+  }
+}
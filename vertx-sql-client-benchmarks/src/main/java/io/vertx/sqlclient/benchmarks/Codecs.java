@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.core.Future;
+import io.vertx.sqlclient.PropertyKind;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.codec.CommandResponse;
+import io.vertx.sqlclient.internal.QueryResultHandler;
+import io.vertx.sqlclient.internal.RowDescriptorBase;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collector;
+
+/**
+ * Support for the benchmarks, mostly driving a codec with an {@link EmbeddedChannel}.
+ */
+final class Codecs {
+
+  /**
+   * Collect rows by reading every column, so the benchmarks measure the decoding of the values.
+   */
+  static final Collector<Row, long[], Long> ROW_COLLECTOR = Collector.of(
+    () -> new long[1],
+    (acc, row) -> {
+      int size = row.size();
+      for (int i = 0;i < size;i++) {
+        Object value = row.getValue(i);
+        acc[0] += value != null ? value.hashCode() : 0;
+      }
+    },
+    (a1, a2) -> {
+      a1[0] += a2[0];
+      return a1;
+    },
+    acc -> acc[0]);
+
+  /**
+   * Collect rows by reading the first column only.
+   */
+  static final Collector<Row, long[], Long> FIRST_COLUMN_COLLECTOR = Collector.of(
+    () -> new long[1],
+    (acc, row) -> {
+      Object value = row.getValue(0);
+      acc[0] += value != null ? value.hashCode() : 0;
+    },
+    (a1, a2) -> {
+      a1[0] += a2[0];
+      return a1;
+    },
+    acc -> acc[0]);
+
+  private static final Field RESULT_FIELD;
+  private static final Field FAILURE_FIELD;
+
+  static {
+    try {
+      RESULT_FIELD = CommandResponse.class.getDeclaredField("result");
+      RESULT_FIELD.setAccessible(true);
+      FAILURE_FIELD = CommandResponse.class.getDeclaredField("failure");
+      FAILURE_FIELD.setAccessible(true);
+    } catch (NoSuchFieldException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private Codecs() {
+  }
+
+  /**
+   * Wait for the completion of a future from a benchmark thread.
+   */
+  static <T> T await(Future<T> future) throws Exception {
+    return future.toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+  }
+
+  static <T> QueryResultHandler<T> resultHandler(Blackhole blackhole) {
+    return new QueryResultHandler<>() {
+      @Override
+      public <V> void addProperty(PropertyKind<V> property, V value) {
+        blackhole.consume(value);
+      }
+      @Override
+      public void handleResult(int updatedCount, int size, RowDescriptorBase desc, T result, Throwable failure) {
+        if (failure != null) {
+          throw new AssertionError(failure);
+        }
+        blackhole.consume(result);
+      }
+    };
+  }
+
+  /**
+   * Read the response of the command completed by the codec, the response is consumed by the pipeline of
+   * a connection, the benchmarks only look at it when setting up the state.
+   */
+  @SuppressWarnings("unchecked")
+  static <R> R response(EmbeddedChannel channel) {
+    Object msg = channel.readInbound();
+    if (!(msg instanceof CommandResponse<?>)) {
+      throw new IllegalStateException("Expected a command response instead of " + msg);
+    }
+    try {
+      Throwable failure = (Throwable) FAILURE_FIELD.get(msg);
+      if (failure != null) {
+        throw new IllegalStateException(failure);
+      }
+      return (R) RESULT_FIELD.get(msg);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Consume the messages fired by the codec during a benchmark invocation.
+   */
+  static void consumeInbound(EmbeddedChannel channel, Blackhole blackhole) {
+    Object msg;
+    while ((msg = channel.readInbound()) != null) {
+      blackhole.consume(msg);
+    }
+  }
+
+  /**
+   * Consume the bytes written by the codec during a benchmark invocation.
+   */
+  static void consumeOutbound(EmbeddedChannel channel, Blackhole blackhole) {
+    Object msg;
+    while ((msg = channel.readOutbound()) != null) {
+      if (msg instanceof ByteBuf) {
+        ByteBuf buf = (ByteBuf) msg;
+        blackhole.consume(buf.readableBytes());
+        buf.release();
+      } else {
+        blackhole.consume(msg);
+      }
+    }
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.mssqlclient.impl.codec.MSSQLCommandMessage;
+import io.vertx.mssqlclient.impl.codec.TdsMessageCodec;
+import io.vertx.mssqlclient.impl.codec.TdsPacketDecoder;
+import io.vertx.sqlclient.spi.protocol.SimpleQueryCommand;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives the SQL Server codec with the TDS packets a server sends for a result set, without a database.
+ */
+@Threads(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class MSSQLCodecBenchmarks {
+
+  private static final int PACKET_SIZE = 4096;
+  private static final int PACKET_HEADER_SIZE = 8;
+  private static final short TABULAR_RESULT = 4;
+  private static final short COLMETADATA = 0x81;
+  private static final short ROW = 0xD1;
+  private static final short DONE = 0xFD;
+  private static final short STATUS_DONE_COUNT = 0x10;
+  private static final short INTN = 0x26;
+  private static final short NVARCHAR = 0xE7;
+
+  @Param({"1", "100", "1000"})
+  int rows;
+
+  private EmbeddedChannel channel;
+  private ByteBuf response;
+
+  @Setup
+  public void setup() {
+    channel = new EmbeddedChannel(new TdsPacketDecoder(), new TdsMessageCodec(PACKET_SIZE, false));
+
+    ByteBuf tokens = Unpooled.buffer();
+    tokens.writeByte(COLMETADATA);
+    tokens.writeShortLE(2);
+    columnMetadata(tokens, "id", INTN);
+    columnMetadata(tokens, "message", NVARCHAR);
+    for (int i = 0;i < rows;i++) {
+      tokens.writeByte(ROW);
+      tokens.writeByte(4);
+      tokens.writeIntLE(i);
+      byte[] message = ("fortune: No such file or directory " + i).getBytes(StandardCharsets.UTF_16LE);
+      tokens.writeShortLE(message.length);
+      tokens.writeBytes(message);
+    }
+    tokens.writeByte(DONE);
+    tokens.writeShortLE(STATUS_DONE_COUNT);
+    tokens.writeShortLE(0xC1); // SELECT
+    tokens.writeLongLE(rows);
+
+    // Split the message in packets like the server does
+    response = Unpooled.buffer();
+    int packetId = 1;
+    while (tokens.isReadable()) {
+      int len = Math.min(tokens.readableBytes(), PACKET_SIZE - PACKET_HEADER_SIZE);
+      response.writeByte(TABULAR_RESULT);
+      response.writeByte(len == tokens.readableBytes() ? 1 : 0); // end of message
+      response.writeShort(PACKET_HEADER_SIZE + len);
+      response.writeShort(0); // spid
+      response.writeByte(packetId++);
+      response.writeByte(0); // window
+      response.writeBytes(tokens, len);
+    }
+    tokens.release();
+  }
+
+  private static void columnMetadata(ByteBuf buf, String name, short type) {
+    buf.writeIntLE(0); // user type
+    buf.writeShortLE(0); // flags
+    buf.writeByte(type);
+    if (type == INTN) {
+      buf.writeByte(4);
+    } else {
+      buf.writeShortLE(8000);
+      buf.writeBytes(new byte[]{0x09, 0x04, (byte) 0xD0, 0x00, 0x34}); // collation
+    }
+    buf.writeByte(name.length());
+    buf.writeCharSequence(name, StandardCharsets.UTF_16LE);
+  }
+
+  @TearDown
+  public void tearDown() {
+    response.release();
+    channel.finishAndReleaseAll();
+  }
+
+  @Benchmark
+  public void sqlBatchRows(Blackhole blackhole) {
+    SimpleQueryCommand<Long> cmd = new SimpleQueryCommand<>("SELECT id, message FROM Fortune", true, true, Codecs.ROW_COLLECTOR, Codecs.resultHandler(blackhole));
+    channel.writeOutbound(MSSQLCommandMessage.wrap(cmd));
+    Codecs.consumeOutbound(channel, blackhole);
+    channel.writeInbound(response.retainedDuplicate());
+    Codecs.consumeInbound(channel, blackhole);
+  }
+}
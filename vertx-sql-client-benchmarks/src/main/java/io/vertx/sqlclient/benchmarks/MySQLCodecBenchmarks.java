@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.CombinedChannelDuplexHandler;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.mysqlclient.impl.codec.MySQLCodec;
+import io.vertx.mysqlclient.impl.codec.MySQLCommand;
+import io.vertx.mysqlclient.impl.codec.MySQLPacketDecoder;
+import io.vertx.sqlclient.spi.protocol.SimpleQueryCommand;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Drives the MySQL codec with the packets a server sends for a text result set, without a database.
+ */
+@Threads(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class MySQLCodecBenchmarks {
+
+  private static final short MYSQL_TYPE_LONG = 0x03;
+  private static final short MYSQL_TYPE_VAR_STRING = 0xFD;
+  private static final int UTF8MB4_GENERAL_CI = 45;
+  private static final int BINARY = 63;
+  private static final int SERVER_STATUS_AUTOCOMMIT = 0x0002;
+
+  @Param({"1", "100", "1000"})
+  int rows;
+
+  private EmbeddedChannel channel;
+  private ByteBuf response;
+
+  @Setup
+  public void setup() throws Exception {
+    MySQLCodec codec = new MySQLCodec(null, false);
+    // The encoding is negotiated by the initial handshake
+    Field outboundHandler = CombinedChannelDuplexHandler.class.getDeclaredField("outboundHandler");
+    outboundHandler.setAccessible(true);
+    Object encoder = outboundHandler.get(codec);
+    Field encodingCharset = encoder.getClass().getDeclaredField("encodingCharset");
+    encodingCharset.setAccessible(true);
+    encodingCharset.set(encoder, StandardCharsets.UTF_8);
+    channel = new EmbeddedChannel(new MySQLPacketDecoder(), codec);
+
+    response = Unpooled.buffer();
+    int seq = 1;
+    seq = packet(response, seq, buf -> buf.writeByte(2)); // column count
+    seq = packet(response, seq, buf -> columnDefinition(buf, "id", BINARY, MYSQL_TYPE_LONG));
+    seq = packet(response, seq, buf -> columnDefinition(buf, "message", UTF8MB4_GENERAL_CI, MYSQL_TYPE_VAR_STRING));
+    seq = packet(response, seq, MySQLCodecBenchmarks::eof);
+    for (int i = 0;i < rows;i++) {
+      int id = i;
+      seq = packet(response, seq, buf -> {
+        lengthEncodedString(buf, Integer.toString(id));
+        lengthEncodedString(buf, "fortune: No such file or directory " + id);
+      });
+    }
+    packet(response, seq, MySQLCodecBenchmarks::eof);
+  }
+
+  private static int packet(ByteBuf out, int sequenceId, Consumer<ByteBuf> payload) {
+    int idx = out.writerIndex();
+    out.writeMediumLE(0);
+    out.writeByte(sequenceId);
+    payload.accept(out);
+    out.setMediumLE(idx, out.writerIndex() - idx - 4);
+    return (sequenceId + 1) & 0xFF;
+  }
+
+  private static void columnDefinition(ByteBuf buf, String name, int characterSet, short type) {
+    lengthEncodedString(buf, "def"); // catalog
+    lengthEncodedString(buf, "world"); // schema
+    lengthEncodedString(buf, "Fortune"); // table
+    lengthEncodedString(buf, "Fortune"); // org table
+    lengthEncodedString(buf, name);
+    lengthEncodedString(buf, name); // org name
+    buf.writeByte(0x0C); // length of fixed length fields
+    buf.writeShortLE(characterSet);
+    buf.writeIntLE(2048); // column length
+    buf.writeByte(type);
+    buf.writeShortLE(0); // flags
+    buf.writeByte(0); // decimals
+    buf.writeShortLE(0); // filler
+  }
+
+  private static void eof(ByteBuf buf) {
+    buf.writeByte(0xFE);
+    buf.writeShortLE(0); // warnings
+    buf.writeShortLE(SERVER_STATUS_AUTOCOMMIT);
+  }
+
+  private static void lengthEncodedString(ByteBuf buf, String s) {
+    byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+    buf.writeByte(bytes.length);
+    buf.writeBytes(bytes);
+  }
+
+  @TearDown
+  public void tearDown() {
+    response.release();
+    channel.finishAndReleaseAll();
+  }
+
+  @Benchmark
+  public void simpleQueryTextRows(Blackhole blackhole) {
+    SimpleQueryCommand<Long> cmd = new SimpleQueryCommand<>("SELECT id, message FROM Fortune", true, true, Codecs.ROW_COLLECTOR, Codecs.resultHandler(blackhole));
+    channel.writeOutbound(MySQLCommand.wrap(cmd));
+    Codecs.consumeOutbound(channel, blackhole);
+    channel.writeInbound(response.retainedDuplicate());
+    Codecs.consumeInbound(channel, blackhole);
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.pgclient.impl.codec.ExtendedQueryPgCommandMessage;
+import io.vertx.pgclient.impl.codec.PgCodec;
+import io.vertx.pgclient.impl.codec.PgCommandMessage;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.internal.PreparedStatement;
+import io.vertx.sqlclient.spi.protocol.ExtendedQueryCommand;
+import io.vertx.sqlclient.spi.protocol.PrepareStatementCommand;
+import io.vertx.sqlclient.spi.protocol.SimpleQueryCommand;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static io.vertx.sqlclient.benchmarks.PgMessages.*;
+
+/**
+ * Drives the PostgreSQL codec with the messages a server sends for a query, without a database.
+ */
+@Threads(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class PgCodecBenchmarks {
+
+  static final String SELECT = "SELECT id, message FROM Fortune WHERE id > $1";
+  static final String INSERT = "INSERT INTO Fortune (id, message, rank) VALUES ($1, $2, $3)";
+
+  @Param({"1", "100", "1000"})
+  int rows;
+
+  @Param({"false", "true"})
+  boolean lazyRowDecoding;
+
+  private EmbeddedChannel channel;
+  private PreparedStatement select;
+  private PreparedStatement insert;
+  private ByteBuf simpleQueryResponse;
+  private ByteBuf extendedQueryResponse;
+  private ByteBuf insertResponse;
+
+  @Setup
+  public void setup() {
+    channel = new EmbeddedChannel(new PgCodec(false, lazyRowDecoding, false));
+    select = prepare(SELECT, buf -> {
+      parameterDescription(buf, INT4_OID);
+      rowDescription(buf, new String[]{"id", "message"}, new int[]{INT4_OID, VARCHAR_OID});
+    });
+    insert = prepare(INSERT, buf -> {
+      parameterDescription(buf, INT4_OID, VARCHAR_OID, INT4_OID);
+      noData(buf);
+    });
+
+    simpleQueryResponse = Unpooled.buffer();
+    rowDescription(simpleQueryResponse, new String[]{"id", "message"}, new int[]{INT4_OID, VARCHAR_OID});
+    for (int i = 0;i < rows;i++) {
+      textDataRow(simpleQueryResponse, i, "fortune: No such file or directory " + i);
+    }
+    commandComplete(simpleQueryResponse, "SELECT " + rows);
+    readyForQuery(simpleQueryResponse);
+
+    extendedQueryResponse = Unpooled.buffer();
+    bindComplete(extendedQueryResponse);
+    for (int i = 0;i < rows;i++) {
+      binaryDataRow(extendedQueryResponse, i, "fortune: No such file or directory " + i);
+    }
+    commandComplete(extendedQueryResponse, "SELECT " + rows);
+    readyForQuery(extendedQueryResponse);
+
+    insertResponse = Unpooled.buffer();
+    bindComplete(insertResponse);
+    commandComplete(insertResponse, "INSERT 0 1");
+    readyForQuery(insertResponse);
+  }
+
+  private PreparedStatement prepare(String sql, Consumer<ByteBuf> describe) {
+    channel.writeOutbound(PgCommandMessage.wrap(new PrepareStatementCommand(sql, null, true)));
+    channel.releaseOutbound();
+    ByteBuf response = Unpooled.buffer();
+    parseComplete(response);
+    describe.accept(response);
+    readyForQuery(response);
+    channel.writeInbound(response);
+    return Codecs.response(channel);
+  }
+
+  @TearDown
+  public void tearDown() {
+    simpleQueryResponse.release();
+    extendedQueryResponse.release();
+    insertResponse.release();
+    channel.finishAndReleaseAll();
+  }
+
+  @Benchmark
+  public void simpleQueryTextRows(Blackhole blackhole) {
+    SimpleQueryCommand<Long> cmd = new SimpleQueryCommand<>("SELECT id, message FROM Fortune", true, true, Codecs.ROW_COLLECTOR, Codecs.resultHandler(blackhole));
+    channel.writeOutbound(PgCommandMessage.wrap(cmd));
+    Codecs.consumeOutbound(channel, blackhole);
+    channel.writeInbound(simpleQueryResponse.retainedDuplicate());
+    Codecs.consumeInbound(channel, blackhole);
+  }
+
+  @Benchmark
+  public void extendedQueryBinaryRows(Blackhole blackhole) {
+    ExtendedQueryCommand<Long> cmd = ExtendedQueryCommand.createQuery(SELECT, null, select, Tuple.of(0), true, Codecs.ROW_COLLECTOR, Codecs.resultHandler(blackhole));
+    channel.writeOutbound(new ExtendedQueryPgCommandMessage<>(cmd, select));
+    Codecs.consumeOutbound(channel, blackhole);
+    channel.writeInbound(extendedQueryResponse.retainedDuplicate());
+    Codecs.consumeInbound(channel, blackhole);
+  }
+
+  @Benchmark
+  public void extendedQueryFirstColumn(Blackhole blackhole) {
+    ExtendedQueryCommand<Long> cmd = ExtendedQueryCommand.createQuery(SELECT, null, select, Tuple.of(0), true, Codecs.FIRST_COLUMN_COLLECTOR, Codecs.resultHandler(blackhole));
+    channel.writeOutbound(new ExtendedQueryPgCommandMessage<>(cmd, select));
+    Codecs.consumeOutbound(channel, blackhole);
+    channel.writeInbound(extendedQueryResponse.retainedDuplicate());
+    Codecs.consumeInbound(channel, blackhole);
+  }
+
+  @Benchmark
+  public void encodeBind(Blackhole blackhole) {
+    ExtendedQueryCommand<Long> cmd = ExtendedQueryCommand.createQuery(INSERT, null, insert, Tuple.of(rows, "fortune: No such file or directory", 3), true, Codecs.ROW_COLLECTOR, Codecs.resultHandler(blackhole));
+    channel.writeOutbound(new ExtendedQueryPgCommandMessage<>(cmd, insert));
+    Codecs.consumeOutbound(channel, blackhole);
+    channel.writeInbound(insertResponse.retainedDuplicate());
+    Codecs.consumeInbound(channel, blackhole);
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.pgclient.impl.codec.DataType;
+import io.vertx.pgclient.impl.codec.DataTypeCodec;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binary encoding and decoding of PostgreSQL values.
+ */
+@Threads(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class PgDataTypeCodecBenchmarks {
+
+  @Param({"INT4", "INT8", "FLOAT8", "VARCHAR", "TIMESTAMPTZ", "UUID", "BYTEA"})
+  String type;
+
+  private DataType dataType;
+  private Object value;
+  private ByteBuf encoded;
+  private ByteBuf out;
+
+  @Setup
+  public void setup() {
+    dataType = DataType.valueOf(type);
+    switch (dataType) {
+      case INT4:
+        value = 1_234_567;
+        break;
+      case INT8:
+        value = 1_234_567_890_123L;
+        break;
+      case FLOAT8:
+        value = 1234.5678D;
+        break;
+      case VARCHAR:
+        value = "fortune: No such file or directory";
+        break;
+      case TIMESTAMPTZ:
+        value = OffsetDateTime.of(2017, 5, 14, 19, 35, 58, 237666000, ZoneOffset.UTC);
+        break;
+      case UUID:
+        value = UUID.fromString("6f790482-b5bd-438b-a8b7-4a0bed747011");
+        break;
+      case BYTEA:
+        value = Buffer.buffer(new byte[256]);
+        break;
+      default:
+        throw new IllegalArgumentException();
+    }
+    encoded = Unpooled.buffer();
+    DataTypeCodec.encodeBinary(dataType, value, encoded);
+    out = Unpooled.buffer(encoded.readableBytes());
+  }
+
+  @TearDown
+  public void tearDown() {
+    encoded.release();
+    out.release();
+  }
+
+  @Benchmark
+  public void decodeBinary(Blackhole blackhole) {
+    blackhole.consume(DataTypeCodec.decodeBinary(dataType, encoded.readerIndex(), encoded.readableBytes(), encoded));
+  }
+
+  @Benchmark
+  public void encodeBinary(Blackhole blackhole) {
+    out.clear();
+    DataTypeCodec.encodeBinary(dataType, value, out);
+    blackhole.consume(out.writerIndex());
+  }
+}
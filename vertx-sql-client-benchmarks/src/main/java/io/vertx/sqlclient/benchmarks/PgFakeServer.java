@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.core.net.NetServer;
+import io.vertx.core.net.NetSocket;
+
+import static io.vertx.sqlclient.benchmarks.PgMessages.*;
+
+/**
+ * A PostgreSQL server answering every statement with the same result set, the statement
+ * must declare a single {@code int4} parameter and return {@code (id int4, message varchar)} rows.
+ */
+class PgFakeServer {
+
+  private final Vertx vertx;
+  private final ByteBuf startupResponse;
+  private final ByteBuf simpleQueryResponse;
+  private final ByteBuf describeResponse;
+  private final ByteBuf executeResponse;
+  private NetServer server;
+
+  PgFakeServer(Vertx vertx, int rows) {
+    this.vertx = vertx;
+
+    startupResponse = Unpooled.buffer();
+    authenticationOk(startupResponse);
+    parameterStatus(startupResponse, "client_encoding", "UTF8");
+    parameterStatus(startupResponse, "server_version", "16.0");
+    backendKeyData(startupResponse, 1, 1);
+    readyForQuery(startupResponse);
+
+    String[] names = {"id", "message"};
+    int[] oids = {INT4_OID, VARCHAR_OID};
+
+    simpleQueryResponse = Unpooled.buffer();
+    rowDescription(simpleQueryResponse, names, oids);
+    for (int i = 0;i < rows;i++) {
+      textDataRow(simpleQueryResponse, i, "fortune: No such file or directory " + i);
+    }
+    commandComplete(simpleQueryResponse, "SELECT " + rows);
+    readyForQuery(simpleQueryResponse);
+
+    describeResponse = Unpooled.buffer();
+    parameterDescription(describeResponse, INT4_OID);
+    rowDescription(describeResponse, names, oids);
+
+    executeResponse = Unpooled.buffer();
+    for (int i = 0;i < rows;i++) {
+      binaryDataRow(executeResponse, i, "fortune: No such file or directory " + i);
+    }
+    commandComplete(executeResponse, "SELECT " + rows);
+  }
+
+  Future<Integer> listen() {
+    server = vertx.createNetServer().connectHandler(so -> so.handler(new Connection(so)));
+    return server.listen(0, "localhost").map(NetServer::actualPort);
+  }
+
+  Future<Void> close() {
+    return server.close().andThen(ar -> {
+      startupResponse.release();
+      simpleQueryResponse.release();
+      describeResponse.release();
+      executeResponse.release();
+    });
+  }
+
+  private class Connection implements Handler<Buffer> {
+
+    private final NetSocket so;
+    private boolean started;
+    private ByteBuf in = Unpooled.buffer();
+
+    Connection(NetSocket so) {
+      this.so = so;
+    }
+
+    @Override
+    public void handle(Buffer data) {
+      in.writeBytes(((BufferInternal) data).getByteBuf());
+      ByteBuf out = Unpooled.buffer();
+      while (true) {
+        if (!started) {
+          // Startup message without type
+          if (in.readableBytes() < 4 || in.readableBytes() < in.getInt(in.readerIndex())) {
+            break;
+          }
+          in.skipBytes(in.getInt(in.readerIndex()));
+          out.writeBytes(startupResponse, startupResponse.readerIndex(), startupResponse.readableBytes());
+          started = true;
+        } else {
+          if (in.readableBytes() < 5 || in.readableBytes() < 1 + in.getInt(in.readerIndex() + 1)) {
+            break;
+          }
+          byte type = in.readByte();
+          in.skipBytes(in.readInt() - 4);
+          switch (type) {
+            case 'Q':
+              out.writeBytes(simpleQueryResponse, simpleQueryResponse.readerIndex(), simpleQueryResponse.readableBytes());
+              break;
+            case 'P':
+              parseComplete(out);
+              break;
+            case 'D':
+              out.writeBytes(describeResponse, describeResponse.readerIndex(), describeResponse.readableBytes());
+              break;
+            case 'B':
+              bindComplete(out);
+              break;
+            case 'E':
+              out.writeBytes(executeResponse, executeResponse.readerIndex(), executeResponse.readableBytes());
+              break;
+            case 'C':
+              closeComplete(out);
+              break;
+            case 'S':
+              readyForQuery(out);
+              break;
+            case 'X':
+              so.close();
+              return;
+          }
+        }
+      }
+      in.discardReadBytes();
+      if (out.isReadable()) {
+        so.write(BufferInternal.buffer(out));
+      } else {
+        out.release();
+      }
+    }
+  }
+}
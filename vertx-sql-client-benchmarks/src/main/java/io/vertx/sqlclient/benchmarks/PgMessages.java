@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes PostgreSQL backend messages, as they are sent by the server.
+ */
+final class PgMessages {
+
+  static final int INT4_OID = 23;
+  static final int VARCHAR_OID = 1043;
+
+  private PgMessages() {
+  }
+
+  private static int begin(ByteBuf out, char type) {
+    out.writeByte(type);
+    int idx = out.writerIndex();
+    out.writeInt(0);
+    return idx;
+  }
+
+  private static void end(ByteBuf out, int idx) {
+    out.setInt(idx, out.writerIndex() - idx);
+  }
+
+  private static void writeCString(ByteBuf out, String s) {
+    out.writeCharSequence(s, StandardCharsets.UTF_8);
+    out.writeByte(0);
+  }
+
+  static void authenticationOk(ByteBuf out) {
+    int idx = begin(out, 'R');
+    out.writeInt(0);
+    end(out, idx);
+  }
+
+  static void parameterStatus(ByteBuf out, String key, String value) {
+    int idx = begin(out, 'S');
+    writeCString(out, key);
+    writeCString(out, value);
+    end(out, idx);
+  }
+
+  static void backendKeyData(ByteBuf out, int processId, int secretKey) {
+    int idx = begin(out, 'K');
+    out.writeInt(processId);
+    out.writeInt(secretKey);
+    end(out, idx);
+  }
+
+  static void readyForQuery(ByteBuf out) {
+    int idx = begin(out, 'Z');
+    out.writeByte('I');
+    end(out, idx);
+  }
+
+  static void parseComplete(ByteBuf out) {
+    end(out, begin(out, '1'));
+  }
+
+  static void bindComplete(ByteBuf out) {
+    end(out, begin(out, '2'));
+  }
+
+  static void closeComplete(ByteBuf out) {
+    end(out, begin(out, '3'));
+  }
+
+  static void noData(ByteBuf out) {
+    end(out, begin(out, 'n'));
+  }
+
+  static void parameterDescription(ByteBuf out, int... oids) {
+    int idx = begin(out, 't');
+    out.writeShort(oids.length);
+    for (int oid : oids) {
+      out.writeInt(oid);
+    }
+    end(out, idx);
+  }
+
+  static void rowDescription(ByteBuf out, String[] names, int[] oids) {
+    int idx = begin(out, 'T');
+    out.writeShort(names.length);
+    for (int i = 0;i < names.length;i++) {
+      writeCString(out, names[i]);
+      out.writeInt(0); // table OID
+      out.writeShort(0); // column attribute number
+      out.writeInt(oids[i]);
+      out.writeShort(-1); // type size
+      out.writeInt(-1); // type modifier
+      out.writeShort(0); // text format, as described for a statement
+    }
+    end(out, idx);
+  }
+
+  static void textDataRow(ByteBuf out, Object... values) {
+    int idx = begin(out, 'D');
+    out.writeShort(values.length);
+    for (Object value : values) {
+      if (value == null) {
+        out.writeInt(-1);
+      } else {
+        byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.writeBytes(bytes);
+      }
+    }
+    end(out, idx);
+  }
+
+  /**
+   * Write a data row in binary format, integers are {@code int4} values and strings {@code varchar} values.
+   */
+  static void binaryDataRow(ByteBuf out, Object... values) {
+    int idx = begin(out, 'D');
+    out.writeShort(values.length);
+    for (Object value : values) {
+      if (value == null) {
+        out.writeInt(-1);
+      } else if (value instanceof Integer) {
+        out.writeInt(4);
+        out.writeInt((Integer) value);
+      } else {
+        byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.writeBytes(bytes);
+      }
+    }
+    end(out, idx);
+  }
+
+  static void commandComplete(ByteBuf out, String tag) {
+    int idx = begin(out, 'C');
+    writeCString(out, tag);
+    end(out, idx);
+  }
+}
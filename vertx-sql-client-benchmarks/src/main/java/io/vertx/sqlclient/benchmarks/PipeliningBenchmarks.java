@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient.benchmarks;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.pgclient.PgConnectOptions;
+import io.vertx.pgclient.PgConnection;
+import io.vertx.sqlclient.PreparedQuery;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round-trips of pipelined queries on a single connection to a local fake server.
+ */
+@Threads(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class PipeliningBenchmarks {
+
+  @Param({"1", "16", "128"})
+  int inflight;
+
+  private Vertx vertx;
+  private PgFakeServer server;
+  private PgConnection connection;
+  private Context context;
+  private PreparedQuery<RowSet<Row>> query;
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    server = new PgFakeServer(vertx, 1);
+    int port = Codecs.await(server.listen());
+    PgConnectOptions options = new PgConnectOptions()
+      .setPort(port)
+      .setHost("localhost")
+      .setDatabase("postgres")
+      .setUser("postgres")
+      .setCachePreparedStatements(true);
+    context = vertx.getOrCreateContext();
+    connection = Codecs.await(PgConnection.connect(vertx, options));
+    query = connection.preparedQuery("SELECT id, message FROM Fortune WHERE id = $1");
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    Codecs.await(connection.close());
+    Codecs.await(server.close());
+    Codecs.await(vertx.close());
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(128)
+  public void preparedQueries() throws Exception {
+    int batches = 128 / inflight;
+    for (int i = 0;i < batches;i++) {
+      CountDownLatch latch = new CountDownLatch(inflight);
+      context.runOnContext(v -> {
+        for (int j = 0;j < inflight;j++) {
+          query.execute(Tuple.of(j)).onComplete(ar -> {
+            if (ar.failed()) {
+              ar.cause().printStackTrace();
+            }
+            latch.countDown();
+          });
+        }
+      });
+      latch.await();
+    }
+  }
+}
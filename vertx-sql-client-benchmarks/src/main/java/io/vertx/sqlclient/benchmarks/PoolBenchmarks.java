@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient.benchmarks;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.pgclient.PgBuilder;
+import io.vertx.pgclient.PgConnectOptions;
+import io.vertx.sqlclient.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool acquire/release and pooled queries against a local fake server.
+ */
+@Threads(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class PoolBenchmarks {
+
+  private static final String SQL = "SELECT id, message FROM Fortune WHERE id = $1";
+  private static final int BURST = 64;
+
+  @Param({"FIRST_AVAILABLE", "LEAST_LOADED", "EVENT_LOOP_AFFINE"})
+  String selection;
+
+  private Vertx vertx;
+  private Context context;
+  private PgFakeServer server;
+  private Pool pool;
+  private SqlClient client;
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    context = vertx.getOrCreateContext();
+    server = new PgFakeServer(vertx, 1);
+    int port = Codecs.await(server.listen());
+    PgConnectOptions connectOptions = new PgConnectOptions()
+      .setPort(port)
+      .setHost("localhost")
+      .setDatabase("postgres")
+      .setUser("postgres")
+      .setCachePreparedStatements(true);
+    PoolOptions poolOptions = new PoolOptions()
+      .setMaxSize(4)
+      .setConnectionSelectionStrategy(ConnectionSelectionStrategy.valueOf(selection));
+    pool = PgBuilder.pool().connectingTo(connectOptions).with(poolOptions).using(vertx).build();
+    client = PgBuilder.client().connectingTo(connectOptions).with(poolOptions).using(vertx).build();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    Codecs.await(pool.close());
+    Codecs.await(client.close());
+    Codecs.await(server.close());
+    Codecs.await(vertx.close());
+  }
+
+  @Benchmark
+  public void acquireRelease() throws Exception {
+    Codecs.await(pool.getConnection().compose(SqlConnection::close));
+  }
+
+  @Benchmark
+  public RowSet<Row> poolQuery() throws Exception {
+    return Codecs.await(pool.preparedQuery(SQL).execute(Tuple.of(1)));
+  }
+
+  /**
+   * One-shot pool queries issued from an event-loop, each query is sent after the previous one completed so the pool
+   * always holds an idle connection on the event-loop.
+   */
+  @Benchmark
+  @OperationsPerInvocation(BURST)
+  public void poolQueryOnEventLoop() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    context.runOnContext(v -> poolQueryOnEventLoop(BURST, latch));
+    latch.await();
+  }
+
+  private void poolQueryOnEventLoop(int remaining, CountDownLatch latch) {
+    if (remaining == 0) {
+      latch.countDown();
+    } else {
+      pool.preparedQuery(SQL).execute(Tuple.of(remaining)).onComplete(ar -> poolQueryOnEventLoop(remaining - 1, latch));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BURST)
+  public void pooledClientBurst() throws Exception {
+    CountDownLatch latch = new CountDownLatch(BURST);
+    for (int i = 0;i < BURST;i++) {
+      client.preparedQuery(SQL).execute(Tuple.of(i)).onComplete(ar -> latch.countDown());
+    }
+    latch.await();
+  }
+}
@@ -32,6 +32,8 @@ import io.vertx.core.net.SocketAddress;
 import io.vertx.core.spi.metrics.ClientMetrics;
 import io.vertx.core.tracing.TracingPolicy;
 import io.vertx.sqlclient.ClosedConnectionException;
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
+import io.vertx.sqlclient.PreparedStatementCacheStats;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.SqlConnectOptions;
 import io.vertx.sqlclient.codec.impl.PreparedStatementCache;
@@ -39,6 +41,7 @@ import io.vertx.sqlclient.internal.PreparedStatement;
 import io.vertx.sqlclient.spi.DatabaseMetadata;
 import io.vertx.sqlclient.spi.connection.Connection;
 import io.vertx.sqlclient.spi.connection.ConnectionContext;
+import io.vertx.sqlclient.spi.metrics.SqlClientMetrics;
 import io.vertx.sqlclient.spi.protocol.*;
 
 import java.util.ArrayDeque;
@@ -66,6 +69,7 @@ public abstract class SocketConnectionBase implements Connection {
   private static final String PENDING_CMD_CONNECTION_CORRUPT_MSG = "Pending requests failed to be sent due to connection has been closed.";
 
   private final ClientMetrics metrics;
+  private final SqlClientMetrics sqlMetrics;
   protected final PreparedStatementCache psCache;
   protected final ContextInternal context;
   private final Predicate<String> preparedStatementCacheSqlFilter;
@@ -93,12 +97,24 @@ public abstract class SocketConnectionBase implements Connection {
                               Predicate<String> preparedStatementCacheSqlFilter,
                               int pipeliningLimit,
                               ContextInternal context) {
+    this(socket, metrics, cachePreparedStatements, preparedStatementCacheSize, PreparedStatementCachePolicy.LRU, preparedStatementCacheSqlFilter, pipeliningLimit, context);
+  }
+
+  public SocketConnectionBase(NetSocketInternal socket,
+                              ClientMetrics metrics,
+                              boolean cachePreparedStatements,
+                              int preparedStatementCacheSize,
+                              PreparedStatementCachePolicy preparedStatementCachePolicy,
+                              Predicate<String> preparedStatementCacheSqlFilter,
+                              int pipeliningLimit,
+                              ContextInternal context) {
     this.socket = socket;
     this.context = context;
     this.pipeliningLimit = pipeliningLimit;
     this.metrics = metrics;
+    this.sqlMetrics = metrics instanceof SqlClientMetrics ? (SqlClientMetrics) metrics : null;
     this.paused = false;
-    this.psCache = cachePreparedStatements ? new PreparedStatementCache(preparedStatementCacheSize) : null;
+    this.psCache = cachePreparedStatements ? new PreparedStatementCache(preparedStatementCacheSize, preparedStatementCachePolicy) : null;
     this.preparedStatementCacheSqlFilter = preparedStatementCacheSqlFilter;
   }
 
@@ -109,6 +125,11 @@ public abstract class SocketConnectionBase implements Connection {
     return metrics;
   }
 
+  @Override
+  public PreparedStatementCacheStats preparedStatementCacheStats() {
+    return psCache != null ? psCache.stats() : null;
+  }
+
   @Override
   public int pipeliningLimit() {
     return pipeliningLimit;
@@ -222,6 +243,9 @@ public abstract class SocketConnectionBase implements Connection {
         pending.add(cmd);
         handlers.add(handler);
       }
+      if (sqlMetrics != null) {
+        sqlMetrics.pipelineDepth(pending.size() + inflight);
+      }
       checkPending();
     } else {
       handler.fail(VertxException.noStackTrace("Connection is not active now, current status: " + status));
@@ -240,6 +264,9 @@ public abstract class SocketConnectionBase implements Connection {
       while (!paused && inflight < pipeliningLimit && (cmd = pending.poll()) != null) {
         inflight++;
         Completable<?> handler = handlers.poll();
+        if (sqlMetrics != null && cmd instanceof QueryCommandBase) {
+          ((QueryCommandBase<?>) cmd).dispatchTime(System.nanoTime());
+        }
         CommandMessage<?, ?> toSend;
         if (cmd instanceof ExtendedQueryCommand) {
           ExtendedQueryCommand queryCmd = (ExtendedQueryCommand) cmd;
@@ -247,11 +274,14 @@ public abstract class SocketConnectionBase implements Connection {
           if (ps == null) {
             if (psCache != null) {
               ps = psCache.get(queryCmd.sql());
+              if (sqlMetrics != null) {
+                sqlMetrics.preparedStatementCacheLookup(ps != null);
+              }
             }
           }
           if (ps == null) {
             // Execute prepare
-            boolean cache = psCache != null && preparedStatementCacheSqlFilter.test(queryCmd.sql());
+            boolean cache = psCache != null && preparedStatementCacheSqlFilter.test(queryCmd.sql()) && psCache.admit(queryCmd.sql());
             if (cache) {
               CommandMessage<?, ?> closeCmd = evictStatementIfNecessary();
               if (closeCmd != null) {
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.codec.impl;
+
+/**
+ * A count-min sketch estimating the access frequency of keys with 4-bit counters, as used by the TinyLFU admission
+ * policy.
+ *
+ * <p>Counters are halved once the number of recorded accesses reaches ten times the table size, so the estimates
+ * favor recent history.
+ */
+public class FrequencySketch {
+
+  private static final long[] SEEDS = {
+    0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+  };
+  private static final long RESET_MASK = 0x7777777777777777L;
+
+  private final long[] table;
+  private final int tableMask;
+  private final int sampleSize;
+  private int samples;
+
+  public FrequencySketch(int capacity) {
+    int size = Integer.highestOneBit(Math.max(16, capacity) - 1) << 1;
+    this.table = new long[size];
+    this.tableMask = size - 1;
+    this.sampleSize = 10 * size;
+  }
+
+  /**
+   * @return the estimated number of occurrences of {@code key}, up to {@literal 15}
+   */
+  public int frequency(Object key) {
+    int hash = spread(key.hashCode());
+    int start = (hash & 3) << 2;
+    int frequency = 15;
+    for (int i = 0;i < 4;i++) {
+      int index = indexOf(hash, i);
+      int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xFL);
+      frequency = Math.min(frequency, count);
+    }
+    return frequency;
+  }
+
+  /**
+   * Record an occurrence of {@code key}.
+   */
+  public void increment(Object key) {
+    int hash = spread(key.hashCode());
+    int start = (hash & 3) << 2;
+    boolean added = false;
+    for (int i = 0;i < 4;i++) {
+      added |= incrementAt(indexOf(hash, i), start + i);
+    }
+    if (added && ++samples == sampleSize) {
+      reset();
+    }
+  }
+
+  private boolean incrementAt(int index, int counter) {
+    int offset = counter << 2;
+    long mask = 0xFL << offset;
+    if ((table[index] & mask) != mask) {
+      table[index] += 1L << offset;
+      return true;
+    }
+    return false;
+  }
+
+  private void reset() {
+    for (int i = 0;i < table.length;i++) {
+      table[i] = (table[i] >>> 1) & RESET_MASK;
+    }
+    samples >>>= 1;
+  }
+
+  private int indexOf(int hash, int i) {
+    long h = (hash + SEEDS[i]) * SEEDS[i];
+    h += h >>> 32;
+    return ((int) h) & tableMask;
+  }
+
+  private static int spread(int h) {
+    h = ((h >>> 16) ^ h) * 0x45d9f3b;
+    h = ((h >>> 16) ^ h) * 0x45d9f3b;
+    return (h >>> 16) ^ h;
+  }
+}
@@ -11,8 +11,11 @@
 
 package io.vertx.sqlclient.codec.impl;
 
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
+import io.vertx.sqlclient.PreparedStatementCacheStats;
 import io.vertx.sqlclient.internal.PreparedStatement;
 
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -22,14 +25,57 @@ public class PreparedStatementCache {
 
   private final int capacity;
   private final LruCache<String, PreparedStatement> cache;
+  private final FrequencySketch sketch;
+  private long hits;
+  private long misses;
+  private long evictions;
+  private long rejections;
 
   public PreparedStatementCache(int cacheCapacity) {
+    this(cacheCapacity, PreparedStatementCachePolicy.LRU);
+  }
+
+  public PreparedStatementCache(int cacheCapacity, PreparedStatementCachePolicy policy) {
     this.capacity = cacheCapacity;
     this.cache = new LruCache<>(cacheCapacity);
+    this.sketch = policy == PreparedStatementCachePolicy.TINY_LFU ? new FrequencySketch(cacheCapacity) : null;
   }
 
   public PreparedStatement get(String sql) {
-    return cache.get(sql);
+    if (sketch != null) {
+      sketch.increment(sql);
+    }
+    PreparedStatement ps = cache.get(sql);
+    if (ps != null) {
+      hits++;
+    } else {
+      misses++;
+    }
+    return ps;
+  }
+
+  /**
+   * Decide whether a statement missing from the cache should be cached. When the cache is full and uses the
+   * {@link PreparedStatementCachePolicy#TINY_LFU} policy, the statement is admitted only if it is used more frequently
+   * than the statement that would be evicted.
+   *
+   * @param sql the statement sql
+   * @return whether to cache the statement
+   */
+  public boolean admit(String sql) {
+    if (sketch == null || !isFull()) {
+      return true;
+    }
+    Iterator<String> it = cache.keySet().iterator();
+    if (!it.hasNext()) {
+      return true;
+    }
+    String victim = it.next();
+    if (sketch.frequency(sql) > sketch.frequency(victim)) {
+      return true;
+    }
+    rejections++;
+    return false;
   }
 
   /**
@@ -52,7 +98,11 @@ public class PreparedStatementCache {
   }
 
   public PreparedStatement evict() {
-    return cache.evict();
+    PreparedStatement evicted = cache.evict();
+    if (evicted != null) {
+      evictions++;
+    }
+    return evicted;
   }
 
   public boolean isFull() {
@@ -66,6 +116,18 @@ public class PreparedStatementCache {
     return cache.size();
   }
 
+  /**
+   * @return a snapshot of the cache counters
+   */
+  public PreparedStatementCacheStats stats() {
+    return new PreparedStatementCacheStats()
+      .setHits(hits)
+      .setMisses(misses)
+      .setEvictions(evictions)
+      .setRejections(rejections)
+      .setSize(cache.size());
+  }
+
   /**
    * Clears the cache.
    * <p>
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.tests.sqlclient.codec;
+
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
+import io.vertx.sqlclient.PreparedStatementCacheStats;
+import io.vertx.sqlclient.codec.impl.PreparedStatementCache;
+import io.vertx.sqlclient.desc.RowDescriptor;
+import io.vertx.sqlclient.internal.PreparedStatement;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class PreparedStatementCacheTest {
+
+  private static PreparedStatement statement(String sql) {
+    return new PreparedStatement() {
+      @Override
+      public RowDescriptor rowDesc() {
+        return null;
+      }
+      @Override
+      public String sql() {
+        return sql;
+      }
+    };
+  }
+
+  private static void use(PreparedStatementCache cache, String sql) {
+    if (cache.get(sql) == null && cache.admit(sql)) {
+      if (cache.isFull()) {
+        cache.evict();
+      }
+      cache.put(statement(sql));
+    }
+  }
+
+  @Test
+  public void testLruAdmitsEverything() {
+    PreparedStatementCache cache = new PreparedStatementCache(4);
+    for (int i = 0;i < 4;i++) {
+      use(cache, "hot-" + i);
+      use(cache, "hot-" + i);
+    }
+    for (int i = 0;i < 100;i++) {
+      use(cache, "scan-" + i);
+    }
+    for (int i = 0;i < 4;i++) {
+      assertNull(cache.get("hot-" + i));
+    }
+    PreparedStatementCacheStats stats = cache.stats();
+    assertEquals(0, stats.getRejections());
+    assertEquals(100, stats.getEvictions());
+    assertEquals(4, stats.getSize());
+  }
+
+  @Test
+  public void testTinyLfuResistsScan() {
+    PreparedStatementCache cache = new PreparedStatementCache(4, PreparedStatementCachePolicy.TINY_LFU);
+    for (int i = 0;i < 4;i++) {
+      use(cache, "hot-" + i);
+      use(cache, "hot-" + i);
+    }
+    for (int i = 0;i < 100;i++) {
+      use(cache, "scan-" + i);
+    }
+    for (int i = 0;i < 4;i++) {
+      assertNotNull(cache.get("hot-" + i));
+    }
+    PreparedStatementCacheStats stats = cache.stats();
+    assertEquals(100, stats.getRejections());
+    assertEquals(0, stats.getEvictions());
+    assertEquals(4, stats.getSize());
+  }
+
+  @Test
+  public void testTinyLfuAdmitsFrequentStatement() {
+    PreparedStatementCache cache = new PreparedStatementCache(2, PreparedStatementCachePolicy.TINY_LFU);
+    use(cache, "a");
+    use(cache, "b");
+    use(cache, "c");
+    assertNull(cache.get("c"));
+    // c becomes more frequent than the least recently used statement
+    use(cache, "c");
+    use(cache, "c");
+    assertNotNull(cache.get("c"));
+    assertEquals(1, cache.stats().getEvictions());
+  }
+
+  @Test
+  public void testStats() {
+    PreparedStatementCache cache = new PreparedStatementCache(2);
+    use(cache, "a");
+    use(cache, "a");
+    use(cache, "b");
+    PreparedStatementCacheStats stats = cache.stats();
+    assertEquals(1, stats.getHits());
+    assertEquals(2, stats.getMisses());
+    assertEquals(2, stats.getSize());
+  }
+}
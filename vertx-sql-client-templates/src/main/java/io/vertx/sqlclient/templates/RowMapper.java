@@ -10,6 +10,7 @@
  */
 package io.vertx.sqlclient.templates;
 
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.sqlclient.Row;
 
@@ -28,4 +29,20 @@ public interface RowMapper<T> {
    */
   T map(Row row);
 
+  /**
+   * Bind this mapper to the columns of a result, the returned mapper maps the rows that have the same columns
+   * than {@code first}.
+   *
+   * <p>A template binds its mapper with the first row of each result, so a mapper can resolve the column indices
+   * of its properties once with {@link Row#getColumnIndex(String)} instead of looking them up for each row.
+   *
+   * @param first the first row of the result
+   * @return the mapper for the rows of the result
+   * @implNote returns this mapper
+   */
+  @GenIgnore
+  default RowMapper<T> bind(Row first) {
+    return this;
+  }
+
 }
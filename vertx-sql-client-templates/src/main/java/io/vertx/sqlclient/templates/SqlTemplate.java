@@ -14,15 +14,14 @@ package io.vertx.sqlclient.templates;
 import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
-import io.vertx.core.json.JsonObject;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
 import io.vertx.sqlclient.SqlClient;
 import io.vertx.sqlclient.SqlResult;
 import io.vertx.sqlclient.impl.SqlClientInternal;
+import io.vertx.sqlclient.templates.impl.ClassTupleMapper;
 import io.vertx.sqlclient.templates.impl.SqlTemplateImpl;
 
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -92,21 +91,16 @@ public interface SqlTemplate<I, R> {
    * <p> At query execution, the parameters object is is mapped to a {@code Map<String, Object>} that
    * configures the prepared query.
    *
-   * <p> This feature relies on {@link io.vertx.core.json.JsonObject#mapFrom} feature. This likely requires
-   * to use Jackson databind in the project.
+   * <p> The values of public classes with {@code String}, {@code boolean}, {@code int}, {@code long} or
+   * {@code double} properties and no Jackson annotations are read with their getters, public fields or record
+   * accessors. Otherwise this feature relies on {@link io.vertx.core.json.JsonObject#mapFrom} feature. This likely
+   * requires to use Jackson databind in the project.
    *
    * @param type the mapping type
    * @return a new template
    */
   default <T> SqlTemplate<T, R> mapFrom(Class<T> type) {
-    return mapFrom(TupleMapper.mapper(params -> {
-      JsonObject jsonObject = JsonObject.mapFrom(params);
-      Map<String, Object> map = new LinkedHashMap<>(jsonObject.size());
-      for (String fieldName : jsonObject.fieldNames()) {
-        map.put(fieldName, jsonObject.getValue(fieldName));
-      }
-      return map;
-    }));
+    return mapFrom(new ClassTupleMapper<>());
   }
 
   /**
@@ -125,8 +119,10 @@ public interface SqlTemplate<I, R> {
    *
    * <p> When the query execution completes, resulting rows are mapped to {@code type} instances.
    *
-   * <p> This feature relies on {@link io.vertx.core.json.JsonObject#mapFrom} feature. This likely requires
-   * to use Jackson databind in the project.
+   * <p> Public classes with public setters or fields and no Jackson annotations, as well as records, are
+   * populated directly from the row values when the values have the property type. Otherwise this feature relies
+   * on {@link io.vertx.core.json.JsonObject#mapTo} feature. This likely requires to use Jackson databind in the
+   * project.
    *
    * @param type the mapping type
    * @return a new template
@@ -10,6 +10,7 @@
  */
 package io.vertx.sqlclient.templates;
 
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.json.JsonObject;
 import io.vertx.sqlclient.Tuple;
@@ -61,4 +62,21 @@ public interface TupleMapper<T> {
    */
   Tuple map(Function<Integer, String> mapping, int size, T params);
 
+  /**
+   * Bind this mapper to the parameters of a template, the returned mapper maps the parameters for this
+   * {@code mapping} only.
+   *
+   * <p>A template binds its mapper once, so a mapper can resolve the source of each template parameter
+   * once instead of looking it up by name for each execution.
+   *
+   * @param mapping associates an index to template parameter name
+   * @param size the tuple size
+   * @return the mapper for the template parameters
+   * @implNote returns this mapper
+   */
+  @GenIgnore
+  default TupleMapper<T> bind(Function<Integer, String> mapping, int size) {
+    return this;
+  }
+
 }
@@ -11,6 +11,8 @@ import java.io.PrintWriter;
 import java.lang.annotation.Annotation;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -86,5 +88,58 @@ public class ParametersMapperGen extends MapperGenBase {
       });
     writer.print("    return params;\n");
     writer.print("  }\n");
+    genBind(model, writer);
+  }
+
+  /**
+   * Generate a {@code bind} method that resolves the property slot of each template parameter once and returns
+   * a mapper reading the properties by slot.
+   */
+  private void genBind(DataObjectModel model, PrintWriter writer) {
+    String simpleName = model.getType().getSimpleName();
+    Map<String, String> getters = new LinkedHashMap<>();
+    model
+      .getPropertyMap()
+      .values()
+      .stream()
+      .filter(prop -> PK.contains(prop.getKind()))
+      .forEach(pi -> {
+        String templateParamName = getMappingName(pi, TemplateParameter.class.getName());
+        if (templateParamName != null) {
+          getters.put(templateParamName, pi.getGetterMethod());
+        }
+      });
+    writer.print("\n");
+    writer.print("  @io.vertx.codegen.annotations.GenIgnore\n");
+    writer.print("  default " + TupleMapper.class.getName() + "<" + simpleName + "> bind(java.util.function.Function<Integer, String> mapping, int size) {\n");
+    writer.print("    int[] slots = new int[size];\n");
+    writer.print("    for (int i = 0;i < size;i++) {\n");
+    writer.print("      switch (mapping.apply(i)) {\n");
+    int slot = 0;
+    for (String templateParamName : getters.keySet()) {
+      writer.print("        case \"" + templateParamName + "\":\n");
+      writer.print("          slots[i] = " + slot++ + ";\n");
+      writer.print("          break;\n");
+    }
+    writer.print("        default:\n");
+    writer.print("          slots[i] = -1;\n");
+    writer.print("          break;\n");
+    writer.print("      }\n");
+    writer.print("    }\n");
+    writer.print("    return (m, s, obj) -> {\n");
+    writer.print("      Object[] array = new Object[size];\n");
+    writer.print("      for (int i = 0;i < size;i++) {\n");
+    writer.print("        switch (slots[i]) {\n");
+    slot = 0;
+    for (String getter : getters.values()) {
+      writer.print("          case " + slot++ + ":\n");
+      writer.print("            array[i] = obj." + getter + "();\n");
+      writer.print("            break;\n");
+    }
+    writer.print("        }\n");
+    writer.print("      }\n");
+    writer.print("      return io.vertx.sqlclient.Tuple.wrap(array);\n");
+    writer.print("    };\n");
+    writer.print("  }\n");
   }
 }
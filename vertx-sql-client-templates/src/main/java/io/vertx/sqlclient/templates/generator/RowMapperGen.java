@@ -17,9 +17,12 @@ import io.vertx.sqlclient.templates.annotations.Column;
 import io.vertx.sqlclient.templates.annotations.RowMapped;
 
 import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.lang.annotation.Annotation;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -67,23 +70,56 @@ public class RowMapperGen extends MapperGenBase {
   }
 
   private void genFromRow(String visibility, DataObjectModel model, PrintWriter writer) {
+    String simpleName = model.getType().getSimpleName();
     writer.print("\n");
     writer.print("  " + genSimpleName(model) + " INSTANCE = new " + genSimpleName(model) + "() { };\n");
     writer.print("\n");
     writer.print("  @io.vertx.codegen.annotations.GenIgnore\n");
-    writer.print("  java.util.stream.Collector<io.vertx.sqlclient.Row, ?, java.util.List<" + model.getType().getSimpleName() + ">> COLLECTOR = " + "java.util.stream.Collectors.mapping(INSTANCE::map, java.util.stream.Collectors.toList());\n");
+    writer.print("  java.util.stream.Collector<io.vertx.sqlclient.Row, ?, java.util.List<" + simpleName + ">> COLLECTOR = " + "java.util.stream.Collectors.mapping(INSTANCE::map, java.util.stream.Collectors.toList());\n");
     writer.print("\n");
     writer.print("  @io.vertx.codegen.annotations.GenIgnore\n");
-    writer.print("  default " + model.getType().getSimpleName() + " map(io.vertx.sqlclient.Row row) {\n");
-    writer.print("    " + model.getType().getSimpleName() + " obj = new " + model.getType().getSimpleName() + "();\n");
+    writer.print("  default " + simpleName + " map(io.vertx.sqlclient.Row row) {\n");
+    writer.print("    " + simpleName + " obj = new " + simpleName + "();\n");
     writer.print("    Object val;\n");
     writer.print("    int idx;\n");
-    genFromSingleValued(model, writer);
+    genFromSingleValued(model, writer, "    ", column -> "(idx = row.getColumnIndex(\"" + column + "\"))", column -> "idx");
     writer.print("    return obj;\n");
     writer.print("  }\n");
+    genBind(model, writer);
   }
 
-  private void genFromSingleValued(DataObjectModel model, PrintWriter writer) {
+  /**
+   * Generate a {@code bind} method that resolves the column indices once with the first row of a result and returns
+   * a mapper using the positional row getters, the row lookup applies the driver column name rules.
+   */
+  private void genBind(DataObjectModel model, PrintWriter writer) {
+    String simpleName = model.getType().getSimpleName();
+    Map<String, String> indices = new LinkedHashMap<>();
+    Function<String, String> index = column -> indices.computeIfAbsent(column, c -> "idx" + indices.size());
+    StringWriter body = new StringWriter();
+    genFromSingleValued(model, new PrintWriter(body), "      ", index, index);
+    writer.print("\n");
+    writer.print("  @io.vertx.codegen.annotations.GenIgnore\n");
+    writer.print("  default " + RowMapper.class.getName() + "<" + simpleName + "> bind(io.vertx.sqlclient.Row first) {\n");
+    indices.forEach((column, name) -> {
+      writer.print("    int " + name + " = first.getColumnIndex(\"" + column + "\");\n");
+    });
+    writer.print("    return row -> {\n");
+    writer.print("      " + simpleName + " obj = new " + simpleName + "();\n");
+    writer.print("      Object val;\n");
+    writer.print(body);
+    writer.print("      return obj;\n");
+    writer.print("    };\n");
+    writer.print("  }\n");
+  }
+
+  /**
+   * Generate the property assignments.
+   *
+   * @param lookup the expression of the column index compared to {@code -1}
+   * @param index the expression of the column index passed to the row getter after the lookup
+   */
+  private void genFromSingleValued(DataObjectModel model, PrintWriter writer, String indent, Function<String, String> lookup, Function<String, String> index) {
     model
       .getPropertyMap()
       .values()
@@ -96,21 +132,21 @@ public class RowMapperGen extends MapperGenBase {
           case VALUE: {
             Function<String, String> meth = getter_(prop.getType(), false);
             if (meth != null) {
-              bilto4(writer, meth, prop, wrapExpr(prop.getType(), "(" + rowType + ")val"));
+              bilto4(writer, indent, lookup, index, meth, prop, wrapExpr(prop.getType(), "(" + rowType + ")val"));
             }
             break;
           }
           case LIST: {
             Function<String, String> meth = getter_(prop.getType(), true);
             if (meth != null) {
-              bilto4(writer, meth, prop, "java.util.Arrays.stream((" + rowType + "[])val).map(elt -> " + wrapExpr(prop.getType(), "elt") + ").collect(java.util.stream.Collectors.toCollection(java.util.ArrayList::new))");
+              bilto4(writer, indent, lookup, index, meth, prop, "java.util.Arrays.stream((" + rowType + "[])val).map(elt -> " + wrapExpr(prop.getType(), "elt") + ").collect(java.util.stream.Collectors.toCollection(java.util.ArrayList::new))");
             }
             break;
           }
           case SET: {
             Function<String, String> meth = getter_(prop.getType(), true);
             if (meth != null) {
-              bilto4(writer, meth, prop, "java.util.Arrays.stream((" + rowType + "[])val).map(elt -> " + wrapExpr(prop.getType(), "elt") + ").collect(java.util.stream.Collectors.toCollection(java.util.HashSet::new))");
+              bilto4(writer, indent, lookup, index, meth, prop, "java.util.Arrays.stream((" + rowType + "[])val).map(elt -> " + wrapExpr(prop.getType(), "elt") + ").collect(java.util.stream.Collectors.toCollection(java.util.HashSet::new))");
             }
             break;
           }
@@ -128,22 +164,22 @@ public class RowMapperGen extends MapperGenBase {
           String columnName = getMappingName(prop, Column.class.getName());
           if (columnName != null) {
             String rowType = rowType(prop.getType());
-            writer.print("    if ((idx = row.getColumnIndex(\"" + columnName + "\")) != -1 && (val = " + meth.apply("idx") + ") != null) {\n");
-            writer.print("      for (" + rowType + " elt : (" + rowType + "[])val) {\n");
-            writer.print("        obj." + prop.getAdderMethod() + "(" + wrapExpr(prop.getType(), "elt") + ");\n");
-            writer.print("      }\n");
-            writer.print("    }\n");
+            writer.print(indent + "if (" + lookup.apply(columnName) + " != -1 && (val = " + meth.apply(index.apply(columnName)) + ") != null) {\n");
+            writer.print(indent + "  for (" + rowType + " elt : (" + rowType + "[])val) {\n");
+            writer.print(indent + "    obj." + prop.getAdderMethod() + "(" + wrapExpr(prop.getType(), "elt") + ");\n");
+            writer.print(indent + "  }\n");
+            writer.print(indent + "}\n");
           }
         }
       });
   }
 
-  private void bilto4(PrintWriter writer, Function<String, String> getter, PropertyInfo prop, String converter) {
+  private void bilto4(PrintWriter writer, String indent, Function<String, String> lookup, Function<String, String> index, Function<String, String> getter, PropertyInfo prop, String converter) {
     String columnName = getMappingName(prop, Column.class.getName());
     if (columnName != null) {
-      writer.print("    if ((idx = row.getColumnIndex(\"" + columnName + "\")) != -1 && (val = " + getter.apply("idx") + ") != null) {\n");
-      writer.print("      obj." + prop.getSetterMethod() + "(" + converter +  ");\n");
-      writer.print("    }\n");
+      writer.print(indent + "if (" + lookup.apply(columnName) + " != -1 && (val = " + getter.apply(index.apply(columnName)) + ") != null) {\n");
+      writer.print(indent + "  obj." + prop.getSetterMethod() + "(" + converter +  ");\n");
+      writer.print(indent + "}\n");
     }
   }
 
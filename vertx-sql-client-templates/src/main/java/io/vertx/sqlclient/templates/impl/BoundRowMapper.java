@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient.templates.impl;
+
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.desc.RowDescriptor;
+import io.vertx.sqlclient.internal.RowInternal;
+import io.vertx.sqlclient.templates.RowMapper;
+
+import java.util.function.Function;
+
+/**
+ * Maps rows with a {@link RowMapper} bound to the first row of a result, the bound mapper is cached for the
+ * descriptor instance of the last result.
+ */
+class BoundRowMapper<T> implements Function<Row, T> {
+
+  private final RowMapper<T> mapper;
+  private volatile Binding<T> binding;
+
+  BoundRowMapper(RowMapper<T> mapper) {
+    this.mapper = mapper;
+  }
+
+  @Override
+  public T apply(Row row) {
+    RowDescriptor descriptor = row instanceof RowInternal ? ((RowInternal) row).rowDescriptor() : null;
+    if (descriptor == null) {
+      return mapper.map(row);
+    }
+    Binding<T> b = binding;
+    if (b == null || b.descriptor != descriptor) {
+      // Executions can run concurrently on different event-loops, the pair is published at once
+      b = new Binding<>(descriptor, mapper.bind(row));
+      binding = b;
+    }
+    return b.mapper.map(row);
+  }
+
+  private static class Binding<T> {
+    final RowDescriptor descriptor;
+    final RowMapper<T> mapper;
+    Binding(RowDescriptor descriptor, RowMapper<T> mapper) {
+      this.descriptor = descriptor;
+      this.mapper = mapper;
+    }
+  }
+}
@@ -0,0 +1,481 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient.templates.impl;
+
+import io.vertx.sqlclient.Row;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The properties of a class mapped by a template without Jackson databind.
+ *
+ * <p>The model follows the Jackson default conventions (public getters, setters, fields, record components and
+ * the property name mangling). Classes that would need more than these conventions, e.g. Jackson annotations,
+ * non-public members or values converted by Jackson, are not modelled and keep the Jackson databind mapping.
+ */
+final class ClassModel {
+
+  /**
+   * Returned by {@link #map} when a row value cannot be assigned to its property without Jackson.
+   */
+  static final Object UNMAPPED = new Object();
+
+  private static final ClassValue<ClassModel> MODELS = new ClassValue<>() {
+    @Override
+    protected ClassModel computeValue(Class<?> type) {
+      return new ClassModel(type);
+    }
+  };
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+  /**
+   * Values assigned as is, Jackson converts them to an equal value.
+   */
+  private static final Set<Class<?>> VALUE_TYPES = new HashSet<>(List.of(String.class, Boolean.class,
+    Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, BigDecimal.class,
+    UUID.class, LocalDate.class, LocalTime.class, LocalDateTime.class, OffsetTime.class, OffsetDateTime.class));
+
+  /**
+   * Parameter values that Jackson converts to the same value and type.
+   */
+  private static final Set<Class<?>> PARAMETER_TYPES = new HashSet<>(List.of(String.class, Boolean.class,
+    boolean.class, Integer.class, int.class, Long.class, long.class, Double.class, double.class));
+
+  static ClassModel of(Class<?> type) {
+    return MODELS.get(type);
+  }
+
+  static class Property {
+
+    final Class<?> type;
+    final Object defaultValue;
+    final int index;
+    final MethodHandle setter;
+
+    Property(Class<?> type, int index, MethodHandle setter) {
+      this.type = boxed(type);
+      this.defaultValue = type.isPrimitive() ? zero(type) : null;
+      this.index = index;
+      this.setter = setter;
+    }
+
+    /**
+     * Convert a row value to the property type.
+     */
+    Object convert(Object value) {
+      if (value == null) {
+        return defaultValue;
+      }
+      Class<?> valueType = value.getClass();
+      if (valueType == type && VALUE_TYPES.contains(type)) {
+        return value;
+      }
+      if (value instanceof Number) {
+        return convertNumber((Number) value);
+      }
+      return UNMAPPED;
+    }
+
+    private Object convertNumber(Number value) {
+      boolean integral = value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+      boolean floating = value instanceof Double || value instanceof Float;
+      if (type == Double.class && (integral || floating)) {
+        return value.doubleValue();
+      } else if (type == Float.class && (integral || floating)) {
+        return value.floatValue();
+      } else if (integral) {
+        long l = value.longValue();
+        if (type == Long.class) {
+          return l;
+        } else if (type == Integer.class && l >= Integer.MIN_VALUE && l <= Integer.MAX_VALUE) {
+          return (int) l;
+        } else if (type == Short.class && l >= Short.MIN_VALUE && l <= Short.MAX_VALUE) {
+          return (short) l;
+        } else if (type == Byte.class && l >= Byte.MIN_VALUE && l <= Byte.MAX_VALUE) {
+          return (byte) l;
+        }
+      }
+      return UNMAPPED;
+    }
+  }
+
+  /**
+   * The property getters, {@code null} when the class is serialized with Jackson.
+   */
+  final Map<String, MethodHandle> getters;
+
+  /**
+   * The writable properties, {@code null} when the class is deserialized with Jackson.
+   */
+  final Map<String, Property> properties;
+
+  /**
+   * The no-arg constructor of a bean, or the canonical constructor of a record spread over an {@code Object[]}.
+   */
+  private final MethodHandle constructor;
+  private final Object[] defaults;
+
+  private ClassModel(Class<?> type) {
+    Map<String, MethodHandle> getters = null;
+    Map<String, Property> properties = null;
+    MethodHandle constructor = null;
+    Object[] defaults = null;
+    if (isModelled(type)) {
+      try {
+        Object[] components = recordComponents(type);
+        if (components != null) {
+          getters = new HashMap<>();
+          properties = new HashMap<>();
+          // Jackson uses the canonical constructor and the accessors
+          Class<?>[] parameterTypes = new Class<?>[components.length];
+          defaults = new Object[components.length];
+          for (int i = 0;i < components.length;i++) {
+            Method accessor = (Method) RECORD_COMPONENT_ACCESSOR.invoke(components[i]);
+            String name = (String) RECORD_COMPONENT_NAME.invoke(components[i]);
+            parameterTypes[i] = accessor.getReturnType();
+            Property property = new Property(parameterTypes[i], i, null);
+            defaults[i] = property.defaultValue;
+            properties.put(name, property);
+            getters.put(name, PARAMETER_TYPES.contains(parameterTypes[i]) ? getter(accessor) : null);
+          }
+          beanGetters(type).forEach(getters::putIfAbsent);
+          constructor = unreflectConstructor(type.getConstructor(parameterTypes))
+            .asSpreader(Object[].class, components.length)
+            .asType(MethodType.methodType(Object.class, Object[].class));
+        } else {
+          getters = beanGetters(type);
+          properties = beanProperties(type, getters.keySet());
+          Constructor<?> noArg = noArgConstructor(type);
+          if (noArg != null && properties != null) {
+            constructor = unreflectConstructor(noArg).asType(MethodType.methodType(Object.class));
+          } else {
+            properties = null;
+          }
+        }
+      } catch (Throwable e) {
+        // Not accessible, fallback to Jackson
+        getters = null;
+        properties = null;
+        constructor = null;
+      }
+    }
+    this.getters = getters != null && isSerializable(getters) ? getters : null;
+    this.properties = properties;
+    this.constructor = constructor;
+    this.defaults = defaults;
+  }
+
+  /**
+   * Map a row to a new instance.
+   *
+   * @param row the row
+   * @param columns the property of each column of the row
+   * @return the instance or {@link #UNMAPPED} when a value needs a conversion
+   */
+  Object map(Row row, Property[] columns) throws Throwable {
+    if (defaults != null) {
+      Object[] args = defaults.clone();
+      for (int i = 0;i < columns.length;i++) {
+        Property property = columns[i];
+        Object value = property.convert(row.getValue(i));
+        if (value == UNMAPPED) {
+          return UNMAPPED;
+        }
+        args[property.index] = value;
+      }
+      return (Object) constructor.invokeExact(args);
+    } else {
+      Object obj = (Object) constructor.invokeExact();
+      for (int i = 0;i < columns.length;i++) {
+        Property property = columns[i];
+        Object value = property.convert(row.getValue(i));
+        if (value == UNMAPPED) {
+          return UNMAPPED;
+        }
+        property.setter.invokeExact(obj, value);
+      }
+      return obj;
+    }
+  }
+
+  private static boolean isModelled(Class<?> type) {
+    if (!Modifier.isPublic(type.getModifiers()) || Modifier.isAbstract(type.getModifiers()) || type.isArray()
+      || type.isEnum() || Map.class.isAssignableFrom(type) || Iterable.class.isAssignableFrom(type)) {
+      return false;
+    }
+    String name = type.getName();
+    if (name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("io.vertx.core.")) {
+      return false;
+    }
+    for (Class<?> c = type;c != Object.class && c != null;c = c.getSuperclass()) {
+      if (hasJacksonAnnotation(c)) {
+        return false;
+      }
+      for (Method method : c.getDeclaredMethods()) {
+        if (hasJacksonAnnotation(method)) {
+          return false;
+        }
+      }
+      for (Field field : c.getDeclaredFields()) {
+        if (hasJacksonAnnotation(field)) {
+          return false;
+        }
+      }
+      for (Constructor<?> constructor : c.getDeclaredConstructors()) {
+        if (hasJacksonAnnotation(constructor)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private static boolean hasJacksonAnnotation(AnnotatedElement element) {
+    for (Annotation annotation : element.getAnnotations()) {
+      if (annotation.annotationType().getName().startsWith("com.fasterxml.jackson.")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isSerializable(Map<String, MethodHandle> getters) {
+    if (getters.isEmpty()) {
+      return false;
+    }
+    for (MethodHandle getter : getters.values()) {
+      if (getter == null) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static Map<String, MethodHandle> beanGetters(Class<?> type) throws IllegalAccessException {
+    Map<String, MethodHandle> getters = new HashMap<>();
+    for (Method method : type.getMethods()) {
+      if (Modifier.isStatic(method.getModifiers()) || method.isBridge() || method.isSynthetic()
+        || method.getParameterCount() != 0 || method.getDeclaringClass() == Object.class) {
+        continue;
+      }
+      String name = method.getName();
+      Class<?> returnType = method.getReturnType();
+      String property;
+      if (name.startsWith("get") && returnType != void.class) {
+        property = propertyName(name, 3);
+      } else if (name.startsWith("is") && returnType == boolean.class) {
+        property = propertyName(name, 2);
+      } else {
+        continue;
+      }
+      if (property != null) {
+        // A null getter marks a property Jackson serializes differently
+        MethodHandle getter = PARAMETER_TYPES.contains(returnType) && !getters.containsKey(property) ? getter(method) : null;
+        getters.put(property, getter);
+      }
+    }
+    for (Field field : type.getFields()) {
+      int modifiers = field.getModifiers();
+      if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || getters.containsKey(field.getName())) {
+        continue;
+      }
+      MethodHandle getter = PARAMETER_TYPES.contains(field.getType()) ? unreflectGetter(field).asType(GETTER_TYPE) : null;
+      getters.put(field.getName(), getter);
+    }
+    return getters;
+  }
+
+  /**
+   * @return the writable properties or {@code null} when Jackson could set a property the model cannot
+   */
+  private static Map<String, Property> beanProperties(Class<?> type, Set<String> readable) throws IllegalAccessException {
+    Map<String, Property> properties = new HashMap<>();
+    for (Class<?> c = type;c != Object.class && c != null;c = c.getSuperclass()) {
+      for (Method method : c.getDeclaredMethods()) {
+        if (Modifier.isStatic(method.getModifiers()) || method.isBridge() || method.isSynthetic()
+          || method.getParameterCount() != 1 || !method.getName().startsWith("set")) {
+          continue;
+        }
+        String property = propertyName(method.getName(), 3);
+        if (property == null) {
+          continue;
+        }
+        if (!Modifier.isPublic(method.getModifiers())) {
+          // Jackson uses non-public setters
+          return null;
+        }
+        Property previous = properties.get(property);
+        if (previous != null) {
+          if (previous.type != boxed(method.getParameterTypes()[0])) {
+            // Overloaded setter
+            return null;
+          }
+          // Overridden setter
+          continue;
+        }
+        MethodHandle setter = unreflect(method).asType(SETTER_TYPE);
+        properties.put(property, new Property(method.getParameterTypes()[0], -1, setter));
+      }
+    }
+    for (Field field : type.getFields()) {
+      int modifiers = field.getModifiers();
+      if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || properties.containsKey(field.getName())) {
+        continue;
+      }
+      if (Modifier.isFinal(modifiers)) {
+        return null;
+      }
+      MethodHandle setter = unreflectSetter(field).asType(SETTER_TYPE);
+      properties.put(field.getName(), new Property(field.getType(), -1, setter));
+    }
+    for (String property : readable) {
+      if (!properties.containsKey(property)) {
+        // Jackson may set the property with the field behind the getter
+        return null;
+      }
+    }
+    return properties;
+  }
+
+  private static Constructor<?> noArgConstructor(Class<?> type) {
+    try {
+      return type.getConstructor();
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+
+  private static MethodHandle getter(Method method) throws IllegalAccessException {
+    return unreflect(method).asType(GETTER_TYPE);
+  }
+
+  // The public members are made accessible, so the packages opened to Jackson databind can be mapped as well
+
+  private static MethodHandle unreflect(Method method) throws IllegalAccessException {
+    return LOOKUP.unreflect(accessible(method));
+  }
+
+  private static MethodHandle unreflectConstructor(Constructor<?> constructor) throws IllegalAccessException {
+    return LOOKUP.unreflectConstructor(accessible(constructor));
+  }
+
+  private static MethodHandle unreflectGetter(Field field) throws IllegalAccessException {
+    return LOOKUP.unreflectGetter(accessible(field));
+  }
+
+  private static MethodHandle unreflectSetter(Field field) throws IllegalAccessException {
+    return LOOKUP.unreflectSetter(accessible(field));
+  }
+
+  private static <M extends AccessibleObject> M accessible(M member) throws IllegalAccessException {
+    if (!member.trySetAccessible()) {
+      throw new IllegalAccessException();
+    }
+    return member;
+  }
+
+  /**
+   * Jackson default property name mangling: the leading upper case characters are lower cased.
+   */
+  static String propertyName(String name, int offset) {
+    int len = name.length();
+    if (offset >= len) {
+      return null;
+    }
+    char c = name.charAt(offset);
+    char d = Character.toLowerCase(c);
+    if (c == d) {
+      return name.substring(offset);
+    }
+    StringBuilder sb = new StringBuilder(len - offset);
+    sb.append(d);
+    int i = offset + 1;
+    for (;i < len;i++) {
+      c = name.charAt(i);
+      d = Character.toLowerCase(c);
+      if (c == d) {
+        sb.append(name, i, len);
+        break;
+      }
+      sb.append(d);
+    }
+    return sb.toString();
+  }
+
+  private static Class<?> boxed(Class<?> type) {
+    return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+  }
+
+  private static Object zero(Class<?> type) {
+    try {
+      return MethodHandles.zero(type).invoke();
+    } catch (Throwable e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  // Records are not available with Java 11, use reflection
+  private static final Method IS_RECORD;
+  private static final Method GET_RECORD_COMPONENTS;
+  private static final Method RECORD_COMPONENT_NAME;
+  private static final Method RECORD_COMPONENT_ACCESSOR;
+
+  static {
+    Method isRecord = null;
+    Method getRecordComponents = null;
+    Method recordComponentName = null;
+    Method recordComponentAccessor = null;
+    try {
+      isRecord = Class.class.getMethod("isRecord");
+      getRecordComponents = Class.class.getMethod("getRecordComponents");
+      Class<?> recordComponent = getRecordComponents.getReturnType().getComponentType();
+      recordComponentName = recordComponent.getMethod("getName");
+      recordComponentAccessor = recordComponent.getMethod("getAccessor");
+    } catch (NoSuchMethodException ignore) {
+      isRecord = null;
+    }
+    IS_RECORD = isRecord;
+    GET_RECORD_COMPONENTS = getRecordComponents;
+    RECORD_COMPONENT_NAME = recordComponentName;
+    RECORD_COMPONENT_ACCESSOR = recordComponentAccessor;
+  }
+
+  private static Object[] recordComponents(Class<?> type) throws ReflectiveOperationException {
+    if (IS_RECORD != null && (Boolean) IS_RECORD.invoke(type)) {
+      return (Object[]) GET_RECORD_COMPONENTS.invoke(type);
+    }
+    return null;
+  }
+}
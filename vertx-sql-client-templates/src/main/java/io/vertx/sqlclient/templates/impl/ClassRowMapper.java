@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient.templates.impl;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.templates.RowMapper;
+
+/**
+ * Maps rows to a class, the rows are mapped with the class setters, public fields or record constructor when
+ * the class can be mapped without Jackson databind, otherwise the rows are mapped with {@link JsonObject#mapTo}.
+ */
+public class ClassRowMapper<U> implements RowMapper<U> {
+
+  private final Class<U> type;
+
+  public ClassRowMapper(Class<U> type) {
+    this.type = type;
+  }
+
+  @Override
+  public U map(Row row) {
+    JsonObject json = new JsonObject();
+    for (int i = 0;i < row.size();i++) {
+      json.getMap().put(row.getColumnName(i), row.getValue(i));
+    }
+    return json.mapTo(type);
+  }
+
+  @Override
+  public RowMapper<U> bind(Row first) {
+    ClassModel model = ClassModel.of(type);
+    if (model.properties == null) {
+      return this;
+    }
+    ClassModel.Property[] columns = new ClassModel.Property[first.size()];
+    for (int i = 0;i < columns.length;i++) {
+      ClassModel.Property property = model.properties.get(first.getColumnName(i));
+      if (property == null) {
+        // Let Jackson handle the unknown property
+        return this;
+      }
+      columns[i] = property;
+    }
+    return row -> {
+      Object obj;
+      try {
+        obj = model.map(row, columns);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new IllegalArgumentException(e);
+      }
+      return obj != ClassModel.UNMAPPED ? type.cast(obj) : map(row);
+    };
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient.templates.impl;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.templates.TupleMapper;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Maps a parameters object to a tuple, the values are read with the class getters, public fields or record
+ * accessors when the class can be mapped without Jackson databind, otherwise the object is mapped with
+ * {@link JsonObject#mapFrom}.
+ */
+public class ClassTupleMapper<T> implements TupleMapper<T> {
+
+  @Override
+  public Tuple map(Function<Integer, String> mapping, int size, T params) {
+    ClassModel model = params != null ? ClassModel.of(params.getClass()) : null;
+    Map<String, MethodHandle> getters = model != null ? model.getters : null;
+    Object[] array = new Object[size];
+    if (getters != null) {
+      for (int i = 0;i < array.length;i++) {
+        array[i] = get(getters.get(mapping.apply(i)), params);
+      }
+    } else {
+      JsonObject json = JsonObject.mapFrom(params);
+      for (int i = 0;i < array.length;i++) {
+        array[i] = json.getValue(mapping.apply(i));
+      }
+    }
+    return Tuple.wrap(array);
+  }
+
+  @Override
+  public TupleMapper<T> bind(Function<Integer, String> mapping, int size) {
+    String[] names = new String[size];
+    for (int i = 0;i < size;i++) {
+      names[i] = mapping.apply(i);
+    }
+    return new Bound<>(names);
+  }
+
+  private static Object get(MethodHandle getter, Object params) {
+    if (getter == null) {
+      return null;
+    }
+    try {
+      return (Object) getter.invokeExact(params);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalArgumentException(e);
+    }
+  }
+
+  /**
+   * The getter of each template parameter resolved for the last class mapped.
+   */
+  private static class Plan {
+
+    final Class<?> type;
+    final MethodHandle[] getters;
+
+    Plan(Class<?> type, String[] names) {
+      Map<String, MethodHandle> map = ClassModel.of(type).getters;
+      MethodHandle[] getters = null;
+      if (map != null) {
+        getters = new MethodHandle[names.length];
+        for (int i = 0;i < names.length;i++) {
+          getters[i] = map.get(names[i]);
+        }
+      }
+      this.type = type;
+      this.getters = getters;
+    }
+  }
+
+  private static class Bound<T> implements TupleMapper<T> {
+
+    private final String[] names;
+    private volatile Plan plan;
+
+    Bound(String[] names) {
+      this.names = names;
+    }
+
+    @Override
+    public Tuple map(Function<Integer, String> mapping, int size, T params) {
+      Object[] array = new Object[names.length];
+      if (params != null) {
+        Plan p = plan;
+        if (p == null || p.type != params.getClass()) {
+          p = new Plan(params.getClass(), names);
+          plan = p;
+        }
+        MethodHandle[] getters = p.getters;
+        if (getters != null) {
+          for (int i = 0;i < array.length;i++) {
+            array[i] = get(getters[i], params);
+          }
+          return Tuple.wrap(array);
+        }
+      }
+      JsonObject json = JsonObject.mapFrom(params);
+      for (int i = 0;i < array.length;i++) {
+        array[i] = json.getValue(names[i]);
+      }
+      return Tuple.wrap(array);
+    }
+  }
+}
@@ -2,9 +2,11 @@ package io.vertx.sqlclient.templates.impl;
 
 import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.impl.SqlClientInternal;
+import io.vertx.sqlclient.spi.Driver;
 
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -16,6 +18,14 @@ public class SqlTemplate implements Function<Integer, String> {
   private static Pattern PARAM_PATTERN = Pattern.compile("(?<!\\\\)#\\{(\\p{javaUnicodeIdentifierStart}\\p{javaUnicodeIdentifierPart}*)}");
   private static Pattern BACKSLASH_DOLLAR_PATTERN = Pattern.compile("\\\\#");
 
+  private static final int CACHE_MAX_SIZE = 256;
+  private static final Map<CacheKey, SqlTemplate> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<CacheKey, SqlTemplate> eldest) {
+      return size() > CACHE_MAX_SIZE;
+    }
+  };
+
   private final String sql;
   private final String[] mapping;
 
@@ -60,7 +70,29 @@ public class SqlTemplate implements Function<Integer, String> {
     return sb.toString();
   }
 
+  /**
+   * Create a template, the least recently used templates are cached per driver class and template string: a driver
+   * instance is created for each pool while the placeholders only depend on the driver implementation.
+   */
   public static SqlTemplate create(SqlClientInternal client, String template) {
+    CacheKey key = new CacheKey(client.driver().getClass(), template);
+    SqlTemplate sqlTemplate;
+    synchronized (CACHE) {
+      sqlTemplate = CACHE.get(key);
+    }
+    if (sqlTemplate == null) {
+      sqlTemplate = parse(client, template);
+      synchronized (CACHE) {
+        SqlTemplate existing = CACHE.putIfAbsent(key, sqlTemplate);
+        if (existing != null) {
+          sqlTemplate = existing;
+        }
+      }
+    }
+    return sqlTemplate;
+  }
+
+  private static SqlTemplate parse(SqlClientInternal client, String template) {
     List<String> parts = new ArrayList<>();
     Matcher matcher = PARAM_PATTERN.matcher(template);
     int prev = 0;
@@ -91,6 +123,37 @@ public class SqlTemplate implements Function<Integer, String> {
     return mapping.length;
   }
 
+  /**
+   * The driver placeholders syntax and the template string.
+   */
+  private static class CacheKey {
+
+    private final Class<? extends Driver> driver;
+    private final String template;
+
+    CacheKey(Class<? extends Driver> driver, String template) {
+      this.driver = driver;
+      this.template = template;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      if (obj instanceof CacheKey) {
+        CacheKey that = (CacheKey) obj;
+        return driver == that.driver && template.equals(that.template);
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return driver.hashCode() * 31 + template.hashCode();
+    }
+  }
+
   public Tuple mapTuple(Map<String, Object> args) {
     Object[] array = new Object[mapping.length];
     for (int i = 0;i < array.length;i++) {
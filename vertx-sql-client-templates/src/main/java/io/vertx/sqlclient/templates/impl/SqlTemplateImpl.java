@@ -1,17 +1,16 @@
 package io.vertx.sqlclient.templates.impl;
 
 import io.vertx.core.Future;
-import io.vertx.core.json.JsonObject;
 import io.vertx.sqlclient.*;
 import io.vertx.sqlclient.impl.SqlClientInternal;
 import io.vertx.sqlclient.templates.RowMapper;
 import io.vertx.sqlclient.templates.TupleMapper;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 
 public class SqlTemplateImpl<I, R> implements io.vertx.sqlclient.templates.SqlTemplate<I, R> {
 
@@ -41,7 +40,9 @@ public class SqlTemplateImpl<I, R> implements io.vertx.sqlclient.templates.SqlTe
 
   @Override
   public <T> io.vertx.sqlclient.templates.SqlTemplate<T, R> mapFrom(TupleMapper<T> mapper) {
-    return new SqlTemplateImpl<>(client, sqlTemplate, queryMapper, params -> mapper.map(sqlTemplate, sqlTemplate.numberOfParams(), params));
+    int size = sqlTemplate.numberOfParams();
+    TupleMapper<T> bound = mapper.bind(sqlTemplate, size);
+    return new SqlTemplateImpl<>(client, sqlTemplate, queryMapper, params -> bound.map(sqlTemplate, size, params));
   }
 
   @Override
@@ -57,18 +58,13 @@ public class SqlTemplateImpl<I, R> implements io.vertx.sqlclient.templates.SqlTe
 
   @Override
   public <U> io.vertx.sqlclient.templates.SqlTemplate<I, RowSet<U>> mapTo(Class<U> type) {
-    return mapTo(row -> {
-      JsonObject json = new JsonObject();
-      for (int i = 0;i < row.size();i++) {
-        json.getMap().put(row.getColumnName(i), row.getValue(i));
-      }
-      return json.mapTo(type);
-    });
+    return mapTo(new ClassRowMapper<>(type));
   }
 
   @Override
   public <U> io.vertx.sqlclient.templates.SqlTemplate<I, RowSet<U>> mapTo(RowMapper<U> mapper) {
-    return new SqlTemplateImpl<>(client, sqlTemplate, query -> query.mapping(mapper::map), tupleMapper);
+    BoundRowMapper<U> bound = new BoundRowMapper<>(mapper);
+    return new SqlTemplateImpl<>(client, sqlTemplate, query -> query.mapping(bound), tupleMapper);
   }
 
   @Override
@@ -80,10 +76,12 @@ public class SqlTemplateImpl<I, R> implements io.vertx.sqlclient.templates.SqlTe
 
   @Override
   public Future<R> executeBatch(List<I> batch) {
+    Tuple[] tuples = new Tuple[batch.size()];
+    int idx = 0;
+    for (I params : batch) {
+      tuples[idx++] = tupleMapper.apply(params);
+    }
     return queryMapper.apply(client.preparedQuery(sqlTemplate.getSql()))
-      .executeBatch(batch
-        .stream()
-        .map(tupleMapper)
-        .collect(Collectors.toList()));
+      .executeBatch(Arrays.asList(tuples));
   }
 }
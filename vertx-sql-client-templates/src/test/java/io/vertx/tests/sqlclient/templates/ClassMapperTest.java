@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.sqlclient.templates;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.internal.RowDescriptorBase;
+import io.vertx.sqlclient.templates.RowMapper;
+import io.vertx.sqlclient.templates.TupleMapper;
+import io.vertx.sqlclient.templates.impl.ClassRowMapper;
+import io.vertx.sqlclient.templates.impl.ClassTupleMapper;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static io.vertx.tests.sqlclient.templates.RowMapperTest.descriptor;
+import static io.vertx.tests.sqlclient.templates.RowMapperTest.row;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class ClassMapperTest {
+
+  public static class Bean {
+
+    private long id;
+    private String name;
+    private Integer count;
+
+    public long getId() {
+      return id;
+    }
+
+    public void setId(long id) {
+      this.id = id;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public Integer getCount() {
+      return count;
+    }
+
+    public void setCount(Integer count) {
+      this.count = count;
+    }
+  }
+
+  public static class AnnotatedBean {
+
+    @JsonProperty("the_name")
+    public String name;
+
+  }
+
+  private static void assertTuple(Tuple tuple, Object... expected) {
+    assertEquals(expected.length, tuple.size());
+    for (int i = 0;i < expected.length;i++) {
+      assertEquals(expected[i], tuple.getValue(i));
+    }
+  }
+
+  @Test
+  public void testMapBean() {
+    RowDescriptorBase desc = descriptor("id", "name", "count");
+    Row first = row(desc, 4, "foo", 3);
+    RowMapper<Bean> mapper = new ClassRowMapper<>(Bean.class).bind(first);
+    Bean bean = mapper.map(first);
+    assertEquals(4L, bean.getId());
+    assertEquals("foo", bean.getName());
+    assertEquals(3, (int) bean.getCount());
+    bean = mapper.map(row(desc, null, null, null));
+    assertEquals(0L, bean.getId());
+    assertNull(bean.getName());
+    assertNull(bean.getCount());
+  }
+
+  @Test
+  public void testMapBeanConvertedValue() {
+    RowDescriptorBase desc = descriptor("id", "name");
+    Row first = row(desc, "4", 5);
+    Bean bean = new ClassRowMapper<>(Bean.class).bind(first).map(first);
+    assertEquals(4L, bean.getId());
+    assertEquals("5", bean.getName());
+  }
+
+  @Test
+  public void testMapBeanUnknownColumn() {
+    RowDescriptorBase desc = descriptor("id", "unknown");
+    Row first = row(desc, 4, "foo");
+    try {
+      new ClassRowMapper<>(Bean.class).bind(first).map(first);
+      fail();
+    } catch (IllegalArgumentException ignore) {
+    }
+  }
+
+  @Test
+  public void testMapPublicFields() {
+    RowDescriptorBase desc = descriptor("randomnumber", "id");
+    Row first = row(desc, 10, 3L);
+    World world = new ClassRowMapper<>(World.class).bind(first).map(first);
+    assertEquals(3, world.id);
+    assertEquals(10, world.randomnumber);
+  }
+
+  @Test
+  public void testMapAnnotatedBean() {
+    RowDescriptorBase desc = descriptor("the_name");
+    Row first = row(desc, "foo");
+    AnnotatedBean bean = new ClassRowMapper<>(AnnotatedBean.class).bind(first).map(first);
+    assertEquals("foo", bean.name);
+  }
+
+  @Test
+  public void testTupleFromBean() {
+    Bean bean = new Bean();
+    bean.setId(4);
+    bean.setName("foo");
+    List<String> params = Arrays.asList("name", "id", "count", "unknown");
+    Tuple tuple = new ClassTupleMapper<Bean>().map(params::get, params.size(), bean);
+    assertTuple(tuple, "foo", 4L, null, null);
+  }
+
+  @Test
+  public void testBoundTupleFromBean() {
+    Bean bean = new Bean();
+    bean.setId(4);
+    bean.setName("foo");
+    List<String> params = Arrays.asList("name", "id", "count", "unknown");
+    TupleMapper<Object> mapper = new ClassTupleMapper<>().bind(params::get, params.size());
+    assertTuple(mapper.map(params::get, params.size(), bean), "foo", 4L, null, null);
+    World world = new World(1, 2);
+    assertTuple(mapper.map(params::get, params.size(), world), null, 1, null, null);
+    AnnotatedBean annotated = new AnnotatedBean();
+    annotated.name = "foo";
+    assertTuple(mapper.map(params::get, params.size(), annotated), null, null, null, null);
+  }
+
+  @Test
+  public void testTupleFromAnnotatedBean() {
+    AnnotatedBean bean = new AnnotatedBean();
+    bean.name = "foo";
+    List<String> params = Arrays.asList("the_name", "name");
+    Tuple tuple = new ClassTupleMapper<AnnotatedBean>().map(params::get, params.size(), bean);
+    assertTuple(tuple, "foo", null);
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.sqlclient.templates;
+
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.desc.ColumnDescriptor;
+import io.vertx.sqlclient.impl.RowBase;
+import io.vertx.sqlclient.internal.RowDescriptorBase;
+import io.vertx.sqlclient.templates.RowMapper;
+import org.junit.Test;
+
+import java.sql.JDBCType;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class RowMapperTest {
+
+  private static class TestColumnDescriptor implements ColumnDescriptor {
+
+    private final String name;
+
+    TestColumnDescriptor(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+    @Override
+    public boolean isArray() {
+      return false;
+    }
+    @Override
+    public String typeName() {
+      return "OTHER";
+    }
+    @Override
+    public JDBCType jdbcType() {
+      return JDBCType.OTHER;
+    }
+  }
+
+  static RowDescriptorBase descriptor(String... columns) {
+    ColumnDescriptor[] descriptors = new ColumnDescriptor[columns.length];
+    for (int i = 0;i < columns.length;i++) {
+      descriptors[i] = new TestColumnDescriptor(columns[i]);
+    }
+    return new RowDescriptorBase(descriptors);
+  }
+
+  static Row row(RowDescriptorBase desc, Object... values) {
+    return fill(new RowBase(desc), values);
+  }
+
+  private static Row fill(RowBase row, Object... values) {
+    for (Object value : values) {
+      row.addValue(value);
+    }
+    return row;
+  }
+
+  /**
+   * A row looking up columns like the Oracle driver, unquoted identifiers are stored in upper case.
+   */
+  private static class UpperCaseRow extends RowBase {
+    UpperCaseRow(RowDescriptorBase desc) {
+      super(desc);
+    }
+    @Override
+    public int getColumnIndex(String name) {
+      return super.getColumnIndex(name.toUpperCase());
+    }
+  }
+
+  @Test
+  public void testBind() {
+    RowDescriptorBase desc = descriptor("last_name", "id", "first_name");
+    Row first = row(desc, "Doe", 4L, "John");
+    RowMapper<UserDataObject> mapper = UserDataObjectRowMapper.INSTANCE.bind(first);
+    UserDataObject user = mapper.map(first);
+    assertEquals(4L, user.getId());
+    assertEquals("John", user.getFirstName());
+    assertEquals("Doe", user.getLastName());
+    user = mapper.map(row(desc, "Smith", 5L, null));
+    assertEquals(5L, user.getId());
+    assertNull(user.getFirstName());
+    assertEquals("Smith", user.getLastName());
+  }
+
+  @Test
+  public void testBindMissingColumn() {
+    RowDescriptorBase desc = descriptor("first_name");
+    Row first = row(desc, "John");
+    UserDataObject user = UserDataObjectRowMapper.INSTANCE.bind(first).map(first);
+    assertEquals(0L, user.getId());
+    assertEquals("John", user.getFirstName());
+    assertNull(user.getLastName());
+  }
+
+  @Test
+  public void testBindDriverColumnLookup() {
+    RowDescriptorBase desc = descriptor("ID", "FIRST_NAME", "LAST_NAME");
+    Row first = fill(new UpperCaseRow(desc), 4L, "John", "Doe");
+    RowMapper<UserDataObject> mapper = UserDataObjectRowMapper.INSTANCE.bind(first);
+    UserDataObject user = mapper.map(first);
+    assertEquals(4L, user.getId());
+    assertEquals("John", user.getFirstName());
+    assertEquals("Doe", user.getLastName());
+    user = mapper.map(fill(new UpperCaseRow(desc), 5L, "Jane", null));
+    assertEquals(5L, user.getId());
+    assertEquals("Jane", user.getFirstName());
+    assertNull(user.getLastName());
+  }
+}
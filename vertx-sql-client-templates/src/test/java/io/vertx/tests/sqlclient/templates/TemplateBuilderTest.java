@@ -8,46 +8,69 @@ import io.vertx.core.net.NetClientOptions;
 import io.vertx.sqlclient.*;
 import io.vertx.sqlclient.impl.SqlClientInternal;
 import io.vertx.sqlclient.spi.Driver;
+import io.vertx.sqlclient.templates.TupleMapper;
 import io.vertx.sqlclient.templates.impl.SqlTemplate;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Supplier;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 public class TemplateBuilderTest {
 
-  private abstract static class FakeClient implements SqlClientInternal {
+  private abstract static class FakeDriver implements Driver<SqlConnectOptions> {
     @Override
-    public Driver driver() {
-      return new Driver<SqlConnectOptions>() {
-        @Override
-        public SqlConnectOptions downcast(SqlConnectOptions connectOptions) {
-          throw new UnsupportedOperationException();
-        }
-        @Override
-        public SqlConnectOptions parseConnectionUri(String uri) {
-          throw new UnsupportedOperationException();
-        }
-        @Override
-        public int appendQueryPlaceholder(StringBuilder queryBuilder, int index, int current) {
-          return FakeClient.this.appendQueryPlaceholder(queryBuilder, index, current);
-        }
-        @Override
-        public Pool newPool(Vertx vertx, Supplier<Future<SqlConnectOptions>> databases, PoolOptions options, NetClientOptions transportOptions, Handler<SqlConnection> connectHandler, CloseFuture closeFuture) {
-          throw new UnsupportedOperationException();
-        }
-        @Override
-        public boolean acceptsOptions(SqlConnectOptions connectOptions) {
-          throw new UnsupportedOperationException();
-        }
-      };
+    public SqlConnectOptions downcast(SqlConnectOptions connectOptions) {
+      throw new UnsupportedOperationException();
+    }
+    @Override
+    public SqlConnectOptions parseConnectionUri(String uri) {
+      throw new UnsupportedOperationException();
     }
+    @Override
+    public Pool newPool(Vertx vertx, Supplier<Future<SqlConnectOptions>> databases, PoolOptions options, NetClientOptions transportOptions, Handler<SqlConnection> connectHandler, CloseFuture closeFuture) {
+      throw new UnsupportedOperationException();
+    }
+    @Override
+    public boolean acceptsOptions(SqlConnectOptions connectOptions) {
+      throw new UnsupportedOperationException();
+    }
+  }
 
-    protected abstract int appendQueryPlaceholder(StringBuilder queryBuilder, int index, int current);
+  private static class PgDriver extends FakeDriver {
+    @Override
+    public int appendQueryPlaceholder(StringBuilder queryBuilder, int index, int current) {
+      queryBuilder.append('$').append(1 + index);
+      return index;
+    }
+  }
+
+  private static class OtherDriver extends FakeDriver {
+    @Override
+    public int appendQueryPlaceholder(StringBuilder queryBuilder, int index, int current) {
+      queryBuilder.append("?");
+      return current;
+    }
+  }
+
+  private static class FakeClient implements SqlClientInternal {
+
+    private final Driver driver;
+
+    FakeClient(Driver driver) {
+      this.driver = driver;
+    }
+
+    @Override
+    public Driver driver() {
+      return driver;
+    }
 
     @Override
     public Query<RowSet<Row>> query(String sql) {
@@ -116,6 +139,36 @@ public class TemplateBuilderTest {
     assertOtherSql("#{begin", "#{begin");
   }
 
+  @Test
+  public void testCache() {
+    SqlTemplate template = otherTemplate("#{foo} #{bar}");
+    // Each pool has its own driver instance
+    assertSame(template, otherTemplate("#{foo} #{bar}"));
+    assertNotSame(template, otherTemplate("#{foo} #{foo}"));
+    assertNotSame(template, pgTemplate("#{foo} #{bar}"));
+  }
+
+  @Test
+  public void testCacheEvictsLeastRecentlyUsed() {
+    SqlTemplate used = otherTemplate("#{used}");
+    SqlTemplate unused = otherTemplate("#{unused}");
+    for (int i = 0;i < 1000;i++) {
+      otherTemplate("#{foo} " + i);
+      assertSame(used, otherTemplate("#{used}"));
+    }
+    assertNotSame(unused, otherTemplate("#{unused}"));
+  }
+
+  @Test
+  public void testBindParametersMapper() {
+    SqlTemplate template = otherTemplate("#{duration} #{foo} #{duration}");
+    MySQLDataObject obj = new MySQLDataObject().setDuration(Duration.ofSeconds(10));
+    TupleMapper<MySQLDataObject> mapper = MySQLDataObjectParametersMapper.INSTANCE.bind(template, template.numberOfParams());
+    Tuple expected = MySQLDataObjectParametersMapper.INSTANCE.map(template, template.numberOfParams(), obj);
+    assertTupleEquals(mapper.map(template, template.numberOfParams(), obj), expected);
+    assertTupleEquals(expected, Tuple.of(Duration.ofSeconds(10), null, Duration.ofSeconds(10)));
+  }
+
   private void assertPgSql(String template, String expectedSql) {
     Assert.assertEquals(pgTemplate(template).getSql(), expectedSql);
   }
@@ -127,13 +180,7 @@ public class TemplateBuilderTest {
   }
 
   private SqlTemplate pgTemplate(String template) {
-    return SqlTemplate.create(new FakeClient() {
-      @Override
-      public int appendQueryPlaceholder(StringBuilder queryBuilder, int index, int current) {
-        queryBuilder.append('$').append(1 + index);
-        return index;
-      }
-    }, template);
+    return SqlTemplate.create(new FakeClient(new PgDriver()), template);
   }
 
   private void assertOtherSql(String template, String expectedSql) {
@@ -147,13 +194,7 @@ public class TemplateBuilderTest {
   }
 
   private SqlTemplate otherTemplate(String template) {
-    return SqlTemplate.create(new FakeClient() {
-      @Override
-      public int appendQueryPlaceholder(StringBuilder queryBuilder, int index, int current) {
-        queryBuilder.append("?");
-        return current;
-      }
-    }, template);
+    return SqlTemplate.create(new FakeClient(new OtherDriver()), template);
   }
 
   private static void assertTupleEquals(Tuple actual, Tuple expected) {
@@ -8,6 +8,7 @@ open module io.vertx.tests.sql.client.templates {
   requires io.vertx.sql.client.pg;
   requires io.vertx.sql.client.templates;
   requires io.vertx.testing.unit;
+  requires java.sql;
   requires junit;
   requires testcontainers;
 }
@@ -0,0 +1,57 @@
+package io.vertx.sqlclient;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.sqlclient.PreparedStatementCacheStats}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.sqlclient.PreparedStatementCacheStats} original class using Vert.x codegen.
+ */
+public class PreparedStatementCacheStatsConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, PreparedStatementCacheStats obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "hits":
+          if (member.getValue() instanceof Number) {
+            obj.setHits(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "misses":
+          if (member.getValue() instanceof Number) {
+            obj.setMisses(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "evictions":
+          if (member.getValue() instanceof Number) {
+            obj.setEvictions(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "rejections":
+          if (member.getValue() instanceof Number) {
+            obj.setRejections(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "size":
+          if (member.getValue() instanceof Number) {
+            obj.setSize(((Number)member.getValue()).intValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(PreparedStatementCacheStats obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(PreparedStatementCacheStats obj, java.util.Map<String, Object> json) {
+    json.put("hits", obj.getHits());
+    json.put("misses", obj.getMisses());
+    json.put("evictions", obj.getEvictions());
+    json.put("rejections", obj.getRejections());
+    json.put("size", obj.getSize());
+  }
+}
@@ -0,0 +1,47 @@
+package io.vertx.sqlclient;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.sqlclient.QueryResultCacheOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.sqlclient.QueryResultCacheOptions} original class using Vert.x codegen.
+ */
+public class QueryResultCacheOptionsConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, QueryResultCacheOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "maxSize":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "ttl":
+          if (member.getValue() instanceof Number) {
+            obj.setTtl(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "ttlUnit":
+          if (member.getValue() instanceof String) {
+            obj.setTtlUnit(java.util.concurrent.TimeUnit.valueOf((String)member.getValue()));
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(QueryResultCacheOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(QueryResultCacheOptions obj, java.util.Map<String, Object> json) {
+    json.put("maxSize", obj.getMaxSize());
+    json.put("ttl", obj.getTtl());
+    if (obj.getTtlUnit() != null) {
+      json.put("ttlUnit", obj.getTtlUnit().name());
+    }
+  }
+}
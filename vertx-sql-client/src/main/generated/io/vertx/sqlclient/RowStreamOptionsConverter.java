@@ -0,0 +1,45 @@
+package io.vertx.sqlclient;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.sqlclient.RowStreamOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.sqlclient.RowStreamOptions} original class using Vert.x codegen.
+ */
+public class RowStreamOptionsConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, RowStreamOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "fetch":
+          if (member.getValue() instanceof Number) {
+            obj.setFetch(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "readAhead":
+          if (member.getValue() instanceof Number) {
+            obj.setReadAhead(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "fetchBytes":
+          if (member.getValue() instanceof Number) {
+            obj.setFetchBytes(((Number)member.getValue()).intValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(RowStreamOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(RowStreamOptions obj, java.util.Map<String, Object> json) {
+    json.put("fetch", obj.getFetch());
+    json.put("readAhead", obj.getReadAhead());
+    json.put("fetchBytes", obj.getFetchBytes());
+  }
+}
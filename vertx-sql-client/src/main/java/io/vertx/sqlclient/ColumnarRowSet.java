@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient;
+
+import io.vertx.sqlclient.internal.ColumnarRowSetImpl;
+
+import java.util.stream.Collector;
+
+/**
+ * A result set stored column by column in primitive arrays, values are decoded straight into the column vectors
+ * and read back without boxing.
+ *
+ * <p>A columnar row set is obtained by collecting a query with {@link #collector()}:
+ *
+ * <pre>
+ *   client.query("SELECT id, amount FROM orders")
+ *     .collecting(ColumnarRowSet.collector())
+ *     .execute()
+ *     .onSuccess(result -&gt; {
+ *       ColumnarRowSet columns = result.value();
+ *       double total = 0;
+ *       for (int row = 0;row &lt; columns.size();row++) {
+ *         total += columns.getDouble(row, 1);
+ *       }
+ *     });
+ * </pre>
+ *
+ * <p>{@code int2} and {@code int4} columns are stored as {@code int}, {@code int8} columns as {@code long} and
+ * {@code float4} and {@code float8} columns as {@code double}, other columns are stored as objects. The columns
+ * are described by {@link SqlResult#columnDescriptors()}.
+ */
+public interface ColumnarRowSet {
+
+  /**
+   * @return a collector building a columnar row set
+   */
+  static Collector<Row, ?, ColumnarRowSet> collector() {
+    return ColumnarRowSetImpl.COLLECTOR;
+  }
+
+  /**
+   * @return the number of rows
+   */
+  int size();
+
+  /**
+   * @return whether the value at {@code row} and {@code column} is {@code null}
+   */
+  boolean isNull(int row, int column);
+
+  /**
+   * Get the value at {@code row} and {@code column} as an {@code int}, {@code 0} is returned for a {@code null} value.
+   *
+   * @throws ClassCastException when the column does not hold numbers
+   */
+  int getInt(int row, int column);
+
+  /**
+   * Get the value at {@code row} and {@code column} as a {@code long}, {@code 0} is returned for a {@code null} value.
+   *
+   * @throws ClassCastException when the column does not hold numbers
+   */
+  long getLong(int row, int column);
+
+  /**
+   * Get the value at {@code row} and {@code column} as a {@code double}, {@code 0} is returned for a {@code null} value.
+   *
+   * @throws ClassCastException when the column does not hold numbers
+   */
+  double getDouble(int row, int column);
+
+  /**
+   * Get the value at {@code row} and {@code column}, primitive values are boxed.
+   */
+  Object getValue(int row, int column);
+
+}
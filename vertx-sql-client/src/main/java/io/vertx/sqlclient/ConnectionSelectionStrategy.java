@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient;
+
+/**
+ * Defines how a pool selects the connection used to execute a command when several connections can serve it.
+ */
+public enum ConnectionSelectionStrategy {
+
+  /**
+   * Use the first connection with spare capacity, connections bound to the caller event-loop are preferred. With a
+   * pipelined pool a connection is filled up to its pipelining limit before another connection is created.
+   */
+  FIRST_AVAILABLE,
+
+  /**
+   * Use the connection with the fewest in-flight commands. With a pipelined pool this spreads the commands over all
+   * connections of the pool, so a slow command only delays the commands queued behind it on the same connection.
+   */
+  LEAST_LOADED,
+
+  /**
+   * Partition the pool per event-loop: a command uses a connection bound to the caller event-loop and new connections
+   * are bound to the caller event-loop, so commands and results do not hop between threads. Each partition holds up to
+   * its share of the pool max size, connections of other partitions are only used when the caller partition is full.
+   */
+  EVENT_LOOP_AFFINE
+
+}
@@ -192,4 +192,14 @@ public interface Pool extends SqlClient {
    * @return the current pool size approximation
    */
   int size();
+
+  /**
+   * Open connections until the pool holds the {@link PoolOptions#setMinSize(int) minimum number of connections}.
+   *
+   * <p> This can be used to pay the connection establishment cost before serving traffic, e.g. from a readiness probe.
+   *
+   * @return a future notified when the pool holds the minimum number of connections, or failed when a connection
+   *         cannot be established
+   */
+  Future<Void> warmup();
 }
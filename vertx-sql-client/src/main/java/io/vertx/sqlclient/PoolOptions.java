@@ -38,6 +38,11 @@ public class PoolOptions {
    */
   public static final int DEFAULT_MAX_SIZE = 4;
 
+  /**
+   * The default minimum number of connections a client will keep in the pool = 0
+   */
+  public static final int DEFAULT_MIN_SIZE = 0;
+
   /**
    * Default max wait queue size = -1 (unbounded)
    */
@@ -63,6 +68,31 @@ public class PoolOptions {
    */
   public static final TimeUnit DEFAULT_MAXIMUM_LIFETIME_TIME_UNIT = TimeUnit.SECONDS;
 
+  /**
+   * Default maximum pooled connection lifetime jitter = 0 (no jitter)
+   */
+  public static final int DEFAULT_MAXIMUM_LIFETIME_JITTER = 0;
+
+  /**
+   * Default lifetime rotation limit = 0 (no limit)
+   */
+  public static final int DEFAULT_LIFETIME_ROTATION_LIMIT = 0;
+
+  /**
+   * Default connection validation interval = 0 (no validation)
+   */
+  public static final int DEFAULT_VALIDATION_INTERVAL = 0;
+
+  /**
+   * Default connection validation interval unit = seconds
+   */
+  public static final TimeUnit DEFAULT_VALIDATION_INTERVAL_TIME_UNIT = TimeUnit.SECONDS;
+
+  /**
+   * Default idle connection validation = {@code false}
+   */
+  public static final boolean DEFAULT_IDLE_VALIDATION = false;
+
   /**
    * Default pool cleaner period = 1000 ms (1 second)
    */
@@ -93,18 +123,30 @@ public class PoolOptions {
    */
   public static final int DEFAULT_EVENT_LOOP_SIZE = 0;
 
+  /**
+   * Default connection selection strategy = {@link ConnectionSelectionStrategy#FIRST_AVAILABLE}
+   */
+  public static final ConnectionSelectionStrategy DEFAULT_CONNECTION_SELECTION_STRATEGY = ConnectionSelectionStrategy.FIRST_AVAILABLE;
+
   private int maxSize = DEFAULT_MAX_SIZE;
+  private int minSize = DEFAULT_MIN_SIZE;
   private int maxWaitQueueSize = DEFAULT_MAX_WAIT_QUEUE_SIZE;
   private int idleTimeout = DEFAULT_IDLE_TIMEOUT;
   private TimeUnit idleTimeoutUnit = DEFAULT_IDLE_TIMEOUT_TIME_UNIT;
   private int maxLifetime = DEFAULT_MAXIMUM_LIFETIME;
   private TimeUnit maxLifetimeUnit = DEFAULT_MAXIMUM_LIFETIME_TIME_UNIT;
+  private int maxLifetimeJitter = DEFAULT_MAXIMUM_LIFETIME_JITTER;
+  private int lifetimeRotationLimit = DEFAULT_LIFETIME_ROTATION_LIMIT;
+  private int validationInterval = DEFAULT_VALIDATION_INTERVAL;
+  private TimeUnit validationIntervalUnit = DEFAULT_VALIDATION_INTERVAL_TIME_UNIT;
+  private boolean idleValidation = DEFAULT_IDLE_VALIDATION;
   private int poolCleanerPeriod = DEFAULT_POOL_CLEANER_PERIOD;
   private int connectionTimeout = DEFAULT_CONNECTION_TIMEOUT;
   private TimeUnit connectionTimeoutUnit = DEFAULT_CONNECTION_TIMEOUT_TIME_UNIT;
   private boolean shared = DEFAULT_SHARED_POOL;
   private String name = DEFAULT_NAME;
   private int eventLoopSize = DEFAULT_EVENT_LOOP_SIZE;
+  private ConnectionSelectionStrategy connectionSelectionStrategy = DEFAULT_CONNECTION_SELECTION_STRATEGY;
 
   public PoolOptions() {
   }
@@ -115,17 +157,24 @@ public class PoolOptions {
 
   public PoolOptions(PoolOptions other) {
     maxSize = other.maxSize;
+    minSize = other.minSize;
     maxWaitQueueSize = other.maxWaitQueueSize;
     idleTimeout = other.idleTimeout;
     idleTimeoutUnit = other.idleTimeoutUnit;
     maxLifetime = other.maxLifetime;
     maxLifetimeUnit = other.maxLifetimeUnit;
+    maxLifetimeJitter = other.maxLifetimeJitter;
+    lifetimeRotationLimit = other.lifetimeRotationLimit;
+    validationInterval = other.validationInterval;
+    validationIntervalUnit = other.validationIntervalUnit;
+    idleValidation = other.idleValidation;
     poolCleanerPeriod = other.poolCleanerPeriod;
     connectionTimeout = other.connectionTimeout;
     connectionTimeoutUnit = other.connectionTimeoutUnit;
     shared= other.shared;
     name = other.name;
     eventLoopSize = other.eventLoopSize;
+    connectionSelectionStrategy = other.connectionSelectionStrategy;
   }
 
   /**
@@ -149,6 +198,30 @@ public class PoolOptions {
     return this;
   }
 
+  /**
+   * @return  the minimum pool size
+   */
+  public int getMinSize() {
+    return minSize;
+  }
+
+  /**
+   * Set the minimum pool size, the pool cleaner opens connections in the background until the pool holds this
+   * number of connections and idle connections are not evicted below this size.
+   *
+   * <p> {@link Pool#warmup()} can be used to establish the minimum size after the pool creation.
+   *
+   * @param minSize  the minimum pool size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMinSize(int minSize) {
+    if (minSize < 0) {
+      throw new IllegalArgumentException("Min size cannot be negative");
+    }
+    this.minSize = minSize;
+    return this;
+  }
+
   /**
    * @return the maximum wait queue size
    */
@@ -246,6 +319,118 @@ public class PoolOptions {
     return this;
   }
 
+  /**
+   * @return pooled connection max lifetime jitter
+   */
+  public int getMaxLifetimeJitter() {
+    return maxLifetimeJitter;
+  }
+
+  /**
+   * Establish a jitter for the max lifetime of pooled connections, expressed in the {@link #setMaxLifetimeUnit(TimeUnit) max lifetime unit}.
+   *
+   * <p> Each connection lifetime is shortened by a random amount up to this value, so connections created together
+   * do not all expire at once.
+   *
+   * @param maxLifetimeJitter the pool connection max lifetime jitter
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMaxLifetimeJitter(int maxLifetimeJitter) {
+    if (maxLifetimeJitter < 0) {
+      throw new IllegalArgumentException("maxLifetimeJitter must be >= 0");
+    }
+    this.maxLifetimeJitter = maxLifetimeJitter;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of connections rotated per pool cleaner period
+   */
+  public int getLifetimeRotationLimit() {
+    return lifetimeRotationLimit;
+  }
+
+  /**
+   * Set the maximum number of connections reaching their max lifetime that are rotated per pool cleaner period,
+   * a value of zero closes all the expired connections at once.
+   *
+   * <p> When a limit is set, the pool opens a replacement connection before closing an expired one, as long as
+   * the pool max size allows it.
+   *
+   * @param lifetimeRotationLimit the maximum number of connections rotated per period
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setLifetimeRotationLimit(int lifetimeRotationLimit) {
+    if (lifetimeRotationLimit < 0) {
+      throw new IllegalArgumentException("lifetimeRotationLimit must be >= 0");
+    }
+    this.lifetimeRotationLimit = lifetimeRotationLimit;
+    return this;
+  }
+
+  /**
+   * @return the connection validation interval unit
+   */
+  public TimeUnit getValidationIntervalUnit() {
+    return validationIntervalUnit;
+  }
+
+  /**
+   * Set the time unit of {@link #setValidationInterval(int)}
+   *
+   * @param validationIntervalUnit the connection validation interval unit
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setValidationIntervalUnit(TimeUnit validationIntervalUnit) {
+    Objects.requireNonNull(validationIntervalUnit, "Validation interval unit cannot be null");
+    this.validationIntervalUnit = validationIntervalUnit;
+    return this;
+  }
+
+  /**
+   * @return the connection validation interval
+   */
+  public int getValidationInterval() {
+    return validationInterval;
+  }
+
+  /**
+   * Set the time a pooled connection can remain unused before it is validated, a value of zero disables the validation.
+   *
+   * <p> A connection unused for longer than this interval is checked with a cheap round trip to the database before
+   * it is lent, a connection failing the check is closed and another connection is provided instead.
+   *
+   * @param validationInterval the connection validation interval
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setValidationInterval(int validationInterval) {
+    if (validationInterval < 0) {
+      throw new IllegalArgumentException("validationInterval must be >= 0");
+    }
+    this.validationInterval = validationInterval;
+    return this;
+  }
+
+  /**
+   * @return whether the pool cleaner validates idle connections
+   */
+  public boolean isIdleValidation() {
+    return idleValidation;
+  }
+
+  /**
+   * Set to {@code true} to let the pool cleaner validate the connections unused for longer than the
+   * {@link #setValidationInterval(int) validation interval}, so broken connections are closed before a request
+   * borrows them.
+   *
+   * @param idleValidation {@code true} to validate idle connections in the background
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setIdleValidation(boolean idleValidation) {
+    this.idleValidation = idleValidation;
+    return this;
+  }
+
   /**
    * @return the connection pool cleaner period in ms.
    */
@@ -370,6 +555,30 @@ public class PoolOptions {
     return this;
   }
 
+  /**
+   * @return the strategy used to select the connection executing a command
+   */
+  public ConnectionSelectionStrategy getConnectionSelectionStrategy() {
+    return connectionSelectionStrategy;
+  }
+
+  /**
+   * Set the strategy used to select the connection executing a command.
+   *
+   * <p> {@link ConnectionSelectionStrategy#LEAST_LOADED} is mostly useful for pipelined pools, where a slow
+   * command otherwise delays all the commands pipelined behind it on the same connection.
+   *
+   * The default strategy is {@link #DEFAULT_CONNECTION_SELECTION_STRATEGY}.
+   *
+   * @param connectionSelectionStrategy the strategy
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setConnectionSelectionStrategy(ConnectionSelectionStrategy connectionSelectionStrategy) {
+    Objects.requireNonNull(connectionSelectionStrategy, "Connection selection strategy cannot be null");
+    this.connectionSelectionStrategy = connectionSelectionStrategy;
+    return this;
+  }
+
   public JsonObject toJson() {
     JsonObject json = new JsonObject();
     PoolOptionsConverter.toJson(this, json);
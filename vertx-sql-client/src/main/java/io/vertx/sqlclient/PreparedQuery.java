@@ -60,4 +60,33 @@ public interface PreparedQuery<T> extends Query<T> {
    */
   <U> PreparedQuery<RowSet<U>> mapping(Function<Row, U> mapper);
 
+  /**
+   * Serve the results of this query from the {@code cache}.
+   *
+   * <p>A result is cached for the client, the SQL and the arguments of an execution, executions of this client with the
+   * same arguments are then completed with the cached result until it expires or is invalidated, without reaching the
+   * database. Batches are not cached.
+   *
+   * <p>Only {@link RowSet} results are cached, queries with a {@link #mapping(Function) mapping} or a
+   * {@link #collecting(Collector) collector} are executed without the cache.
+   *
+   * <p>Executions served from the cache are completed with the same {@link RowSet} instance and the same rows, they
+   * must not be modified. {@link SqlConnectOptions#setZeroCopyBuffers(boolean) Zero-copy buffers} never apply to
+   * row sets, the cached rows hold copies of their values and remain valid after the connection is closed.
+   *
+   * @param cache the cache
+   * @return a query using the cache
+   */
+  PreparedQuery<T> cached(QueryResultCache cache);
+
+  /**
+   * Like {@link #cached(QueryResultCache)} and tag the results with the {@code tables} the query reads, so they can
+   * be invalidated with {@link QueryResultCache#invalidate(String)} when one of the tables is modified.
+   *
+   * @param cache the cache
+   * @param tables the tables read by the query
+   * @return a query using the cache
+   */
+  PreparedQuery<T> cached(QueryResultCache cache, List<String> tables);
+
 }
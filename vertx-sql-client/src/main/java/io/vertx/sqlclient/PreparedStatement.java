@@ -79,6 +79,31 @@ public interface PreparedStatement {
    */
   RowStream<Row> createStream(int fetch, Tuple args);
 
+  /**
+   * Like {@link #createStream(int, Tuple)} but reads ahead of the stream consumer: while a batch is being emitted,
+   * the next batch is already being fetched from the database, so the round trip overlaps with the processing
+   * of the rows.
+   * <p/>
+   * Up to {@code readAhead} batches can be buffered in addition to the batch being emitted. Batches are read ahead
+   * only while the stream demand exceeds the rows already buffered, a paused stream does not read ahead.
+   *
+   * @param fetch the cursor fetch size
+   * @param readAhead the maximum number of batches fetched ahead, {@code 0} disables read-ahead
+   * @param args the prepared query arguments
+   * @return the createStream
+   */
+  RowStream<Row> createStream(int fetch, int readAhead, Tuple args);
+
+  /**
+   * Like {@link #createStream(int, Tuple)} but configured with {@code options}, e.g. to read ahead or adapt the
+   * fetch size to the size of the rows.
+   *
+   * @param options the stream options
+   * @param args the prepared query arguments
+   * @return the createStream
+   */
+  RowStream<Row> createStream(RowStreamOptions options, Tuple args);
+
   /**
    * Close the prepared query and release its resources.
    */
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient;
+
+/**
+ * Defines how a connection chooses the prepared statements kept in its cache once the cache is full.
+ */
+public enum PreparedStatementCachePolicy {
+
+  /**
+   * The least recently used statement is evicted to make room for a new statement.
+   */
+  LRU,
+
+  /**
+   * A new statement is admitted in the cache only when it has been used more frequently than the least recently used
+   * statement, which is then evicted. Statements executed a few times, e.g. by a reporting query scanning many distinct
+   * SQL strings, are not cached and do not evict the frequently used statements.
+   */
+  TINY_LFU
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * A snapshot of the counters of a connection prepared statement cache.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class PreparedStatementCacheStats {
+
+  private long hits;
+  private long misses;
+  private long evictions;
+  private long rejections;
+  private int size;
+
+  public PreparedStatementCacheStats() {
+  }
+
+  public PreparedStatementCacheStats(JsonObject json) {
+    PreparedStatementCacheStatsConverter.fromJson(json, this);
+  }
+
+  public PreparedStatementCacheStats(PreparedStatementCacheStats other) {
+    hits = other.hits;
+    misses = other.misses;
+    evictions = other.evictions;
+    rejections = other.rejections;
+    size = other.size;
+  }
+
+  /**
+   * @return the number of queries that found their prepared statement in the cache
+   */
+  public long getHits() {
+    return hits;
+  }
+
+  public PreparedStatementCacheStats setHits(long hits) {
+    this.hits = hits;
+    return this;
+  }
+
+  /**
+   * @return the number of queries that had to prepare their statement
+   */
+  public long getMisses() {
+    return misses;
+  }
+
+  public PreparedStatementCacheStats setMisses(long misses) {
+    this.misses = misses;
+    return this;
+  }
+
+  /**
+   * @return the number of statements evicted and closed to make room for another statement
+   */
+  public long getEvictions() {
+    return evictions;
+  }
+
+  public PreparedStatementCacheStats setEvictions(long evictions) {
+    this.evictions = evictions;
+    return this;
+  }
+
+  /**
+   * @return the number of statements not admitted in the full cache, only for the {@link PreparedStatementCachePolicy#TINY_LFU} policy
+   */
+  public long getRejections() {
+    return rejections;
+  }
+
+  public PreparedStatementCacheStats setRejections(long rejections) {
+    this.rejections = rejections;
+    return this;
+  }
+
+  /**
+   * @return the number of cached statements
+   */
+  public int getSize() {
+    return size;
+  }
+
+  public PreparedStatementCacheStats setSize(int size) {
+    this.size = size;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    PreparedStatementCacheStatsConverter.toJson(this, json);
+    return json;
+  }
+
+  @Override
+  public String toString() {
+    return "PreparedStatementCacheStats{hits=" + hits + ", misses=" + misses + ", evictions=" + evictions +
+      ", rejections=" + rejections + ", size=" + size + "}";
+  }
+}
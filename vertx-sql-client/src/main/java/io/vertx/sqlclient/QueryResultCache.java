@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient;
+
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.sqlclient.impl.QueryResultCacheImpl;
+
+/**
+ * A cache of query results, shared by the prepared queries configured with {@link PreparedQuery#cached(QueryResultCache)}.
+ *
+ * <p>Row sets are keyed by the client executing the query, the SQL and the query arguments, they are served until they
+ * expire or are invalidated.
+ * Concurrent executions of a query missing from the cache share the same execution. A cached row set is a shared
+ * instance, every execution served from the cache gets the same row set.
+ *
+ * <p>The cache is safe to use from any thread. A single cache can hold the results of several clients, e.g. pools
+ * connected to different databases, a client is never served the results of another client. The statements of a
+ * connection are executed by this connection, they do not share results with the pool of the connection.
+ */
+@VertxGen
+public interface QueryResultCache {
+
+  /**
+   * Create a query result cache.
+   *
+   * @param options the cache options
+   * @return the cache
+   */
+  static QueryResultCache create(QueryResultCacheOptions options) {
+    return new QueryResultCacheImpl(new QueryResultCacheOptions(options));
+  }
+
+  /**
+   * Remove all the cached results.
+   */
+  void invalidate();
+
+  /**
+   * Remove the cached results of the queries tagged with {@code table}.
+   *
+   * @param table the table name
+   * @see PreparedQuery#cached(QueryResultCache, java.util.List)
+   */
+  void invalidate(String table);
+
+  /**
+   * @return the number of cached results
+   */
+  int size();
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The options for creating a {@link QueryResultCache}.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class QueryResultCacheOptions {
+
+  /**
+   * The default maximum number of cached results = 1000
+   */
+  public static final int DEFAULT_MAX_SIZE = 1000;
+
+  /**
+   * The default time to live of a cached result = 60
+   */
+  public static final int DEFAULT_TTL = 60;
+
+  /**
+   * The default time to live unit = {@link TimeUnit#SECONDS}
+   */
+  public static final TimeUnit DEFAULT_TTL_UNIT = TimeUnit.SECONDS;
+
+  private int maxSize = DEFAULT_MAX_SIZE;
+  private int ttl = DEFAULT_TTL;
+  private TimeUnit ttlUnit = DEFAULT_TTL_UNIT;
+
+  public QueryResultCacheOptions() {
+  }
+
+  public QueryResultCacheOptions(JsonObject json) {
+    QueryResultCacheOptionsConverter.fromJson(json, this);
+  }
+
+  public QueryResultCacheOptions(QueryResultCacheOptions other) {
+    maxSize = other.maxSize;
+    ttl = other.ttl;
+    ttlUnit = other.ttlUnit;
+  }
+
+  /**
+   * @return the maximum number of cached results
+   */
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Set the maximum number of cached results, the least recently used result is evicted when the cache is full.
+   *
+   * @param maxSize the maximum number of cached results
+   * @return a reference to this, so the API can be used fluently
+   */
+  public QueryResultCacheOptions setMaxSize(int maxSize) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("Max size must be > 0");
+    }
+    this.maxSize = maxSize;
+    return this;
+  }
+
+  /**
+   * @return the time to live of a cached result
+   */
+  public int getTtl() {
+    return ttl;
+  }
+
+  /**
+   * Set the time a result is served from the cache after the query completed.
+   *
+   * @param ttl the time to live
+   * @return a reference to this, so the API can be used fluently
+   */
+  public QueryResultCacheOptions setTtl(int ttl) {
+    if (ttl < 1) {
+      throw new IllegalArgumentException("TTL must be > 0");
+    }
+    this.ttl = ttl;
+    return this;
+  }
+
+  /**
+   * @return the time to live unit
+   */
+  public TimeUnit getTtlUnit() {
+    return ttlUnit;
+  }
+
+  /**
+   * Set the time to live unit.
+   *
+   * @param ttlUnit the time to live unit
+   * @return a reference to this, so the API can be used fluently
+   */
+  public QueryResultCacheOptions setTtlUnit(TimeUnit ttlUnit) {
+    this.ttlUnit = ttlUnit;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    QueryResultCacheOptionsConverter.toJson(this, json);
+    return json;
+  }
+}
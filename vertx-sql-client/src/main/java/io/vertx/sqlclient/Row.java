@@ -784,6 +784,9 @@ public interface Row extends Tuple {
   /**
    * Signal the row can be recycled, this is only effective when dealing with a row in a collector
    * query and the row has already been processed and transformed.
+   *
+   * <p>When {@link SqlConnectOptions#setZeroCopyBuffers(boolean) zero-copy buffers} are enabled, this also releases
+   * the network buffers backing the {@link io.vertx.core.buffer.Buffer} values of a row emitted by a {@link RowStream}.
    */
   default void release() {
   }
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * The options for creating a {@link RowStream} from a {@link PreparedStatement}.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class RowStreamOptions {
+
+  /**
+   * The default cursor fetch size = 50
+   */
+  public static final int DEFAULT_FETCH = 50;
+
+  /**
+   * The default read-ahead = 0 (disabled)
+   */
+  public static final int DEFAULT_READ_AHEAD = 0;
+
+  /**
+   * The default target bytes per fetch = 0 (fixed fetch size)
+   */
+  public static final int DEFAULT_FETCH_BYTES = 0;
+
+  private int fetch = DEFAULT_FETCH;
+  private int readAhead = DEFAULT_READ_AHEAD;
+  private int fetchBytes = DEFAULT_FETCH_BYTES;
+
+  public RowStreamOptions() {
+  }
+
+  public RowStreamOptions(JsonObject json) {
+    RowStreamOptionsConverter.fromJson(json, this);
+  }
+
+  public RowStreamOptions(RowStreamOptions other) {
+    fetch = other.fetch;
+    readAhead = other.readAhead;
+    fetchBytes = other.fetchBytes;
+  }
+
+  /**
+   * @return the cursor fetch size
+   */
+  public int getFetch() {
+    return fetch;
+  }
+
+  /**
+   * Set the number of rows read from the cursor at a time. When {@link #setFetchBytes(int) fetch bytes} are set,
+   * this is the size of the first read.
+   *
+   * @param fetch the cursor fetch size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public RowStreamOptions setFetch(int fetch) {
+    if (fetch <= 0) {
+      throw new IllegalArgumentException("Fetch size must be positive");
+    }
+    this.fetch = fetch;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of batches read ahead
+   */
+  public int getReadAhead() {
+    return readAhead;
+  }
+
+  /**
+   * Set the maximum number of batches read ahead of the stream consumer, in addition to the batch being emitted.
+   *
+   * @param readAhead the read-ahead depth, {@code 0} disables read-ahead
+   * @return a reference to this, so the API can be used fluently
+   */
+  public RowStreamOptions setReadAhead(int readAhead) {
+    if (readAhead < 0) {
+      throw new IllegalArgumentException("Read-ahead cannot be negative");
+    }
+    this.readAhead = readAhead;
+    return this;
+  }
+
+  /**
+   * @return the target number of bytes per fetch
+   */
+  public int getFetchBytes() {
+    return fetchBytes;
+  }
+
+  /**
+   * Set the target number of bytes read from the cursor at a time, enabling the adaptive fetch size.
+   * <p>
+   * The stream observes the size of the rows it reads and sizes the next read to fetch this amount of bytes.
+   * When the consumer is slower than the database and rows are still buffered when a read completes, the fetch
+   * size is reduced to keep the memory footprint low.
+   *
+   * @param fetchBytes the target bytes per fetch, {@code 0} uses the fixed {@link #setFetch(int) fetch size}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public RowStreamOptions setFetchBytes(int fetchBytes) {
+    if (fetchBytes < 0) {
+      throw new IllegalArgumentException("Fetch bytes cannot be negative");
+    }
+    this.fetchBytes = fetchBytes;
+    return this;
+  }
+
+  /**
+   * @return a JSON representation of these options
+   */
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    RowStreamOptionsConverter.toJson(this, json);
+    return json;
+  }
+}
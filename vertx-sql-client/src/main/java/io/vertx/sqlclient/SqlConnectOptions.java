@@ -63,8 +63,10 @@ public class SqlConnectOptions {
   public static final boolean DEFAULT_CACHE_PREPARED_STATEMENTS = false;
   public static final int DEFAULT_PREPARED_STATEMENT_CACHE_MAX_SIZE = 256;
   public static final int DEFAULT_PREPARED_STATEMENT_CACHE_SQL_LIMIT = 2048;
+  public static final PreparedStatementCachePolicy DEFAULT_PREPARED_STATEMENT_CACHE_POLICY = PreparedStatementCachePolicy.LRU;
   public static final Predicate<String> DEFAULT_PREPARED_STATEMENT_CACHE_FILTER = sql -> sql.length() < DEFAULT_PREPARED_STATEMENT_CACHE_SQL_LIMIT;
   public static final String DEFAULT_METRICS_NAME = "";
+  public static final boolean DEFAULT_ZERO_COPY_BUFFERS = false;
 
   private String host;
   private int port;
@@ -74,12 +76,14 @@ public class SqlConnectOptions {
   private boolean cachePreparedStatements;
   private int preparedStatementCacheMaxSize;
   private Predicate<String> preparedStatementCacheSqlFilter;
+  private PreparedStatementCachePolicy preparedStatementCachePolicy;
   private Map<String, String> properties;
   private TracingPolicy tracingPolicy;
   private int reconnectAttempts;
   private long reconnectInterval;
   private String metricsName;
   private ClientSSLOptions sslOptions;
+  private boolean zeroCopyBuffers;
 
   public SqlConnectOptions() {
     init();
@@ -99,6 +103,7 @@ public class SqlConnectOptions {
     this.cachePreparedStatements = other.cachePreparedStatements;
     this.preparedStatementCacheMaxSize = other.preparedStatementCacheMaxSize;
     this.preparedStatementCacheSqlFilter = other.preparedStatementCacheSqlFilter;
+    this.preparedStatementCachePolicy = other.preparedStatementCachePolicy;
     if (other.properties != null) {
       this.properties = new HashMap<>(other.properties);
     }
@@ -108,6 +113,7 @@ public class SqlConnectOptions {
     this.metricsName = other.metricsName;
     ClientSSLOptions sslOptions = other.sslOptions;
     this.sslOptions = sslOptions != null ? sslOptions.copy() : null;
+    this.zeroCopyBuffers = other.zeroCopyBuffers;
   }
 
   /**
@@ -292,6 +298,27 @@ public class SqlConnectOptions {
     return setPreparedStatementCacheSqlFilter(sql -> sql.length() <= preparedStatementCacheSqlLimit);
   }
 
+  /**
+   * Get the policy choosing the prepared statements kept in the cache once it is full.
+   *
+   * @return the policy
+   */
+  public PreparedStatementCachePolicy getPreparedStatementCachePolicy() {
+    return preparedStatementCachePolicy;
+  }
+
+  /**
+   * Set the policy choosing the prepared statements kept in the cache once it is full, the default policy is
+   * {@link PreparedStatementCachePolicy#LRU}.
+   *
+   * @param preparedStatementCachePolicy the policy
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SqlConnectOptions setPreparedStatementCachePolicy(PreparedStatementCachePolicy preparedStatementCachePolicy) {
+    this.preparedStatementCachePolicy = Objects.requireNonNull(preparedStatementCachePolicy);
+    return this;
+  }
+
   /**
    * @return the value of current connection properties
    */
@@ -423,6 +450,36 @@ public class SqlConnectOptions {
     return this;
   }
 
+  /**
+   * @return whether binary column values are returned as slices of the network buffers
+   */
+  public boolean getZeroCopyBuffers() {
+    return zeroCopyBuffers;
+  }
+
+  /**
+   * Set whether binary column values of the rows emitted by a {@link RowStream} are returned as read-only slices of
+   * the network buffers instead of copies.
+   *
+   * <p>A slice retains the network buffer, the stream handler must call {@link Row#release()} once it is done with
+   * the {@link io.vertx.core.buffer.Buffer} values of a row, e.g. after a buffer has been written to an HTTP response.
+   * A row that is not released leaks memory. The rows of a stream that are not emitted, e.g. when the stream is
+   * closed, are released by the stream.
+   *
+   * <p>The values of the rows of a {@link RowSet} or of a {@link java.util.stream.Collector} query are always copies,
+   * since these rows are not released by the application.
+   *
+   * <p>This is supported by the PostgreSQL client for {@code bytea} values of prepared queries, by the MySQL client
+   * and by the MSSQL client, other clients ignore this setting.
+   *
+   * @param zeroCopyBuffers whether to return slices of the network buffers
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SqlConnectOptions setZeroCopyBuffers(boolean zeroCopyBuffers) {
+    this.zeroCopyBuffers = zeroCopyBuffers;
+    return this;
+  }
+
   public JsonObject toJson() {
     JsonObject json = new JsonObject();
     SqlConnectOptionsConverter.toJson(this, json);
@@ -436,9 +493,11 @@ public class SqlConnectOptions {
     cachePreparedStatements = DEFAULT_CACHE_PREPARED_STATEMENTS;
     preparedStatementCacheMaxSize = DEFAULT_PREPARED_STATEMENT_CACHE_MAX_SIZE;
     preparedStatementCacheSqlFilter = DEFAULT_PREPARED_STATEMENT_CACHE_FILTER;
+    preparedStatementCachePolicy = DEFAULT_PREPARED_STATEMENT_CACHE_POLICY;
     properties = new HashMap<>(4);
     reconnectAttempts = DEFAULT_RECONNECT_ATTEMPTS;
     reconnectInterval = DEFAULT_RECONNECT_INTERVAL;
+    zeroCopyBuffers = DEFAULT_ZERO_COPY_BUFFERS;
   }
 
   /**
@@ -91,4 +91,12 @@ public interface SqlConnection extends SqlClient {
    */
   DatabaseMetadata databaseMetadata();
 
+  /**
+   * @return a snapshot of the counters of the connection prepared statement cache, or {@code null} when the connection
+   *         does not cache prepared statements
+   */
+  default PreparedStatementCacheStats preparedStatementCacheStats() {
+    return null;
+  }
+
 }
@@ -22,6 +22,7 @@ import io.vertx.core.net.NetClientOptions;
 import io.vertx.sqlclient.SqlConnectOptions;
 import io.vertx.sqlclient.spi.connection.Connection;
 import io.vertx.sqlclient.spi.connection.ConnectionFactory;
+import io.vertx.sqlclient.spi.metrics.SqlClientMetrics;
 
 /**
  * An base connection factory for creating database connections
@@ -71,9 +72,14 @@ public abstract class ConnectionFactoryBase<C extends SqlConnectOptions> impleme
 
   private void doConnectWithRetry(C options, PromiseInternal<Connection> promise, int remainingAttempts) {
     ContextInternal ctx = promise.context();
+    long startTime = System.nanoTime();
     doConnectInternal(options, ctx).onComplete(ar -> {
       if (ar.succeeded()) {
-        promise.complete(ar.result());
+        Connection conn = ar.result();
+        if (conn.metrics() instanceof SqlClientMetrics) {
+          ((SqlClientMetrics) conn.metrics()).connected(System.nanoTime() - startTime);
+        }
+        promise.complete(conn);
       } else {
         if (remainingAttempts > 0) {
           ctx.owner().setTimer(options.getReconnectInterval(), id -> {
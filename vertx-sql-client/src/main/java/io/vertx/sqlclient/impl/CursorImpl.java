@@ -29,6 +29,7 @@ import io.vertx.sqlclient.internal.TupleBase;
 import io.vertx.sqlclient.spi.connection.Connection;
 
 import java.util.UUID;
+import java.util.stream.Collector;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -40,18 +41,20 @@ public class CursorImpl implements Cursor {
   private final ContextInternal context;
   private final boolean autoCommit;
   private final TupleBase params;
+  final Collector<Row, RowSetImpl<Row>, RowSet<Row>> collector;
 
   private String id;
   private boolean closed;
   private RowDescriptor rowDescriptor;
   QueryResultBuilder<RowSet<Row>, RowSetImpl<Row>, RowSet<Row>> result;
 
-  CursorImpl(PreparedStatementBase ps, Connection conn, ContextInternal context, boolean autoCommit, TupleBase params) {
+  CursorImpl(PreparedStatementBase ps, Connection conn, ContextInternal context, boolean autoCommit, TupleBase params, Collector<Row, RowSetImpl<Row>, RowSet<Row>> collector) {
     this.ps = ps;
     this.conn = conn;
     this.context = context;
     this.autoCommit = autoCommit;
     this.params = params;
+    this.collector = collector;
   }
 
   @Override
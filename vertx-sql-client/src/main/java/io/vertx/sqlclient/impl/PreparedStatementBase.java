@@ -21,6 +21,7 @@ import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.PromiseInternal;
 import io.vertx.sqlclient.PrepareOptions;
 import io.vertx.sqlclient.PreparedQuery;
+import io.vertx.sqlclient.QueryResultCache;
 import io.vertx.sqlclient.internal.ArrayTuple;
 import io.vertx.sqlclient.spi.connection.Connection;
 import io.vertx.sqlclient.spi.protocol.CloseCursorCommand;
@@ -30,12 +31,15 @@ import io.vertx.sqlclient.PreparedStatement;
 import io.vertx.sqlclient.SqlResult;
 import io.vertx.sqlclient.RowSet;
 import io.vertx.sqlclient.RowStream;
+import io.vertx.sqlclient.RowStreamOptions;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.Tuple;
 import io.vertx.core.*;
 import io.vertx.sqlclient.spi.protocol.PrepareStatementCommand;
 import io.vertx.sqlclient.internal.TupleBase;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
@@ -51,6 +55,10 @@ public abstract class PreparedStatementBase implements PreparedStatement {
                                          io.vertx.sqlclient.internal.PreparedStatement preparedStatement,
                                          boolean autoCommit) {
     return new PreparedStatementBase(conn, context, autoCommit) {
+      @Override
+      protected String sql() {
+        return preparedStatement.sql();
+      }
       @Override
       protected <R, F extends SqlResult<R>> void executeBatch(List<Tuple> argsList, QueryExecutor<R, ?, F> builder, PromiseInternal<F> p) {
         builder.executeBatchQuery(conn, null, preparedStatement, autoCommit, argsList, p);
@@ -70,7 +78,7 @@ public abstract class PreparedStatementBase implements PreparedStatement {
       }
       @Override
       protected void readCursor(CursorImpl cursor, String id, boolean suspended, TupleBase params, int count, PromiseInternal<RowSet<Row>> promise) {
-        QueryExecutor<RowSet<Row>, RowSetImpl<Row>, RowSet<Row>> builder = new QueryExecutor<>(RowSetImpl.FACTORY, RowSetImpl.COLLECTOR);
+        QueryExecutor<RowSet<Row>, RowSetImpl<Row>, RowSet<Row>> builder = new QueryExecutor<>(RowSetImpl.FACTORY, cursor.collector);
         cursor.result = builder.executeExtendedQuery(conn, preparedStatement, null, autoCommit, params, count, id, suspended, promise);
       }
     };
@@ -79,6 +87,10 @@ public abstract class PreparedStatementBase implements PreparedStatement {
   public static PreparedStatement create(Connection conn, ContextInternal context, PrepareOptions options, String sql, boolean autoCommit) {
     return new PreparedStatementBase(conn, context, autoCommit) {
       Future<io.vertx.sqlclient.internal.PreparedStatement> future;
+      @Override
+      protected String sql() {
+        return sql;
+      }
       void withPreparedStatement(PrepareOptions options, Tuple args, Handler<AsyncResult<io.vertx.sqlclient.internal.PreparedStatement>> handler) {
         if (context.inThread()) {
           if (future == null) {
@@ -116,7 +128,7 @@ public abstract class PreparedStatementBase implements PreparedStatement {
       protected void readCursor(CursorImpl cursor, String id, boolean suspended, TupleBase params, int count, PromiseInternal<RowSet<Row>> promise) {
         withPreparedStatement(options, params, ar -> {
           if (ar.succeeded()) {
-            QueryExecutor<RowSet<Row>, RowSetImpl<Row>, RowSet<Row>> builder = new QueryExecutor<>(RowSetImpl.FACTORY, RowSetImpl.COLLECTOR);
+            QueryExecutor<RowSet<Row>, RowSetImpl<Row>, RowSet<Row>> builder = new QueryExecutor<>(RowSetImpl.FACTORY, cursor.collector);
             cursor.result = builder.executeExtendedQuery(conn, ar.result(), options, autoCommit, params, count, id, suspended, promise);
           } else {
             promise.fail(ar.cause());
@@ -166,6 +178,7 @@ public abstract class PreparedStatementBase implements PreparedStatement {
     this.closed = new AtomicBoolean();
   }
 
+  protected abstract String sql();
   protected abstract <R, F extends SqlResult<R>> void execute(Tuple args, int fetch, String cursorId, boolean suspended, QueryExecutor<R, ?, F> builder, PromiseInternal<F> p);
   protected abstract <R, F extends SqlResult<R>> void executeBatch(List<Tuple> argsList, QueryExecutor<R, ?, F> builder, PromiseInternal<F> p);
   protected abstract void close(Promise<Void> promise);
@@ -174,12 +187,19 @@ public abstract class PreparedStatementBase implements PreparedStatement {
 
   @Override
   public final PreparedQuery<RowSet<Row>> query() {
-    return new PreparedStatementQuery<>(new QueryExecutor<>(RowSetImpl.FACTORY, RowSetImpl.COLLECTOR));
+    return new PreparedStatementQuery<>(new QueryExecutor<>(RowSetImpl.FACTORY, RowSetImpl.COLLECTOR), null, null);
   }
 
   @Override
   public final Cursor cursor(Tuple args) {
-    return new CursorImpl(this, conn, context, autoCommit, (TupleBase) args);
+    return new CursorImpl(this, conn, context, autoCommit, (TupleBase) args, RowSetImpl.COLLECTOR);
+  }
+
+  /**
+   * Create the cursor reading the rows of a {@link RowStream}.
+   */
+  final CursorImpl streamCursor(Tuple args) {
+    return new CursorImpl(this, conn, context, autoCommit, (TupleBase) args, RowSetImpl.STREAM_COLLECTOR);
   }
 
   @Override
@@ -195,18 +215,46 @@ public abstract class PreparedStatementBase implements PreparedStatement {
 
   @Override
   public final RowStream<Row> createStream(int fetch, Tuple args) {
-    return new RowStreamImpl(this, context, fetch, args);
+    return createStream(fetch, 0, args);
+  }
+
+  @Override
+  public final RowStream<Row> createStream(int fetch, int readAhead, Tuple args) {
+    if (readAhead < 0) {
+      throw new IllegalArgumentException("Invalid read-ahead " + readAhead);
+    }
+    return new RowStreamImpl(this, context, fetch, readAhead, 0, args);
+  }
+
+  @Override
+  public final RowStream<Row> createStream(RowStreamOptions options, Tuple args) {
+    return new RowStreamImpl(this, context, options.getFetch(), options.getReadAhead(), options.getFetchBytes(), args);
   }
 
   private class PreparedStatementQuery<T, R extends SqlResult<T>> extends QueryBase<T, R> implements PreparedQuery<R> {
 
-    public PreparedStatementQuery(QueryExecutor<T, ?, R> builder) {
+    private final QueryResultCacheImpl cache;
+    private final List<String> tables;
+
+    public PreparedStatementQuery(QueryExecutor<T, ?, R> builder, QueryResultCacheImpl cache, List<String> tables) {
       super(builder);
+      this.cache = cache;
+      this.tables = tables;
     }
 
     @Override
     protected <T2, R2 extends SqlResult<T2>> QueryBase<T2, R2> copy(QueryExecutor<T2, ?, R2> builder) {
-      return new PreparedStatementQuery<>(builder);
+      return new PreparedStatementQuery<>(builder, cache, tables);
+    }
+
+    @Override
+    public PreparedQuery<R> cached(QueryResultCache cache) {
+      return cached(cache, Collections.emptyList());
+    }
+
+    @Override
+    public PreparedQuery<R> cached(QueryResultCache cache, List<String> tables) {
+      return new PreparedStatementQuery<>(builder, (QueryResultCacheImpl) cache, new ArrayList<>(tables));
     }
 
     @Override
@@ -227,7 +275,11 @@ public abstract class PreparedStatementBase implements PreparedStatement {
     @Override
     public Future<R> execute(Tuple args) {
       PromiseInternal<R> promise = context.promise();
-      PreparedStatementBase.this.execute(args, 0, null, false, builder, promise);
+      if (cache != null) {
+        cache.execute(conn, sql(), args, builder.collector(), tables, promise, p -> PreparedStatementBase.this.execute(args, 0, null, false, builder, p));
+      } else {
+        PreparedStatementBase.this.execute(args, 0, null, false, builder, promise);
+      }
       return promise.future();
     }
 
@@ -47,6 +47,13 @@ public class QueryExecutor<T, R extends SqlResultBase<T>, L extends SqlResult<T>
     this.collector = collector;
   }
 
+  /**
+   * @return the collector of the query results
+   */
+  public Collector<Row, ?, T> collector() {
+    return collector;
+  }
+
   private QueryResultBuilder<T, R, L> createHandler(PromiseInternal<L> promise) {
     return new QueryResultBuilder<>(factory, promise);
   }
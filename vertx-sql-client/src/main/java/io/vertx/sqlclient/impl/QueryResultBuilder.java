@@ -46,12 +46,18 @@ public class QueryResultBuilder<T, R extends SqlResultBase<T>, L extends SqlResu
 
   @Override
   public void handleResult(int updatedCount, int size, RowDescriptorBase desc, T result, Throwable failure) {
+    handleResult(updatedCount, size, 0L, desc, result, failure);
+  }
+
+  @Override
+  public void handleResult(int updatedCount, int size, long bytes, RowDescriptorBase desc, T result, Throwable failure) {
     if (failure != null) {
       this.failure = failure;
     } else {
       R r = factory.apply(result);
       r.updated = updatedCount;
       r.size = size;
+      r.bytes = bytes;
       r.rowDescriptor = desc;
       handleResult(r);
     }
@@ -93,6 +99,28 @@ public class QueryResultBuilder<T, R extends SqlResultBase<T>, L extends SqlResu
     }
   }
 
+  /**
+   * @return the number of rows of the results built so far
+   */
+  public long rows() {
+    long rows = 0;
+    for (SqlResultBase<?> r = first;r != null;r = (SqlResultBase<?>) r.next) {
+      rows += r.size;
+    }
+    return rows;
+  }
+
+  /**
+   * @return the number of bytes of the decoded rows of the results built so far
+   */
+  public long bytes() {
+    long bytes = 0;
+    for (SqlResultBase<?> r = first;r != null;r = (SqlResultBase<?>) r.next) {
+      bytes += r.bytes;
+    }
+    return bytes;
+  }
+
   public boolean isSuspended() {
     return suspended;
   }
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.internal.PromiseInternal;
+import io.vertx.sqlclient.QueryResultCache;
+import io.vertx.sqlclient.QueryResultCacheOptions;
+import io.vertx.sqlclient.Tuple;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class QueryResultCacheImpl implements QueryResultCache {
+
+  private final long ttl;
+  private final Map<Key, CachedResult> entries;
+
+  public QueryResultCacheImpl(QueryResultCacheOptions options) {
+    int maxSize = options.getMaxSize();
+    this.ttl = options.getTtlUnit().toNanos(options.getTtl());
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, CachedResult> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  /**
+   * Complete {@code promise} with the cached result of the query or execute the query with {@code executor} when
+   * the result is missing or has expired.
+   *
+   * <p>Only the results of the default {@link RowSetImpl#COLLECTOR} are cached, other collectors do not have a
+   * stable identity, e.g. {@code mapping} creates a collector for each query, such queries are executed without
+   * the cache.
+   *
+   * @param client the client executing the query, results are never shared between clients
+   * @param sql the query sql
+   * @param arguments the query arguments
+   * @param collector the query collector
+   * @param tables the tables tagging the result
+   * @param promise the promise to complete
+   * @param executor the query executor
+   */
+  public <R> void execute(Object client, String sql, Tuple arguments, Object collector, List<String> tables, PromiseInternal<R> promise, Consumer<PromiseInternal<R>> executor) {
+    if (collector != RowSetImpl.COLLECTOR) {
+      executor.accept(promise);
+      return;
+    }
+    Key key = new Key(client, sql, arguments);
+    PromiseInternal<R> execution = null;
+    CachedResult entry;
+    synchronized (this) {
+      entry = entries.get(key);
+      if (entry != null && entry.isExpired(System.nanoTime())) {
+        entries.remove(key);
+        entry = null;
+      }
+      if (entry == null) {
+        execution = promise.context().promise();
+        entry = new CachedResult(tables, execution.future());
+        entries.put(key, entry);
+      }
+    }
+    if (execution != null) {
+      CachedResult e = entry;
+      execution.future().onComplete(ar -> {
+        synchronized (QueryResultCacheImpl.this) {
+          if (ar.succeeded()) {
+            e.expiresAt = System.nanoTime() + ttl;
+            e.completed = true;
+          } else {
+            entries.remove(key, e);
+          }
+        }
+      });
+      executor.accept(execution);
+    }
+    ((Future<R>) entry.future).onComplete(promise);
+  }
+
+  @Override
+  public synchronized void invalidate() {
+    entries.clear();
+  }
+
+  @Override
+  public synchronized void invalidate(String table) {
+    Iterator<CachedResult> it = entries.values().iterator();
+    while (it.hasNext()) {
+      if (it.next().tables.contains(table)) {
+        it.remove();
+      }
+    }
+  }
+
+  @Override
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  private static class CachedResult {
+
+    final List<String> tables;
+    final Future<?> future;
+    boolean completed;
+    long expiresAt;
+
+    CachedResult(List<String> tables, Future<?> future) {
+      this.tables = tables;
+      this.future = future;
+    }
+
+    boolean isExpired(long now) {
+      return completed && now - expiresAt >= 0;
+    }
+  }
+
+  private static class Key {
+
+    final Object client;
+    final String sql;
+    final Object[] values;
+    final int hashCode;
+
+    Key(Object client, String sql, Tuple arguments) {
+      int size = arguments.size();
+      Object[] values = new Object[size];
+      for (int i = 0;i < size;i++) {
+        values[i] = arguments.getValue(i);
+      }
+      this.client = client;
+      this.sql = sql;
+      this.values = values;
+      this.hashCode = Objects.hash(System.identityHashCode(client), sql, Arrays.deepHashCode(values));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) obj;
+      return client == that.client && sql.equals(that.sql) && Arrays.deepEquals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
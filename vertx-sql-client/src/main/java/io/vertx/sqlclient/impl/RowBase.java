@@ -1,10 +1,15 @@
 package io.vertx.sqlclient.impl;
 
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.desc.RowDescriptor;
 import io.vertx.sqlclient.internal.ArrayTuple;
 import io.vertx.sqlclient.internal.RowDescriptorBase;
 import io.vertx.sqlclient.internal.RowInternal;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
@@ -14,6 +19,7 @@ import java.util.List;
 public class RowBase extends ArrayTuple implements RowInternal {
 
   private boolean released;
+  private List<ByteBuf> retained;
   protected final RowDescriptorBase desc;
 
   public RowBase(RowDescriptorBase desc) {
@@ -34,6 +40,11 @@ public class RowBase extends ArrayTuple implements RowInternal {
     this.desc = desc;
   }
 
+  @Override
+  public RowDescriptor rowDescriptor() {
+    return desc;
+  }
+
   @Override
   public String getColumnName(int pos) {
     List<String> columnNames = desc.columnNames();
@@ -48,9 +59,31 @@ public class RowBase extends ArrayTuple implements RowInternal {
     return desc.columnIndex(name);
   }
 
+  /**
+   * Wrap a retained network buffer as a read-only {@link Buffer} value of this row, the network buffer is released
+   * when the row is released.
+   *
+   * @param buf the retained buffer, e.g. a {@link ByteBuf#retainedSlice(int, int)} of the message
+   * @return the buffer value
+   */
+  public Buffer retainedBuffer(ByteBuf buf) {
+    if (retained == null) {
+      retained = new ArrayList<>(2);
+    }
+    retained.add(buf);
+    return BufferInternal.buffer(buf.asReadOnly());
+  }
+
   @Override
   public void release() {
     released = true;
+    List<ByteBuf> list = retained;
+    if (list != null) {
+      retained = null;
+      for (ByteBuf buf : list) {
+        buf.release();
+      }
+    }
   }
 
   @Override
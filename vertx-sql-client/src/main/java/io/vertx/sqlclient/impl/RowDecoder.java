@@ -19,6 +19,8 @@ package io.vertx.sqlclient.impl;
 
 import io.netty.buffer.ByteBuf;
 import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.internal.ColumnarRowSetImpl;
+import io.vertx.sqlclient.internal.QueryProfile;
 import io.vertx.sqlclient.internal.RowInternal;
 
 import java.util.function.BiConsumer;
@@ -31,9 +33,12 @@ public abstract class RowDecoder<C, R> {
 
   private RowInternal row;
   private int size;
+  private long bytes;
   private C container;
+  private ColumnarRowSetImpl columns;
   private Throwable failure;
   private R result;
+  private QueryProfile profile;
 
   protected RowDecoder(Collector<Row, C, R> collector) {
     this.collector = collector;
@@ -43,13 +48,64 @@ public abstract class RowDecoder<C, R> {
 
   protected abstract RowInternal row();
 
+  /**
+   * @return whether the decoded rows are emitted one by one by a {@link io.vertx.sqlclient.RowStream}, the stream
+   *         handler then owns each row and releases it, so only such rows can retain network buffers
+   */
+  protected final boolean streamed() {
+    return collector == RowSetImpl.STREAM_COLLECTOR;
+  }
+
   public int size() {
     return size;
   }
 
+  /**
+   * @return the number of bytes of the decoded rows
+   */
+  public long bytes() {
+    return bytes;
+  }
+
+  /**
+   * Profile the decoding of the rows with the given {@code profile}.
+   *
+   * @param profile the profile or {@code null} when the query is not profiled
+   */
+  public void profile(QueryProfile profile) {
+    this.profile = profile;
+  }
+
   protected abstract boolean decodeRow(int len, ByteBuf in, Row row);
 
+  /**
+   * Decode a row straight into the column vectors of a columnar row set, without creating a row.
+   *
+   * @return {@code false} when columnar decoding is not supported, {@code in} shall not be read then and the row is
+   *         decoded with {@link #decodeRow(int, ByteBuf, Row)}
+   */
+  protected boolean decodeColumns(int len, ByteBuf in, ColumnarRowSetImpl columns) {
+    return false;
+  }
+
   public void handleRow(int len, ByteBuf in) {
+    int start = in.readerIndex();
+    QueryProfile p = profile;
+    if (p == null) {
+      doHandleRow(len, in);
+    } else {
+      long startTime = System.nanoTime();
+      doHandleRow(len, in);
+      p.rowHandled(startTime, System.nanoTime() - startTime);
+    }
+    bytes += in.readerIndex() - start;
+  }
+
+  private void doHandleRow(int len, ByteBuf in) {
+    if (columns != null && failure == null && decodeColumns(len, in, columns)) {
+      size++;
+      return;
+    }
     RowInternal r = row;
     if (r == null) {
       r = row();
@@ -57,7 +113,10 @@ public abstract class RowDecoder<C, R> {
       row = null;
     }
     boolean decoded = decodeRow(len, in, r);
-    if (decoded && failure == null) {
+    if (!decoded || failure != null) {
+      // The row is discarded, release the buffers it might retain
+      r.release();
+    } else {
       if (accumulator == null) {
         try {
           accumulator = collector.accumulator();
@@ -67,7 +126,14 @@ public abstract class RowDecoder<C, R> {
         }
       }
       try {
-        accumulator.accept(container, r);
+        QueryProfile p = profile;
+        if (p == null) {
+          accumulator.accept(container, r);
+        } else {
+          long startTime = System.nanoTime();
+          accumulator.accept(container, r);
+          p.collected(System.nanoTime() - startTime);
+        }
       } catch (Exception e) {
         failure = e;
         return;
@@ -85,7 +151,14 @@ public abstract class RowDecoder<C, R> {
 
   public Throwable complete() {
     try {
-      result = collector.finisher().apply(container);
+      QueryProfile p = profile;
+      if (p == null) {
+        result = collector.finisher().apply(container);
+      } else {
+        long startTime = System.nanoTime();
+        result = collector.finisher().apply(container);
+        p.collected(System.nanoTime() - startTime);
+      }
     } catch (Exception e) {
       failure = e;
     }
@@ -94,10 +167,15 @@ public abstract class RowDecoder<C, R> {
 
   public void reset() {
     size = 0;
+    bytes = 0L;
     failure = null;
     result = null;
+    columns = null;
     try {
       this.container = collector.supplier().get();
+      if (container instanceof ColumnarRowSetImpl) {
+        columns = (ColumnarRowSetImpl) container;
+      }
     } catch (Exception e) {
       failure = e;
     }
@@ -36,6 +36,17 @@ public class RowSetImpl<R> extends SqlResultBase<RowSet<R>> implements RowSet<R>
     (set) -> set
   );
 
+  /**
+   * Collects the rows read by a {@link io.vertx.sqlclient.RowStream}, it behaves like {@link #COLLECTOR} and
+   * identifies the rows that are handed one by one to the stream handler.
+   */
+  public static final Collector<Row, RowSetImpl<Row>, RowSet<Row>> STREAM_COLLECTOR = Collector.of(
+    RowSetImpl::new,
+    RowSetImpl::add,
+    (set1, set2) -> null, // Shall not be invoked as this is sequential
+    (set) -> set
+  );
+
   static <U> Collector<Row, RowSetImpl<U>, RowSet<U>> collector(Function<Row, U> mapper) {
     return Collector.of(
       RowSetImpl::new,
@@ -24,13 +24,15 @@ import io.vertx.core.internal.ContextInternal;
 import io.vertx.sqlclient.*;
 import io.vertx.sqlclient.desc.RowDescriptor;
 
+import java.util.ArrayDeque;
 import java.util.Iterator;
 
 public class RowStreamImpl implements RowStreamInternal, Handler<AsyncResult<RowSet<Row>>> {
 
   private final PreparedStatementBase ps;
   private final ContextInternal context;
-  private final int fetch;
+  private final int readAhead;
+  private final int fetchBytes;
   private final Tuple params;
 
   private Handler<Void> endHandler;
@@ -41,13 +43,20 @@ public class RowStreamImpl implements RowStreamInternal, Handler<AsyncResult<Row
   private Cursor cursor;
   private boolean readInProgress;
   private Iterator<Row> result;
+  private final ArrayDeque<Iterator<Row>> prefetched;
+  private long buffered;
+  private int fetch;
+  private double rowBytes;
 
-  RowStreamImpl(PreparedStatementBase ps, ContextInternal context, int fetch, Tuple params) {
+  RowStreamImpl(PreparedStatementBase ps, ContextInternal context, int fetch, int readAhead, int fetchBytes, Tuple params) {
     this.ps = ps;
     this.context = context;
     this.fetch = fetch;
+    this.readAhead = readAhead;
+    this.fetchBytes = fetchBytes;
     this.params = params;
     this.demand = Long.MAX_VALUE;
+    this.prefetched = new ArrayDeque<>();
   }
 
   public synchronized Cursor cursor() {
@@ -72,7 +81,7 @@ public class RowStreamImpl implements RowStreamInternal, Handler<AsyncResult<Row
       if (handler != null) {
         if (cursor == null) {
           rowHandler = handler;
-          c = cursor = ps.cursor(params);
+          c = cursor = ps.streamCursor(params);
           if (readInProgress) {
             return this;
           }
@@ -86,7 +95,7 @@ public class RowStreamImpl implements RowStreamInternal, Handler<AsyncResult<Row
           cursor.close();
           readInProgress = false;
           cursor = null;
-          result = null; // Will stop the current emission if any
+          discard(); // Will stop the current emission if any
         }
         return this;
       }
@@ -134,7 +143,7 @@ public class RowStreamImpl implements RowStreamInternal, Handler<AsyncResult<Row
       synchronized (this) {
         readInProgress = false;
         cursor = null;
-        result = null;
+        discard();
         handler = exceptionHandler;
       }
       if (handler != null) {
@@ -143,9 +152,23 @@ public class RowStreamImpl implements RowStreamInternal, Handler<AsyncResult<Row
     } else {
       synchronized (this) {
         readInProgress = false;
-        RowIterator<Row> it = ar.result().iterator();
+        RowSet<Row> rows = ar.result();
+        if (cursor == null) {
+          // The stream was closed during the read
+          release(rows.iterator());
+          return;
+        }
+        if (fetchBytes > 0) {
+          adaptFetch((SqlResultBase<?>) rows);
+        }
+        RowIterator<Row> it = rows.iterator();
         if (it.hasNext()) {
-          result = it;
+          if (result == null) {
+            result = it;
+          } else {
+            prefetched.add(it);
+          }
+          buffered += rows.size();
         }
       }
       checkPending();
@@ -158,6 +181,7 @@ public class RowStreamImpl implements RowStreamInternal, Handler<AsyncResult<Row
     synchronized (this) {
       c = cursor;
       cursor = null;
+      discard();
     }
     if (c != null) {
       return c.close();
@@ -166,8 +190,61 @@ public class RowStreamImpl implements RowStreamInternal, Handler<AsyncResult<Row
     }
   }
 
+  /**
+   * Release the rows that were read but not emitted, these rows might retain network buffers.
+   */
+  private void discard() {
+    if (result != null) {
+      release(result);
+      result = null;
+    }
+    Iterator<Row> it;
+    while ((it = prefetched.poll()) != null) {
+      release(it);
+    }
+    buffered = 0L;
+  }
+
+  private static void release(Iterator<Row> it) {
+    while (it.hasNext()) {
+      it.next().release();
+    }
+  }
+
+  /**
+   * Size the next cursor read to fetch {@code fetchBytes} bytes, according to the observed bytes per row. When rows
+   * are still buffered as a read completes the consumer is slower than the database, the fetch size is then halved
+   * to bound the memory held by the stream.
+   */
+  private void adaptFetch(SqlResultBase<?> rows) {
+    if (rows.size == 0 || rows.bytes == 0L) {
+      // Nothing observed, e.g. the database does not report row sizes
+      return;
+    }
+    double observed = (double) rows.bytes / rows.size;
+    rowBytes = rowBytes == 0D ? observed : (rowBytes + observed) / 2D;
+    int target = (int) Math.max(1D, Math.min(Integer.MAX_VALUE, fetchBytes / rowBytes));
+    if (result != null) {
+      target = Math.min(target, Math.max(1, fetch / 2));
+    }
+    fetch = target;
+  }
+
+  /**
+   * Issue the next cursor read while buffered rows are still being emitted, as long as the read-ahead depth
+   * is not reached and the demand exceeds the buffered rows.
+   */
+  private void readAhead() {
+    if (readAhead > 0 && !readInProgress && cursor != null && result != null && prefetched.size() < readAhead
+      && demand > buffered && cursor.hasMore()) {
+      readInProgress = true;
+      cursor.read(fetch).onComplete(this);
+    }
+  }
+
   private void checkPending() {
     synchronized (RowStreamImpl.this) {
+      readAhead();
       if (emitting) {
         return;
       }
@@ -187,8 +264,10 @@ public class RowStreamImpl implements RowStreamInternal, Handler<AsyncResult<Row
           if (demand != Long.MAX_VALUE) {
             demand--;
           }
+          buffered--;
           if (!result.hasNext()) {
-            result = null;
+            result = prefetched.poll();
+            readAhead();
           }
         } else {
           emitting = false;
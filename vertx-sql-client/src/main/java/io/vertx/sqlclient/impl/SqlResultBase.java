@@ -30,6 +30,7 @@ public abstract class SqlResultBase<T> implements SqlResult<T> {
   int updated;
   RowDescriptorBase rowDescriptor;
   int size;
+  long bytes;
   SqlResult<T> next;
   protected PropertyKindMap properties;
 
@@ -76,6 +76,11 @@ public class CloseablePool implements Pool, SqlClientInternal {
     return delegate.size();
   }
 
+  @Override
+  public Future<Void> warmup() {
+    return delegate.warmup();
+  }
+
   @Override
   public PreparedQuery<RowSet<Row>> preparedQuery(String sql, PrepareOptions options) {
     return delegate.preparedQuery(sql, options);
@@ -53,6 +53,8 @@ public class PoolImpl extends SqlClientBase implements Pool, Closeable {
   private final long connectionTimeout;
   private final long maxLifetime;
   private final long cleanerPeriod;
+  private final boolean idleValidation;
+  private final int minSize;
   private final boolean pipelined;
   private final Handler<SqlConnection> connectionInitializer;
   private final ConnectionWrapper<?> connectionWrapper;
@@ -86,12 +88,18 @@ public class PoolImpl extends SqlClientBase implements Pool, Closeable {
     this.connectionTimeout = MILLISECONDS.convert(poolOptions.getConnectionTimeout(), poolOptions.getConnectionTimeoutUnit());
     this.maxLifetime = MILLISECONDS.convert(poolOptions.getMaxLifetime(), poolOptions.getMaxLifetimeUnit());
     this.cleanerPeriod = poolOptions.getPoolCleanerPeriod();
+    this.idleValidation = poolOptions.isIdleValidation() && poolOptions.getValidationInterval() > 0;
+    this.minSize = poolOptions.getMinSize();
     this.timerID = -1L;
     this.pipelined = pipelined;
     this.vertx = vertx;
     this.pool = new SqlConnectionPool(connectionProvider, connectionFactory, poolMetrics, hook, afterAcquire,
-      beforeRecycle, vertx, idleTimeout, maxLifetime, poolOptions.getMaxSize(), pipelined,
-      poolOptions.getMaxWaitQueueSize(), poolOptions.getEventLoopSize());
+      beforeRecycle, vertx, idleTimeout, maxLifetime,
+      MILLISECONDS.convert(poolOptions.getMaxLifetimeJitter(), poolOptions.getMaxLifetimeUnit()),
+      poolOptions.getLifetimeRotationLimit(),
+      MILLISECONDS.convert(poolOptions.getValidationInterval(), poolOptions.getValidationIntervalUnit()),
+      idleValidation, poolOptions.getMaxSize(), minSize, pipelined,
+      poolOptions.getMaxWaitQueueSize(), poolOptions.getEventLoopSize(), poolOptions.getConnectionSelectionStrategy());
     this.closeFuture = closeFuture;
     this.connectionInitializer = connectionInitializer;
   }
@@ -107,7 +115,7 @@ public class PoolImpl extends SqlClientBase implements Pool, Closeable {
 
   public Pool init() {
     closeFuture.add(this);
-    if ((idleTimeout > 0 || maxLifetime > 0) && cleanerPeriod > 0) {
+    if ((idleTimeout > 0 || maxLifetime > 0 || minSize > 0 || idleValidation) && cleanerPeriod > 0) {
       synchronized (this) {
         timerID = vertx.setTimer(cleanerPeriod, id -> {
           runEviction();
@@ -128,6 +136,15 @@ public class PoolImpl extends SqlClientBase implements Pool, Closeable {
       });
     }
     pool.evict();
+    if (minSize > 0) {
+      // Failures are retried at the next period
+      pool.fill();
+    }
+  }
+
+  @Override
+  public Future<Void> warmup() {
+    return pool.fill();
   }
 
   @Override
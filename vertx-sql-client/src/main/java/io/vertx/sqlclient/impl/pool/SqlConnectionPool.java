@@ -12,6 +12,7 @@
 package io.vertx.sqlclient.impl.pool;
 
 import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
 import io.vertx.core.*;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.PromiseInternal;
@@ -23,30 +24,39 @@ import io.vertx.core.spi.metrics.ClientMetrics;
 import io.vertx.core.spi.metrics.PoolMetrics;
 import io.vertx.core.spi.tracing.VertxTracer;
 import io.vertx.core.tracing.TracingPolicy;
+import io.vertx.sqlclient.ConnectionSelectionStrategy;
+import io.vertx.sqlclient.PreparedStatementCacheStats;
 import io.vertx.sqlclient.SqlConnectOptions;
 import io.vertx.sqlclient.impl.tracing.QueryReporter;
 import io.vertx.sqlclient.spi.DatabaseMetadata;
 import io.vertx.sqlclient.spi.connection.Connection;
 import io.vertx.sqlclient.spi.connection.ConnectionContext;
 import io.vertx.sqlclient.spi.connection.ConnectionFactory;
+import io.vertx.sqlclient.spi.metrics.SqlClientMetrics;
 import io.vertx.sqlclient.spi.protocol.CommandBase;
 import io.vertx.sqlclient.spi.protocol.QueryCommandBase;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
- * Todo :
- *
- * - for per statement pooling, have several physical connection and use the less busy one to avoid head of line blocking effect
- *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
 public class SqlConnectionPool {
 
   private static final Object NO_METRICS = new Object();
+  private static final AtomicIntegerFieldUpdater<Waiter> WAITER_STATE = AtomicIntegerFieldUpdater.newUpdater(Waiter.class, "state");
 
   private final Function<Context, Future<Connection>> connectionProvider;
   private final ConnectionFactory<?> connectionFactory;
@@ -59,7 +69,20 @@ public class SqlConnectionPool {
   private final boolean pipelined;
   private final long idleTimeout;
   private final long maxLifetime;
+  private final long maxLifetimeJitter;
+  private final int lifetimeRotationLimit;
+  private final long validationInterval;
+  private final boolean idleValidation;
   private final int maxSize;
+  private final int minSize;
+  private final Set<EventLoop> partitions;
+  private final int partitionSize;
+  private final boolean fastPath;
+  private final ConcurrentHashMap<EventLoop, IdleConnections> idle = new ConcurrentHashMap<>();
+  private final AtomicInteger waiters = new AtomicInteger();
+  private final Set<ContextInternal> fillers = ConcurrentHashMap.newKeySet();
+  private Future<Void> filling;
+  private boolean rotating;
 
   // TODO : use connection provider with Connection instead of SqlConnection
   public <O extends SqlConnectOptions> SqlConnectionPool(Supplier<Future<O>> optionsProvider,
@@ -71,39 +94,100 @@ public class SqlConnectionPool {
                            VertxInternal vertx,
                            long idleTimeout,
                            long maxLifetime,
+                           long maxLifetimeJitter,
+                           int lifetimeRotationLimit,
+                           long validationInterval,
+                           boolean idleValidation,
                            int maxSize,
+                           int minSize,
                            boolean pipelined,
                            int maxWaitQueueSize,
-                           int eventLoopSize) {
+                           int eventLoopSize,
+                           ConnectionSelectionStrategy selectionStrategy) {
     if (maxSize < 1) {
       throw new IllegalArgumentException("Pool max size must be > 0");
     }
+    if (minSize > maxSize) {
+      throw new IllegalArgumentException("Pool min size must be <= max size");
+    }
     if (afterAcquire != null && beforeRecycle == null) {
       throw new IllegalArgumentException("afterAcquire and beforeRecycle hooks must be both not null");
     }
     this.pool = ConnectionPool.pool(connector, new int[]{maxSize}, maxWaitQueueSize);
+    EventLoop[] loops;
+    if (eventLoopSize > 0) {
+      loops = new EventLoop[eventLoopSize];
+      for (int i = 0; i < eventLoopSize; i++) {
+        loops[i] = vertx.nettyEventLoopGroup().next();
+      }
+    } else {
+      loops = null;
+    }
+    if (selectionStrategy == ConnectionSelectionStrategy.EVENT_LOOP_AFFINE) {
+      int count;
+      if (loops != null) {
+        partitions = new HashSet<>(List.of(loops));
+        count = partitions.size();
+      } else {
+        // Connections are bound to the caller event-loop, any event-loop is a partition
+        partitions = null;
+        count = 0;
+        for (EventExecutor ignore : vertx.nettyEventLoopGroup()) {
+          count++;
+        }
+      }
+      partitionSize = Math.max(1, (maxSize + count - 1) / count);
+    } else {
+      partitions = null;
+      partitionSize = maxSize;
+    }
+    BiFunction<PoolWaiter<PooledConnection>, List<PoolConnection<PooledConnection>>, PoolConnection<PooledConnection>> selector;
+    switch (selectionStrategy) {
+      case LEAST_LOADED:
+        selector = this::selectLeastLoaded;
+        break;
+      case EVENT_LOOP_AFFINE:
+        selector = this::selectEventLoopAffine;
+        break;
+      default:
+        selector = minSize > 0 || lifetimeRotationLimit > 0 ? SqlConnectionPool::selectSameEventLoop : null;
+        break;
+    }
+    if (minSize > 0 || lifetimeRotationLimit > 0) {
+      // Fill requests never select an existing connection, so the pool opens a new one
+      pool.connectionSelector((waiter, connections) -> fillers.contains(waiter.context()) ? null : selector.apply(waiter, connections));
+    } else if (selector != null) {
+      pool.connectionSelector(selector);
+    }
     this.connectionFactory = connectionFactory;
     this.metrics = metrics;
     this.vertx = vertx;
     this.pipelined = pipelined;
     this.idleTimeout = idleTimeout;
     this.maxLifetime = maxLifetime;
+    this.maxLifetimeJitter = Math.min(maxLifetimeJitter, maxLifetime);
+    this.lifetimeRotationLimit = lifetimeRotationLimit;
+    this.validationInterval = validationInterval;
+    this.idleValidation = idleValidation;
     this.maxSize = maxSize;
+    this.minSize = minSize;
     this.hook = hook;
     this.connectionProvider = context -> connectionFactory.connect(context, optionsProvider.get());
     this.afterAcquire = afterAcquire;
     this.beforeRecycle = beforeRecycle;
+    // Pool metrics and acquire hooks observe every acquisition, pipelined connections are shared between commands
+    this.fastPath = !pipelined && metrics == null && afterAcquire == null;
 
-    if (eventLoopSize > 0) {
-      EventLoop[] loops = new EventLoop[eventLoopSize];
-      for (int i = 0; i < eventLoopSize; i++) {
-        loops[i] = vertx.nettyEventLoopGroup().next();
-      }
+    if (loops != null) {
       pool.contextProvider(new Function<>() {
         int idx = 0;
 
         @Override
         public ContextInternal apply(ContextInternal contextInternal) {
+          if (partitions != null && partitions.contains(contextInternal.nettyEventLoop())) {
+            // Grow the caller partition
+            return vertx.contextBuilder().withEventLoop(contextInternal.nettyEventLoop()).build();
+          }
           EventLoop loop = loops[idx++];
           if (idx == loops.length) {
             idx = 0;
@@ -116,13 +200,78 @@ public class SqlConnectionPool {
     }
   }
 
+  /**
+   * Select the connection with the fewest in-flight commands, preferring the waiter context on ties. When every
+   * connection is busy and the pool has not reached its max size, no connection is selected so the pool creates a
+   * new one instead of queuing the command behind the in-flight commands.
+   */
+  private PoolConnection<PooledConnection> selectLeastLoaded(PoolWaiter<PooledConnection> waiter, List<PoolConnection<PooledConnection>> connections) {
+    PoolConnection<PooledConnection> selected = null;
+    int size = connections.size();
+    for (int i = 0;i < size;i++) {
+      PoolConnection<PooledConnection> connection = connections.get(i);
+      if (connection.available() > 0) {
+        if (selected == null || connection.usage() < selected.usage() ||
+          (connection.usage() == selected.usage() && connection.context() == waiter.context() && selected.context() != waiter.context())) {
+          selected = connection;
+        }
+      }
+    }
+    if (selected != null && selected.usage() > 0 && size < maxSize) {
+      return null;
+    }
+    return selected;
+  }
+
+  /**
+   * Select an available connection of the waiter event-loop partition. When the partition has no available connection
+   * and holds less than its share of the pool, no connection is selected so the pool creates a new one on the waiter
+   * event-loop, otherwise an available connection of another partition is stolen.
+   */
+  private PoolConnection<PooledConnection> selectEventLoopAffine(PoolWaiter<PooledConnection> waiter, List<PoolConnection<PooledConnection>> connections) {
+    EventLoop eventLoop = waiter.context().nettyEventLoop();
+    PoolConnection<PooledConnection> stolen = null;
+    int local = 0;
+    int size = connections.size();
+    for (int i = 0;i < size;i++) {
+      PoolConnection<PooledConnection> connection = connections.get(i);
+      if (connection.context().nettyEventLoop() == eventLoop) {
+        if (connection.available() > 0) {
+          return connection;
+        }
+        local++;
+      } else if (stolen == null && connection.available() > 0) {
+        stolen = connection;
+      }
+    }
+    boolean partitioned = partitions == null || partitions.contains(eventLoop);
+    if (partitioned && local < partitionSize && size < maxSize) {
+      return null;
+    }
+    return stolen;
+  }
+
+  /**
+   * The pool default selection: an available connection on the waiter event-loop.
+   */
+  private static PoolConnection<PooledConnection> selectSameEventLoop(PoolWaiter<PooledConnection> waiter, List<PoolConnection<PooledConnection>> connections) {
+    int size = connections.size();
+    for (int i = 0;i < size;i++) {
+      PoolConnection<PooledConnection> connection = connections.get(i);
+      if (connection.context().nettyEventLoop() == waiter.context().nettyEventLoop() && connection.available() > 0) {
+        return connection;
+      }
+    }
+    return null;
+  }
+
   private final PoolConnector<PooledConnection> connector = new PoolConnector<>() {
     @Override
     public Future<ConnectResult<PooledConnection>> connect(ContextInternal context, Listener listener) {
       Future<Connection> future = connectionProvider.apply(context);
       return future.compose(conn -> {
         if (conn.isValid()) {
-          PooledConnection pooled = new PooledConnection(connectionFactory, conn, listener);
+          PooledConnection pooled = new PooledConnection(connectionFactory, conn, context, listener);
           conn.init(pooled);
           if (hook != null) {
             Promise<ConnectResult<PooledConnection>> p = Promise.promise();
@@ -153,16 +302,180 @@ public class SqlConnectionPool {
   }
 
   public void evict() {
+    // Parked connections are only visible to the pool once released, they are evicted at the next period
+    releaseIdle();
     long now = System.currentTimeMillis();
-    pool.evict(conn -> conn.shouldEvict(now), (res, err) -> {
+    boolean rotate;
+    synchronized (this) {
+      rotate = !rotating;
+    }
+    int[] remaining = { pool.size() };
+    int[] retiring = { 0 };
+    List<PooledConnection> validating = new ArrayList<>();
+    pool.evict(conn -> {
+      if (conn.hasLifetimeExpired(now)) {
+        if (lifetimeRotationLimit == 0) {
+          // Expired connections are replaced by the next fill
+          remaining[0]--;
+          return true;
+        }
+        // Expired connections are retired once their replacement is opened, a rotation in progress keeps its
+        // connections marked
+        if (rotate) {
+          if (!conn.retiring && retiring[0] < lifetimeRotationLimit) {
+            conn.retiring = true;
+          }
+          if (conn.retiring) {
+            retiring[0]++;
+          }
+        }
+        return false;
+      }
+      // Idle connections are kept down to the min size
+      if (conn.hasIdleExpired(now) && remaining[0] > minSize) {
+        remaining[0]--;
+        return true;
+      }
+      // Idle connections due for validation are kept in the pool while they are pinged
+      if (idleValidation && conn.isValidationDue(now)) {
+        conn.validationTimestamp = now;
+        validating.add(conn);
+      }
+      return false;
+    }, (res, err) -> {
       if (err == null) {
         for (PooledConnection conn : res) {
           conn.close(Promise.promise());
         }
+        if (retiring[0] > 0) {
+          rotate(retiring[0]);
+        }
+        for (PooledConnection conn : validating) {
+          conn.conn.ping((v, err2) -> {
+            if (err2 != null) {
+              // The pool removes the connection when it is closed
+              conn.close(Promise.promise());
+            }
+          });
+        }
+      }
+    });
+  }
+
+  /**
+   * Ping the connection of {@code lease} when it has not been used for longer than the validation interval, a
+   * connection failing the ping is closed and its lease recycled.
+   *
+   * @param handler called with {@code true} when the connection can be used
+   */
+  private void validate(Lease<PooledConnection> lease, Handler<Boolean> handler) {
+    PooledConnection pooled = lease.get();
+    pooled.conn.ping((v, err) -> {
+      if (err == null) {
+        pooled.validationTimestamp = System.currentTimeMillis();
+        handler.handle(true);
+      } else {
+        pooled.close(Promise.promise());
+        lease.recycle();
+        handler.handle(false);
+      }
+    });
+  }
+
+  /**
+   * Acquire a connection and validate it when it is due, a connection failing the validation is replaced by another
+   * one, at most {@code attempts} times.
+   */
+  private void acquireValid(ContextInternal context, int attempts, Completable<Lease<PooledConnection>> handler) {
+    Waiter waiter = new Waiter();
+    pool.acquire(context, waiter, 0, (lease, err) -> {
+      waiter.dequeue();
+      if (err == null && attempts > 0 && lease.get().isValidationDue(System.currentTimeMillis())) {
+        validate(lease, valid -> {
+          if (valid) {
+            handler.succeed(lease);
+          } else {
+            acquireValid(context, attempts - 1, handler);
+          }
+        });
+      } else {
+        handler.complete(lease, err);
+      }
+    });
+  }
+
+  /**
+   * Open replacements for the retiring connections, as long as the pool max size allows it, and then close them.
+   */
+  private void rotate(int count) {
+    synchronized (this) {
+      if (rotating) {
+        return;
+      }
+      rotating = true;
+    }
+    int replacements = Math.min(count, maxSize - pool.size());
+    open(replacements).onComplete((v, err) -> {
+      // Expired connections are closed even when a replacement cannot be opened
+      pool.evict(conn -> conn.retiring, (res, err2) -> {
+        if (err2 == null) {
+          for (PooledConnection conn : res) {
+            conn.close(Promise.promise());
+          }
+        }
+        synchronized (SqlConnectionPool.this) {
+          rotating = false;
+        }
+      });
+    });
+  }
+
+  /**
+   * Open connections until the pool holds {@code minSize} connections.
+   *
+   * @return a future completed when the connections are opened, or failed when a connection cannot be opened
+   */
+  public Future<Void> fill() {
+    Future<Void> fut;
+    synchronized (this) {
+      if (filling != null) {
+        return filling;
+      }
+      int missing = minSize - pool.size();
+      if (missing <= 0) {
+        return vertx.succeededFuture();
+      }
+      fut = open(missing);
+      filling = fut;
+    }
+    return fut.andThen(ar -> {
+      synchronized (SqlConnectionPool.this) {
+        filling = null;
       }
     });
   }
 
+  /**
+   * Open {@code count} connections and release them to the pool.
+   */
+  private Future<Void> open(int count) {
+    if (count <= 0) {
+      return vertx.succeededFuture();
+    }
+    List<Future<Void>> list = new ArrayList<>(count);
+    for (int i = 0;i < count;i++) {
+      ContextInternal filler = vertx.contextBuilder().withEventLoop(vertx.nettyEventLoopGroup().next()).build();
+      fillers.add(filler);
+      Promise<Lease<PooledConnection>> promise = filler.promise();
+      pool.acquire(filler, 0, promise);
+      list.add(promise.future().andThen(ar -> fillers.remove(filler)).map(lease -> {
+        lease.recycle();
+        return null;
+      }));
+    }
+    return Future.join(list).mapEmpty();
+  }
+
   private Object enqueueMetric() {
     if (metrics != null) {
       try {
@@ -205,11 +518,156 @@ public class SqlConnectionPool {
     }
   }
 
+  private static void acquiredMetric(Connection conn, long acquireTime) {
+    ClientMetrics metrics = conn.metrics();
+    if (metrics instanceof SqlClientMetrics) {
+      ((SqlClientMetrics) metrics).acquired(System.nanoTime() - acquireTime);
+    }
+  }
+
+  /**
+   * Tracks the requests queued in the pool, a queued request releases the connections parked on the event-loops.
+   */
+  private class Waiter implements PoolWaiter.Listener<PooledConnection> {
+
+    private static final int ACQUIRING = 0, QUEUED = 1, DONE = 2;
+
+    volatile int state;
+
+    @Override
+    public void onEnqueue(PoolWaiter<PooledConnection> waiter) {
+      if (WAITER_STATE.compareAndSet(this, ACQUIRING, QUEUED)) {
+        waiters.incrementAndGet();
+        releaseIdle();
+      }
+    }
+
+    /**
+     * Called when the request leaves the pool, either acquired, failed or cancelled.
+     */
+    void dequeue() {
+      if (WAITER_STATE.getAndSet(this, DONE) == QUEUED) {
+        waiters.decrementAndGet();
+      }
+    }
+
+    /**
+     * Called before the request acquires again.
+     */
+    void reset() {
+      state = ACQUIRING;
+    }
+  }
+
+  /**
+   * Idle connections parked on an event-loop: the pool lease of a connection released on its own event-loop is kept
+   * instead of being recycled, so the next command scheduled from this event-loop reuses it without going through the
+   * pool. Only the event-loop thread accesses the leases, other threads only read the size.
+   */
+  private static final class IdleConnections implements Runnable {
+
+    private final EventLoop eventLoop;
+    private final ArrayDeque<Lease<PooledConnection>> leases = new ArrayDeque<>();
+    private volatile int size;
+
+    IdleConnections(EventLoop eventLoop) {
+      this.eventLoop = eventLoop;
+    }
+
+    Lease<PooledConnection> poll() {
+      Lease<PooledConnection> lease = leases.pollLast();
+      if (lease != null) {
+        size = leases.size();
+      }
+      return lease;
+    }
+
+    void park(Lease<PooledConnection> lease) {
+      leases.addLast(lease);
+      size = leases.size();
+    }
+
+    /**
+     * Give the parked connections back to the pool.
+     */
+    @Override
+    public void run() {
+      Lease<PooledConnection> lease;
+      while ((lease = poll()) != null) {
+        lease.recycle();
+      }
+    }
+  }
+
+  private void releaseIdle() {
+    for (IdleConnections connections : idle.values()) {
+      if (connections.size > 0) {
+        connections.eventLoop.execute(connections);
+      }
+    }
+  }
+
+  /**
+   * @return a connection parked on the current event-loop or {@code null}
+   */
+  private Lease<PooledConnection> pollIdle(EventLoop eventLoop) {
+    IdleConnections connections = idle.get(eventLoop);
+    if (connections == null) {
+      return null;
+    }
+    long now = idleTimeout > 0 || maxLifetime > 0 || validationInterval > 0 ? System.currentTimeMillis() : 0L;
+    Lease<PooledConnection> lease;
+    while ((lease = connections.poll()) != null) {
+      PooledConnection pooled = lease.get();
+      if (pooled.conn.isValid() && !pooled.retiring && !pooled.shouldEvict(now) && !pooled.isValidationDue(now)) {
+        return lease;
+      }
+      // Let the pool evict or validate the connection
+      lease.recycle();
+    }
+    return null;
+  }
+
+  /**
+   * Park the connection on its event-loop when it is released on this event-loop and no request is queued in the pool,
+   * otherwise recycle it.
+   */
+  private void release(Lease<PooledConnection> lease) {
+    PooledConnection pooled = lease.get();
+    EventLoop eventLoop = pooled.context.nettyEventLoop();
+    if (fastPath && eventLoop.inEventLoop() && !pooled.retiring && waiters.get() == 0 && pooled.conn.isValid()) {
+      IdleConnections connections = idle.computeIfAbsent(eventLoop, IdleConnections::new);
+      connections.park(lease);
+      // A request queued while parking might have missed the parked connection: the size is published before the
+      // waiters are checked, and a request is counted before it checks the sizes, so one of them sees the other
+      if (waiters.get() > 0) {
+        connections.run();
+      }
+    } else {
+      lease.recycle();
+    }
+  }
+
   private static final Exception POOL_QUERY_TIMEOUT_EXCEPTION = new VertxException("Timeout waiting for connection", true);
 
   // TODO : try optimize without promise
   public <R> void execute(CommandBase<R> cmd, Completable<R> handler, long timeout) {
     ContextInternal context = vertx.getOrCreateContext();
+    // Queued requests are served first, the parked connections are being released to the pool
+    if (fastPath && context.nettyEventLoop().inEventLoop() && waiters.get() == 0) {
+      Lease<PooledConnection> lease = pollIdle(context.nettyEventLoop());
+      if (lease != null) {
+        // No waiter, timer or pool metric
+        PooledConnection pooled = lease.get();
+        acquiredMetric(pooled.conn, System.nanoTime());
+        pooled.schedule(cmd, (res, err) -> {
+          pooled.refresh();
+          release(lease);
+          handler.complete(res, err);
+        });
+        return;
+      }
+    }
     Promise<Lease<PooledConnection>> p = context.promise();
     long timerId;
     if (timeout > 0) {
@@ -218,10 +676,20 @@ public class SqlConnectionPool {
       timerId = -1;
     }
     Object metric = enqueueMetric();
-    pool.acquire(context, 0, p);
+    long acquireTime = System.nanoTime();
+    if (validationInterval > 0) {
+      acquireValid(context, maxSize, p);
+    } else {
+      Waiter waiter = new Waiter();
+      pool.acquire(context, waiter, 0, (lease, err) -> {
+        waiter.dequeue();
+        p.complete(lease, err);
+      });
+    }
     p.future().compose(lease -> {
       dequeueMetric(metric);
       PooledConnection pooled = lease.get();
+      acquiredMetric(pooled.conn, acquireTime);
       Future<R> future;
       if (timerId != -1 && !vertx.cancelTimer(timerId)) {
         // We want to make sure the connection is released properly below
@@ -244,7 +712,7 @@ public class SqlConnectionPool {
       return future.andThen(ar -> {
         endMetric(pooled.timerMetric);
         pooled.refresh();
-        lease.recycle();
+        release(lease);
       });
     }, t -> {
       dequeueMetric(metric);
@@ -259,10 +727,14 @@ public class SqlConnectionPool {
   }
 
   public void acquire(ContextInternal context, long timeout, Completable<PooledConnection> handler) {
-    class PoolRequest implements PoolWaiter.Listener<PooledConnection>, Completable<Lease<PooledConnection>> {
+    class PoolRequest extends Waiter implements Completable<Lease<PooledConnection>> {
 
       private final Object metric;
+      private final long acquireTime = System.nanoTime();
       private long timerID = -1L;
+      private PoolWaiter<PooledConnection> waiter;
+      private int attempts = maxSize;
+      private boolean validating;
 
       PoolRequest(Object metric) {
         this.metric = metric;
@@ -270,6 +742,25 @@ public class SqlConnectionPool {
 
       @Override
       public void complete(Lease<PooledConnection> lease, Throwable failure) {
+        dequeue();
+        if (failure == null && attempts > 0 && lease.get().isValidationDue(System.currentTimeMillis())) {
+          attempts--;
+          validating = true;
+          validate(lease, valid -> {
+            validating = false;
+            if (valid) {
+              acquired(lease, null);
+            } else {
+              reset();
+              pool.acquire(context, this, 0, this);
+            }
+          });
+        } else {
+          acquired(lease, failure);
+        }
+      }
+
+      private void acquired(Lease<PooledConnection> lease, Throwable failure) {
         if (timerID != -1L && !vertx.cancelTimer(timerID)) {
           lease.recycle();
         } else {
@@ -296,6 +787,7 @@ public class SqlConnectionPool {
       private void handle(Lease<PooledConnection> lease) {
         dequeueMetric(metric);
         PooledConnection pooled = lease.get();
+        acquiredMetric(pooled.conn, acquireTime);
         pooled.timerMetric = beginMetric();
         pooled.lease = lease;
         handler.succeed(pooled);
@@ -303,11 +795,21 @@ public class SqlConnectionPool {
 
       @Override
       public void onEnqueue(PoolWaiter<PooledConnection> waiter) {
+        super.onEnqueue(waiter);
+        onConnect(waiter);
+      }
+
+      @Override
+      public void onConnect(PoolWaiter<PooledConnection> waiter) {
+        // A request acquiring again after a failed validation is a new waiter
+        this.waiter = waiter;
         if (timeout > 0L && timerID == -1L) {
           timerID = context.setTimer(timeout, id -> {
-            pool.cancel(waiter, (res, err) -> {
+            pool.cancel(this.waiter, (res, err) -> {
               if (err == null) {
-                if (res) {
+                // A validating request has left the wait queue, the lease is recycled when the validation completes
+                if (res || validating) {
+                  dequeue();
                   dequeueMetric(metric);
                   handler.fail("Timeout");
                 }
@@ -318,11 +820,6 @@ public class SqlConnectionPool {
           });
         }
       }
-
-      @Override
-      public void onConnect(PoolWaiter<PooledConnection> waiter) {
-        onEnqueue(waiter);
-      }
     }
     Object metric = enqueueMetric();
     PoolRequest request = new PoolRequest(metric);
@@ -352,6 +849,7 @@ public class SqlConnectionPool {
 
     private final ConnectionFactory factory;
     private final Connection conn;
+    private final ContextInternal context;
     private final PoolConnector.Listener listener;
     private ConnectionContext holder;
     private Promise<ConnectResult<PooledConnection>> poolCallback;
@@ -359,12 +857,20 @@ public class SqlConnectionPool {
     private Object timerMetric;
     public long idleEvictionTimestamp;
     public long lifetimeEvictionTimestamp;
+    private long validationTimestamp;
+    private boolean retiring;
 
-    PooledConnection(ConnectionFactory factory, Connection conn, PoolConnector.Listener listener) {
+    PooledConnection(ConnectionFactory factory, Connection conn, ContextInternal context, PoolConnector.Listener listener) {
       this.factory = factory;
       this.conn = conn;
+      this.context = context;
       this.listener = listener;
-      this.lifetimeEvictionTimestamp = maxLifetime > 0 ? System.currentTimeMillis() + maxLifetime : Long.MAX_VALUE;
+      if (maxLifetime > 0) {
+        long jitter = maxLifetimeJitter > 0 ? ThreadLocalRandom.current().nextLong(maxLifetimeJitter + 1) : 0L;
+        this.lifetimeEvictionTimestamp = System.currentTimeMillis() + maxLifetime - jitter;
+      } else {
+        this.lifetimeEvictionTimestamp = Long.MAX_VALUE;
+      }
       refresh();
     }
 
@@ -412,6 +918,11 @@ public class SqlConnectionPool {
       return true;
     }
 
+    @Override
+    public void ping(Completable<Void> handler) {
+      conn.ping(handler);
+    }
+
     @Override
     public int pipeliningLimit() {
       return conn.pipeliningLimit();
@@ -422,6 +933,11 @@ public class SqlConnectionPool {
       return conn.databaseMetadata();
     }
 
+    @Override
+    public PreparedStatementCacheStats preparedStatementCacheStats() {
+      return conn.preparedStatementCacheStats();
+    }
+
     @Override
     public <R> void schedule(CommandBase<R> cmd, Completable<R> handler) {
       ContextInternal context = vertx.getOrCreateContext();
@@ -453,7 +969,9 @@ public class SqlConnectionPool {
     }
 
     private void refresh() {
-      this.idleEvictionTimestamp = idleTimeout > 0 ? System.currentTimeMillis() + idleTimeout : Long.MAX_VALUE;
+      long now = System.currentTimeMillis();
+      this.idleEvictionTimestamp = idleTimeout > 0 ? now + idleTimeout : Long.MAX_VALUE;
+      this.validationTimestamp = now;
     }
 
     @Override
@@ -545,6 +1063,10 @@ public class SqlConnectionPool {
       return lifetimeEvictionTimestamp < now;
     }
 
+    private boolean isValidationDue(long now) {
+      return validationInterval > 0 && validationTimestamp + validationInterval < now;
+    }
+
     private boolean shouldEvict(long now) {
       return hasIdleExpired(now) || hasLifetimeExpired(now);
     }
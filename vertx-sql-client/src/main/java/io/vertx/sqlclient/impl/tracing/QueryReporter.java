@@ -8,7 +8,9 @@ import io.vertx.core.spi.tracing.VertxTracer;
 import io.vertx.core.tracing.TracingPolicy;
 import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.impl.QueryResultBuilder;
+import io.vertx.sqlclient.internal.QueryProfile;
 import io.vertx.sqlclient.spi.connection.Connection;
+import io.vertx.sqlclient.spi.metrics.SqlClientMetrics;
 import io.vertx.sqlclient.spi.protocol.ExtendedQueryCommand;
 import io.vertx.sqlclient.spi.protocol.QueryCommandBase;
 import io.vertx.sqlclient.spi.protocol.SimpleQueryCommand;
@@ -69,6 +71,7 @@ public class QueryReporter {
   private final QueryCommandBase<?> cmd;
   private final VertxTracer tracer;
   private final ClientMetrics metrics;
+  private final SqlClientMetrics sqlMetrics;
   private final ContextInternal context;
   private final TracingPolicy tracingPolicy;
   private final String address;
@@ -77,10 +80,12 @@ public class QueryReporter {
   private final String database;
   private Object payload;
   private Object metric;
+  private long beginTime;
 
   public QueryReporter(VertxTracer tracer, ClientMetrics metrics, ContextInternal context, QueryCommandBase<?> queryCmd, Connection conn) {
     this.tracer = tracer;
     this.metrics = metrics;
+    this.sqlMetrics = metrics instanceof SqlClientMetrics ? (SqlClientMetrics) metrics : null;
     this.context = context;
     this.tracingPolicy = conn.tracingPolicy();
     this.address = conn.server().hostAddress() + ":" + conn.server().port();
@@ -129,6 +134,12 @@ public class QueryReporter {
       metrics.requestBegin(metric, sql, sql);
       metrics.requestEnd(metric);
     }
+    if (sqlMetrics != null) {
+      if (sqlMetrics.profile(cmd.sql())) {
+        cmd.profile(new QueryProfile());
+      }
+      beginTime = System.nanoTime();
+    }
   }
 
   public void after(Object res, Throwable err) {
@@ -144,5 +155,37 @@ public class QueryReporter {
         metrics.requestReset(metric);
       }
     }
+    if (sqlMetrics != null) {
+      reportStatement(err == null);
+    }
+  }
+
+  private void reportStatement(boolean succeeded) {
+    long endTime = System.nanoTime();
+    long dispatchTime = cmd.dispatchTime();
+    long queueTime;
+    long executionTime;
+    if (dispatchTime != 0L) {
+      queueTime = dispatchTime - beginTime;
+      executionTime = endTime - dispatchTime;
+    } else {
+      // The connection does not queue commands
+      queueTime = 0L;
+      executionTime = endTime - beginTime;
+    }
+    long rows = 0L;
+    long bytes = 0L;
+    if (cmd.resultHandler() instanceof QueryResultBuilder) {
+      QueryResultBuilder<?, ?, ?> qbr = (QueryResultBuilder<?, ?, ?>) cmd.resultHandler();
+      rows = qbr.rows();
+      bytes = qbr.bytes();
+    }
+    sqlMetrics.statementExecuted(cmd.sql(), queueTime, executionTime, rows, bytes, succeeded);
+    QueryProfile profile = cmd.profile();
+    if (profile != null && succeeded) {
+      long firstRowTime = profile.firstRowTime();
+      sqlMetrics.statementProfiled(cmd.sql(), executionTime, firstRowTime != 0L ? firstRowTime - (endTime - executionTime) : -1L,
+        profile.decodeTime(), profile.collectorTime());
+    }
   }
 }
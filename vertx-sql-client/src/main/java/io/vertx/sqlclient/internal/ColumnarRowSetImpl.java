@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.internal;
+
+import io.vertx.sqlclient.ColumnarRowSet;
+import io.vertx.sqlclient.Row;
+
+import java.util.Arrays;
+import java.util.stream.Collector;
+
+/**
+ * Columnar row set implementation, a row decoder fills the set with {@link #beginRow(int)}, the {@code set*} methods
+ * and {@link #endRow()}.
+ */
+public class ColumnarRowSetImpl implements ColumnarRowSet {
+
+  public static final Collector<Row, ColumnarRowSetImpl, ColumnarRowSet> COLLECTOR = Collector.of(
+    ColumnarRowSetImpl::new,
+    ColumnarRowSetImpl::addRow,
+    (set1, set2) -> null, // Shall not be invoked as this is sequential
+    (set) -> set
+  );
+
+  private static final int INITIAL_CAPACITY = 16;
+  private static final Column[] EMPTY_COLUMNS = new Column[0];
+
+  private Column[] columns = EMPTY_COLUMNS;
+  private int capacity;
+  private int size;
+
+  /**
+   * Start a new row of {@code columnCount} values, each column shall then be set exactly once.
+   */
+  public void beginRow(int columnCount) {
+    if (columns.length < columnCount) {
+      Column[] copy = Arrays.copyOf(columns, columnCount);
+      for (int i = columns.length;i < columnCount;i++) {
+        copy[i] = new Column(capacity);
+      }
+      columns = copy;
+    }
+    if (size == capacity) {
+      capacity = capacity == 0 ? INITIAL_CAPACITY : capacity << 1;
+      for (Column column : columns) {
+        column.grow(capacity);
+      }
+    }
+  }
+
+  public void endRow() {
+    size++;
+  }
+
+  public void setNull(int column) {
+    columns[column].setNull(size);
+  }
+
+  public void setInt(int column, int value) {
+    Column col = columns[column];
+    if (col.kind == Column.INT || col.assign(Column.INT)) {
+      col.ints[size] = value;
+    } else {
+      col.setObject(size, value);
+    }
+  }
+
+  public void setLong(int column, long value) {
+    Column col = columns[column];
+    if (col.kind == Column.LONG || col.assign(Column.LONG)) {
+      col.longs[size] = value;
+    } else {
+      col.setObject(size, value);
+    }
+  }
+
+  public void setDouble(int column, double value) {
+    Column col = columns[column];
+    if (col.kind == Column.DOUBLE || col.assign(Column.DOUBLE)) {
+      col.doubles[size] = value;
+    } else {
+      col.setObject(size, value);
+    }
+  }
+
+  /**
+   * Set a decoded value, numbers are stored in the matching primitive column.
+   */
+  public void setValue(int column, Object value) {
+    if (value == null) {
+      setNull(column);
+    } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+      setInt(column, ((Number) value).intValue());
+    } else if (value instanceof Long) {
+      setLong(column, (Long) value);
+    } else if (value instanceof Double || value instanceof Float) {
+      setDouble(column, ((Number) value).doubleValue());
+    } else {
+      columns[column].setObject(size, value);
+    }
+  }
+
+  private void addRow(Row row) {
+    int len = row.size();
+    beginRow(len);
+    for (int c = 0;c < len;c++) {
+      setValue(c, row.getValue(c));
+    }
+    endRow();
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isNull(int row, int column) {
+    return column(row, column).isNull(row);
+  }
+
+  @Override
+  public int getInt(int row, int column) {
+    Column col = column(row, column);
+    if (col.isNull(row)) {
+      return 0;
+    }
+    switch (col.kind) {
+      case Column.INT:
+        return col.ints[row];
+      case Column.LONG:
+        return (int) col.longs[row];
+      case Column.DOUBLE:
+        return (int) col.doubles[row];
+      default:
+        Object val = col.values[row];
+        return val == null ? 0 : ((Number) val).intValue();
+    }
+  }
+
+  @Override
+  public long getLong(int row, int column) {
+    Column col = column(row, column);
+    if (col.isNull(row)) {
+      return 0L;
+    }
+    switch (col.kind) {
+      case Column.INT:
+        return col.ints[row];
+      case Column.LONG:
+        return col.longs[row];
+      case Column.DOUBLE:
+        return (long) col.doubles[row];
+      default:
+        Object val = col.values[row];
+        return val == null ? 0L : ((Number) val).longValue();
+    }
+  }
+
+  @Override
+  public double getDouble(int row, int column) {
+    Column col = column(row, column);
+    if (col.isNull(row)) {
+      return 0D;
+    }
+    switch (col.kind) {
+      case Column.INT:
+        return col.ints[row];
+      case Column.LONG:
+        return col.longs[row];
+      case Column.DOUBLE:
+        return col.doubles[row];
+      default:
+        Object val = col.values[row];
+        return val == null ? 0D : ((Number) val).doubleValue();
+    }
+  }
+
+  @Override
+  public Object getValue(int row, int column) {
+    Column col = column(row, column);
+    if (col.isNull(row)) {
+      return null;
+    }
+    switch (col.kind) {
+      case Column.INT:
+        return col.ints[row];
+      case Column.LONG:
+        return col.longs[row];
+      case Column.DOUBLE:
+        return col.doubles[row];
+      default:
+        return col.values[row];
+    }
+  }
+
+  private Column column(int row, int column) {
+    if (row < 0 || row >= size) {
+      throw new IndexOutOfBoundsException("Invalid row index " + row);
+    }
+    if (column < 0 || column >= columns.length) {
+      throw new IndexOutOfBoundsException("Invalid column index " + column);
+    }
+    return columns[column];
+  }
+
+  /**
+   * A column vector, the storage is chosen by the first non null value, a value that does not fit the storage turns
+   * the column into an object column.
+   */
+  private static final class Column {
+
+    static final int UNKNOWN = 0, INT = 1, LONG = 2, DOUBLE = 3, OBJECT = 4;
+
+    int kind;
+    int capacity;
+    int[] ints;
+    long[] longs;
+    double[] doubles;
+    Object[] values;
+    long[] nulls;
+
+    Column(int capacity) {
+      this.capacity = capacity;
+      this.nulls = new long[(capacity + 63) >>> 6];
+    }
+
+    void grow(int newCapacity) {
+      capacity = newCapacity;
+      nulls = Arrays.copyOf(nulls, (newCapacity + 63) >>> 6);
+      switch (kind) {
+        case INT:
+          ints = Arrays.copyOf(ints, newCapacity);
+          break;
+        case LONG:
+          longs = Arrays.copyOf(longs, newCapacity);
+          break;
+        case DOUBLE:
+          doubles = Arrays.copyOf(doubles, newCapacity);
+          break;
+        case OBJECT:
+          values = Arrays.copyOf(values, newCapacity);
+          break;
+      }
+    }
+
+    boolean isNull(int row) {
+      return (nulls[row >>> 6] & (1L << row)) != 0;
+    }
+
+    void setNull(int row) {
+      nulls[row >>> 6] |= 1L << row;
+    }
+
+    boolean assign(int k) {
+      if (kind != UNKNOWN) {
+        return false;
+      }
+      kind = k;
+      switch (k) {
+        case INT:
+          ints = new int[capacity];
+          break;
+        case LONG:
+          longs = new long[capacity];
+          break;
+        case DOUBLE:
+          doubles = new double[capacity];
+          break;
+      }
+      return true;
+    }
+
+    void setObject(int row, Object value) {
+      if (kind != OBJECT) {
+        Object[] copy = new Object[capacity];
+        for (int i = 0;i < row;i++) {
+          if (!isNull(i)) {
+            switch (kind) {
+              case INT:
+                copy[i] = ints[i];
+                break;
+              case LONG:
+                copy[i] = longs[i];
+                break;
+              case DOUBLE:
+                copy[i] = doubles[i];
+                break;
+            }
+          }
+        }
+        kind = OBJECT;
+        values = copy;
+        ints = null;
+        longs = null;
+        doubles = null;
+      }
+      values[row] = value;
+    }
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.internal;
+
+/**
+ * The profile of a sampled query execution, filled by the row decoder of the query.
+ * <p>
+ * A profile is only created for the sampled queries, the decoder does not measure anything otherwise.
+ */
+public final class QueryProfile {
+
+  private long firstRowTime;
+  private long handleTime;
+  private long collectorTime;
+
+  /**
+   * Record the handling of a row.
+   *
+   * @param startTime the {@link System#nanoTime()} at which the row handling started
+   * @param duration the row handling duration, including the time spent in the collector
+   */
+  public void rowHandled(long startTime, long duration) {
+    if (firstRowTime == 0L) {
+      firstRowTime = startTime;
+    }
+    handleTime += duration;
+  }
+
+  /**
+   * Record time spent in the collector.
+   *
+   * @param duration the duration
+   */
+  public void collected(long duration) {
+    collectorTime += duration;
+  }
+
+  /**
+   * @return the {@link System#nanoTime()} at which the first row was received or {@code 0} when no row was received
+   */
+  public long firstRowTime() {
+    return firstRowTime;
+  }
+
+  /**
+   * @return the time spent decoding the rows
+   */
+  public long decodeTime() {
+    return Math.max(0L, handleTime - collectorTime);
+  }
+
+  /**
+   * @return the time spent in the collector, accumulating and finishing the result
+   */
+  public long collectorTime() {
+    return collectorTime;
+  }
+}
@@ -37,4 +37,12 @@ public interface QueryResultHandler<T> {
 
   void handleResult(int updatedCount, int size, RowDescriptorBase desc, T result, Throwable failure);
 
+  /**
+   * Like {@link #handleResult(int, int, RowDescriptorBase, Object, Throwable)} but also reports the number of
+   * bytes of the decoded rows, as received from the database.
+   */
+  default void handleResult(int updatedCount, int size, long bytes, RowDescriptorBase desc, T result, Throwable failure) {
+    handleResult(updatedCount, size, desc, result, failure);
+  }
+
 }
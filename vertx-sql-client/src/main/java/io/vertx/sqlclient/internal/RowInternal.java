@@ -1,12 +1,21 @@
 package io.vertx.sqlclient.internal;
 
 import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.desc.RowDescriptor;
 
 /**
  * Row internal API
  */
 public interface RowInternal extends Row {
 
+  /**
+   * @return the descriptor of the row columns, rows of the same result share the same descriptor instance, or
+   *         {@code null} when the row has no descriptor
+   */
+  default RowDescriptor rowDescriptor() {
+    return null;
+  }
+
   /**
    * Try to recycle the row, this shall be called by the row decoder to check whether the row
    * instance can be reused.
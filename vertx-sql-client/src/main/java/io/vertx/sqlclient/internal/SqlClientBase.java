@@ -23,8 +23,10 @@ import io.vertx.core.internal.PromiseInternal;
 import io.vertx.sqlclient.PrepareOptions;
 import io.vertx.sqlclient.PreparedQuery;
 import io.vertx.sqlclient.Query;
+import io.vertx.sqlclient.QueryResultCache;
 import io.vertx.sqlclient.impl.QueryBase;
 import io.vertx.sqlclient.impl.QueryExecutor;
+import io.vertx.sqlclient.impl.QueryResultCacheImpl;
 import io.vertx.sqlclient.impl.RowSetImpl;
 import io.vertx.sqlclient.impl.SqlClientInternal;
 import io.vertx.sqlclient.spi.protocol.CommandBase;
@@ -39,6 +41,8 @@ import io.vertx.core.Handler;
 import io.vertx.sqlclient.spi.protocol.CompositeCommand;
 import io.vertx.sqlclient.spi.Driver;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collector;
@@ -74,7 +78,7 @@ public abstract class SqlClientBase implements SqlClientInternal, CommandSchedul
   @Override
   public PreparedQuery<RowSet<Row>> preparedQuery(String sql, PrepareOptions options) {
     QueryExecutor<RowSet<Row>, RowSetImpl<Row>, RowSet<Row>> builder = new QueryExecutor<>(RowSetImpl.FACTORY, RowSetImpl.COLLECTOR);
-    return new PreparedQueryImpl<>(autoCommit(), false, sql, options, builder);
+    return new PreparedQueryImpl<>(autoCommit(), false, sql, options, null, null, builder);
   }
 
   protected boolean autoCommit() {
@@ -114,11 +118,15 @@ public abstract class SqlClientBase implements SqlClientInternal, CommandSchedul
   private class PreparedQueryImpl<T, R extends SqlResult<T>> extends QueryImpl<T, R> implements PreparedQuery<R> {
 
     private final PrepareOptions options;
+    private final QueryResultCacheImpl cache;
+    private final List<String> tables;
 
-    private PreparedQueryImpl(boolean autoCommit, boolean singleton, String sql, PrepareOptions options, QueryExecutor<T, ?, R> builder) {
+    private PreparedQueryImpl(boolean autoCommit, boolean singleton, String sql, PrepareOptions options, QueryResultCacheImpl cache, List<String> tables, QueryExecutor<T, ?, R> builder) {
       super(autoCommit, singleton, sql, builder);
 
       this.options = options;
+      this.cache = cache;
+      this.tables = tables;
     }
 
     @Override
@@ -133,7 +141,17 @@ public abstract class SqlClientBase implements SqlClientInternal, CommandSchedul
 
     @Override
     protected <T2, R2 extends SqlResult<T2>> QueryBase<T2, R2> copy(QueryExecutor<T2, ?, R2> builder) {
-      return new PreparedQueryImpl<>(autoCommit, singleton, sql, options, builder);
+      return new PreparedQueryImpl<>(autoCommit, singleton, sql, options, cache, tables, builder);
+    }
+
+    @Override
+    public PreparedQuery<R> cached(QueryResultCache cache) {
+      return cached(cache, Collections.emptyList());
+    }
+
+    @Override
+    public PreparedQuery<R> cached(QueryResultCache cache, List<String> tables) {
+      return new PreparedQueryImpl<>(autoCommit, singleton, sql, options, (QueryResultCacheImpl) cache, new ArrayList<>(tables), builder);
     }
 
     @Override
@@ -142,7 +160,11 @@ public abstract class SqlClientBase implements SqlClientInternal, CommandSchedul
     }
 
     private void execute(Tuple arguments, PromiseInternal<R> promise) {
-      builder.executeExtendedQuery(SqlClientBase.this, sql, options, autoCommit, arguments, promise);
+      if (cache != null) {
+        cache.execute(SqlClientBase.this, sql, arguments, builder.collector(), tables, promise, p -> builder.executeExtendedQuery(SqlClientBase.this, sql, options, autoCommit, arguments, p));
+      } else {
+        builder.executeExtendedQuery(SqlClientBase.this, sql, options, autoCommit, arguments, promise);
+      }
     }
 
     @Override
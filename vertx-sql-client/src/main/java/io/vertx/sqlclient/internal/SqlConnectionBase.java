@@ -24,6 +24,7 @@ import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.PromiseInternal;
 import io.vertx.sqlclient.PrepareOptions;
 import io.vertx.sqlclient.PreparedStatement;
+import io.vertx.sqlclient.PreparedStatementCacheStats;
 import io.vertx.sqlclient.SqlConnection;
 import io.vertx.sqlclient.Transaction;
 import io.vertx.sqlclient.impl.PreparedStatementBase;
@@ -159,6 +160,11 @@ public class SqlConnectionBase<C extends SqlConnectionBase<C>> extends SqlClient
     return conn.databaseMetadata();
   }
 
+  @Override
+  public PreparedStatementCacheStats preparedStatementCacheStats() {
+    return conn.preparedStatementCacheStats();
+  }
+
   @Override
   public C closeHandler(Handler<Void> handler) {
     closeHandler = handler;
@@ -21,6 +21,8 @@ import io.vertx.core.Completable;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.core.spi.metrics.ClientMetrics;
 import io.vertx.core.tracing.TracingPolicy;
+import io.vertx.sqlclient.ClosedConnectionException;
+import io.vertx.sqlclient.PreparedStatementCacheStats;
 import io.vertx.sqlclient.spi.DatabaseMetadata;
 import io.vertx.sqlclient.spi.protocol.CommandScheduler;
 
@@ -87,6 +89,20 @@ public interface Connection extends CommandScheduler {
    */
   boolean isValid();
 
+  /**
+   * Check the connection is still usable with a round trip to the server, e.g. after the connection has been idle.
+   *
+   * @param handler the handler completed when the server replied or failed when the connection is not usable
+   * @implNote only checks the connection state, drivers should send a cheap protocol level request instead
+   */
+  default void ping(Completable<Void> handler) {
+    if (isValid()) {
+      handler.succeed();
+    } else {
+      handler.fail(ClosedConnectionException.INSTANCE);
+    }
+  }
+
   /**
    * @return the connection pipelining limit, that is how many queries can be scheduled on this connection
    * @implNote returns {@literal 1}, the connection does not support pipelining
@@ -100,6 +116,13 @@ public interface Connection extends CommandScheduler {
    */
   DatabaseMetadata databaseMetadata();
 
+  /**
+   * @return a snapshot of the prepared statement cache counters or {@code null} when the connection does not cache statements
+   */
+  default PreparedStatementCacheStats preparedStatementCacheStats() {
+    return null;
+  }
+
   /**
    * @return the most unwrapped connection (e.g. for pooled connections)
    */
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient.spi.metrics;
+
+import io.vertx.core.json.JsonObject;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A concurrent histogram of positive {@code long} values, such as durations in nanoseconds.
+ * <p>
+ * Values are counted in log-linear buckets: values below {@code 32} are counted exactly, larger values are counted in
+ * buckets whose width is at most {@code 1/16} of their lower bound, so any reported percentile is within about 6% of
+ * the recorded value. The bucket array is allocated once and recording a value never allocates.
+ */
+public final class Histogram {
+
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT >> 1;
+  // Values above 2^45 (about 9 hours in nanoseconds) are counted in the last bucket
+  private static final int MAX_SHIFT = 40;
+  private static final int BUCKETS = SUB_BUCKET_COUNT + MAX_SHIFT * SUB_BUCKET_HALF;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong sum = new AtomicLong();
+  private final AtomicLong max = new AtomicLong();
+
+  static int bucket(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return value < 0 ? 0 : (int) value;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+    if (shift > MAX_SHIFT) {
+      return BUCKETS - 1;
+    }
+    int sub = (int) (value >>> shift);
+    return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF + (sub - SUB_BUCKET_HALF);
+  }
+
+  static long highestValue(int bucket) {
+    if (bucket < SUB_BUCKET_COUNT) {
+      return bucket;
+    }
+    if (bucket == BUCKETS - 1) {
+      return Long.MAX_VALUE;
+    }
+    int idx = bucket - SUB_BUCKET_COUNT;
+    int shift = idx / SUB_BUCKET_HALF + 1;
+    long sub = idx % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+    return ((sub + 1) << shift) - 1;
+  }
+
+  /**
+   * Record a {@code value}, negative values are recorded as {@code 0}.
+   *
+   * @param value the value
+   */
+  public void record(long value) {
+    if (value < 0) {
+      value = 0;
+    }
+    counts.incrementAndGet(bucket(value));
+    count.incrementAndGet();
+    sum.addAndGet(value);
+    long current;
+    while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+      // Retry
+    }
+  }
+
+  /**
+   * @return the number of recorded values
+   */
+  public long count() {
+    return count.get();
+  }
+
+  /**
+   * @return the sum of the recorded values
+   */
+  public long sum() {
+    return sum.get();
+  }
+
+  /**
+   * @return the largest recorded value or {@code 0} when no value was recorded
+   */
+  public long max() {
+    return max.get();
+  }
+
+  /**
+   * @return the mean of the recorded values or {@code 0} when no value was recorded
+   */
+  public double mean() {
+    long c = count.get();
+    return c == 0 ? 0D : (double) sum.get() / c;
+  }
+
+  /**
+   * Returns the value at the given {@code percentile}, that is the value such as {@code percentile}% of the recorded
+   * values are lower or equal to it.
+   *
+   * @param percentile the percentile, between {@code 0} and {@code 100}
+   * @return the value at the percentile or {@code 0} when no value was recorded
+   */
+  public long valueAtPercentile(double percentile) {
+    if (percentile < 0D || percentile > 100D) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100");
+    }
+    long total = 0;
+    for (int i = 0;i < BUCKETS;i++) {
+      total += counts.get(i);
+    }
+    if (total == 0) {
+      return 0L;
+    }
+    long target = Math.max(1L, (long) Math.ceil(percentile / 100D * total));
+    long cumulated = 0;
+    for (int i = 0;i < BUCKETS;i++) {
+      cumulated += counts.get(i);
+      if (cumulated >= target) {
+        return Math.min(highestValue(i), max.get());
+      }
+    }
+    return max.get();
+  }
+
+  /**
+   * @return a JSON summary of the recorded values: count, mean, max and percentiles
+   */
+  public JsonObject toJson() {
+    return new JsonObject()
+      .put("count", count())
+      .put("mean", mean())
+      .put("p50", valueAtPercentile(50))
+      .put("p90", valueAtPercentile(90))
+      .put("p99", valueAtPercentile(99))
+      .put("max", max());
+  }
+
+  /**
+   * Clear the recorded values, values recorded concurrently might be partially cleared.
+   */
+  public void reset() {
+    for (int i = 0;i < BUCKETS;i++) {
+      counts.set(i, 0L);
+    }
+    count.set(0L);
+    sum.set(0L);
+    max.set(0L);
+  }
+}
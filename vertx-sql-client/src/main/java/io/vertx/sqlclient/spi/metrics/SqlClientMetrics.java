@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient.spi.metrics;
+
+/**
+ * Finer grained SQL client metrics.
+ * <p>
+ * The client reports these events to the {@link io.vertx.core.spi.metrics.ClientMetrics} of a connection when it
+ * implements this interface. Events carry primitive values only, so reporting does not allocate, and an implementation
+ * should record them without allocating either since they are reported on the event-loop for each statement.
+ * <p>
+ * Durations are expressed in nanoseconds.
+ */
+public interface SqlClientMetrics {
+
+  /**
+   * Called when a connection has been established, the {@code connectTime} covers the transport connection and the
+   * database handshake, including the authentication.
+   *
+   * @param connectTime the connection establishment duration
+   */
+  default void connected(long connectTime) {
+  }
+
+  /**
+   * Called when a connection has been acquired from a pool.
+   *
+   * @param waitTime the duration the request waited for the connection
+   */
+  default void acquired(long waitTime) {
+  }
+
+  /**
+   * Called when a command is scheduled on a connection.
+   *
+   * @param depth the number of commands pending or in-flight on the connection, including this command
+   */
+  default void pipelineDepth(int depth) {
+  }
+
+  /**
+   * Called when the connection looks up its prepared statement cache.
+   *
+   * @param hit whether the statement was found in the cache
+   */
+  default void preparedStatementCacheLookup(boolean hit) {
+  }
+
+  /**
+   * Called when a statement has been executed.
+   *
+   * @param sql the statement SQL
+   * @param queueTime the duration the statement waited behind pipelined commands before being sent to the server
+   * @param executionTime the duration between the statement was sent and its response was received
+   * @param rows the number of rows returned by the statement
+   * @param bytes the number of bytes of the decoded rows, as received from the database
+   * @param succeeded whether the statement succeeded
+   */
+  default void statementExecuted(String sql, long queueTime, long executionTime, long rows, long bytes, boolean succeeded) {
+  }
+
+  /**
+   * Called before a statement is executed, to decide whether the execution of the statement is profiled.
+   * <p>
+   * The client measures the time spent decoding rows and in the result collector of the profiled statements only,
+   * so this should select a fraction of the statements.
+   *
+   * @param sql the statement SQL
+   * @return whether to profile the statement execution
+   */
+  default boolean profile(String sql) {
+    return false;
+  }
+
+  /**
+   * Called after {@link #statementExecuted} when the statement execution was profiled.
+   *
+   * @param sql the statement SQL
+   * @param executionTime the duration between the statement was sent and its response was received
+   * @param firstRowTime the duration between the statement was sent and its first row was received, or {@code -1}
+   *                     when the statement returned no rows
+   * @param decodeTime the time spent decoding the rows
+   * @param collectorTime the time spent in the result collector
+   */
+  default void statementProfiled(String sql, long executionTime, long firstRowTime, long decodeTime, long collectorTime) {
+  }
+}
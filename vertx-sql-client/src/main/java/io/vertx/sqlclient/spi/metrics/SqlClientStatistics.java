@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient.spi.metrics;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.spi.metrics.ClientMetrics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link SqlClientMetrics} recording the client events in histograms.
+ * <p>
+ * Statements are tracked by SQL, up to {@code maxStatements} statements, further statements are aggregated in
+ * {@link #overflow()}. Prepared queries use parameters instead of literal values, so their SQL identifies a statement
+ * regardless of the arguments.
+ * <p>
+ * The profiler mode breaks down the execution time of a fraction of the statements, see
+ * {@link #setProfileSampleRate(double)}.
+ * <p>
+ * A single instance is meant to be returned by {@link io.vertx.core.spi.metrics.VertxMetrics#createClientMetrics}
+ * for every connection of the {@code sql} type, it records the events of all the connections.
+ */
+public class SqlClientStatistics implements ClientMetrics<Object, Object, Object>, SqlClientMetrics {
+
+  /**
+   * The default maximum number of statements tracked individually = 1000
+   */
+  public static final int DEFAULT_MAX_STATEMENTS = 1000;
+
+  private final int maxStatements;
+  private final ConcurrentMap<String, StatementStatistics> statements = new ConcurrentHashMap<>();
+  private final StatementStatistics overflow = new StatementStatistics(null);
+  private final Histogram connectTime = new Histogram();
+  private final Histogram poolWaitTime = new Histogram();
+  private final Histogram pipelineDepth = new Histogram();
+  private final LongAdder preparedStatementCacheHits = new LongAdder();
+  private final LongAdder preparedStatementCacheMisses = new LongAdder();
+  private volatile double profileSampleRate;
+
+  public SqlClientStatistics() {
+    this(DEFAULT_MAX_STATEMENTS);
+  }
+
+  public SqlClientStatistics(int maxStatements) {
+    if (maxStatements < 0) {
+      throw new IllegalArgumentException("Max statements must be >= 0");
+    }
+    this.maxStatements = maxStatements;
+  }
+
+  /**
+   * @return the fraction of the statement executions profiled
+   */
+  public double getProfileSampleRate() {
+    return profileSampleRate;
+  }
+
+  /**
+   * Set the fraction of the statement executions profiled, between {@code 0} and {@code 1}, the default value
+   * {@code 0} disables profiling.
+   * <p>
+   * Profiled executions measure the time spent decoding rows and in the result collector, which has a cost for each
+   * decoded row.
+   *
+   * @param profileSampleRate the sample rate
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SqlClientStatistics setProfileSampleRate(double profileSampleRate) {
+    if (profileSampleRate < 0D || profileSampleRate > 1D) {
+      throw new IllegalArgumentException("Profile sample rate must be between 0 and 1");
+    }
+    this.profileSampleRate = profileSampleRate;
+    return this;
+  }
+
+  @Override
+  public void connected(long connectTime) {
+    this.connectTime.record(connectTime);
+  }
+
+  @Override
+  public void acquired(long waitTime) {
+    poolWaitTime.record(waitTime);
+  }
+
+  @Override
+  public void pipelineDepth(int depth) {
+    pipelineDepth.record(depth);
+  }
+
+  @Override
+  public void preparedStatementCacheLookup(boolean hit) {
+    if (hit) {
+      preparedStatementCacheHits.increment();
+    } else {
+      preparedStatementCacheMisses.increment();
+    }
+  }
+
+  @Override
+  public void statementExecuted(String sql, long queueTime, long executionTime, long rows, long bytes, boolean succeeded) {
+    lookup(sql).record(queueTime, executionTime, rows, bytes, succeeded);
+  }
+
+  @Override
+  public boolean profile(String sql) {
+    double rate = profileSampleRate;
+    return rate > 0D && (rate >= 1D || ThreadLocalRandom.current().nextDouble() < rate);
+  }
+
+  @Override
+  public void statementProfiled(String sql, long executionTime, long firstRowTime, long decodeTime, long collectorTime) {
+    lookup(sql).profiled(executionTime, firstRowTime, decodeTime, collectorTime);
+  }
+
+  private StatementStatistics lookup(String sql) {
+    StatementStatistics stats = statements.get(sql);
+    if (stats == null) {
+      stats = statements.size() < maxStatements ? statements.computeIfAbsent(sql, StatementStatistics::new) : overflow;
+    }
+    return stats;
+  }
+
+  /**
+   * @return the statistics of the statements tracked individually
+   */
+  public Collection<StatementStatistics> statements() {
+    return Collections.unmodifiableCollection(statements.values());
+  }
+
+  /**
+   * @param n the maximum number of statements
+   * @return the {@code n} slowest statements, by mean execution time
+   */
+  public List<StatementStatistics> slowest(int n) {
+    return statements
+      .values()
+      .stream()
+      .filter(stats -> stats.executions() > 0)
+      .sorted(Comparator.comparingDouble((StatementStatistics stats) -> stats.executionTime().mean()).reversed())
+      .limit(n)
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * @param sql the statement SQL
+   * @return the statistics of the statement or {@code null} when the statement is not tracked
+   */
+  public StatementStatistics statement(String sql) {
+    return statements.get(sql);
+  }
+
+  /**
+   * @return the statistics aggregating the statements executed after {@code maxStatements} statements are tracked
+   */
+  public StatementStatistics overflow() {
+    return overflow;
+  }
+
+  /**
+   * @return the histogram of the connection establishment durations, in nanoseconds
+   */
+  public Histogram connectTime() {
+    return connectTime;
+  }
+
+  /**
+   * @return the histogram of the durations, in nanoseconds, requests waited for a pooled connection
+   */
+  public Histogram poolWaitTime() {
+    return poolWaitTime;
+  }
+
+  /**
+   * @return the histogram of the connection pipeline depth observed by the scheduled commands
+   */
+  public Histogram pipelineDepth() {
+    return pipelineDepth;
+  }
+
+  /**
+   * @return the number of prepared statement cache hits
+   */
+  public long preparedStatementCacheHits() {
+    return preparedStatementCacheHits.sum();
+  }
+
+  /**
+   * @return the number of prepared statement cache misses
+   */
+  public long preparedStatementCacheMisses() {
+    return preparedStatementCacheMisses.sum();
+  }
+
+  /**
+   * @return the prepared statement cache hit ratio, between {@code 0} and {@code 1}, or {@code 0} when the cache
+   *         was not looked up
+   */
+  public double preparedStatementCacheHitRatio() {
+    long hits = preparedStatementCacheHits.sum();
+    long total = hits + preparedStatementCacheMisses.sum();
+    return total == 0 ? 0D : (double) hits / total;
+  }
+
+  /**
+   * Dump the statistics as JSON, with the {@code n} slowest statements.
+   *
+   * @param n the maximum number of statements
+   * @return the JSON dump
+   */
+  public JsonObject toJson(int n) {
+    JsonArray slowest = new JsonArray();
+    for (StatementStatistics stats : slowest(n)) {
+      slowest.add(stats.toJson());
+    }
+    return new JsonObject()
+      .put("connectTime", connectTime.toJson())
+      .put("poolWaitTime", poolWaitTime.toJson())
+      .put("pipelineDepth", pipelineDepth.toJson())
+      .put("preparedStatementCache", new JsonObject()
+        .put("hits", preparedStatementCacheHits())
+        .put("misses", preparedStatementCacheMisses())
+        .put("hitRatio", preparedStatementCacheHitRatio()))
+      .put("statements", slowest)
+      .put("overflow", overflow.toJson());
+  }
+
+  /**
+   * Clear the recorded statistics.
+   */
+  public void reset() {
+    statements.clear();
+    overflow.reset();
+    connectTime.reset();
+    poolWaitTime.reset();
+    pipelineDepth.reset();
+    preparedStatementCacheHits.reset();
+    preparedStatementCacheMisses.reset();
+  }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient.spi.metrics;
+
+import io.vertx.core.json.JsonObject;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The execution statistics of a statement, as recorded by {@link SqlClientStatistics}.
+ */
+public final class StatementStatistics {
+
+  private final String sql;
+  private final Histogram queueTime = new Histogram();
+  private final Histogram executionTime = new Histogram();
+  private final LongAdder failures = new LongAdder();
+  private final LongAdder rows = new LongAdder();
+  private final LongAdder bytes = new LongAdder();
+  private final LongAdder profiles = new LongAdder();
+  private final LongAdder profiledExecutionTime = new LongAdder();
+  private final LongAdder profiledRows = new LongAdder();
+  private final LongAdder firstRowTime = new LongAdder();
+  private final LongAdder decodeTime = new LongAdder();
+  private final LongAdder collectorTime = new LongAdder();
+
+  StatementStatistics(String sql) {
+    this.sql = sql;
+  }
+
+  void record(long queueTime, long executionTime, long rows, long bytes, boolean succeeded) {
+    this.queueTime.record(queueTime);
+    this.executionTime.record(executionTime);
+    if (succeeded) {
+      this.rows.add(rows);
+      this.bytes.add(bytes);
+    } else {
+      failures.increment();
+    }
+  }
+
+  void profiled(long executionTime, long firstRowTime, long decodeTime, long collectorTime) {
+    profiles.increment();
+    profiledExecutionTime.add(executionTime);
+    if (firstRowTime >= 0L) {
+      profiledRows.increment();
+      this.firstRowTime.add(firstRowTime);
+    }
+    this.decodeTime.add(decodeTime);
+    this.collectorTime.add(collectorTime);
+  }
+
+  /**
+   * @return the statement SQL or {@code null} for the statistics aggregating the statements that are not tracked
+   *         individually
+   */
+  public String sql() {
+    return sql;
+  }
+
+  /**
+   * @return the number of executions
+   */
+  public long executions() {
+    return executionTime.count();
+  }
+
+  /**
+   * @return the number of failed executions
+   */
+  public long failures() {
+    return failures.sum();
+  }
+
+  /**
+   * @return the total number of rows returned
+   */
+  public long rows() {
+    return rows.sum();
+  }
+
+  /**
+   * @return the total number of bytes of the decoded rows
+   */
+  public long bytes() {
+    return bytes.sum();
+  }
+
+  /**
+   * @return the histogram of the durations, in nanoseconds, the statement waited behind pipelined commands
+   */
+  public Histogram queueTime() {
+    return queueTime;
+  }
+
+  /**
+   * @return the histogram of the durations, in nanoseconds, between the statement was sent and its response
+   *         was received
+   */
+  public Histogram executionTime() {
+    return executionTime;
+  }
+
+  /**
+   * @return the number of profiled executions
+   */
+  public long profiles() {
+    return profiles.sum();
+  }
+
+  /**
+   * @return the mean duration, in nanoseconds, of the profiled executions spent waiting for the database, that is the
+   *         execution time minus the decode and collector times
+   */
+  public double meanServerTime() {
+    long count = profiles.sum();
+    return count == 0 ? 0D : (double) Math.max(0L, profiledExecutionTime.sum() - decodeTime.sum() - collectorTime.sum()) / count;
+  }
+
+  /**
+   * @return the mean duration, in nanoseconds, between the statement was sent and its first row was received, of the
+   *         profiled executions returning rows
+   */
+  public double meanFirstRowTime() {
+    long count = profiledRows.sum();
+    return count == 0 ? 0D : (double) firstRowTime.sum() / count;
+  }
+
+  /**
+   * @return the mean time, in nanoseconds, the profiled executions spent decoding rows
+   */
+  public double meanDecodeTime() {
+    long count = profiles.sum();
+    return count == 0 ? 0D : (double) decodeTime.sum() / count;
+  }
+
+  /**
+   * @return the mean time, in nanoseconds, the profiled executions spent in the result collector
+   */
+  public double meanCollectorTime() {
+    long count = profiles.sum();
+    return count == 0 ? 0D : (double) collectorTime.sum() / count;
+  }
+
+  /**
+   * @return a JSON representation of these statistics
+   */
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject()
+      .put("sql", sql)
+      .put("executions", executions())
+      .put("failures", failures())
+      .put("rows", rows())
+      .put("bytes", bytes())
+      .put("queueTime", queueTime.toJson())
+      .put("executionTime", executionTime.toJson());
+    if (profiles() > 0) {
+      json.put("profile", new JsonObject()
+        .put("count", profiles())
+        .put("serverTime", meanServerTime())
+        .put("firstRowTime", meanFirstRowTime())
+        .put("decodeTime", meanDecodeTime())
+        .put("collectorTime", meanCollectorTime()));
+    }
+    return json;
+  }
+
+  void reset() {
+    queueTime.reset();
+    executionTime.reset();
+    failures.reset();
+    rows.reset();
+    bytes.reset();
+    profiles.reset();
+    profiledExecutionTime.reset();
+    profiledRows.reset();
+    firstRowTime.reset();
+    decodeTime.reset();
+    collectorTime.reset();
+  }
+}
@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+/**
+ * <p>The SQL client metrics Service Provider Interface (SPI).</p>
+ *
+ * <p>A {@link io.vertx.core.spi.metrics.ClientMetrics} created by the Vert.x metrics for the {@code sql} type can
+ * implement {@link io.vertx.sqlclient.spi.metrics.SqlClientMetrics} to receive finer grained events.</p>
+ */
+package io.vertx.sqlclient.spi.metrics;
@@ -18,6 +18,7 @@
 package io.vertx.sqlclient.spi.protocol;
 
 import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.internal.QueryProfile;
 import io.vertx.sqlclient.internal.QueryResultHandler;
 
 import java.util.stream.Collector;
@@ -31,6 +32,8 @@ public abstract class QueryCommandBase<T> extends CommandBase<Boolean> {
   private final QueryResultHandler<T> resultHandler;
   private final Collector<Row, ?, T> collector;
   private final boolean autoCommit;
+  private long dispatchTime;
+  private QueryProfile profile;
 
   QueryCommandBase(boolean autoCommit, Collector<Row, ?, T> collector, QueryResultHandler<T> resultHandler) {
     this.autoCommit = autoCommit;
@@ -52,4 +55,30 @@ public abstract class QueryCommandBase<T> extends CommandBase<Boolean> {
 
   public abstract String sql();
 
+  /**
+   * @return the {@link System#nanoTime()} at which the connection sent the command to the server, or {@code 0} when
+   *         it was not recorded
+   */
+  public long dispatchTime() {
+    return dispatchTime;
+  }
+
+  /**
+   * Record the {@link System#nanoTime()} at which the connection sent the command to the server.
+   */
+  public void dispatchTime(long dispatchTime) {
+    this.dispatchTime = dispatchTime;
+  }
+
+  /**
+   * @return the profile of the command when it is sampled, {@code null} otherwise
+   */
+  public QueryProfile profile() {
+    return profile;
+  }
+
+  public void profile(QueryProfile profile) {
+    this.profile = profile;
+  }
+
 }
@@ -34,5 +34,6 @@ module io.vertx.sql.client {
   exports io.vertx.sqlclient.impl.pool;
   exports io.vertx.sqlclient.spi.protocol;
   exports io.vertx.sqlclient.spi.connection;
+  exports io.vertx.sqlclient.spi.metrics;
 
 }
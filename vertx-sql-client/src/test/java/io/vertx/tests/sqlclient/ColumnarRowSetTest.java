@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.tests.sqlclient;
+
+import io.vertx.sqlclient.ColumnarRowSet;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.impl.RowBase;
+import io.vertx.sqlclient.internal.ColumnarRowSetImpl;
+import org.junit.Test;
+
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+public class ColumnarRowSetTest {
+
+  private static final TestRowDescriptor DESC = TestRowDescriptor.create("int", "long", "double", "string");
+
+  @Test
+  public void testCollect() {
+    ColumnarRowSet set = IntStream.range(0, 200).mapToObj(i -> {
+      RowBase row = new RowBase(DESC);
+      row.addValue(i % 3 == 0 ? null : (short) i);
+      row.addValue((long) i << 32);
+      row.addValue(i / 2F);
+      row.addValue("s" + i);
+      return (Row) row;
+    }).collect(ColumnarRowSet.collector());
+    assertEquals(200, set.size());
+    for (int i = 0;i < 200;i++) {
+      if (i % 3 == 0) {
+        assertTrue(set.isNull(i, 0));
+        assertEquals(0, set.getInt(i, 0));
+        assertNull(set.getValue(i, 0));
+      } else {
+        assertFalse(set.isNull(i, 0));
+        assertEquals(i, set.getInt(i, 0));
+        assertEquals(i, set.getValue(i, 0));
+      }
+      assertEquals((long) i << 32, set.getLong(i, 1));
+      assertEquals((long) i << 32, set.getValue(i, 1));
+      assertEquals(i / 2D, set.getDouble(i, 2), 0D);
+      assertEquals("s" + i, set.getValue(i, 3));
+      assertFalse(set.isNull(i, 3));
+    }
+  }
+
+  @Test
+  public void testPrimitiveAccessorsConvert() {
+    ColumnarRowSetImpl set = new ColumnarRowSetImpl();
+    set.beginRow(2);
+    set.setInt(0, 4);
+    set.setDouble(1, 2.5D);
+    set.endRow();
+    assertEquals(4L, set.getLong(0, 0));
+    assertEquals(4D, set.getDouble(0, 0), 0D);
+    assertEquals(2, set.getInt(0, 1));
+    assertEquals(2L, set.getLong(0, 1));
+  }
+
+  @Test
+  public void testMixedValuesTurnIntoObjectColumn() {
+    ColumnarRowSetImpl set = new ColumnarRowSetImpl();
+    set.beginRow(1);
+    set.setLong(0, 3L);
+    set.endRow();
+    set.beginRow(1);
+    set.setNull(0);
+    set.endRow();
+    set.beginRow(1);
+    set.setValue(0, "text");
+    set.endRow();
+    assertEquals(3L, set.getValue(0, 0));
+    assertEquals(3L, set.getLong(0, 0));
+    assertNull(set.getValue(1, 0));
+    assertTrue(set.isNull(1, 0));
+    assertEquals("text", set.getValue(2, 0));
+    try {
+      set.getLong(2, 0);
+      fail();
+    } catch (ClassCastException ignore) {
+    }
+  }
+
+  @Test
+  public void testAllNullColumn() {
+    ColumnarRowSet set = IntStream.range(0, 100).mapToObj(i -> {
+      RowBase row = new RowBase(DESC);
+      row.addValue(null);
+      row.addValue(i);
+      return (Row) row;
+    }).collect(ColumnarRowSet.collector());
+    assertEquals(100, set.size());
+    for (int i = 0;i < 100;i++) {
+      assertTrue(set.isNull(i, 0));
+      assertEquals(0, set.getInt(i, 0));
+      assertEquals(0L, set.getLong(i, 0));
+      assertEquals(0D, set.getDouble(i, 0), 0D);
+      assertNull(set.getValue(i, 0));
+      assertEquals(i, set.getInt(i, 1));
+    }
+  }
+
+  @Test
+  public void testInvalidIndex() {
+    ColumnarRowSetImpl set = new ColumnarRowSetImpl();
+    set.beginRow(1);
+    set.setInt(0, 1);
+    set.endRow();
+    try {
+      set.getInt(1, 0);
+      fail();
+    } catch (IndexOutOfBoundsException ignore) {
+    }
+    try {
+      set.getInt(0, 1);
+      fail();
+    } catch (IndexOutOfBoundsException ignore) {
+    }
+  }
+
+  @Test
+  public void testEmpty() {
+    Collector<Row, ?, ColumnarRowSet> collector = ColumnarRowSet.collector();
+    ColumnarRowSet set = IntStream.range(0, 0).mapToObj(i -> (Row) null).collect(collector);
+    assertEquals(0, set.size());
+  }
+}
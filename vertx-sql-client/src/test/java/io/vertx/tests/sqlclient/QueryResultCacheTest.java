@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.tests.sqlclient;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.PromiseInternal;
+import io.vertx.sqlclient.QueryResultCacheOptions;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.impl.QueryResultCacheImpl;
+import io.vertx.sqlclient.impl.RowSetImpl;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class QueryResultCacheTest {
+
+  private static final Object COLLECTOR = RowSetImpl.COLLECTOR;
+  private static final Object CLIENT = new Object();
+
+  private Vertx vertx;
+  private ContextInternal context;
+
+  @Before
+  public void setUp() {
+    vertx = Vertx.vertx();
+    context = (ContextInternal) vertx.getOrCreateContext();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    vertx.close().await(10, TimeUnit.SECONDS);
+  }
+
+  private <R> R await(Future<R> future) throws Exception {
+    return future.toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+  }
+
+  private Future<String> execute(QueryResultCacheImpl cache, String sql, Tuple args, List<String> tables, AtomicInteger executions) {
+    return execute(cache, CLIENT, sql, args, tables, executions);
+  }
+
+  private Future<String> execute(QueryResultCacheImpl cache, Object client, String sql, Tuple args, List<String> tables, AtomicInteger executions) {
+    PromiseInternal<String> promise = context.promise();
+    cache.execute(client, sql, args, COLLECTOR, tables, promise, p -> p.complete(sql + "-" + executions.incrementAndGet()));
+    return promise.future();
+  }
+
+  @Test
+  public void testHit() throws Exception {
+    QueryResultCacheImpl cache = new QueryResultCacheImpl(new QueryResultCacheOptions());
+    AtomicInteger executions = new AtomicInteger();
+    assertEquals("q-1", await(execute(cache, "q", Tuple.of(1), Collections.emptyList(), executions)));
+    assertEquals("q-1", await(execute(cache, "q", Tuple.of(1), Collections.emptyList(), executions)));
+    assertEquals("q-2", await(execute(cache, "q", Tuple.of(2), Collections.emptyList(), executions)));
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  public void testClientsNotShared() throws Exception {
+    QueryResultCacheImpl cache = new QueryResultCacheImpl(new QueryResultCacheOptions());
+    AtomicInteger executions = new AtomicInteger();
+    // Two clients connected to different databases
+    Object client1 = new Object();
+    Object client2 = new Object();
+    assertEquals("q-1", await(execute(cache, client1, "q", Tuple.of(1), Collections.emptyList(), executions)));
+    assertEquals("q-2", await(execute(cache, client2, "q", Tuple.of(1), Collections.emptyList(), executions)));
+    assertEquals("q-1", await(execute(cache, client1, "q", Tuple.of(1), Collections.emptyList(), executions)));
+    assertEquals("q-2", await(execute(cache, client2, "q", Tuple.of(1), Collections.emptyList(), executions)));
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  public void testOtherCollectorNotCached() throws Exception {
+    QueryResultCacheImpl cache = new QueryResultCacheImpl(new QueryResultCacheOptions());
+    AtomicInteger executions = new AtomicInteger();
+    for (int i = 1;i <= 2;i++) {
+      PromiseInternal<String> promise = context.promise();
+      // A collector is created for each mapped query
+      cache.execute(CLIENT, "q", Tuple.of(1), Collectors.toList(), Collections.emptyList(), promise, p -> p.complete("q-" + executions.incrementAndGet()));
+      assertEquals("q-" + i, await(promise.future()));
+    }
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testConcurrentMissesShareExecution() throws Exception {
+    QueryResultCacheImpl cache = new QueryResultCacheImpl(new QueryResultCacheOptions());
+    List<PromiseInternal<String>> executions = new ArrayList<>();
+    List<Future<String>> results = new ArrayList<>();
+    for (int i = 0;i < 3;i++) {
+      PromiseInternal<String> promise = context.promise();
+      cache.execute(CLIENT, "q", Tuple.of(1), COLLECTOR, Collections.emptyList(), promise, executions::add);
+      results.add(promise.future());
+    }
+    assertEquals(1, executions.size());
+    executions.get(0).complete("result");
+    for (Future<String> result : results) {
+      assertEquals("result", await(result));
+    }
+  }
+
+  @Test
+  public void testFailureNotCached() throws Exception {
+    QueryResultCacheImpl cache = new QueryResultCacheImpl(new QueryResultCacheOptions());
+    PromiseInternal<String> promise = context.promise();
+    cache.execute(CLIENT, "q", Tuple.tuple(), COLLECTOR, Collections.emptyList(), promise, p -> p.fail("failure"));
+    try {
+      await(promise.future());
+      fail();
+    } catch (Exception expected) {
+    }
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testExpiration() throws Exception {
+    QueryResultCacheImpl cache = new QueryResultCacheImpl(new QueryResultCacheOptions().setTtl(10).setTtlUnit(TimeUnit.MILLISECONDS));
+    AtomicInteger executions = new AtomicInteger();
+    assertEquals("q-1", await(execute(cache, "q", Tuple.tuple(), Collections.emptyList(), executions)));
+    Thread.sleep(50);
+    assertEquals("q-2", await(execute(cache, "q", Tuple.tuple(), Collections.emptyList(), executions)));
+  }
+
+  @Test
+  public void testMaxSize() throws Exception {
+    QueryResultCacheImpl cache = new QueryResultCacheImpl(new QueryResultCacheOptions().setMaxSize(2));
+    AtomicInteger executions = new AtomicInteger();
+    for (int i = 0;i < 4;i++) {
+      await(execute(cache, "q" + i, Tuple.tuple(), Collections.emptyList(), executions));
+    }
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  public void testInvalidate() throws Exception {
+    QueryResultCacheImpl cache = new QueryResultCacheImpl(new QueryResultCacheOptions());
+    AtomicInteger executions = new AtomicInteger();
+    await(execute(cache, "q1", Tuple.tuple(), Collections.singletonList("t1"), executions));
+    await(execute(cache, "q2", Tuple.tuple(), Collections.singletonList("t2"), executions));
+    cache.invalidate("t1");
+    assertEquals(1, cache.size());
+    assertEquals("q1-3", await(execute(cache, "q1", Tuple.tuple(), Collections.singletonList("t1"), executions)));
+    cache.invalidate();
+    assertEquals(0, cache.size());
+  }
+}
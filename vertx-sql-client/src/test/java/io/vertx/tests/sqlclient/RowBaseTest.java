@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.tests.sqlclient;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.sqlclient.impl.RowBase;
+import org.junit.Test;
+
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.*;
+
+public class RowBaseTest {
+
+  private static final TestRowDescriptor DESC = TestRowDescriptor.create("content");
+
+  @Test
+  public void testRetainedBufferReleasedWithRow() {
+    ByteBuf network = Unpooled.directBuffer().writeBytes("_hello_".getBytes(StandardCharsets.UTF_8));
+    RowBase row = new RowBase(DESC);
+    row.addValue(row.retainedBuffer(network.retainedSlice(1, 5)));
+    network.release();
+    assertEquals(1, network.refCnt());
+    Buffer value = row.getBuffer(0);
+    assertEquals(Buffer.buffer("hello"), value);
+    try {
+      value.setByte(0, (byte) 'H');
+      fail();
+    } catch (ReadOnlyBufferException ignore) {
+    }
+    row.release();
+    assertEquals(0, network.refCnt());
+    assertTrue(row.tryRecycle());
+    assertEquals(0, row.size());
+    // Releasing twice is harmless
+    row.release();
+  }
+}
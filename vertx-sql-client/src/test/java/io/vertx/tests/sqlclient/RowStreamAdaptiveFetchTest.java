@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.tests.sqlclient;
+
+import io.vertx.core.Completable;
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.sqlclient.PreparedStatement;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowStream;
+import io.vertx.sqlclient.RowStreamOptions;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.desc.RowDescriptor;
+import io.vertx.sqlclient.impl.PreparedStatementBase;
+import io.vertx.sqlclient.impl.RowBase;
+import io.vertx.sqlclient.internal.QueryResultHandler;
+import io.vertx.sqlclient.spi.connection.Connection;
+import io.vertx.sqlclient.spi.protocol.CommandBase;
+import io.vertx.sqlclient.spi.protocol.ExtendedQueryCommand;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Collector;
+
+import static org.junit.Assert.*;
+
+/**
+ * Check the fetch sizes of the cursor reads issued by a stream with {@link RowStreamOptions#setFetchBytes(int)}.
+ */
+public class RowStreamAdaptiveFetchTest {
+
+  private static final TestRowDescriptor DESC = TestRowDescriptor.create("id");
+
+  private Vertx vertx;
+  private ContextInternal context;
+  private final List<Integer> fetches = Collections.synchronizedList(new ArrayList<>());
+
+  @Before
+  public void setUp() {
+    vertx = Vertx.vertx();
+    context = (ContextInternal) vertx.getOrCreateContext();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    vertx.close().await(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testFetchGrowsForNarrowRows() throws Exception {
+    // 10 bytes per row, 100 bytes per fetch
+    RowStream<Row> stream = stream(200, id -> 10, new RowStreamOptions().setFetch(1).setFetchBytes(100));
+    assertEquals(200, consume(stream, null));
+    assertEquals(1, (int) fetches.get(0));
+    assertEquals(10, (int) fetches.get(1));
+  }
+
+  @Test
+  public void testFetchShrinksForWideRows() throws Exception {
+    // The rows become wider after the first fetch
+    RowStream<Row> stream = stream(200, id -> id < 10 ? 10 : 100, new RowStreamOptions().setFetch(10).setFetchBytes(100));
+    assertEquals(200, consume(stream, null));
+    assertEquals(10, (int) fetches.get(0));
+    assertEquals(10, (int) fetches.get(1));
+    // The average row size is (10 + 100) / 2 bytes after the second fetch
+    assertEquals(1, (int) fetches.get(2));
+  }
+
+  @Test
+  public void testFetchHalvesForSlowConsumer() throws Exception {
+    RowStream<Row> stream = stream(200, id -> 10, new RowStreamOptions().setFetch(10).setReadAhead(1).setFetchBytes(1000));
+    AtomicInteger received = new AtomicInteger();
+    assertEquals(200, consume(stream, row -> {
+      if (received.incrementAndGet() == 1) {
+        // Rows are still buffered when the read ahead completes
+        stream.pause();
+        vertx.setTimer(100, id -> stream.resume());
+      }
+    }));
+    assertEquals(10, (int) fetches.get(0));
+    // Read ahead sized after the first read
+    assertEquals(100, (int) fetches.get(1));
+    // Halved since the stream still buffered rows
+    assertEquals(50, (int) fetches.get(2));
+  }
+
+  private int consume(RowStream<Row> stream, Consumer<Row> consumer) throws Exception {
+    AtomicInteger count = new AtomicInteger();
+    CountDownLatch latch = new CountDownLatch(1);
+    stream.exceptionHandler(err -> latch.countDown());
+    stream.endHandler(v -> latch.countDown());
+    stream.handler(row -> {
+      count.incrementAndGet();
+      if (consumer != null) {
+        consumer.accept(row);
+      }
+    });
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    return count.get();
+  }
+
+  /**
+   * Create a stream reading {@code rows} rows from a fake connection, {@code rowBytes} gives the size of each row.
+   */
+  private RowStream<Row> stream(int rows, IntUnaryOperator rowBytes, RowStreamOptions options) {
+    int[] position = new int[1];
+    io.vertx.sqlclient.internal.PreparedStatement statement = new io.vertx.sqlclient.internal.PreparedStatement() {
+      @Override
+      public RowDescriptor rowDesc() {
+        return DESC;
+      }
+      @Override
+      public String sql() {
+        return "SELECT id FROM test";
+      }
+    };
+    Connection conn = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[] { Connection.class }, (proxy, method, args) -> {
+      if (method.getName().equals("schedule") && args.length == 2) {
+        CommandBase<?> cmd = (CommandBase<?>) args[0];
+        Completable<Boolean> handler = (Completable<Boolean>) args[1];
+        context.runOnContext(v -> {
+          if (cmd instanceof ExtendedQueryCommand) {
+            ExtendedQueryCommand<?> query = (ExtendedQueryCommand<?>) cmd;
+            fetches.add(query.fetch());
+            int from = position[0];
+            int to = Math.min(rows, from + query.fetch());
+            position[0] = to;
+            read(query, from, to, rowBytes);
+            handler.succeed(to < rows);
+          } else {
+            handler.succeed(null);
+          }
+        });
+        return null;
+      }
+      return null;
+    });
+    PreparedStatement ps = PreparedStatementBase.create(conn, context, statement, true);
+    return ps.createStream(options, Tuple.tuple());
+  }
+
+  private static <C, R> void read(ExtendedQueryCommand<R> query, int from, int to, IntUnaryOperator rowBytes) {
+    Collector<Row, C, R> collector = (Collector<Row, C, R>) query.collector();
+    C container = collector.supplier().get();
+    BiConsumer<C, Row> accumulator = collector.accumulator();
+    long bytes = 0L;
+    for (int id = from;id < to;id++) {
+      RowBase row = new RowBase(DESC);
+      row.addValue(id);
+      accumulator.accept(container, row);
+      bytes += rowBytes.applyAsInt(id);
+    }
+    QueryResultHandler<R> resultHandler = query.resultHandler();
+    resultHandler.handleResult(0, to - from, bytes, DESC, collector.finisher().apply(container), null);
+  }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.tests.sqlclient;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.spi.metrics.Histogram;
+import io.vertx.sqlclient.spi.metrics.SqlClientStatistics;
+import io.vertx.sqlclient.spi.metrics.StatementStatistics;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SqlClientStatisticsTest {
+
+  @Test
+  public void testHistogramPercentiles() {
+    Histogram histogram = new Histogram();
+    for (int i = 1;i <= 1000;i++) {
+      histogram.record(i * 1000L);
+    }
+    assertEquals(1000, histogram.count());
+    assertEquals(1_000_000L, histogram.max());
+    assertEquals(500_500D, histogram.mean(), 0.1D);
+    assertWithin(500_000L, histogram.valueAtPercentile(50));
+    assertWithin(990_000L, histogram.valueAtPercentile(99));
+    assertEquals(1_000_000L, histogram.valueAtPercentile(100));
+  }
+
+  @Test
+  public void testHistogramSmallValues() {
+    Histogram histogram = new Histogram();
+    histogram.record(-5);
+    histogram.record(3);
+    histogram.record(7);
+    assertEquals(0L, histogram.valueAtPercentile(0));
+    assertEquals(3L, histogram.valueAtPercentile(50));
+    assertEquals(7L, histogram.valueAtPercentile(100));
+  }
+
+  @Test
+  public void testHistogramLargeValues() {
+    Histogram histogram = new Histogram();
+    histogram.record(Long.MAX_VALUE);
+    assertEquals(Long.MAX_VALUE, histogram.valueAtPercentile(50));
+  }
+
+  @Test
+  public void testHistogramReset() {
+    Histogram histogram = new Histogram();
+    histogram.record(100);
+    histogram.reset();
+    assertEquals(0, histogram.count());
+    assertEquals(0, histogram.max());
+    assertEquals(0L, histogram.valueAtPercentile(99));
+  }
+
+  @Test
+  public void testStatements() {
+    SqlClientStatistics statistics = new SqlClientStatistics();
+    statistics.statementExecuted("SELECT 1", 10, 1000, 1, 16, true);
+    statistics.statementExecuted("SELECT 1", 20, 2000, 1, 16, true);
+    statistics.statementExecuted("SELECT 1", 0, 500, 0, 0, false);
+    StatementStatistics stats = statistics.statement("SELECT 1");
+    assertEquals("SELECT 1", stats.sql());
+    assertEquals(3, stats.executions());
+    assertEquals(1, stats.failures());
+    assertEquals(2, stats.rows());
+    assertEquals(32, stats.bytes());
+    assertEquals(20, stats.queueTime().max());
+    assertEquals(2000, stats.executionTime().max());
+    assertEquals(1, statistics.statements().size());
+  }
+
+  @Test
+  public void testMaxStatements() {
+    SqlClientStatistics statistics = new SqlClientStatistics(2);
+    statistics.statementExecuted("SELECT 1", 0, 1000, 1, 0, true);
+    statistics.statementExecuted("SELECT 2", 0, 1000, 1, 0, true);
+    statistics.statementExecuted("SELECT 3", 0, 1000, 1, 0, true);
+    statistics.statementExecuted("SELECT 4", 0, 1000, 1, 0, true);
+    statistics.statementExecuted("SELECT 1", 0, 1000, 1, 0, true);
+    assertEquals(2, statistics.statements().size());
+    assertEquals(2, statistics.statement("SELECT 1").executions());
+    assertNull(statistics.statement("SELECT 3"));
+    assertNull(statistics.overflow().sql());
+    assertEquals(2, statistics.overflow().executions());
+  }
+
+  @Test
+  public void testPreparedStatementCacheHitRatio() {
+    SqlClientStatistics statistics = new SqlClientStatistics();
+    assertEquals(0D, statistics.preparedStatementCacheHitRatio(), 0D);
+    statistics.preparedStatementCacheLookup(false);
+    statistics.preparedStatementCacheLookup(true);
+    statistics.preparedStatementCacheLookup(true);
+    statistics.preparedStatementCacheLookup(true);
+    assertEquals(3, statistics.preparedStatementCacheHits());
+    assertEquals(1, statistics.preparedStatementCacheMisses());
+    assertEquals(0.75D, statistics.preparedStatementCacheHitRatio(), 0D);
+  }
+
+  @Test
+  public void testReset() {
+    SqlClientStatistics statistics = new SqlClientStatistics();
+    statistics.connected(1000);
+    statistics.acquired(1000);
+    statistics.pipelineDepth(3);
+    statistics.preparedStatementCacheLookup(true);
+    statistics.statementExecuted("SELECT 1", 0, 1000, 1, 0, true);
+    statistics.reset();
+    assertEquals(0, statistics.connectTime().count());
+    assertEquals(0, statistics.poolWaitTime().count());
+    assertEquals(0, statistics.pipelineDepth().count());
+    assertEquals(0, statistics.preparedStatementCacheHits());
+    assertTrue(statistics.statements().isEmpty());
+  }
+
+  @Test
+  public void testProfileSampleRate() {
+    SqlClientStatistics statistics = new SqlClientStatistics();
+    assertFalse(statistics.profile("SELECT 1"));
+    statistics.setProfileSampleRate(1D);
+    assertTrue(statistics.profile("SELECT 1"));
+    try {
+      statistics.setProfileSampleRate(1.5D);
+      fail();
+    } catch (IllegalArgumentException ignore) {
+    }
+  }
+
+  @Test
+  public void testProfiledStatement() {
+    SqlClientStatistics statistics = new SqlClientStatistics();
+    statistics.statementExecuted("SELECT 1", 0, 1000, 10, 100, true);
+    statistics.statementProfiled("SELECT 1", 1000, 400, 200, 100);
+    statistics.statementExecuted("SELECT 1", 0, 3000, 0, 0, true);
+    statistics.statementProfiled("SELECT 1", 3000, -1, 0, 0);
+    StatementStatistics stats = statistics.statement("SELECT 1");
+    assertEquals(2, stats.profiles());
+    assertEquals(400D, stats.meanFirstRowTime(), 0D);
+    assertEquals(100D, stats.meanDecodeTime(), 0D);
+    assertEquals(50D, stats.meanCollectorTime(), 0D);
+    assertEquals(1850D, stats.meanServerTime(), 0D);
+  }
+
+  @Test
+  public void testSlowest() {
+    SqlClientStatistics statistics = new SqlClientStatistics();
+    statistics.statementExecuted("SELECT 1", 0, 1000, 1, 0, true);
+    statistics.statementExecuted("SELECT 2", 0, 5000, 1, 0, true);
+    statistics.statementExecuted("SELECT 3", 0, 3000, 1, 0, true);
+    List<StatementStatistics> slowest = statistics.slowest(2);
+    assertEquals(2, slowest.size());
+    assertEquals("SELECT 2", slowest.get(0).sql());
+    assertEquals("SELECT 3", slowest.get(1).sql());
+  }
+
+  @Test
+  public void testToJson() {
+    SqlClientStatistics statistics = new SqlClientStatistics();
+    statistics.connected(1000);
+    statistics.preparedStatementCacheLookup(true);
+    statistics.statementExecuted("SELECT 1", 10, 1000, 1, 8, true);
+    statistics.statementProfiled("SELECT 1", 1000, 500, 100, 50);
+    statistics.statementExecuted("SELECT 2", 10, 2000, 1, 8, true);
+    JsonObject json = statistics.toJson(1);
+    assertEquals(1L, (long) json.getJsonObject("connectTime").getLong("count"));
+    assertEquals(1D, json.getJsonObject("preparedStatementCache").getDouble("hitRatio"), 0D);
+    assertEquals(1, json.getJsonArray("statements").size());
+    JsonObject stmt = json.getJsonArray("statements").getJsonObject(0);
+    assertEquals("SELECT 2", stmt.getString("sql"));
+    assertNull(stmt.getJsonObject("profile"));
+    JsonObject profiled = statistics.statement("SELECT 1").toJson();
+    assertEquals(1L, (long) profiled.getJsonObject("profile").getLong("count"));
+    assertEquals(100D, profiled.getJsonObject("profile").getDouble("decodeTime"), 0D);
+  }
+
+  private static void assertWithin(long expected, long actual) {
+    assertTrue("Expected " + actual + " to be within 7% of " + expected, Math.abs(actual - expected) <= expected * 0.07D);
+  }
+}
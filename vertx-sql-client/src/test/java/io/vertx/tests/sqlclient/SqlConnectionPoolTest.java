@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.tests.sqlclient;
+
+import io.vertx.core.Completable;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.metrics.ClientMetrics;
+import io.vertx.core.tracing.TracingPolicy;
+import io.vertx.sqlclient.ConnectionSelectionStrategy;
+import io.vertx.sqlclient.SqlConnectOptions;
+import io.vertx.sqlclient.impl.pool.SqlConnectionPool;
+import io.vertx.sqlclient.spi.DatabaseMetadata;
+import io.vertx.sqlclient.spi.connection.Connection;
+import io.vertx.sqlclient.spi.connection.ConnectionContext;
+import io.vertx.sqlclient.spi.connection.ConnectionFactory;
+import io.vertx.sqlclient.spi.protocol.CommandBase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pool queries reusing the connections parked on the event-loop of the caller.
+ */
+public class SqlConnectionPoolTest {
+
+  private VertxInternal vertx;
+  private final AtomicInteger connects = new AtomicInteger();
+  private final AtomicInteger commands = new AtomicInteger();
+  private volatile Runnable parking;
+
+  @Before
+  public void setUp() {
+    vertx = (VertxInternal) Vertx.vertx();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    vertx.close().await(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testIdleConnectionReusedOnEventLoop() throws Exception {
+    SqlConnectionPool pool = createPool(4);
+    ContextInternal context = eventLoopContext();
+    assertEquals(100, run(pool, context, 100).get(10, TimeUnit.SECONDS).intValue());
+    assertEquals(1, connects.get());
+    assertEquals(1, pool.size());
+  }
+
+  @Test
+  public void testIdleConnectionReleasedToOtherEventLoop() throws Exception {
+    SqlConnectionPool pool = createPool(1);
+    ContextInternal context1 = eventLoopContext();
+    ContextInternal context2 = eventLoopContext();
+    assertNotSame(context1.nettyEventLoop(), context2.nettyEventLoop());
+    run(pool, context1, 1).get(10, TimeUnit.SECONDS);
+    // The connection is parked on the first event-loop, the request queued from the second event-loop gets it
+    run(pool, context2, 1).get(10, TimeUnit.SECONDS);
+    assertEquals(1, connects.get());
+  }
+
+  @Test
+  public void testRequestQueuedWhileParking() throws Exception {
+    SqlConnectionPool pool = createPool(1);
+    ContextInternal context1 = eventLoopContext();
+    ContextInternal context2 = eventLoopContext();
+    CompletableFuture<Integer> fut2 = new CompletableFuture<>();
+    // The connection released on the first event-loop has been checked for waiters but is not parked yet when the
+    // request of the second event-loop is queued
+    parking = () -> {
+      CountDownLatch queued = new CountDownLatch(1);
+      context2.runOnContext(v -> {
+        run(pool, 0, 1, fut2);
+        queued.countDown();
+      });
+      try {
+        assertTrue(queued.await(10, TimeUnit.SECONDS));
+      } catch (InterruptedException e) {
+        throw new AssertionError(e);
+      }
+    };
+    run(pool, context1, 1).get(10, TimeUnit.SECONDS);
+    assertEquals(1, fut2.get(10, TimeUnit.SECONDS).intValue());
+    assertNull(parking);
+  }
+
+  @Test
+  public void testConcurrentEventLoops() throws Exception {
+    // Each event-loop parks the single connection while the other one queues a request
+    SqlConnectionPool pool = createPool(1);
+    CompletableFuture<Integer> fut1 = run(pool, eventLoopContext(), 10_000);
+    CompletableFuture<Integer> fut2 = run(pool, eventLoopContext(), 10_000);
+    assertEquals(10_000, fut1.get(20, TimeUnit.SECONDS).intValue());
+    assertEquals(10_000, fut2.get(20, TimeUnit.SECONDS).intValue());
+    assertEquals(20_000, commands.get());
+  }
+
+  private ContextInternal eventLoopContext() {
+    return vertx.contextBuilder().withEventLoop(vertx.nettyEventLoopGroup().next()).build();
+  }
+
+  /**
+   * Run {@code num} sequential pool queries from {@code context}, each query waits at most one second for a connection.
+   */
+  private CompletableFuture<Integer> run(SqlConnectionPool pool, ContextInternal context, int num) {
+    CompletableFuture<Integer> fut = new CompletableFuture<>();
+    context.runOnContext(v -> run(pool, 0, num, fut));
+    return fut;
+  }
+
+  private void run(SqlConnectionPool pool, int count, int num, CompletableFuture<Integer> fut) {
+    if (count == num) {
+      fut.complete(count);
+    } else {
+      pool.execute(new CommandBase<Void>() {
+      }, (res, err) -> {
+        if (err == null) {
+          run(pool, count + 1, num, fut);
+        } else {
+          fut.completeExceptionally(err);
+        }
+      }, 1000);
+    }
+  }
+
+  private SqlConnectionPool createPool(int maxSize) {
+    ConnectionFactory<SqlConnectOptions> factory = new ConnectionFactory<>() {
+      @Override
+      public Future<Connection> connect(Context context, SqlConnectOptions options) {
+        connects.incrementAndGet();
+        return ((ContextInternal) context).succeededFuture(new FakeConnection((ContextInternal) context));
+      }
+      @Override
+      public void close(Completable<Void> completion) {
+        completion.succeed();
+      }
+    };
+    return new SqlConnectionPool(() -> vertx.succeededFuture(new SqlConnectOptions()), factory, null, null, null, null,
+      vertx, 0, 0, 0, 0, 0, false, maxSize, 0, false, -1, 0, ConnectionSelectionStrategy.FIRST_AVAILABLE);
+  }
+
+  /**
+   * A connection completing the commands on its context.
+   */
+  private class FakeConnection implements Connection {
+
+    private final ContextInternal context;
+    private ConnectionContext holder;
+
+    FakeConnection(ContextInternal context) {
+      this.context = context;
+    }
+
+    @Override
+    public <R> void schedule(CommandBase<R> cmd, Completable<R> handler) {
+      commands.incrementAndGet();
+      context.runOnContext(v -> handler.succeed(null));
+    }
+
+    @Override
+    public void init(ConnectionContext context) {
+      holder = context;
+    }
+
+    @Override
+    public void close(ConnectionContext holder, Completable<Void> promise) {
+      this.holder.handleClosed();
+      promise.succeed();
+    }
+
+    @Override
+    public boolean isValid() {
+      // The first check after a command is the release of the connection
+      Runnable hook = parking;
+      if (hook != null && commands.get() > 0) {
+        parking = null;
+        hook.run();
+      }
+      return true;
+    }
+
+    @Override
+    public boolean isSsl() {
+      return false;
+    }
+
+    @Override
+    public TracingPolicy tracingPolicy() {
+      return TracingPolicy.IGNORE;
+    }
+
+    @Override
+    public ClientMetrics metrics() {
+      return null;
+    }
+
+    @Override
+    public SocketAddress server() {
+      return SocketAddress.inetSocketAddress(5432, "localhost");
+    }
+
+    @Override
+    public String database() {
+      return "test";
+    }
+
+    @Override
+    public String user() {
+      return "test";
+    }
+
+    @Override
+    public DatabaseMetadata databaseMetadata() {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.tests.sqlclient;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.util.ResourceLeakDetector;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.impl.RowBase;
+import io.vertx.sqlclient.impl.RowDecoder;
+import io.vertx.sqlclient.impl.RowSetImpl;
+import io.vertx.sqlclient.internal.RowInternal;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * Decode rows retaining slices of pooled network buffers with the paranoid leak detector.
+ */
+public class ZeroCopyLeakTest {
+
+  private static final TestRowDescriptor DESC = TestRowDescriptor.create("content");
+
+  private ResourceLeakDetector.Level level;
+  private Logger logger;
+  private Handler handler;
+  private final List<String> leaks = Collections.synchronizedList(new ArrayList<>());
+
+  @Before
+  public void setUp() {
+    level = ResourceLeakDetector.getLevel();
+    ResourceLeakDetector.setLevel(ResourceLeakDetector.Level.PARANOID);
+    logger = Logger.getLogger(ResourceLeakDetector.class.getName());
+    handler = new Handler() {
+      @Override
+      public void publish(LogRecord record) {
+        if (record.getMessage() != null && record.getMessage().contains("LEAK")) {
+          leaks.add(record.getMessage());
+        }
+      }
+      @Override
+      public void flush() {
+      }
+      @Override
+      public void close() {
+      }
+    };
+    logger.addHandler(handler);
+  }
+
+  @After
+  public void tearDown() {
+    logger.removeHandler(handler);
+    ResourceLeakDetector.setLevel(level);
+  }
+
+  @Test
+  public void testRowSet() throws Exception {
+    checkRows(decode(RowSetImpl.COLLECTOR, 10), false);
+    assertNoLeaks();
+  }
+
+  @Test
+  public void testCollector() throws Exception {
+    List<Buffer> buffers = decode(Collectors.mapping(row -> row.getBuffer(0), Collectors.toList()), 10);
+    assertEquals(10, buffers.size());
+    assertNoLeaks();
+  }
+
+  @Test
+  public void testStream() throws Exception {
+    checkRows(decode(RowSetImpl.STREAM_COLLECTOR, 10), true);
+    assertNoLeaks();
+  }
+
+  @Test
+  public void testDiscardedRows() throws Exception {
+    Collector<Row, RowSetImpl<Row>, RowSet<Row>> failing = Collector.of(
+      RowSetImpl.STREAM_COLLECTOR.supplier(),
+      (set, row) -> {
+        throw new RuntimeException();
+      },
+      (set1, set2) -> null,
+      set -> set);
+    decode(failing, 10);
+    assertNoLeaks();
+  }
+
+  private static void checkRows(RowSet<Row> rows, boolean release) {
+    int count = 0;
+    for (Row row : rows) {
+      assertEquals(Buffer.buffer("hello"), row.getBuffer(0));
+      if (release) {
+        row.release();
+      }
+      count++;
+    }
+    assertEquals(10, count);
+  }
+
+  private <R> R decode(Collector<Row, ?, R> collector, int num) {
+    TestDecoder<?, R> decoder = new TestDecoder<>(collector);
+    for (int i = 0;i < num;i++) {
+      ByteBuf network = PooledByteBufAllocator.DEFAULT.directBuffer();
+      network.writeBytes("hello".getBytes(StandardCharsets.UTF_8));
+      decoder.handleRow(network.readableBytes(), network);
+      network.release();
+    }
+    decoder.complete();
+    return decoder.result();
+  }
+
+  private void assertNoLeaks() throws Exception {
+    for (int i = 0;i < 10;i++) {
+      System.gc();
+      Thread.sleep(10);
+      // Leaks are reported when buffers are allocated
+      PooledByteBufAllocator.DEFAULT.directBuffer().release();
+    }
+    assertEquals(Collections.emptyList(), leaks);
+  }
+
+  private static class TestDecoder<C, R> extends RowDecoder<C, R> {
+
+    TestDecoder(Collector<Row, C, R> collector) {
+      super(collector);
+    }
+
+    @Override
+    protected RowInternal row() {
+      return new RowBase(DESC);
+    }
+
+    @Override
+    protected boolean decodeRow(int len, ByteBuf in, Row row) {
+      Buffer value;
+      // Only the rows of a stream are released by the application
+      if (streamed()) {
+        value = ((RowBase) row).retainedBuffer(in.retainedSlice(in.readerIndex(), len));
+      } else {
+        value = Buffer.buffer(in.toString(in.readerIndex(), len, StandardCharsets.UTF_8));
+      }
+      in.skipBytes(len);
+      row.addValue(value);
+      return true;
+    }
+  }
+}
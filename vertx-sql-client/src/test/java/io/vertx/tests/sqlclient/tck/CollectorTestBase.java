@@ -16,6 +16,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonArray;
 import io.vertx.ext.unit.TestContext;
+import io.vertx.sqlclient.ColumnarRowSet;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.SqlConnection;
 import org.junit.After;
@@ -111,6 +112,39 @@ public abstract class CollectorTestBase {
     }));
   }
 
+  @Test
+  public void testSimpleQueryColumnarRowSet(TestContext ctx) {
+    testColumnarRowSet(ctx, false);
+  }
+
+  @Test
+  public void testPreparedQueryColumnarRowSet(TestContext ctx) {
+    testColumnarRowSet(ctx, true);
+  }
+
+  private void testColumnarRowSet(TestContext ctx, boolean prepared) {
+    String sql = "SELECT id, test_int_2, test_int_4, test_int_8, test_float, test_double, test_varchar FROM collector_test WHERE id = 1";
+    connector.connect(ctx.asyncAssertSuccess(conn -> {
+      (prepared ? conn.preparedQuery(sql) : conn.query(sql))
+        .collecting(ColumnarRowSet.collector())
+        .execute()
+        .onComplete(ctx.asyncAssertSuccess(result -> {
+          ColumnarRowSet set = result.value();
+          ctx.assertEquals(1, result.size());
+          ctx.assertEquals(1, set.size());
+          ctx.assertEquals(1, set.getInt(0, 0));
+          ctx.assertEquals(32767, set.getInt(0, 1));
+          ctx.assertEquals(2147483647, set.getInt(0, 2));
+          ctx.assertEquals(9223372036854775807L, set.getLong(0, 3));
+          ctx.assertEquals(123.456f, (float) set.getDouble(0, 4));
+          ctx.assertEquals(1.234567d, set.getDouble(0, 5));
+          ctx.assertEquals("HELLO,WORLD", set.getValue(0, 6));
+          ctx.assertFalse(set.isNull(0, 6));
+          conn.close();
+        }));
+    }));
+  }
+
   @Test
   public void testCollectorFailureProvidingSupplier(TestContext ctx) {
     RuntimeException cause = new RuntimeException();
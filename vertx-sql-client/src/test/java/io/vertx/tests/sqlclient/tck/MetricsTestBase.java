@@ -23,6 +23,8 @@ import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
 import io.vertx.sqlclient.*;
+import io.vertx.sqlclient.spi.metrics.SqlClientStatistics;
+import io.vertx.sqlclient.spi.metrics.StatementStatistics;
 import io.vertx.tests.sqlclient.ProxyServer;
 import org.junit.After;
 import org.junit.Before;
@@ -343,6 +345,43 @@ public abstract class MetricsTestBase {
     });
   }
 
+  @Test
+  public void testStatementMetrics(TestContext ctx) throws Exception {
+    SqlClientStatistics statistics = new SqlClientStatistics();
+    clientMetrics = statistics;
+    String sql = "SELECT * FROM immutable WHERE id=1";
+    Pool pool = createPool(vertx, new PoolOptions().setMaxSize(1));
+    for (int i = 0;i < 3;i++) {
+      pool.preparedQuery(sql).execute().await(20, SECONDS);
+    }
+    pool.query("SELECT * FROM undefined_table WHERE id = 1").execute().otherwiseEmpty().await(20, SECONDS);
+    StatementStatistics stats = statistics.statement(sql);
+    ctx.assertNotNull(stats);
+    ctx.assertEquals(3L, stats.executions());
+    ctx.assertEquals(0L, stats.failures());
+    ctx.assertEquals(3L, stats.rows());
+    ctx.assertTrue(stats.executionTime().max() > 0L);
+    ctx.assertEquals(1L, statistics.statement("SELECT * FROM undefined_table WHERE id = 1").failures());
+    ctx.assertEquals(1L, statistics.connectTime().count());
+    ctx.assertEquals(4L, statistics.poolWaitTime().count());
+  }
+
+  @Test
+  public void testProfiledStatement(TestContext ctx) throws Exception {
+    SqlClientStatistics statistics = new SqlClientStatistics().setProfileSampleRate(1D);
+    clientMetrics = statistics;
+    String sql = "SELECT * FROM immutable";
+    Pool pool = createPool(vertx, new PoolOptions().setMaxSize(1));
+    for (int i = 0;i < 2;i++) {
+      pool.preparedQuery(sql).execute().await(20, SECONDS);
+    }
+    StatementStatistics stats = statistics.statement(sql);
+    ctx.assertEquals(2L, stats.profiles());
+    ctx.assertTrue(stats.meanServerTime() > 0D);
+    ctx.assertEquals(sql, statistics.slowest(1).get(0).sql());
+    ctx.assertNotNull(statistics.toJson(10).getJsonArray("statements").getJsonObject(0).getJsonObject("profile"));
+  }
+
   @Test
   public void testGetConnectionFailure(TestContext ctx) throws Exception {
     testConnectionFailure(ctx, true);
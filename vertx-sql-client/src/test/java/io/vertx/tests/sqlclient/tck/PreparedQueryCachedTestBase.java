@@ -13,6 +13,8 @@ package io.vertx.tests.sqlclient.tck;
 
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
+import io.vertx.sqlclient.PreparedStatementCacheStats;
 import io.vertx.sqlclient.Tuple;
 import org.junit.Test;
 
@@ -149,6 +151,35 @@ public abstract class PreparedQueryCachedTestBase extends PreparedQueryTestBase
     }));
   }
 
+  @Test
+  public void testTinyLfuKeepsFrequentStatement(TestContext ctx) {
+    options.setPreparedStatementCacheMaxSize(1);
+    options.setPreparedStatementCachePolicy(PreparedStatementCachePolicy.TINY_LFU);
+
+    connector.connect(ctx.asyncAssertSuccess(conn -> {
+      conn
+        .preparedQuery("SELECT * FROM immutable")
+        .execute()
+        .compose(res -> conn.preparedQuery("SELECT * FROM immutable").execute())
+        .compose(res -> conn.preparedQuery("SELECT * FROM immutable").execute())
+        .compose(res -> {
+          // Used once, not admitted in the cache
+          return conn.preparedQuery("SELECT * FROM mutable").execute();
+        })
+        .compose(res -> conn.preparedQuery("SELECT * FROM immutable").execute())
+        .onComplete(ctx.asyncAssertSuccess(res -> {
+          ctx.assertEquals(12, res.size());
+          PreparedStatementCacheStats stats = conn.preparedStatementCacheStats();
+          ctx.assertEquals(3L, stats.getHits());
+          ctx.assertEquals(2L, stats.getMisses());
+          ctx.assertEquals(0L, stats.getEvictions());
+          ctx.assertEquals(1L, stats.getRejections());
+          ctx.assertEquals(1, stats.getSize());
+          conn.close();
+        }));
+    }));
+  }
+
   @Test
   public void testPreparedQueryParamInitiallyNull(TestContext ctx) {
     connect(ctx.asyncAssertSuccess(conn -> {
@@ -25,6 +25,7 @@ import org.junit.Test;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -104,6 +105,109 @@ public abstract class PreparedQueryTestBase {
     }));
   }
 
+  @Test
+  public void testCachedPreparedQuery(TestContext ctx) {
+    QueryResultCache cache = QueryResultCache.create(new QueryResultCacheOptions());
+    connect(ctx.asyncAssertSuccess(conn -> {
+      PreparedQuery<RowSet<Row>> query = conn
+        .preparedQuery(statement("SELECT * FROM immutable WHERE id=", ""))
+        .cached(cache, Collections.singletonList("immutable"));
+      query
+        .execute(Tuple.of(1))
+        .onComplete(ctx.asyncAssertSuccess(rowSet1 -> {
+          ctx.assertEquals(1, rowSet1.size());
+          query
+            .execute(Tuple.of(1))
+            .onComplete(ctx.asyncAssertSuccess(rowSet2 -> {
+              ctx.assertTrue(rowSet1 == rowSet2);
+              query
+                .execute(Tuple.of(2))
+                .onComplete(ctx.asyncAssertSuccess(rowSet3 -> {
+                  ctx.assertEquals(2, rowSet3.iterator().next().getInteger(0));
+                  ctx.assertEquals(2, cache.size());
+                  cache.invalidate("immutable");
+                  ctx.assertEquals(0, cache.size());
+                  query
+                    .execute(Tuple.of(1))
+                    .onComplete(ctx.asyncAssertSuccess(rowSet4 -> {
+                      ctx.assertFalse(rowSet1 == rowSet4);
+                      ctx.assertEquals(1, rowSet4.size());
+                      conn.close();
+                    }));
+                }));
+            }));
+        }));
+    }));
+  }
+
+  @Test
+  public void testCachedPreparedQueryFailure(TestContext ctx) {
+    QueryResultCache cache = QueryResultCache.create(new QueryResultCacheOptions());
+    connect(ctx.asyncAssertSuccess(conn -> {
+      conn
+        .preparedQuery("SELECT * FROM does_not_exist")
+        .cached(cache)
+        .execute()
+        .onComplete(ctx.asyncAssertFailure(err -> {
+          // Failures are not cached
+          ctx.assertEquals(0, cache.size());
+          conn.close();
+        }));
+    }));
+  }
+
+  @Test
+  public void testCachedPreparedQueryClients(TestContext ctx) {
+    QueryResultCache cache = QueryResultCache.create(new QueryResultCacheOptions());
+    connect(ctx.asyncAssertSuccess(conn1 -> {
+      connect(ctx.asyncAssertSuccess(conn2 -> {
+        String sql = statement("SELECT * FROM immutable WHERE id=", "");
+        conn1
+          .preparedQuery(sql)
+          .cached(cache)
+          .execute(Tuple.of(1))
+          .onComplete(ctx.asyncAssertSuccess(rowSet1 -> {
+            conn2
+              .preparedQuery(sql)
+              .cached(cache)
+              .execute(Tuple.of(1))
+              .onComplete(ctx.asyncAssertSuccess(rowSet2 -> {
+                // Each client is served its own results
+                ctx.assertFalse(rowSet1 == rowSet2);
+                ctx.assertEquals(1, rowSet2.size());
+                ctx.assertEquals(2, cache.size());
+                conn1.close();
+                conn2.close();
+              }));
+          }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testCachedPreparedQueryMapping(TestContext ctx) {
+    QueryResultCache cache = QueryResultCache.create(new QueryResultCacheOptions());
+    connect(ctx.asyncAssertSuccess(conn -> {
+      PreparedQuery<RowSet<Integer>> query = conn
+        .preparedQuery(statement("SELECT * FROM immutable WHERE id=", ""))
+        .mapping(row -> row.getInteger(0))
+        .cached(cache);
+      query
+        .execute(Tuple.of(1))
+        .onComplete(ctx.asyncAssertSuccess(rowSet1 -> {
+          query
+            .execute(Tuple.of(1))
+            .onComplete(ctx.asyncAssertSuccess(rowSet2 -> {
+              // Mapped queries are executed without the cache
+              ctx.assertFalse(rowSet1 == rowSet2);
+              ctx.assertEquals(1, rowSet2.iterator().next());
+              ctx.assertEquals(0, cache.size());
+              conn.close();
+            }));
+        }));
+    }));
+  }
+
   @Test
   public void testPreparedQueryWithWrappedParams(TestContext ctx) {
     connect(ctx.asyncAssertSuccess(conn -> {
@@ -440,6 +544,71 @@ public abstract class PreparedQueryTestBase {
     });
   }
 
+  @Test
+  public void testStreamQueryReadAhead(TestContext ctx) {
+    Async async = ctx.async();
+    testCursor(ctx, conn -> {
+      conn.prepare("SELECT * FROM immutable").onComplete(ctx.asyncAssertSuccess(ps -> {
+        RowStream<Row> stream = ps.createStream(4, 2, Tuple.tuple());
+        List<Integer> ids = new ArrayList<>();
+        AtomicInteger ended = new AtomicInteger();
+        stream.handler(row -> {
+          ctx.assertEquals(0, ended.get());
+          ids.add(row.getInteger("id"));
+        });
+        stream.endHandler(v -> {
+          ctx.assertEquals(0, ended.getAndIncrement());
+          ctx.assertEquals(12, ids.size());
+          ctx.assertEquals(12, new HashSet<>(ids).size());
+          async.complete();
+        });
+      }));
+    });
+  }
+
+  @Test
+  public void testStreamQueryReadAheadPauseInBatch(TestContext ctx) {
+    Async async = ctx.async();
+    testCursor(ctx, conn -> {
+      conn.prepare("SELECT * FROM immutable").onComplete(ctx.asyncAssertSuccess(ps -> {
+        RowStream<Row> stream = ps.createStream(4, 1, Tuple.tuple());
+        List<Tuple> rows = new ArrayList<>();
+        stream.endHandler(v -> {
+          ctx.assertEquals(12, rows.size());
+          async.complete();
+        });
+        stream.handler(tuple -> {
+          rows.add(tuple);
+          if (rows.size() % 3 == 0) {
+            stream.pause();
+            vertx.setTimer(20, id -> stream.fetch(3));
+          }
+        });
+      }));
+    });
+  }
+
+  @Test
+  public void testStreamQueryAdaptiveFetch(TestContext ctx) {
+    Async async = ctx.async();
+    testCursor(ctx, conn -> {
+      conn.prepare("SELECT * FROM immutable").onComplete(ctx.asyncAssertSuccess(ps -> {
+        RowStreamOptions options = new RowStreamOptions()
+          .setFetch(1)
+          .setReadAhead(1)
+          .setFetchBytes(256);
+        RowStream<Row> stream = ps.createStream(options, Tuple.tuple());
+        List<Integer> ids = new ArrayList<>();
+        stream.handler(row -> ids.add(row.getInteger("id")));
+        stream.endHandler(v -> {
+          ctx.assertEquals(12, ids.size());
+          ctx.assertEquals(12, new HashSet<>(ids).size());
+          async.complete();
+        });
+      }));
+    });
+  }
+
   @Test
   public void testStreamQueryPauseResume(TestContext ctx) {
     Async async = ctx.async();
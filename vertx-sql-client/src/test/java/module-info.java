@@ -1,9 +1,13 @@
 open module io.vertx.tests.sql.client {
 
+  requires io.netty.buffer;
+  requires io.netty.common;
+  requires io.netty.transport;
   requires io.vertx.core;
   requires io.vertx.core.logging;
   requires io.vertx.sql.client;
   requires io.vertx.testing.unit;
+  requires java.logging;
   requires java.sql;
   requires junit;
 